@@ -0,0 +1,89 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.adobe.aio.cloudmanager.impl.generated.EnvironmentList;
+import com.adobe.aio.cloudmanager.impl.generated.EnvironmentLogs;
+import com.adobe.aio.cloudmanager.impl.generated.PipelineExecution;
+import com.adobe.aio.cloudmanager.impl.generated.PipelineList;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Decoding of API payloads, directly through the shared reader and through the Feign decoder used by the APIs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DecodeBenchmark {
+
+  private static final Map<String, Class<?>> TYPES = Map.of(
+      "pipeline/execution/get.json", PipelineExecution.class,
+      "pipeline/list.json", PipelineList.class,
+      "environment/list.json", EnvironmentList.class,
+      "environment/list-logs.json", EnvironmentLogs.class
+  );
+
+  private static final Request REQUEST = Request.create(Request.HttpMethod.GET, "/", Collections.emptyMap(), null, StandardCharsets.UTF_8, new RequestTemplate());
+
+  @Param({ "pipeline/execution/get.json", "pipeline/list.json", "environment/list.json", "environment/list-logs.json" })
+  public String fixture;
+
+  private Class<?> type;
+  private byte[] body;
+
+  @Setup
+  public void setup() {
+    type = TYPES.get(fixture);
+    body = Fixtures.read(fixture);
+  }
+
+  @Benchmark
+  public Object reader() throws IOException {
+    return FeignUtil.getReader(type).readValue(body);
+  }
+
+  @Benchmark
+  public Object decoder() throws IOException {
+    Response response = Response.builder().status(200).request(REQUEST).headers(Collections.emptyMap()).body(body).build();
+    return JacksonCodec.INSTANCE.decode(response, type);
+  }
+}
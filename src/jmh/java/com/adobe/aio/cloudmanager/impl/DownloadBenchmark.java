@@ -0,0 +1,105 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.adobe.aio.cloudmanager.DownloadListener;
+import okio.Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Writing a response body to disk: the channel transfer used by the downloader, against copying the body's stream through a heap buffer.
+ * <p>
+ * The body is an in-memory Okio buffer, as a response source would be once read from the socket, so only the copy to the file is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DownloadBenchmark {
+
+  @Param({ "1", "64" })
+  public int megabytes;
+
+  private byte[] content;
+  private File file;
+  private Buffer body;
+
+  @Setup
+  public void setup() throws IOException {
+    content = new byte[megabytes * 1024 * 1024];
+    new Random(0).nextBytes(content);
+    file = Files.createTempFile("download-benchmark", ".bin").toFile();
+  }
+
+  @Setup(Level.Invocation)
+  public void body() {
+    body = new Buffer().write(content);
+  }
+
+  @TearDown
+  public void teardown() throws IOException {
+    Files.deleteIfExists(file.toPath());
+  }
+
+  @Benchmark
+  public long channel() throws IOException {
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      return Downloader.transfer(body, channel, 0, file, content.length, DownloadListener.NONE);
+    }
+  }
+
+  @Benchmark
+  public long stream() throws IOException {
+    long transferred = 0;
+    byte[] buffer = new byte[8192];
+    try (InputStream in = body.inputStream(); OutputStream out = Files.newOutputStream(file.toPath(), StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        out.write(buffer, 0, read);
+        transferred += read;
+      }
+    }
+    return transferred;
+  }
+}
@@ -0,0 +1,80 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import com.adobe.aio.auth.OAuthContext;
+import com.adobe.aio.workspace.Workspace;
+
+/**
+ * Payload corpus and offline wiring shared by the benchmarks.
+ * <p>
+ * Payloads are the test fixtures under {@code src/test/resources}; nothing here makes a network call.
+ */
+public final class Fixtures {
+
+  private Fixtures() {
+  }
+
+  public static byte[] read(String path) {
+    try (InputStream is = Fixtures.class.getClassLoader().getResourceAsStream(path)) {
+      if (is == null) {
+        throw new IllegalArgumentException(String.format("Fixture %s not found.", path));
+      }
+      return is.readAllBytes();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  public static String readString(String path) {
+    return new String(read(path), StandardCharsets.UTF_8);
+  }
+
+  public static <T> T decode(String path, Class<T> type) {
+    try {
+      return FeignUtil.getReader(type).readValue(read(path));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /*
+   * Transport against an unroutable endpoint, only suitable for code paths which do not make requests.
+   */
+  public static Transport transport() {
+    Workspace workspace = Workspace.builder()
+        .imsOrgId("benchmark-org")
+        .apiKey("benchmark-api-key")
+        .authContext(OAuthContext.builder().clientSecret("benchmark-secret").addScope("benchmark").build())
+        .build();
+    try {
+      return new Transport(workspace, new URL("http://localhost:1"));
+    } catch (MalformedURLException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package com.adobe.aio.cloudmanager.impl.pipeline.execution;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.util.concurrent.TimeUnit;
+
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.PipelineExecutionEvent;
+import com.adobe.aio.cloudmanager.impl.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing of each pipeline execution event type, without signature verification.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventBenchmark {
+
+  @Param({ "pipeline-start", "pipeline-step-start", "pipeline-step-waiting", "pipeline-step-end", "pipeline-end" })
+  public String event;
+
+  private PipelineExecutionApiImpl api;
+  private String body;
+
+  @Setup
+  public void setup() {
+    api = new PipelineExecutionApiImpl(Fixtures.transport());
+    body = Fixtures.readString(String.format("pipeline/execution/event/%s.json", event));
+  }
+
+  @Benchmark
+  public PipelineExecutionEvent parseEvent() throws CloudManagerApiException {
+    return api.parseEvent(body);
+  }
+}
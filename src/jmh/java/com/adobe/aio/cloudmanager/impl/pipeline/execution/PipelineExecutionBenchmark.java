@@ -0,0 +1,99 @@
+package com.adobe.aio.cloudmanager.impl.pipeline.execution;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.Metric;
+import com.adobe.aio.cloudmanager.PipelineExecutionStepState;
+import com.adobe.aio.cloudmanager.StepAction;
+import com.adobe.aio.cloudmanager.impl.Fixtures;
+import com.adobe.aio.cloudmanager.impl.MetricImpl;
+import com.adobe.aio.cloudmanager.impl.generated.PipelineExecution;
+import com.adobe.aio.cloudmanager.impl.generated.PipelineStepMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Step lookup on an execution and generation of the advance/cancel request bodies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PipelineExecutionBenchmark {
+
+  private PipelineExecutionImpl approval;
+  private PipelineExecutionStepStateImpl approvalStep;
+  private PipelineExecutionStepStateImpl codeQualityStep;
+  private Collection<Metric> metrics;
+
+  @Setup
+  public void setup() throws CloudManagerApiException {
+    PipelineExecutionApiAsyncImpl api = new PipelineExecutionApiAsyncImpl(Fixtures.transport());
+    approval = new PipelineExecutionImpl(Fixtures.decode("pipeline/execution/approval-waiting.json", PipelineExecution.class), api);
+    approvalStep = (PipelineExecutionStepStateImpl) approval.getStep(StepAction.approval);
+    PipelineExecutionImpl codeQuality = new PipelineExecutionImpl(Fixtures.decode("pipeline/execution/codeQuality-waiting.json", PipelineExecution.class), api);
+    codeQualityStep = (PipelineExecutionStepStateImpl) codeQuality.getStep(StepAction.codeQuality);
+    metrics = Fixtures.decode("pipeline/execution/codeQuality-metrics.json", PipelineStepMetrics.class)
+        .getMetrics().stream().map(MetricImpl::new).collect(Collectors.toList());
+  }
+
+  @Benchmark
+  public PipelineExecutionStepState getStep(Lookup lookup) throws CloudManagerApiException {
+    return approval.getStep(lookup.action);
+  }
+
+  @Benchmark
+  public String advanceApprovalBody() throws CloudManagerApiException {
+    return approvalStep.getAdvanceBody(metrics);
+  }
+
+  @Benchmark
+  public String advanceCodeQualityBody() throws CloudManagerApiException {
+    return codeQualityStep.getAdvanceBody(metrics);
+  }
+
+  @Benchmark
+  public String cancelBody() throws CloudManagerApiException {
+    return codeQualityStep.getCancelBody();
+  }
+
+  @State(Scope.Benchmark)
+  public static class Lookup {
+    // First and last step of the approval execution, which has ten steps.
+    @Param({ "validate", "approval" })
+    public StepAction action;
+  }
+}
@@ -20,28 +20,28 @@ package com.adobe.aio.cloudmanager;
  * #L%
  */
 
-import java.lang.reflect.InvocationTargetException;
 import java.net.URL;
 import javax.validation.constraints.NotNull;
 
 import com.adobe.aio.workspace.Workspace;
-import com.adobe.aio.cloudmanager.impl.content.ContentSetApiImpl;
-import com.adobe.aio.cloudmanager.impl.environment.EnvironmentApiImpl;
-import com.adobe.aio.cloudmanager.impl.pipeline.PipelineApiImpl;
-import com.adobe.aio.cloudmanager.impl.pipeline.execution.PipelineExecutionApiImpl;
-import com.adobe.aio.cloudmanager.impl.program.ProgramApiImpl;
-import com.adobe.aio.cloudmanager.impl.repository.RepositoryApiImpl;
-import com.adobe.aio.cloudmanager.impl.tenant.TenantApiImpl;
 
 /**
- * Builder for creating instances of the Cloud Manager APIs
+ * Builder for creating instances of the Cloud Manager APIs, either blocking (e.g. {@link PipelineApi}) or asynchronous (e.g. {@link PipelineApiAsync}).
+ * <p>
+ * Unless a {@link #client(CloudManagerClient) client} is provided, each API built has its own connections to Cloud Manager and its own access token.
  *
  * @param <A> the type of API to create
  */
 public class ApiBuilder<A> {
   private final Class<A> clazz;
+  private CloudManagerClient client;
   private Workspace workspace;
   private URL url;
+  private RetryPolicy retryPolicy;
+  private RateLimiter rateLimiter;
+  private ExecutionCachePolicy executionCachePolicy;
+  private ConditionalCachePolicy conditionalCachePolicy;
+  private CatalogCache catalogCache;
 
   /**
    * Create new instance of an API Builder, scoped to the desired interface.
@@ -53,7 +53,19 @@ public class ApiBuilder<A> {
   }
 
   /**
-   * (Required) Workspace context for the API.
+   * (Optional) Client whose connections, access token, rate limiter and caches the API shares with all other APIs of the client.
+   * If provided, the client is configured with the workspace and policies, so none may be set on this builder.
+   *
+   * @param client the client
+   * @return this builder
+   */
+  public ApiBuilder<A> client(@NotNull CloudManagerClient client) {
+    this.client = client;
+    return this;
+  }
+
+  /**
+   * (Required, unless a client is provided) Workspace context for the API.
    *
    * @param workspace the workspace
    * @return this builder
@@ -75,6 +87,70 @@ public class ApiBuilder<A> {
     return this;
   }
 
+  /**
+   * (Optional) Policy for retrying requests which failed with a transient error, such as throttling or maintenance.
+   * If not provided, failed requests are not retried.
+   *
+   * @param retryPolicy the retry policy
+   * @return this builder
+   */
+  public ApiBuilder<A> retryPolicy(@NotNull RetryPolicy retryPolicy) {
+    this.retryPolicy = retryPolicy;
+    return this;
+  }
+
+  /**
+   * (Optional) Limiter for the rate of requests sent by this API. Share one limiter across builders for all APIs to share a budget.
+   * If not provided, requests are not limited.
+   *
+   * @param rateLimiter the rate limiter
+   * @return this builder
+   * @see RateLimiter#tokenBucket(double, double)
+   */
+  public ApiBuilder<A> rateLimiter(@NotNull RateLimiter rateLimiter) {
+    this.rateLimiter = rateLimiter;
+    return this;
+  }
+
+  /**
+   * (Optional) Bounds for the cache of completed pipeline executions, their step states and metrics.
+   * If not provided, {@link ExecutionCachePolicy#NONE} is used and executions are always retrieved; use {@link ExecutionCachePolicy#DEFAULT} for the default bounds.
+   *
+   * @param executionCachePolicy the execution cache policy
+   * @return this builder
+   */
+  public ApiBuilder<A> executionCache(@NotNull ExecutionCachePolicy executionCachePolicy) {
+    this.executionCachePolicy = executionCachePolicy;
+    return this;
+  }
+
+  /**
+   * (Optional) Bounds for the cache of responses revalidated with conditional requests, which saves transferring unchanged
+   * representations when polling.
+   * If not provided, {@link ConditionalCachePolicy#NONE} is used and requests are never conditional.
+   *
+   * @param conditionalCachePolicy the conditional cache policy
+   * @return this builder
+   */
+  public ApiBuilder<A> conditionalCache(@NotNull ConditionalCachePolicy conditionalCachePolicy) {
+    this.conditionalCachePolicy = conditionalCachePolicy;
+    return this;
+  }
+
+  /**
+   * (Optional) Cache for tenants, programs, regions, repositories and environments, read through for the types it has a time to live for.
+   * Share one cache across builders for all APIs to share entries and invalidations.
+   * If not provided, these are always retrieved.
+   *
+   * @param catalogCache the catalog cache
+   * @return this builder
+   * @see CatalogCache#create(CatalogCachePolicy)
+   */
+  public ApiBuilder<A> catalogCache(@NotNull CatalogCache catalogCache) {
+    this.catalogCache = catalogCache;
+    return this;
+  }
+
   /**
    * Build a new instance of the requested API.
    *
@@ -82,37 +158,34 @@ public class ApiBuilder<A> {
    * @throws CloudManagerApiException when any error occurs
    */
   public A build() throws CloudManagerApiException {
-    if (workspace == null) {
-      throw new IllegalStateException("Workspace must be specified.");
+    if (client != null) {
+      if (workspace != null || url != null || retryPolicy != null || rateLimiter != null || executionCachePolicy != null
+          || conditionalCachePolicy != null || catalogCache != null) {
+        throw new IllegalStateException("Client must not be combined with a workspace, url or policies.");
+      }
+      return client.getApi(clazz);
     }
-    if (workspace.getAuthContext() == null) {
-      throw new IllegalStateException("Workspace must specify AuthContext.");
+    CloudManagerClient.validate(workspace);
+    CloudManagerClient.getFactory(clazz);
+    CloudManagerClient.Builder builder = CloudManagerClient.builder().workspace(workspace);
+    if (url != null) {
+      builder.url(url);
     }
-    workspace.getAuthContext().validate();
-
-    try {
-      Class impl;
-      if (clazz == ContentSetApi.class) {
-        impl = ContentSetApiImpl.class;
-      } else if (clazz == EnvironmentApi.class) {
-        impl = EnvironmentApiImpl.class;
-      } else if (clazz == PipelineApi.class) {
-        impl = PipelineApiImpl.class;
-      } else if (clazz == PipelineExecutionApi.class) {
-        impl = PipelineExecutionApiImpl.class;
-      } else if (clazz == ProgramApi.class) {
-        impl = ProgramApiImpl.class;
-      } else if (clazz == RepositoryApi.class) {
-        impl = RepositoryApiImpl.class;
-      } else if (clazz == TenantApi.class) {
-        impl = TenantApiImpl.class;
-      } else {
-        throw new CloudManagerApiException(String.format("Unknown API requested (%s).", clazz));
-      }
-      return (A) impl.getDeclaredConstructor(Workspace.class, URL.class).newInstance(workspace, url);
-    } catch (NoSuchMethodException | InvocationTargetException | InstantiationException | IllegalAccessException ex) {
-      // How did this happen?
-      throw new RuntimeException(ex);
+    if (retryPolicy != null) {
+      builder.retryPolicy(retryPolicy);
+    }
+    if (rateLimiter != null) {
+      builder.rateLimiter(rateLimiter);
+    }
+    if (executionCachePolicy != null) {
+      builder.executionCache(executionCachePolicy);
+    }
+    if (conditionalCachePolicy != null) {
+      builder.conditionalCache(conditionalCachePolicy);
+    }
+    if (catalogCache != null) {
+      builder.catalogCache(catalogCache);
     }
+    return builder.build().getApi(clazz);
   }
 }
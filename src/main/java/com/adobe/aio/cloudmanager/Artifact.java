@@ -20,6 +20,8 @@ package com.adobe.aio.cloudmanager;
  * #L%
  */
 
+import java.io.File;
+
 /**
  * An Artifact for a build step.
  */
@@ -60,4 +62,15 @@ public interface Artifact {
    * @throws CloudManagerApiException when any error occurs
    */
   String getDownloadUrl() throws CloudManagerApiException;
+
+  /**
+   * Downloads this artifact to the specified directory, using its {@link #getFileName() file name}.
+   * <p>
+   * If the file already exists with this artifact's {@link #getMd5() md5}, it is not downloaded again. The downloaded content is verified against the md5.
+   *
+   * @param dir the directory in which to save the file
+   * @return the downloaded file
+   * @throws CloudManagerApiException when any error occurs
+   */
+  File download(File dir) throws CloudManagerApiException;
 }
@@ -0,0 +1,105 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.adobe.aio.cloudmanager.impl.CatalogCacheImpl;
+import lombok.Value;
+
+/**
+ * Read-through cache of catalog entities which rarely change: tenants, programs, program regions, repositories and environments.
+ * <p>
+ * Entries are kept for the time to live of their type, and the least recently used are evicted once the cache is full. Entries are keyed by the
+ * organization and API key of the workspace, so one cache can be shared by all APIs built with it. Creating or deleting programs and
+ * environments through those APIs invalidates their type; use {@link #invalidate(Type)} after changes made elsewhere.
+ */
+public interface CatalogCache {
+
+  /**
+   * Create a cache.
+   *
+   * @param policy the time to live of each type and the bound on entries
+   * @return a catalog cache
+   */
+  static CatalogCache create(CatalogCachePolicy policy) {
+    return new CatalogCacheImpl(policy);
+  }
+
+  /**
+   * Remove all entries of the type.
+   *
+   * @param type the type of entry
+   */
+  void invalidate(Type type);
+
+  /**
+   * Remove all entries.
+   */
+  void invalidateAll();
+
+  /**
+   * The number of reads of the type served from the cache and from the server, since it was created.
+   *
+   * @param type the type of entry
+   * @return the statistics of the type
+   */
+  Stats getStats(Type type);
+
+  /**
+   * Types of catalog entry, each with its own time to live.
+   */
+  enum Type {
+    /**
+     * Tenants and their list.
+     */
+    TENANT,
+    /**
+     * Programs and the list of a tenant's programs.
+     */
+    PROGRAM,
+    /**
+     * The regions of a program.
+     */
+    REGION,
+    /**
+     * Repositories and the lists of a program's repositories.
+     */
+    REPOSITORY,
+    /**
+     * Environments and the lists of a program's environments.
+     */
+    ENVIRONMENT
+  }
+
+  /**
+   * Read counts of a type of entry.
+   */
+  @Value
+  class Stats {
+    /**
+     * Reads served from the cache.
+     */
+    long hits;
+    /**
+     * Reads which went to the server.
+     */
+    long misses;
+  }
+}
@@ -0,0 +1,60 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.time.Duration;
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+
+/**
+ * Time to live of each type of catalog entry, and the bound on the number of entries held by a {@link CatalogCache}.
+ * <p>
+ * Types without a time to live are not cached.
+ */
+@Value
+@Builder
+public class CatalogCachePolicy {
+
+  /**
+   * Time to live of each type of entry, e.g. {@code .ttl(CatalogCache.Type.PROGRAM, Duration.ofMinutes(5))}.
+   */
+  @Singular
+  Map<CatalogCache.Type, Duration> ttls;
+
+  /**
+   * Maximum number of entries held, across all types. Defaults to {@code 1000}.
+   */
+  @Builder.Default
+  int maxEntries = 1000;
+
+  /**
+   * The time to live of the type of entry.
+   *
+   * @param type the type of entry
+   * @return the time to live, {@link Duration#ZERO} if the type is not cached
+   */
+  public Duration getTtl(CatalogCache.Type type) {
+    return ttls.getOrDefault(type, Duration.ZERO);
+  }
+}
@@ -28,13 +28,28 @@ package com.adobe.aio.cloudmanager;
 public class CloudManagerApiException extends Exception {
 
   private final String message;
+  private final int status;
 
   public CloudManagerApiException(String message) {
+    this(message, 0);
+  }
+
+  public CloudManagerApiException(String message, int status) {
     this.message = message;
+    this.status = status;
   }
 
   @Override
   public String getMessage() {
     return message;
   }
+
+  /**
+   * The HTTP status of the response which caused this exception.
+   *
+   * @return the status, or {@code 0} if no response caused it
+   */
+  public int getStatus() {
+    return status;
+  }
 }
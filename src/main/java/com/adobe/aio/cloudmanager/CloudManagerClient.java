@@ -0,0 +1,253 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import javax.validation.constraints.NotNull;
+
+import com.adobe.aio.cloudmanager.impl.Transport;
+import com.adobe.aio.cloudmanager.impl.content.ContentSetApiAsyncImpl;
+import com.adobe.aio.cloudmanager.impl.content.ContentSetApiImpl;
+import com.adobe.aio.cloudmanager.impl.environment.EnvironmentApiAsyncImpl;
+import com.adobe.aio.cloudmanager.impl.environment.EnvironmentApiImpl;
+import com.adobe.aio.cloudmanager.impl.pipeline.PipelineApiAsyncImpl;
+import com.adobe.aio.cloudmanager.impl.pipeline.PipelineApiImpl;
+import com.adobe.aio.cloudmanager.impl.pipeline.execution.PipelineExecutionApiAsyncImpl;
+import com.adobe.aio.cloudmanager.impl.pipeline.execution.PipelineExecutionApiImpl;
+import com.adobe.aio.cloudmanager.impl.program.ProgramApiAsyncImpl;
+import com.adobe.aio.cloudmanager.impl.program.ProgramApiImpl;
+import com.adobe.aio.cloudmanager.impl.repository.RepositoryApiAsyncImpl;
+import com.adobe.aio.cloudmanager.impl.repository.RepositoryApiImpl;
+import com.adobe.aio.cloudmanager.impl.tenant.TenantApiAsyncImpl;
+import com.adobe.aio.cloudmanager.impl.tenant.TenantApiImpl;
+import com.adobe.aio.workspace.Workspace;
+import okhttp3.OkHttpClient;
+
+/**
+ * Client for the Cloud Manager APIs, which owns one HTTP client, JSON mapper and interceptor chain for a workspace.
+ * <p>
+ * All APIs handed out by a client share its connections, access token, rate limiter and caches. Create one client per workspace and reuse it.
+ */
+public final class CloudManagerClient {
+
+  private static final Map<Class<?>, Function<Transport, Object>> APIS = new HashMap<>();
+
+  static {
+    APIS.put(ContentSetApi.class, ContentSetApiImpl::new);
+    APIS.put(EnvironmentApi.class, EnvironmentApiImpl::new);
+    APIS.put(PipelineApi.class, PipelineApiImpl::new);
+    APIS.put(PipelineExecutionApi.class, PipelineExecutionApiImpl::new);
+    APIS.put(ProgramApi.class, ProgramApiImpl::new);
+    APIS.put(RepositoryApi.class, RepositoryApiImpl::new);
+    APIS.put(TenantApi.class, TenantApiImpl::new);
+    APIS.put(ContentSetApiAsync.class, ContentSetApiAsyncImpl::new);
+    APIS.put(EnvironmentApiAsync.class, EnvironmentApiAsyncImpl::new);
+    APIS.put(PipelineApiAsync.class, PipelineApiAsyncImpl::new);
+    APIS.put(PipelineExecutionApiAsync.class, PipelineExecutionApiAsyncImpl::new);
+    APIS.put(ProgramApiAsync.class, ProgramApiAsyncImpl::new);
+    APIS.put(RepositoryApiAsync.class, RepositoryApiAsyncImpl::new);
+    APIS.put(TenantApiAsync.class, TenantApiAsyncImpl::new);
+  }
+
+  private final Transport transport;
+  private final Map<Class<?>, Object> apis = new ConcurrentHashMap<>();
+
+  private CloudManagerClient(Transport transport) {
+    this.transport = transport;
+  }
+
+  /**
+   * Create a builder for a client.
+   *
+   * @return a builder
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * The instance of the requested API backed by this client, either blocking (e.g. {@link PipelineApi}) or asynchronous (e.g. {@link PipelineApiAsync}).
+   * Each API is created once and then reused.
+   *
+   * @param clazz the type of API desired
+   * @param <A>   the type of API
+   * @return an instance of the API
+   * @throws CloudManagerApiException when the type is not a Cloud Manager API
+   */
+  public <A> A getApi(@NotNull Class<A> clazz) throws CloudManagerApiException {
+    Function<Transport, Object> factory = getFactory(clazz);
+    return clazz.cast(apis.computeIfAbsent(clazz, c -> factory.apply(transport)));
+  }
+
+  static void validate(Workspace workspace) {
+    if (workspace == null) {
+      throw new IllegalStateException("Workspace must be specified.");
+    }
+    if (workspace.getAuthContext() == null) {
+      throw new IllegalStateException("Workspace must specify AuthContext.");
+    }
+    workspace.getAuthContext().validate();
+  }
+
+  static Function<Transport, Object> getFactory(Class<?> clazz) throws CloudManagerApiException {
+    Function<Transport, Object> factory = APIS.get(clazz);
+    if (factory == null) {
+      throw new CloudManagerApiException(String.format("Unknown API requested (%s).", clazz));
+    }
+    return factory;
+  }
+
+  /**
+   * Builder for a {@link CloudManagerClient}.
+   */
+  public static final class Builder {
+    private Workspace workspace;
+    private URL url;
+    private OkHttpClient httpClient;
+    private RetryPolicy retryPolicy;
+    private RateLimiter rateLimiter;
+    private ExecutionCachePolicy executionCachePolicy;
+    private ConditionalCachePolicy conditionalCachePolicy;
+    private CatalogCache catalogCache;
+
+    private Builder() {
+    }
+
+    /**
+     * (Required) Workspace context for the APIs.
+     *
+     * @param workspace the workspace
+     * @return this builder
+     */
+    public Builder workspace(@NotNull Workspace workspace) {
+      this.workspace = workspace;
+      return this;
+    }
+
+    /**
+     * (Optional) Base url for the APIs. Can be used to change destination for requests, to the Stage environment for example.
+     * If not provided, then the default production value will be used.
+     *
+     * @param url the url context for requests
+     * @return this builder
+     */
+    public Builder url(@NotNull URL url) {
+      this.url = url;
+      return this;
+    }
+
+    /**
+     * (Optional) HTTP client for sending requests. Its connection pool, dispatcher limits and timeouts apply to all APIs of the client; derive it
+     * from an existing client with {@link OkHttpClient#newBuilder()} to share resources with the rest of an application.
+     * If not provided, a process wide client is used.
+     *
+     * @param httpClient the HTTP client
+     * @return this builder
+     */
+    public Builder httpClient(@NotNull OkHttpClient httpClient) {
+      this.httpClient = httpClient;
+      return this;
+    }
+
+    /**
+     * (Optional) Policy for retrying requests which failed with a transient error, such as throttling or maintenance.
+     * If not provided, failed requests are not retried.
+     *
+     * @param retryPolicy the retry policy
+     * @return this builder
+     */
+    public Builder retryPolicy(@NotNull RetryPolicy retryPolicy) {
+      this.retryPolicy = retryPolicy;
+      return this;
+    }
+
+    /**
+     * (Optional) Limiter for the rate of requests sent by the APIs. If not provided, requests are not limited.
+     *
+     * @param rateLimiter the rate limiter
+     * @return this builder
+     * @see RateLimiter#tokenBucket(double, double)
+     */
+    public Builder rateLimiter(@NotNull RateLimiter rateLimiter) {
+      this.rateLimiter = rateLimiter;
+      return this;
+    }
+
+    /**
+     * (Optional) Bounds for the cache of completed pipeline executions, their step states and metrics.
+     *
+     * @param executionCachePolicy the execution cache policy
+     * @return this builder
+     * @see ApiBuilder#executionCache(ExecutionCachePolicy)
+     */
+    public Builder executionCache(@NotNull ExecutionCachePolicy executionCachePolicy) {
+      this.executionCachePolicy = executionCachePolicy;
+      return this;
+    }
+
+    /**
+     * (Optional) Bounds for the cache of responses revalidated with conditional requests.
+     *
+     * @param conditionalCachePolicy the conditional cache policy
+     * @return this builder
+     * @see ApiBuilder#conditionalCache(ConditionalCachePolicy)
+     */
+    public Builder conditionalCache(@NotNull ConditionalCachePolicy conditionalCachePolicy) {
+      this.conditionalCachePolicy = conditionalCachePolicy;
+      return this;
+    }
+
+    /**
+     * (Optional) Cache for tenants, programs, regions, repositories and environments.
+     *
+     * @param catalogCache the catalog cache
+     * @return this builder
+     * @see ApiBuilder#catalogCache(CatalogCache)
+     */
+    public Builder catalogCache(@NotNull CatalogCache catalogCache) {
+      this.catalogCache = catalogCache;
+      return this;
+    }
+
+    /**
+     * Build a new client.
+     *
+     * @return a client
+     */
+    public CloudManagerClient build() {
+      validate(workspace);
+      Transport transport = Transport.builder()
+          .workspace(workspace)
+          .url(url)
+          .httpClient(httpClient)
+          .retryPolicy(retryPolicy)
+          .rateLimiter(rateLimiter)
+          .executionCachePolicy(executionCachePolicy)
+          .conditionalCachePolicy(conditionalCachePolicy)
+          .catalogCache(catalogCache)
+          .build();
+      return new CloudManagerClient(transport);
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Bounds for the cache of responses which the server marked with a validator, an {@code ETag} or {@code Last-Modified} header.
+ * <p>
+ * Once such a response has been retrieved, the next identical request asks the server whether it changed. When the server replies that it did
+ * not, the body of the first response is decoded again, without transferring it. When either bound is reached, the least recently used
+ * responses are evicted.
+ */
+@Value
+@Builder
+public class ConditionalCachePolicy {
+
+  /**
+   * Policy which caches nothing, so requests are never conditional.
+   */
+  public static final ConditionalCachePolicy NONE = ConditionalCachePolicy.builder().maxEntries(0).build();
+
+  /**
+   * Policy with the default bounds.
+   */
+  public static final ConditionalCachePolicy DEFAULT = ConditionalCachePolicy.builder().build();
+
+  /**
+   * Maximum number of responses held. Defaults to {@code 500}.
+   */
+  @Builder.Default
+  int maxEntries = 500;
+
+  /**
+   * Maximum total size of the response bodies held, in bytes. Defaults to 16 MiB.
+   */
+  @Builder.Default
+  long maxWeight = 16 * 1024 * 1024;
+}
@@ -0,0 +1,80 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.util.concurrent.CompletableFuture;
+import javax.validation.constraints.NotNull;
+
+import com.adobe.aio.cloudmanager.impl.content.ContentFlowWatcherImpl;
+
+/**
+ * Watches content flows until they complete.
+ * <p>
+ * A watch completes with the final state of the flow once it is {@link ContentFlow.Status#COMPLETED completed}, {@link ContentFlow.Status#FAILED failed} or {@link ContentFlow.Status#CANCELLED cancelled}.
+ * Flows are checked every {@link PollingPolicy#getRunningInterval() running interval}. Watches complete exceptionally and can be cancelled as described for {@link PipelineExecutionWatcher}.
+ */
+public interface ContentFlowWatcher extends AutoCloseable {
+
+  /**
+   * Create a watcher which polls using the provided API and policy, on its own single threaded scheduler.
+   *
+   * @param api    the content set API to poll with
+   * @param policy the polling policy
+   * @return a new watcher
+   */
+  static ContentFlowWatcher create(@NotNull ContentSetApi api, @NotNull PollingPolicy policy) {
+    return new ContentFlowWatcherImpl(api, policy);
+  }
+
+  /**
+   * Create a watcher which polls using the provided API and policy, on a shared scheduler.
+   *
+   * @param api       the content set API to poll with
+   * @param policy    the polling policy
+   * @param scheduler the scheduler to run checks on
+   * @return a new watcher
+   */
+  static ContentFlowWatcher create(@NotNull ContentSetApi api, @NotNull PollingPolicy policy, @NotNull PollingScheduler scheduler) {
+    return new ContentFlowWatcherImpl(api, policy, scheduler);
+  }
+
+  /**
+   * Watch the flow until it completes.
+   *
+   * @param programId the program id of the flow
+   * @param flowId    the id of the flow
+   * @return a future for the completed flow
+   */
+  CompletableFuture<ContentFlow> watch(@NotNull String programId, @NotNull String flowId);
+
+  /**
+   * Watch the flow until it completes.
+   *
+   * @param flow the flow to watch
+   * @return a future for the completed flow
+   */
+  CompletableFuture<ContentFlow> watch(@NotNull ContentFlow flow);
+
+  /**
+   * Stop all watches started by this watcher. A scheduler owned by this watcher is closed, a shared one is not.
+   */
+  @Override
+  void close();
+}
@@ -21,6 +21,7 @@ package com.adobe.aio.cloudmanager;
  */
 
 import java.util.Collection;
+import java.util.stream.Stream;
 import javax.validation.constraints.NotNull;
 
 import static com.adobe.aio.cloudmanager.ContentSet.*;
@@ -65,6 +66,21 @@ public interface ContentSetApi {
   @NotNull
   Collection<ContentSet> list(@NotNull String programId, int start, int limit) throws CloudManagerApiException;
 
+  /**
+   * Stream all content sets within the specified program, retrieving them a page at a time.
+   * <p>
+   * Pages are retrieved as the stream is consumed, the next one in the background while the current one is processed. Failures retrieving later pages are thrown
+   * from the stream's terminal operation as the {@link CloudManagerApiException} itself, although the operation does not declare it. Close the stream to stop
+   * retrieving pages when not consuming it to the end; this cancels the request for the next page.
+   *
+   * @param programId the id of the program context
+   * @param pageSize  the number of content sets to retrieve per page
+   * @return stream of content sets
+   * @throws CloudManagerApiException when the first page cannot be retrieved
+   */
+  @NotNull
+  Stream<ContentSet> stream(@NotNull String programId, int pageSize) throws CloudManagerApiException;
+
   /**
    * Create a new ContentSet in the specified program.
    *
@@ -145,6 +161,18 @@ public interface ContentSetApi {
   @NotNull
   Collection<ContentFlow> listFlows(@NotNull String programId, int start, int limit) throws CloudManagerApiException;
 
+  /**
+   * Stream all content flows which exist in the specified program, retrieving them a page at a time.
+   *
+   * @param programId the id of the program context
+   * @param pageSize  the number of flows to retrieve per page
+   * @return stream of content flows
+   * @throws CloudManagerApiException when the first page cannot be retrieved
+   * @see #stream(String, int)
+   */
+  @NotNull
+  Stream<ContentFlow> streamFlows(@NotNull String programId, int pageSize) throws CloudManagerApiException;
+
   /**
    * Start a content flow between the specified environments, using the specified content set.
    *
@@ -0,0 +1,153 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import javax.validation.constraints.NotNull;
+
+import static com.adobe.aio.cloudmanager.ContentSet.*;
+
+/**
+ * Asynchronous Content Set API
+ * <p>
+ * Asynchronous counterpart to {@link ContentSetApi}. Futures complete exceptionally with a {@link CloudManagerApiException} when any error occurs.
+ */
+public interface ContentSetApiAsync {
+
+  /**
+   * List the content sets in the program, using the default limit and starting at 0.
+   *
+   * @param programId the program id
+   * @return future with the list of content sets
+   */
+  @NotNull
+  CompletableFuture<Collection<ContentSet>> list(@NotNull String programId);
+
+  /**
+   * List the content sets in the program, using the specified limit and starting at the specified position.
+   *
+   * @param programId the program id
+   * @param start     the starting position of the results
+   * @param limit     the number of content sets to return
+   * @return future with the list of content sets
+   */
+  @NotNull
+  CompletableFuture<Collection<ContentSet>> list(@NotNull String programId, int start, int limit);
+
+  /**
+   * Create a new content set.
+   *
+   * @param programId   the program id
+   * @param name        the name of the content set
+   * @param description an optional description
+   * @param definitions the path definitions of the content set
+   * @return future with the new content set
+   */
+  @NotNull
+  CompletableFuture<ContentSet> create(@NotNull String programId, @NotNull String name, String description, @NotNull Collection<PathDefinition> definitions);
+
+  /**
+   * Get the content set with the specified id.
+   *
+   * @param programId the program id
+   * @param id        the content set id
+   * @return future with the content set
+   */
+  @NotNull
+  CompletableFuture<ContentSet> get(@NotNull String programId, @NotNull String id);
+
+  /**
+   * Update the content set. Any {@code null} values are left unchanged.
+   *
+   * @param programId   the program id
+   * @param id          the content set id
+   * @param name        the new name
+   * @param description the new description
+   * @param definitions the new path definitions
+   * @return future with the updated content set
+   */
+  @NotNull
+  CompletableFuture<ContentSet> update(@NotNull String programId, @NotNull String id, String name, String description, Collection<PathDefinition> definitions);
+
+  /**
+   * Delete the content set.
+   *
+   * @param programId the program id
+   * @param id        the content set id
+   * @return future completing when the content set is deleted
+   */
+  @NotNull
+  CompletableFuture<Void> delete(@NotNull String programId, @NotNull String id);
+
+  /**
+   * List the content flows in the program, using the default limit and starting at 0.
+   *
+   * @param programId the program id
+   * @return future with the list of content flows
+   */
+  @NotNull
+  CompletableFuture<Collection<ContentFlow>> listFlows(@NotNull String programId);
+
+  /**
+   * List the content flows in the program, using the specified limit and starting at the specified position.
+   *
+   * @param programId the program id
+   * @param start     the starting position of the results
+   * @param limit     the number of content flows to return
+   * @return future with the list of content flows
+   */
+  @NotNull
+  CompletableFuture<Collection<ContentFlow>> listFlows(@NotNull String programId, int start, int limit);
+
+  /**
+   * Start a content flow for the content set.
+   *
+   * @param programId         the program id
+   * @param id                the content set id
+   * @param srcEnvironmentId  the source environment id
+   * @param destEnvironmentId the destination environment id
+   * @param includeAcl        flag to include ACLs in the flow
+   * @return future with the started content flow
+   */
+  @NotNull
+  CompletableFuture<ContentFlow> startFlow(@NotNull String programId, @NotNull String id, @NotNull String srcEnvironmentId, @NotNull String destEnvironmentId, boolean includeAcl);
+
+  /**
+   * Get the content flow with the specified id.
+   *
+   * @param programId the program id
+   * @param id        the content flow id
+   * @return future with the content flow
+   */
+  @NotNull
+  CompletableFuture<ContentFlow> getFlow(@NotNull String programId, @NotNull String id);
+
+  /**
+   * Cancel the content flow with the specified id.
+   *
+   * @param programId the program id
+   * @param id        the content flow id
+   * @return future with the cancelled content flow
+   */
+  @NotNull
+  CompletableFuture<ContentFlow> cancelFlow(@NotNull String programId, @NotNull String id);
+}
@@ -0,0 +1,95 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.File;
+import java.time.Duration;
+
+/**
+ * Receives the progress of file downloads.
+ * <p>
+ * Downloads run concurrently, so callbacks for different files may be interleaved and are made on the threads performing the transfers.
+ * Implementations must be thread safe and should return quickly.
+ */
+public interface DownloadListener {
+
+  /**
+   * Listener which ignores all progress.
+   */
+  DownloadListener NONE = new DownloadListener() {};
+
+  /**
+   * A download has started.
+   *
+   * @param file the file being written
+   * @param size the size of the download in bytes, or {@code -1} if not known
+   */
+  default void started(File file, long size) {
+  }
+
+  /**
+   * Bytes of a download have been written.
+   *
+   * @param file        the file being written
+   * @param transferred the number of bytes written so far
+   * @param size        the size of the download in bytes, or {@code -1} if not known
+   */
+  default void progress(File file, long transferred, long size) {
+  }
+
+  /**
+   * A download has been written in full.
+   *
+   * @param file the file written
+   * @param size the number of bytes written
+   */
+  default void completed(File file, long size) {
+  }
+
+  /**
+   * The transfer of a download has finished, before it is verified and moved into place.
+   * <p>
+   * The throughput of the transfer is {@code bytes / elapsed}. A resumed download only counts the bytes received by the transfer which resumed it.
+   *
+   * @param file    the file being written
+   * @param bytes   the number of bytes received
+   * @param elapsed the time taken to receive them
+   */
+  default void transferred(File file, long bytes, Duration elapsed) {
+  }
+
+  /**
+   * A download was not transferred, as the file was already up to date.
+   *
+   * @param file the file which was up to date
+   */
+  default void skipped(File file) {
+  }
+
+  /**
+   * A download has failed.
+   *
+   * @param file  the file which was being written
+   * @param cause the failure
+   */
+  default void failed(File file, Throwable cause) {
+  }
+}
@@ -26,6 +26,7 @@ import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 import javax.validation.constraints.NotNull;
 
 import com.adobe.aio.cloudmanager.exception.DeleteInProgressException;
@@ -171,6 +172,37 @@ public interface EnvironmentApi {
    */
   String getLogDownloadUrl(@NotNull Environment environment, @NotNull LogOption option, @NotNull LocalDate date) throws CloudManagerApiException;
 
+  /**
+   * Read the lines of the log file as they are downloaded, decompressing them in memory. Nothing is written to disk.
+   * <p>
+   * The download is open until the stream is closed, so close it when not consuming every line.
+   *
+   * @param programId     the program id for the environment
+   * @param environmentId the environment id
+   * @param option        the type of logs to read
+   * @param date          the date of the logs to read
+   * @param filter        the lines to return, such as {@code line -> line.contains("*ERROR*")}
+   * @return stream of the matching lines
+   * @throws CloudManagerApiException when any error occurs
+   */
+  @NotNull
+  Stream<String> streamLog(@NotNull String programId, @NotNull String environmentId, @NotNull LogOption option, @NotNull LocalDate date, @NotNull Predicate<String> filter) throws CloudManagerApiException;
+
+  /**
+   * Read the lines of the log file as they are downloaded, decompressing them in memory. Nothing is written to disk.
+   * <p>
+   * The download is open until the stream is closed, so close it when not consuming every line.
+   *
+   * @param environment the environment
+   * @param option      the type of logs to read
+   * @param date        the date of the logs to read
+   * @param filter      the lines to return, such as {@code line -> line.contains("*ERROR*")}
+   * @return stream of the matching lines
+   * @throws CloudManagerApiException when any error occurs
+   */
+  @NotNull
+  Stream<String> streamLog(@NotNull Environment environment, @NotNull LogOption option, @NotNull LocalDate date, @NotNull Predicate<String> filter) throws CloudManagerApiException;
+
   /**
    * Get the region deployment.
    *
@@ -323,4 +355,35 @@ public interface EnvironmentApi {
    */
   @NotNull
   Collection<EnvironmentLog> downloadLogs(@NotNull Environment environment, @NotNull LogOption logOption, int days, @NotNull File dir) throws CloudManagerApiException;
+
+  /**
+   * Downloads the logs for the environment, to the specified folder, up to {@code parallelism} files at a time.
+   *
+   * @param programId     the program id context for the environment
+   * @param environmentId the environment id
+   * @param logOption     the log file reference
+   * @param days          how many days of log files to retrieve
+   * @param dir           the directory in which to save the files
+   * @param parallelism   the maximum number of files to download at once
+   * @param listener      listener for the progress of each file
+   * @return a list of EnvironmentLogs with details about the downloaded files
+   * @throws CloudManagerApiException when any error occurs
+   */
+  @NotNull
+  Collection<EnvironmentLog> downloadLogs(@NotNull String programId, @NotNull String environmentId, @NotNull LogOption logOption, int days, @NotNull File dir, int parallelism, @NotNull DownloadListener listener) throws CloudManagerApiException;
+
+  /**
+   * Downloads the logs for the environment, to the specified folder, up to {@code parallelism} files at a time.
+   *
+   * @param environment the environment context
+   * @param logOption   the log file reference
+   * @param days        how many days of log files to retrieve
+   * @param dir         the directory in which to save the files
+   * @param parallelism the maximum number of files to download at once
+   * @param listener    listener for the progress of each file
+   * @return a list of EnvironmentLogs with details about the downloaded files
+   * @throws CloudManagerApiException when any error occurs
+   */
+  @NotNull
+  Collection<EnvironmentLog> downloadLogs(@NotNull Environment environment, @NotNull LogOption logOption, int days, @NotNull File dir, int parallelism, @NotNull DownloadListener listener) throws CloudManagerApiException;
 }
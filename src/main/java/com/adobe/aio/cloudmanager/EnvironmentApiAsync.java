@@ -0,0 +1,186 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.File;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import javax.validation.constraints.NotNull;
+
+import com.adobe.aio.cloudmanager.exception.DeleteInProgressException;
+
+/**
+ * Asynchronous Environment API
+ * <p>
+ * Asynchronous counterpart to {@link EnvironmentApi}. Futures complete exceptionally with a {@link CloudManagerApiException} when any error occurs.
+ */
+public interface EnvironmentApiAsync {
+
+  /**
+   * Lists all environments in the specified program.
+   *
+   * @param programId the program id
+   * @return future with the list of environments
+   */
+  @NotNull
+  CompletableFuture<Collection<Environment>> list(@NotNull String programId);
+
+  /**
+   * Lists all environments in the specified program, of the specified type.
+   *
+   * @param programId the program id
+   * @param type      the type of environments to list
+   * @return future with the list of environments
+   */
+  @NotNull
+  CompletableFuture<Collection<Environment>> list(@NotNull String programId, @NotNull Environment.Type type);
+
+  /**
+   * Create a new environment in the specified program.
+   *
+   * @param programId   the program id
+   * @param name        the name of the environment
+   * @param type        the type of environment
+   * @param region      the region in which to create the environment
+   * @param description an optional description of the environment
+   * @return future with the new environment
+   */
+  @NotNull
+  CompletableFuture<Environment> create(@NotNull String programId, @NotNull String name, @NotNull Environment.Type type, @NotNull String region, String description);
+
+  /**
+   * Get the environment with the specified id.
+   *
+   * @param programId     the program id
+   * @param environmentId the environment id
+   * @return future with the environment
+   */
+  @NotNull
+  CompletableFuture<Environment> get(@NotNull String programId, @NotNull String environmentId);
+
+  /**
+   * Delete the environment, optionally ignoring any resource deletion failures.
+   * <p>
+   * Completes exceptionally with a {@link DeleteInProgressException} if a delete is already in progress.
+   *
+   * @param programId     the program id
+   * @param environmentId the environment id
+   * @param ignoreFailure flag to ignore resource deletion failures
+   * @return future completing when the delete has been accepted
+   */
+  @NotNull
+  CompletableFuture<Void> delete(@NotNull String programId, @NotNull String environmentId, boolean ignoreFailure);
+
+  /**
+   * List the logs available for the specified environment and log option.
+   *
+   * @param programId     the program id
+   * @param environmentId the environment id
+   * @param option        the log option
+   * @param days          the number of days of logs to list
+   * @return future with the list of logs
+   */
+  @NotNull
+  CompletableFuture<Collection<EnvironmentLog>> listLogs(@NotNull String programId, @NotNull String environmentId, @NotNull LogOption option, int days);
+
+  /**
+   * Downloads the logs for the environment, to the specified folder, up to {@code parallelism} files at a time.
+   * <p>
+   * Once a download fails no further files are started, and the future completes exceptionally when those in progress have finished.
+   *
+   * @param programId     the program id
+   * @param environmentId the environment id
+   * @param option        the log option
+   * @param days          the number of days of logs to download
+   * @param dir           the directory in which to save the files
+   * @param parallelism   the maximum number of files to download at once
+   * @param listener      listener for the progress of each file
+   * @return future with the list of downloaded logs
+   */
+  @NotNull
+  CompletableFuture<Collection<EnvironmentLog>> downloadLogs(@NotNull String programId, @NotNull String environmentId, @NotNull LogOption option, int days, @NotNull File dir, int parallelism, @NotNull DownloadListener listener);
+
+  /**
+   * Get the download url for the log of the specified date.
+   *
+   * @param programId     the program id
+   * @param environmentId the environment id
+   * @param option        the log option
+   * @param date          the date of the log
+   * @return future with the download url
+   */
+  @NotNull
+  CompletableFuture<String> getLogDownloadUrl(@NotNull String programId, @NotNull String environmentId, @NotNull LogOption option, @NotNull LocalDate date);
+
+  /**
+   * Get the specified region deployment.
+   *
+   * @param programId     the program id
+   * @param environmentId the environment id
+   * @param deploymentId  the region deployment id
+   * @return future with the region deployment
+   */
+  @NotNull
+  CompletableFuture<RegionDeployment> getRegionDeployment(@NotNull String programId, @NotNull String environmentId, @NotNull String deploymentId);
+
+  /**
+   * List the region deployments of the specified environment.
+   *
+   * @param programId     the program id
+   * @param environmentId the environment id
+   * @return future with the list of region deployments
+   */
+  @NotNull
+  CompletableFuture<Collection<RegionDeployment>> listRegionDeployments(@NotNull String programId, @NotNull String environmentId);
+
+  /**
+   * List the variables of the specified environment.
+   *
+   * @param programId     the program id
+   * @param environmentId the environment id
+   * @return future with the set of variables
+   */
+  @NotNull
+  CompletableFuture<Set<Variable>> getVariables(@NotNull String programId, @NotNull String environmentId);
+
+  /**
+   * Set the variables on the specified environment.
+   *
+   * @param programId     the program id
+   * @param environmentId the environment id
+   * @param variables     the variables to set
+   * @return future with the updated set of variables
+   */
+  @NotNull
+  CompletableFuture<Set<Variable>> setVariables(@NotNull String programId, @NotNull String environmentId, Variable... variables);
+
+  /**
+   * Reset the specified Rapid Development Environment.
+   *
+   * @param programId     the program id
+   * @param environmentId the environment id
+   * @return future completing when the reset has been accepted
+   */
+  @NotNull
+  CompletableFuture<Void> resetRde(@NotNull String programId, @NotNull String environmentId);
+}
@@ -0,0 +1,118 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import javax.validation.constraints.NotNull;
+
+import com.adobe.aio.cloudmanager.impl.environment.EnvironmentLogTailerImpl;
+
+/**
+ * Follows environment logs, notifying listeners of the lines written since the previous poll.
+ * <p>
+ * Each poll resolves the current day's log and requests only the content after the offset reached by the previous poll. Tailing starts at the end
+ * of the log as it is on the first poll; when the day changes, the remaining lines of the previous day's log are read before following the new one.
+ * Logs are dated in UTC. A log which does not exist yet is treated as empty.
+ * <p>
+ * A tail runs until its future is cancelled or the tailer is closed. It completes exceptionally if a log cannot be retrieved or a listener fails;
+ * throttled polls, or polls which cannot connect, are tried again later, see {@link PollingScheduler}.
+ */
+public interface EnvironmentLogTailer extends AutoCloseable {
+
+  /**
+   * Default delay between polls.
+   */
+  Duration DEFAULT_INTERVAL = Duration.ofMinutes(1);
+
+  /**
+   * Create a tailer which polls using the provided API every {@link #DEFAULT_INTERVAL}, on its own single threaded scheduler.
+   *
+   * @param api the environment API to poll with
+   * @return a new tailer
+   */
+  static EnvironmentLogTailer create(@NotNull EnvironmentApi api) {
+    return create(api, DEFAULT_INTERVAL);
+  }
+
+  /**
+   * Create a tailer which polls using the provided API and interval, on its own single threaded scheduler.
+   *
+   * @param api      the environment API to poll with
+   * @param interval the delay between polls
+   * @return a new tailer
+   */
+  static EnvironmentLogTailer create(@NotNull EnvironmentApi api, @NotNull Duration interval) {
+    return new EnvironmentLogTailerImpl(api, interval);
+  }
+
+  /**
+   * Create a tailer which polls using the provided API and interval, on a shared scheduler.
+   *
+   * @param api       the environment API to poll with
+   * @param interval  the delay between polls
+   * @param scheduler the scheduler to run polls on
+   * @return a new tailer
+   */
+  static EnvironmentLogTailer create(@NotNull EnvironmentApi api, @NotNull Duration interval, @NotNull PollingScheduler scheduler) {
+    return new EnvironmentLogTailerImpl(api, interval, scheduler);
+  }
+
+  /**
+   * Follow the log of the environment, until the returned future is cancelled.
+   *
+   * @param programId     the program id of the environment
+   * @param environmentId the environment id
+   * @param option        the log to follow
+   * @param listener      the listener to notify of new lines
+   * @return a future which only completes if the tail fails or is cancelled
+   */
+  CompletableFuture<Void> tail(@NotNull String programId, @NotNull String environmentId, @NotNull LogOption option, @NotNull Listener listener);
+
+  /**
+   * Follow the log of the environment, until the returned future is cancelled.
+   *
+   * @param environment the environment
+   * @param option      the log to follow
+   * @param listener    the listener to notify of new lines
+   * @return a future which only completes if the tail fails or is cancelled
+   */
+  CompletableFuture<Void> tail(@NotNull Environment environment, @NotNull LogOption option, @NotNull Listener listener);
+
+  /**
+   * Stop all tails started by this tailer. A scheduler owned by this tailer is closed, a shared one is not.
+   */
+  @Override
+  void close();
+
+  /**
+   * Listener for the lines appended to a followed log.
+   */
+  @FunctionalInterface
+  interface Listener {
+
+    /**
+     * Called for each new line, in the order they were written.
+     *
+     * @param line the line, without its terminator
+     */
+    void onLine(String line);
+  }
+}
@@ -0,0 +1,56 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Bounds for the cache of completed pipeline executions.
+ * <p>
+ * Once an execution is finished, errored, failed or cancelled it no longer changes, so it is kept along with its step states and the metrics retrieved for its steps, instead of being retrieved again.
+ * Executions which are still in progress are always retrieved. When either bound is reached, the least recently used executions are evicted.
+ */
+@Value
+@Builder
+public class ExecutionCachePolicy {
+
+  /**
+   * Policy which caches nothing.
+   */
+  public static final ExecutionCachePolicy NONE = ExecutionCachePolicy.builder().maxEntries(0).build();
+
+  /**
+   * Policy with the default bounds.
+   */
+  public static final ExecutionCachePolicy DEFAULT = ExecutionCachePolicy.builder().build();
+
+  /**
+   * Maximum number of executions held. Defaults to {@code 1000}.
+   */
+  @Builder.Default
+  int maxEntries = 1000;
+
+  /**
+   * Maximum weight of the cache, where each execution, step state and metric weighs one. Defaults to {@code 100000}.
+   */
+  @Builder.Default
+  long maxWeight = 100_000;
+}
@@ -0,0 +1,105 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import javax.validation.constraints.NotNull;
+
+/**
+ * Asynchronous Pipeline API
+ * <p>
+ * Asynchronous counterpart to {@link PipelineApi}. Futures complete exceptionally with a {@link CloudManagerApiException} when any error occurs.
+ */
+public interface PipelineApiAsync {
+
+  /**
+   * Lists all pipelines within the specified program.
+   *
+   * @param programId the program id
+   * @return future with the list of pipelines
+   */
+  @NotNull
+  CompletableFuture<Collection<Pipeline>> list(@NotNull String programId);
+
+  /**
+   * Get the pipeline with the specified id.
+   *
+   * @param programId  the program id
+   * @param pipelineId the pipeline id
+   * @return future with the pipeline
+   */
+  @NotNull
+  CompletableFuture<Pipeline> get(@NotNull String programId, @NotNull String pipelineId);
+
+  /**
+   * Delete the pipeline.
+   *
+   * @param programId  the program id
+   * @param pipelineId the pipeline id
+   * @return future completing when the pipeline is deleted
+   */
+  @NotNull
+  CompletableFuture<Void> delete(@NotNull String programId, @NotNull String pipelineId);
+
+  /**
+   * Update the pipeline's build source with the specified updates.
+   *
+   * @param programId  the program id
+   * @param pipelineId the pipeline id
+   * @param updates    the updates to make to the pipeline
+   * @return future with the updated pipeline
+   */
+  @NotNull
+  CompletableFuture<Pipeline> update(@NotNull String programId, @NotNull String pipelineId, @NotNull PipelineUpdate updates);
+
+  /**
+   * Invalidate the build cache of the pipeline.
+   *
+   * @param programId  the program id
+   * @param pipelineId the pipeline id
+   * @return future completing when the cache is invalidated
+   */
+  @NotNull
+  CompletableFuture<Void> invalidateCache(@NotNull String programId, @NotNull String pipelineId);
+
+  /**
+   * List the variables of the specified pipeline.
+   *
+   * @param programId  the program id
+   * @param pipelineId the pipeline id
+   * @return future with the set of variables
+   */
+  @NotNull
+  CompletableFuture<Set<Variable>> getVariables(@NotNull String programId, @NotNull String pipelineId);
+
+  /**
+   * Set the variables on the specified pipeline.
+   *
+   * @param programId  the program id
+   * @param pipelineId the pipeline id
+   * @param variables  the variables to set
+   * @return future with the updated set of variables
+   */
+  @NotNull
+  CompletableFuture<Set<Variable>> setVariables(@NotNull String programId, @NotNull String pipelineId, Variable... variables);
+}
@@ -20,6 +20,9 @@ package com.adobe.aio.cloudmanager;
  * #L%
  */
 
+import java.io.File;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 import javax.validation.constraints.NotNull;
@@ -84,6 +87,16 @@ public interface PipelineExecution {
   @NotNull
   PipelineExecutionStepState getCurrentStep() throws CloudManagerApiException;
 
+  /**
+   * All steps of this execution, in the order they run.
+   * <p>
+   * Note: This does not check the <i>current</i> remote state. It only checks the state of this object. To check current state, retrieve a new PipelineExecution instance.
+   *
+   * @return the step states, which cannot be modified
+   */
+  @NotNull
+  List<PipelineExecutionStepState> getSteps();
+
   /**
    * Find the first step that matches the predicate.
    *
@@ -116,6 +129,20 @@ public interface PipelineExecution {
    */
   boolean isRunning();
 
+  /**
+   * Downloads the log of every step of this execution which has one, up to {@code parallelism} files at a time, into a folder for this execution
+   * within the directory.
+   * <p>
+   * Note: This does not check the <i>current</i> remote state. Only the steps of this object are downloaded. To include steps which started since, retrieve a new PipelineExecution instance.
+   *
+   * @param dir         the directory in which to create the execution's folder
+   * @param parallelism the maximum number of files to download at once
+   * @return the downloaded files, in step order
+   * @throws CloudManagerApiException when any error occurs
+   */
+  @NotNull
+  Collection<File> downloadAllLogs(@NotNull File dir, int parallelism) throws CloudManagerApiException;
+
   /**
    * Pipeline Execution status values
    */
@@ -20,9 +20,12 @@ package com.adobe.aio.cloudmanager;
  * #L%
  */
 
+import java.io.File;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 import javax.validation.constraints.NotNull;
 
 import com.adobe.aio.cloudmanager.exception.PipelineRunningException;
@@ -118,6 +121,19 @@ public interface PipelineExecutionApi {
   @NotNull
   PipelineExecutionStepState getStepState(@NotNull PipelineExecution execution, @NotNull StepAction action) throws CloudManagerApiException;
 
+  /**
+   * Get the specified action step for the pipeline execution, reusing the provided execution if it was retrieved within {@code maxAge}.
+   * Executions which have ended are always reused.
+   *
+   * @param execution the execution context
+   * @param action    the step state action (see {@link StepAction})
+   * @param maxAge    how long ago the execution may have been retrieved to be reused
+   * @return the step state details
+   * @throws CloudManagerApiException when any error occurs
+   */
+  @NotNull
+  PipelineExecutionStepState getStepState(@NotNull PipelineExecution execution, @NotNull StepAction action, @NotNull Duration maxAge) throws CloudManagerApiException;
+
   /**
    * Advance the execution of the specified pipeline execution, if in an appropriate state.
    *
@@ -136,6 +152,15 @@ public interface PipelineExecutionApi {
    */
   void advance(@NotNull PipelineExecution execution) throws CloudManagerApiException;
 
+  /**
+   * Advance the execution of the specified pipeline execution, if in an appropriate state, reusing the provided execution if it was retrieved within {@code maxAge}.
+   *
+   * @param execution the execution to be advanced
+   * @param maxAge    how long ago the execution may have been retrieved to be reused
+   * @throws CloudManagerApiException when any error occurs
+   */
+  void advance(@NotNull PipelineExecution execution, @NotNull Duration maxAge) throws CloudManagerApiException;
+
   /**
    * Cancel the execution of the specified pipeline execution, if in an appropriate state.
    *
@@ -154,6 +179,15 @@ public interface PipelineExecutionApi {
    */
   void cancel(@NotNull PipelineExecution execution) throws CloudManagerApiException;
 
+  /**
+   * Cancel the execution of the specified pipeline execution, if in an appropriate state, reusing the provided execution if it was retrieved within {@code maxAge}.
+   *
+   * @param execution the execution to be canceled
+   * @param maxAge    how long ago the execution may have been retrieved to be reused
+   * @throws CloudManagerApiException when any error occurs
+   */
+  void cancel(@NotNull PipelineExecution execution, @NotNull Duration maxAge) throws CloudManagerApiException;
+
   /**
    * Get the fully qualified URL to the specified step's log file.
    *
@@ -200,6 +234,23 @@ public interface PipelineExecutionApi {
    */
   String getStepLogDownloadUrl(@NotNull PipelineExecution execution, @NotNull StepAction action, @NotNull String name) throws CloudManagerApiException;
 
+  /**
+   * Downloads the log of every step of the execution which has one, up to {@code parallelism} files at a time.
+   * <p>
+   * Steps are taken from the provided execution, without retrieving it again; retrieve a new instance to include steps which started since.
+   * Logs are saved in a folder for the execution within the directory, named as by {@link PipelineExecutionStepState#getLog(File)}, with the
+   * environment type appended for steps which run in one.
+   *
+   * @param execution   the execution
+   * @param dir         the directory in which to create the execution's folder
+   * @param parallelism the maximum number of files to download at once
+   * @param listener    listener for the progress of each file
+   * @return the downloaded files, in step order
+   * @throws CloudManagerApiException when any error occurs
+   */
+  @NotNull
+  Collection<File> downloadAllLogs(@NotNull PipelineExecution execution, @NotNull File dir, int parallelism, @NotNull DownloadListener listener) throws CloudManagerApiException;
+
   /**
    * Get the metrics for the specified execution and step, if any.
    *
@@ -211,6 +262,18 @@ public interface PipelineExecutionApi {
   @NotNull
   Collection<Metric> getQualityGateResults(@NotNull PipelineExecution execution, @NotNull StepAction action) throws CloudManagerApiException;
 
+  /**
+   * Get the metrics for the specified execution and step, if any, reusing the provided execution if it was retrieved within {@code maxAge}.
+   *
+   * @param execution the execution context
+   * @param action    the action step context
+   * @param maxAge    how long ago the execution may have been retrieved to be reused
+   * @return the metrics for the execution
+   * @throws CloudManagerApiException when any error occurs
+   */
+  @NotNull
+  Collection<Metric> getQualityGateResults(@NotNull PipelineExecution execution, @NotNull StepAction action, @NotNull Duration maxAge) throws CloudManagerApiException;
+
   /**
    * List executions of the specified pipeline, using the default limit and starting at 0.
    *
@@ -280,6 +343,34 @@ public interface PipelineExecutionApi {
   @NotNull
   Collection<PipelineExecution> list(@NotNull Pipeline pipeline, int start, int limit) throws CloudManagerApiException;
 
+  /**
+   * Stream all executions of the specified pipeline, retrieving them a page at a time.
+   * <p>
+   * Pages are retrieved as the stream is consumed, the next one in the background while the current one is processed. Failures retrieving later pages are thrown
+   * from the stream's terminal operation as the {@link CloudManagerApiException} itself, although the operation does not declare it. Close the stream to stop
+   * retrieving pages when not consuming it to the end; this cancels the request for the next page.
+   *
+   * @param programId  the program id context of the pipeline
+   * @param pipelineId the pipeline id
+   * @param pageSize   the number of executions to retrieve per page
+   * @return stream of executions
+   * @throws CloudManagerApiException when the first page cannot be retrieved
+   */
+  @NotNull
+  Stream<PipelineExecution> stream(@NotNull String programId, @NotNull String pipelineId, int pageSize) throws CloudManagerApiException;
+
+  /**
+   * Stream all executions of the specified pipeline, retrieving them a page at a time.
+   *
+   * @param pipeline the pipeline context
+   * @param pageSize the number of executions to retrieve per page
+   * @return stream of executions
+   * @throws CloudManagerApiException when the first page cannot be retrieved
+   * @see #stream(String, String, int)
+   */
+  @NotNull
+  Stream<PipelineExecution> stream(@NotNull Pipeline pipeline, int pageSize) throws CloudManagerApiException;
+
   /**
    * List all artifacts associated with the specified step.
    *
@@ -290,6 +381,35 @@ public interface PipelineExecutionApi {
   @NotNull
   Collection<Artifact> listArtifacts(@NotNull PipelineExecutionStepState step) throws CloudManagerApiException;
 
+  /**
+   * Downloads all artifacts of the step to the directory, a few at a time.
+   *
+   * @param step the pipeline execution step context
+   * @param dir  the directory in which to save the artifacts
+   * @return the downloaded files, in the order listed
+   * @throws CloudManagerApiException when any error occurs
+   * @see #downloadArtifacts(PipelineExecutionStepState, File, int, DownloadListener)
+   */
+  @NotNull
+  Collection<File> downloadArtifacts(@NotNull PipelineExecutionStepState step, @NotNull File dir) throws CloudManagerApiException;
+
+  /**
+   * Downloads all artifacts of the step to the directory, up to {@code parallelism} files at a time.
+   * <p>
+   * Artifacts already in the directory with their listed hash are skipped, without resolving their download url. Others are verified against
+   * the hash as they are received, so a corrupt download fails without reading the file again. The listener is told the throughput of each
+   * transfer.
+   *
+   * @param step        the pipeline execution step context
+   * @param dir         the directory in which to save the artifacts
+   * @param parallelism the maximum number of files to download at once
+   * @param listener    listener for the progress of each file
+   * @return the downloaded files, in the order listed
+   * @throws CloudManagerApiException when any error occurs
+   */
+  @NotNull
+  Collection<File> downloadArtifacts(@NotNull PipelineExecutionStepState step, @NotNull File dir, int parallelism, @NotNull DownloadListener listener) throws CloudManagerApiException;
+
   /**
    * Get the fully qualified URL to the artifact file.
    *
@@ -22,6 +22,7 @@ package com.adobe.aio.cloudmanager;
 
 import java.io.File;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * A Pipeline Execution Step representation - an instance of an action/step within a Pipeline Execution.
@@ -97,6 +98,29 @@ public interface PipelineExecutionStepState {
    */
   void getLog(String name, File dir) throws CloudManagerApiException;
 
+  /**
+   * Read the lines of the default log associated with this step as they are downloaded, without writing it to disk.
+   * <p>
+   * The download is open until the stream is closed, so close it when not consuming every line.
+   *
+   * @param filter the lines to return
+   * @return stream of the matching lines
+   * @throws CloudManagerApiException when any error occurs
+   */
+  Stream<String> streamLog(Predicate<String> filter) throws CloudManagerApiException;
+
+  /**
+   * Read the lines of the named log associated with this step as they are downloaded, without writing it to disk.
+   * <p>
+   * The download is open until the stream is closed, so close it when not consuming every line.
+   *
+   * @param name   the name of the log to read
+   * @param filter the lines to return
+   * @return stream of the matching lines
+   * @throws CloudManagerApiException when any error occurs
+   */
+  Stream<String> streamLog(String name, Predicate<String> filter) throws CloudManagerApiException;
+
   /**
    * Pipeline Execution Step status values
    *
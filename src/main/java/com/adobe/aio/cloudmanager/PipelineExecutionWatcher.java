@@ -0,0 +1,106 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.util.concurrent.CompletableFuture;
+import javax.validation.constraints.NotNull;
+
+import com.adobe.aio.cloudmanager.impl.pipeline.execution.PipelineExecutionWatcherImpl;
+
+/**
+ * Watches pipeline executions until they complete, polling at intervals adapted to the state of the execution.
+ * <p>
+ * A watch completes with the final state of the execution once it is {@link PipelineExecution.Status#FINISHED finished}, {@link PipelineExecution.Status#ERROR errored}, {@link PipelineExecution.Status#FAILED failed} or {@link PipelineExecution.Status#CANCELLED cancelled}.
+ * It completes exceptionally if the execution cannot be retrieved, a listener fails, or the policy's timeout elapses. Cancelling the returned future stops the watch.
+ * Throttled checks, or checks which cannot connect, do not fail the watch: they are tried again later, see {@link PollingScheduler}.
+ */
+public interface PipelineExecutionWatcher extends AutoCloseable {
+
+  /**
+   * Create a watcher which polls using the provided API and the default policy, on its own single threaded scheduler.
+   *
+   * @param api the execution API to poll with
+   * @return a new watcher
+   */
+  static PipelineExecutionWatcher create(@NotNull PipelineExecutionApi api) {
+    return create(api, PollingPolicy.DEFAULT);
+  }
+
+  /**
+   * Create a watcher which polls using the provided API and policy, on its own single threaded scheduler.
+   *
+   * @param api    the execution API to poll with
+   * @param policy the polling policy
+   * @return a new watcher
+   */
+  static PipelineExecutionWatcher create(@NotNull PipelineExecutionApi api, @NotNull PollingPolicy policy) {
+    return new PipelineExecutionWatcherImpl(api, policy);
+  }
+
+  /**
+   * Create a watcher which polls using the provided API and policy, on a shared scheduler.
+   *
+   * @param api       the execution API to poll with
+   * @param policy    the polling policy
+   * @param scheduler the scheduler to run checks on
+   * @return a new watcher
+   */
+  static PipelineExecutionWatcher create(@NotNull PipelineExecutionApi api, @NotNull PollingPolicy policy, @NotNull PollingScheduler scheduler) {
+    return new PipelineExecutionWatcherImpl(api, policy, scheduler);
+  }
+
+  /**
+   * Watch the execution until it completes.
+   *
+   * @param execution the execution to watch
+   * @return a future for the completed execution
+   */
+  CompletableFuture<PipelineExecution> watch(@NotNull PipelineExecution execution);
+
+  /**
+   * Watch the execution until it completes, notifying the listener of each step transition.
+   *
+   * @param execution the execution to watch
+   * @param listener  the listener to notify
+   * @return a future for the completed execution
+   */
+  CompletableFuture<PipelineExecution> watch(@NotNull PipelineExecution execution, @NotNull Listener listener);
+
+  /**
+   * Stop all watches started by this watcher. A scheduler owned by this watcher is closed, a shared one is not.
+   */
+  @Override
+  void close();
+
+  /**
+   * Listener for the step transitions of a watched execution.
+   */
+  @FunctionalInterface
+  interface Listener {
+
+    /**
+     * Called when a step's status differs from the previous check.
+     *
+     * @param step     the step, in its new state
+     * @param previous the previous status of the step, or {@code null} if the step was not present before
+     */
+    void onStepTransition(PipelineExecutionStepState step, PipelineExecutionStepState.Status previous);
+  }
+}
@@ -0,0 +1,59 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.time.Duration;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Policy for polling the state of a pipeline execution until it completes.
+ * <p>
+ * Executions with a running step are checked every {@link #getRunningInterval()}. Executions only waiting on an approval or schedule will not change until someone acts, so they are checked every {@link #getWaitingInterval()}.
+ *
+ * @see PipelineExecutionWatcher
+ */
+@Value
+@Builder
+public class PollingPolicy {
+
+  /**
+   * Policy with the default intervals and no timeout.
+   */
+  public static final PollingPolicy DEFAULT = PollingPolicy.builder().build();
+
+  /**
+   * Delay between checks while a step is running or about to start. Defaults to 10s.
+   */
+  @Builder.Default
+  Duration runningInterval = Duration.ofSeconds(10);
+
+  /**
+   * Delay between checks while the current step is waiting. Defaults to 60s.
+   */
+  @Builder.Default
+  Duration waitingInterval = Duration.ofSeconds(60);
+
+  /**
+   * Maximum time to watch an execution, after which the watch fails with a {@link java.util.concurrent.TimeoutException}. Defaults to none.
+   */
+  Duration timeout;
+}
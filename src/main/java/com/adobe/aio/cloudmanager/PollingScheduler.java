@@ -0,0 +1,70 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.time.Duration;
+
+import com.adobe.aio.cloudmanager.impl.PollingSchedulerImpl;
+
+/**
+ * Scheduler shared by watchers, to track many pipeline executions and content flows with a small, fixed number of threads.
+ * <p>
+ * A single timer thread schedules all checks, which run on a fixed pool of workers. Watches of the same execution or flow, through the same API instance, are coalesced into one check.
+ * When checks are throttled or cannot connect, every check is slowed down, up to the maximum backoff, until requests succeed again.
+ * <p>
+ * Schedulers are created with {@link #create(int, Duration)}; this interface is not meant to be implemented, and watchers reject other implementations.
+ *
+ * @see PipelineExecutionWatcher#create(PipelineExecutionApi, PollingPolicy, PollingScheduler)
+ * @see ContentFlowWatcher#create(ContentSetApi, PollingPolicy, PollingScheduler)
+ */
+public interface PollingScheduler extends AutoCloseable {
+
+  /**
+   * Default upper bound of the delay between checks while throttled.
+   */
+  Duration DEFAULT_MAX_BACKOFF = Duration.ofMinutes(5);
+
+  /**
+   * Create a scheduler with the provided number of workers and the default maximum backoff.
+   *
+   * @param workers the number of threads performing checks
+   * @return a new scheduler
+   */
+  static PollingScheduler create(int workers) {
+    return create(workers, DEFAULT_MAX_BACKOFF);
+  }
+
+  /**
+   * Create a scheduler with the provided number of workers and maximum backoff.
+   *
+   * @param workers    the number of threads performing checks
+   * @param maxBackoff the upper bound of the delay between checks while throttled
+   * @return a new scheduler
+   */
+  static PollingScheduler create(int workers, Duration maxBackoff) {
+    return new PollingSchedulerImpl(workers, maxBackoff);
+  }
+
+  /**
+   * Stop all checks. Pending watches on any watcher using this scheduler are cancelled.
+   */
+  @Override
+  void close();
+}
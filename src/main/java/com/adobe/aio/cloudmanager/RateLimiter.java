@@ -0,0 +1,95 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.time.Duration;
+
+import com.adobe.aio.cloudmanager.impl.TokenBucketRateLimiter;
+
+/**
+ * Limits the rate at which requests are sent to Cloud Manager.
+ * <p>
+ * Requests are keyed by the organization and API key of the workspace, so every API built with the same limiter and workspace shares one budget. Reads and mutating calls (e.g. start, advance, cancel or setting variables) are limited separately.
+ */
+public interface RateLimiter {
+
+  /**
+   * Block until a request may be sent.
+   *
+   * @param key       the budget to draw from, derived from the workspace
+   * @param operation the kind of request
+   * @throws InterruptedException if interrupted while waiting
+   */
+  void acquire(String key, Operation operation) throws InterruptedException;
+
+  /**
+   * Reserve a request without waiting, for asynchronous requests which are delayed rather than blocking their caller.
+   * <p>
+   * By default this blocks in {@link #acquire(String, Operation)} and returns no delay, so limiters which can be reserved ahead should override it.
+   *
+   * @param key       the budget to draw from, derived from the workspace
+   * @param operation the kind of request
+   * @return how long to delay the request
+   * @throws InterruptedException if interrupted while waiting
+   */
+  default Duration reserve(String key, Operation operation) throws InterruptedException {
+    acquire(key, operation);
+    return Duration.ZERO;
+  }
+
+  /**
+   * Create a token bucket limiter, which allows bursts of up to one second's worth of requests.
+   *
+   * @param readsPerSecond  sustained rate of read requests
+   * @param writesPerSecond sustained rate of mutating requests
+   * @return a rate limiter
+   */
+  static RateLimiter tokenBucket(double readsPerSecond, double writesPerSecond) {
+    return tokenBucket(readsPerSecond, (int) Math.ceil(readsPerSecond), writesPerSecond, (int) Math.ceil(writesPerSecond));
+  }
+
+  /**
+   * Create a token bucket limiter.
+   *
+   * @param readsPerSecond  sustained rate of read requests
+   * @param readBurst       number of read requests which may be sent at once
+   * @param writesPerSecond sustained rate of mutating requests
+   * @param writeBurst      number of mutating requests which may be sent at once
+   * @return a rate limiter
+   */
+  static RateLimiter tokenBucket(double readsPerSecond, int readBurst, double writesPerSecond, int writeBurst) {
+    return new TokenBucketRateLimiter(readsPerSecond, readBurst, writesPerSecond, writeBurst);
+  }
+
+  /**
+   * Kinds of requests, each with its own budget.
+   */
+  enum Operation {
+    /**
+     * Requests which do not change state ({@code GET}, {@code HEAD}, {@code OPTIONS}).
+     */
+    READ,
+    /**
+     * All other requests.
+     */
+    WRITE
+  }
+}
@@ -21,6 +21,7 @@ package com.adobe.aio.cloudmanager;
  */
 
 import java.util.Collection;
+import java.util.stream.Stream;
 import javax.validation.constraints.NotNull;
 
 /**
@@ -97,6 +98,33 @@ public interface RepositoryApi {
   @NotNull
   Collection<Repository> list(@NotNull Program program, int start, int limit) throws CloudManagerApiException;
 
+  /**
+   * Stream all repositories for the specified program, retrieving them a page at a time.
+   * <p>
+   * Pages are retrieved as the stream is consumed, the next one in the background while the current one is processed. Failures retrieving later pages are thrown
+   * from the stream's terminal operation as the {@link CloudManagerApiException} itself, although the operation does not declare it. Close the stream to stop
+   * retrieving pages when not consuming it to the end; this cancels the request for the next page.
+   *
+   * @param programId the program id
+   * @param pageSize  the number of repositories to retrieve per page
+   * @return stream of repositories
+   * @throws CloudManagerApiException when the first page cannot be retrieved
+   */
+  @NotNull
+  Stream<Repository> stream(@NotNull String programId, int pageSize) throws CloudManagerApiException;
+
+  /**
+   * Stream all repositories for the specified program, retrieving them a page at a time.
+   *
+   * @param program  the program
+   * @param pageSize the number of repositories to retrieve per page
+   * @return stream of repositories
+   * @throws CloudManagerApiException when the first page cannot be retrieved
+   * @see #stream(String, int)
+   */
+  @NotNull
+  Stream<Repository> stream(@NotNull Program program, int pageSize) throws CloudManagerApiException;
+
   /**
    * Get a specific repository in the program.
    *
@@ -0,0 +1,72 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import javax.validation.constraints.NotNull;
+
+/**
+ * Asynchronous Repository API
+ * <p>
+ * Asynchronous counterpart to {@link RepositoryApi}. Futures complete exceptionally with a {@link CloudManagerApiException} when any error occurs.
+ */
+public interface RepositoryApiAsync {
+
+  /**
+   * List all repositories in the program, using the default limit and starting at 0.
+   *
+   * @param programId the program id
+   * @return future with the list of repositories
+   */
+  @NotNull
+  CompletableFuture<Collection<Repository>> list(@NotNull String programId);
+
+  /**
+   * List repositories in the program, using the specified limit and starting at the specified position.
+   *
+   * @param programId the program id
+   * @param start     the starting position of the results
+   * @param limit     the number of repositories to return
+   * @return future with the list of repositories
+   */
+  @NotNull
+  CompletableFuture<Collection<Repository>> list(@NotNull String programId, int start, int limit);
+
+  /**
+   * Get the repository with the specified id.
+   *
+   * @param programId    the program id
+   * @param repositoryId the repository id
+   * @return future with the repository
+   */
+  @NotNull
+  CompletableFuture<Repository> get(@NotNull String programId, @NotNull String repositoryId);
+
+  /**
+   * List the branches of the specified repository.
+   *
+   * @param repository the repository
+   * @return future with the list of branch names
+   */
+  @NotNull
+  CompletableFuture<Collection<String>> listBranches(@NotNull Repository repository);
+}
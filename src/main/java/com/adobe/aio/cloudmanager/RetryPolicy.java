@@ -0,0 +1,119 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Policy for automatically retrying requests which failed with a transient error.
+ * <p>
+ * A request is retried when the response status is one of the {@link #getRetryableStatuses() retryable statuses}, or when the connection failed.
+ * Delays grow exponentially from {@link #getInitialBackoff()} up to {@link #getMaxBackoff()}, randomized by {@link #getJitter()}. A {@code Retry-After} response header takes precedence over the computed delay, when honored.
+ * <p>
+ * Throttled ({@code 429}) requests were rejected before being processed, so they are retried regardless of method. Otherwise, when {@link #isIdempotentOnly()} is set, only {@code GET}, {@code HEAD}, {@code OPTIONS} and {@code DELETE} requests are retried; {@code PUT} is excluded as this API uses it to start, advance and cancel executions.
+ */
+@Value
+@Builder
+public class RetryPolicy {
+
+  /**
+   * Policy which never retries.
+   */
+  public static final RetryPolicy NONE = RetryPolicy.builder().maxAttempts(1).build();
+
+  /**
+   * Total number of attempts for a request, including the first. Defaults to {@code 3}.
+   */
+  @Builder.Default
+  int maxAttempts = 3;
+
+  /**
+   * Delay before the first retry. Defaults to 500ms.
+   */
+  @Builder.Default
+  Duration initialBackoff = Duration.ofMillis(500);
+
+  /**
+   * Upper bound for any delay, including one requested by a {@code Retry-After} header. Defaults to 30s.
+   */
+  @Builder.Default
+  Duration maxBackoff = Duration.ofSeconds(30);
+
+  /**
+   * Factor applied to the delay after each retry. Defaults to {@code 2.0}.
+   */
+  @Builder.Default
+  double multiplier = 2.0;
+
+  /**
+   * Fraction of the delay to randomize, between {@code 0.0} (none) and {@code 1.0}. Defaults to {@code 0.2}.
+   */
+  @Builder.Default
+  double jitter = 0.2;
+
+  /**
+   * Whether to limit retries of server or connection failures to idempotent methods. Defaults to {@code true}.
+   */
+  @Builder.Default
+  boolean idempotentOnly = true;
+
+  /**
+   * Whether to wait as long as a {@code Retry-After} header requests. Defaults to {@code true}.
+   */
+  @Builder.Default
+  boolean honorRetryAfter = true;
+
+  /**
+   * Response statuses which are considered transient. Defaults to {@code 429}, {@code 502}, {@code 503} and {@code 504}.
+   */
+  @Builder.Default
+  Set<Integer> retryableStatuses = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(429, 502, 503, 504)));
+
+  /**
+   * Notified before each retry, may be {@code null}.
+   */
+  Listener listener;
+
+  /**
+   * Listener for retries performed under a policy.
+   */
+  @FunctionalInterface
+  public interface Listener {
+
+    /**
+     * Called before a request is retried.
+     *
+     * @param method  the HTTP method of the request
+     * @param url     the url of the request
+     * @param retry   the number of this retry, starting at 1
+     * @param status  the status of the failed attempt, or {@code -1} if the connection failed
+     * @param delay   the delay before the retry is sent
+     */
+    void onRetry(String method, String url, int retry, int status, Duration delay);
+  }
+}
@@ -0,0 +1,49 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import javax.validation.constraints.NotNull;
+
+/**
+ * Asynchronous Tenant API
+ * <p>
+ * Asynchronous counterpart to {@link TenantApi}. Futures complete exceptionally with a {@link CloudManagerApiException} when any error occurs.
+ */
+public interface TenantApiAsync {
+  /**
+   * List the tenants associated with the IMS Org in the API Context
+   *
+   * @return future with the list of tenants
+   */
+  @NotNull
+  CompletableFuture<Collection<Tenant>> list();
+
+  /**
+   * Gets the tenant with the specified identifier.
+   *
+   * @param tenantId the id of the tenant
+   * @return future with the tenant
+   */
+  @NotNull
+  CompletableFuture<Tenant> get(@NotNull String tenantId);
+}
@@ -0,0 +1,118 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * Map bounded by its number of entries and their total weight, which evicts the least recently used entries.
+ *
+ * @param <K> the type of key
+ * @param <V> the type of value
+ */
+public class BoundedCache<K, V> {
+
+  private final int maxEntries;
+  private final long maxWeight;
+  private final ToLongFunction<V> weigher;
+  private final LinkedHashMap<K, Weighed<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long weight;
+
+  public BoundedCache(int maxEntries, long maxWeight, ToLongFunction<V> weigher) {
+    this.maxEntries = maxEntries;
+    this.maxWeight = maxWeight;
+    this.weigher = weigher;
+  }
+
+  public synchronized V get(K key) {
+    Weighed<V> entry = entries.get(key);
+    return entry == null ? null : entry.value;
+  }
+
+  /**
+   * Add or replace an entry. A value heavier than the maximum weight is not kept.
+   * <p>
+   * The value is weighed when it is added; a value which grows must be added again for its new weight to count.
+   *
+   * @param key   the key
+   * @param value the value
+   */
+  public synchronized void put(K key, V value) {
+    remove(key);
+    long valueWeight = weigher.applyAsLong(value);
+    if (maxEntries < 1 || valueWeight > maxWeight) {
+      return;
+    }
+    entries.put(key, new Weighed<>(value, valueWeight));
+    weight += valueWeight;
+    Iterator<Map.Entry<K, Weighed<V>>> eldest = entries.entrySet().iterator();
+    while (entries.size() > maxEntries || weight > maxWeight) {
+      weight -= eldest.next().getValue().weight;
+      eldest.remove();
+    }
+  }
+
+  public synchronized V remove(K key) {
+    Weighed<V> removed = entries.remove(key);
+    if (removed == null) {
+      return null;
+    }
+    weight -= removed.weight;
+    return removed.value;
+  }
+
+  /**
+   * Remove the entries whose key matches.
+   *
+   * @param filter the keys to remove
+   */
+  public synchronized void removeIf(Predicate<? super K> filter) {
+    Iterator<Map.Entry<K, Weighed<V>>> it = entries.entrySet().iterator();
+    while (it.hasNext()) {
+      Map.Entry<K, Weighed<V>> entry = it.next();
+      if (filter.test(entry.getKey())) {
+        weight -= entry.getValue().weight;
+        it.remove();
+      }
+    }
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  public synchronized long getWeight() {
+    return weight;
+  }
+
+  private static class Weighed<V> {
+    private final V value;
+    private final long weight;
+
+    private Weighed(V value, long weight) {
+      this.value = value;
+      this.weight = weight;
+    }
+  }
+}
@@ -0,0 +1,132 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import okhttp3.Call;
+
+/**
+ * Scope of the asynchronous requests started while it is current, so their HTTP calls can be cancelled together.
+ * <p>
+ * Cancelling a future returned by an asynchronous API does not reach the HTTP call. Instead, the transport binds the calls of requests started
+ * within a scope to it, including retries which have yet to start, and cancels them when the scope is cancelled.
+ */
+class CallScope {
+
+  private static final ThreadLocal<CallScope> CURRENT = new ThreadLocal<>();
+
+  private final List<Call> calls = new ArrayList<>();
+  private final List<Runnable> listeners = new ArrayList<>();
+  private boolean cancelled;
+
+  /**
+   * Start requests within this scope.
+   *
+   * @param requests starts the requests
+   * @param <T>      the type of result
+   * @return the result
+   */
+  <T> T run(Supplier<T> requests) {
+    CallScope previous = CURRENT.get();
+    CURRENT.set(this);
+    try {
+      return requests.get();
+    } finally {
+      if (previous == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(previous);
+      }
+    }
+  }
+
+  /**
+   * Cancels the calls bound to this scope, and any bound later.
+   */
+  void cancel() {
+    List<Call> started;
+    List<Runnable> notified;
+    synchronized (this) {
+      if (cancelled) {
+        return;
+      }
+      cancelled = true;
+      started = new ArrayList<>(calls);
+      notified = new ArrayList<>(listeners);
+      calls.clear();
+      listeners.clear();
+    }
+    started.forEach(Call::cancel);
+    notified.forEach(Runnable::run);
+  }
+
+  synchronized boolean isCancelled() {
+    return cancelled;
+  }
+
+  void bind(Call call) {
+    synchronized (this) {
+      if (!cancelled) {
+        calls.add(call);
+        return;
+      }
+    }
+    call.cancel();
+  }
+
+  void onCancel(Runnable listener) {
+    synchronized (this) {
+      if (!cancelled) {
+        listeners.add(listener);
+        return;
+      }
+    }
+    listener.run();
+  }
+
+  /**
+   * The scope requests are started within on this thread, if any.
+   *
+   * @return the scope or null
+   */
+  static CallScope current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * The scope a request was started within, as handed down through the request context, if any.
+   *
+   * @param requestContext the request context
+   * @return the scope or null
+   */
+  static CallScope of(Optional<Object> requestContext) {
+    return requestContext.filter(CallScope.class::isInstance).map(CallScope.class::cast).orElse(null);
+  }
+
+  static boolean isCancelled(Optional<Object> requestContext) {
+    CallScope scope = of(requestContext);
+    return scope != null && scope.isCancelled();
+  }
+}
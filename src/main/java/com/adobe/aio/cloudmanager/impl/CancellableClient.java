@@ -0,0 +1,83 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+
+import feign.AsyncClient;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.okhttp.OkHttpClient;
+import okhttp3.EventListener;
+
+/**
+ * Client which sends requests through OkHttp, binding the calls of asynchronous requests to the {@link CallScope} handed down as their request
+ * context, so cancelling the scope cancels the calls.
+ * Requests failing once their scope is cancelled fail with a {@link CancellationException}, which is not retried.
+ * <p>
+ * Calls are bound as OkHttp creates them, through an event listener factory on a client derived from the shared one, which keeps its dispatcher,
+ * connection pool and event listeners.
+ */
+public class CancellableClient implements Client, AsyncClient<Object> {
+
+  private final OkHttpClient delegate;
+
+  public CancellableClient(okhttp3.OkHttpClient httpClient) {
+    EventListener.Factory listeners = httpClient.eventListenerFactory();
+    this.delegate = new OkHttpClient(httpClient.newBuilder().eventListenerFactory(call -> {
+      CallScope scope = CallScope.current();
+      if (scope != null) {
+        scope.bind(call);
+      }
+      return listeners.create(call);
+    }).build());
+  }
+
+  @Override
+  public Response execute(Request request, Request.Options options) throws IOException {
+    return delegate.execute(request, options);
+  }
+
+  @Override
+  public CompletableFuture<Response> execute(Request request, Request.Options options, Optional<Object> requestContext) {
+    CallScope scope = CallScope.of(requestContext);
+    if (scope == null) {
+      return delegate.execute(request, options, requestContext);
+    }
+    // The call is created before the request is enqueued, so on this thread.
+    CompletableFuture<Response> result = new CompletableFuture<>();
+    scope.run(() -> delegate.execute(request, options, requestContext)).whenComplete((response, t) -> {
+      if (t == null) {
+        result.complete(response);
+      } else if (scope.isCancelled()) {
+        // Not an IOException, so Feign does not retry it outside of the scope.
+        result.completeExceptionally(new CancellationException("Request cancelled: " + request.url()));
+      } else {
+        result.completeExceptionally(t);
+      }
+    });
+    return result;
+  }
+}
@@ -0,0 +1,237 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import com.adobe.aio.cloudmanager.CatalogCache;
+import com.adobe.aio.cloudmanager.CatalogCachePolicy;
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.fasterxml.jackson.databind.JavaType;
+
+/**
+ * Catalog cache backed by a {@link BoundedCache}, with entries keyed by their type first so a type can be invalidated at once.
+ * <p>
+ * Entries are held serialized, and every read decodes its own copy, so a caller modifying what it was handed does not affect the cache or other
+ * callers. Each type has a generation, advanced when it is invalidated; a load only stores its entry if the generation is the one it started in,
+ * so an entry loaded before an invalidation does not replace it.
+ */
+public class CatalogCacheImpl implements CatalogCache {
+
+  private final CatalogCachePolicy policy;
+  private final Clock clock;
+  private final BoundedCache<List<Object>, Entry> entries;
+  private final Map<Type, LongAdder> hits = new EnumMap<>(Type.class);
+  private final Map<Type, LongAdder> misses = new EnumMap<>(Type.class);
+  private final Map<Type, AtomicLong> generations = new EnumMap<>(Type.class);
+
+  public CatalogCacheImpl(CatalogCachePolicy policy) {
+    this(policy, Clock.systemUTC());
+  }
+
+  CatalogCacheImpl(CatalogCachePolicy policy, Clock clock) {
+    this.policy = policy;
+    this.clock = clock;
+    this.entries = new BoundedCache<>(policy.getMaxEntries(), policy.getMaxEntries(), e -> 1);
+    for (Type type : Type.values()) {
+      hits.put(type, new LongAdder());
+      misses.put(type, new LongAdder());
+      generations.put(type, new AtomicLong());
+    }
+  }
+
+  /**
+   * Read the entry, loading it from the server if it is not cached or has expired.
+   *
+   * @param identity the workspace and server the entry belongs to
+   * @param type     the type of entry
+   * @param loader   loads the entry
+   * @param key      identifies the entry within its type
+   * @param <T>      the type of the entry
+   * @return the entry
+   * @throws CloudManagerApiException when loading fails
+   */
+  public <T> T read(String identity, Type type, Loader<T> loader, Object... key) throws CloudManagerApiException {
+    if (!isCached(type)) {
+      return loader.load();
+    }
+    List<Object> k = toKey(identity, type, key);
+    T cached = lookup(k, type);
+    if (cached != null) {
+      return cached;
+    }
+    long generation = generations.get(type).get();
+    T value = loader.load();
+    store(k, type, generation, value);
+    return value;
+  }
+
+  /**
+   * Read the entry, loading it from the server if it is not cached or has expired.
+   *
+   * @param identity the workspace and server the entry belongs to
+   * @param type     the type of entry
+   * @param loader   loads the entry
+   * @param key      identifies the entry within its type
+   * @param <T>      the type of the entry
+   * @return future with the entry
+   */
+  public <T> CompletableFuture<T> readAsync(String identity, Type type, Supplier<CompletableFuture<T>> loader, Object... key) {
+    if (!isCached(type)) {
+      return loader.get();
+    }
+    List<Object> k = toKey(identity, type, key);
+    T cached = lookup(k, type);
+    if (cached != null) {
+      return CompletableFuture.completedFuture(cached);
+    }
+    long generation = generations.get(type).get();
+    return loader.get().thenApply(value -> {
+      store(k, type, generation, value);
+      return value;
+    });
+  }
+
+  @Override
+  public void invalidate(Type type) {
+    synchronized (generations) {
+      generations.get(type).incrementAndGet();
+      entries.removeIf(k -> k.get(0) == type);
+    }
+  }
+
+  @Override
+  public void invalidateAll() {
+    synchronized (generations) {
+      generations.values().forEach(AtomicLong::incrementAndGet);
+      entries.removeIf(k -> true);
+    }
+  }
+
+  @Override
+  public Stats getStats(Type type) {
+    return new Stats(hits.get(type).sum(), misses.get(type).sum());
+  }
+
+  private boolean isCached(Type type) {
+    Duration ttl = policy.getTtl(type);
+    return ttl != null && !ttl.isZero() && !ttl.isNegative();
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T lookup(List<Object> key, Type type) {
+    Entry entry = entries.get(key);
+    T value = null;
+    if (entry != null && clock.instant().isBefore(entry.expires)) {
+      value = (T) entry.read();
+    }
+    if (value != null) {
+      hits.get(type).increment();
+      return value;
+    }
+    if (entry != null) {
+      entries.remove(key);
+    }
+    misses.get(type).increment();
+    return null;
+  }
+
+  // Anything which fails to serialize is simply not cached, and anything which fails to decode is loaded again.
+  private void store(List<Object> key, Type type, long generation, Object value) {
+    if (value == null) {
+      return;
+    }
+    JavaType javaType = typeOf(value);
+    Entry entry;
+    try {
+      entry = new Entry(FeignUtil.getWriter(javaType).writeValueAsBytes(value), javaType, clock.instant().plus(policy.getTtl(type)));
+    } catch (IOException e) {
+      return;
+    }
+    synchronized (generations) {
+      if (generations.get(type).get() == generation) {
+        entries.put(key, entry);
+      }
+    }
+  }
+
+  /*
+   * Lists are typed by their elements, so they decode to the same representations they were loaded as.
+   */
+  private static JavaType typeOf(Object value) {
+    if (value instanceof Collection && !((Collection<?>) value).isEmpty()) {
+      Class<?> element = ((Collection<?>) value).iterator().next().getClass();
+      return FeignUtil.getMapper().getTypeFactory().constructCollectionType(List.class, element);
+    }
+    return FeignUtil.getMapper().constructType(value instanceof Collection ? List.class : value.getClass());
+  }
+
+  private static List<Object> toKey(String identity, Type type, Object... key) {
+    List<Object> k = new ArrayList<>(key.length + 2);
+    k.add(type);
+    k.add(identity);
+    k.addAll(Arrays.asList(key));
+    return k;
+  }
+
+  /**
+   * Loads an entry from the server.
+   *
+   * @param <T> the type of the entry
+   */
+  @FunctionalInterface
+  public interface Loader<T> {
+    T load() throws CloudManagerApiException;
+  }
+
+  private static class Entry {
+    private final byte[] value;
+    private final JavaType type;
+    private final Instant expires;
+
+    private Entry(byte[] value, JavaType type, Instant expires) {
+      this.value = value;
+      this.type = type;
+      this.expires = expires;
+    }
+
+    private Object read() {
+      try {
+        return FeignUtil.getReader(type).readValue(value);
+      } catch (IOException e) {
+        return null;
+      }
+    }
+  }
+}
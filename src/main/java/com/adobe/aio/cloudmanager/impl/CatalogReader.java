@@ -0,0 +1,64 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import com.adobe.aio.cloudmanager.CatalogCache;
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.workspace.Workspace;
+
+/**
+ * Reads catalog entries of one workspace and server through the configured {@link CatalogCache}, or straight from the server when there is none.
+ */
+public class CatalogReader {
+
+  private final CatalogCacheImpl cache;
+  private final String identity;
+
+  CatalogReader(CatalogCache cache, Workspace workspace, String baseUrl) {
+    if (cache != null && !(cache instanceof CatalogCacheImpl)) {
+      throw new IllegalArgumentException("Catalog cache must be created by CatalogCache.create().");
+    }
+    this.cache = (CatalogCacheImpl) cache;
+    this.identity = workspace == null ? baseUrl : String.format("%s %s/%s", baseUrl, workspace.getImsOrgId(), workspace.getApiKey());
+  }
+
+  public <T> T read(CatalogCache.Type type, CatalogCacheImpl.Loader<T> loader, Object... key) throws CloudManagerApiException {
+    return cache == null ? loader.load() : cache.read(identity, type, loader, key);
+  }
+
+  public <T> CompletableFuture<T> readAsync(CatalogCache.Type type, Supplier<CompletableFuture<T>> loader, Object... key) {
+    return cache == null ? loader.get() : cache.readAsync(identity, type, loader, key);
+  }
+
+  /**
+   * Remove the entries of the type, after they were changed through the API.
+   *
+   * @param type the type of entry
+   */
+  public void invalidate(CatalogCache.Type type) {
+    if (cache != null) {
+      cache.invalidate(type);
+    }
+  }
+}
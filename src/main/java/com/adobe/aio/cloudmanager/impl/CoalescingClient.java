@@ -0,0 +1,222 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import feign.AsyncClient;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+
+/**
+ * Client which collapses concurrent identical GET requests into one call to the server.
+ * <p>
+ * Requests are identical when their url and headers are, so requests made with different credentials are never shared. A request made while an
+ * identical one is waiting for its response joins it, rather than being sent. Once the response arrives its body is read into memory and each
+ * caller is handed a copy to decode for itself, so callers never share a decoded, mutable, representation. A response which no other request
+ * joined is returned as it was received, without buffering.
+ * <p>
+ * A flight started within a {@link CallScope} gets a scope of its own, which is only cancelled once every request on the flight was cancelled,
+ * so cancelling one caller never fails the others.
+ */
+public class CoalescingClient implements Client, AsyncClient<Object> {
+
+  private final Client delegate;
+  private final AsyncClient<Object> asyncDelegate;
+  private final ConcurrentMap<List<Object>, Flight> inFlight = new ConcurrentHashMap<>();
+
+  public <C extends Client & AsyncClient<Object>> CoalescingClient(C delegate) {
+    this.delegate = delegate;
+    this.asyncDelegate = delegate;
+  }
+
+  @Override
+  public Response execute(Request request, Request.Options options) throws IOException {
+    if (request.httpMethod() != Request.HttpMethod.GET) {
+      return delegate.execute(request, options);
+    }
+    List<Object> key = toKey(request);
+    Flight flight = new Flight(null);
+    Flight existing;
+    while ((existing = inFlight.putIfAbsent(key, flight)) != null) {
+      if (existing.join(null)) {
+        try {
+          return copy(existing.result.join(), request);
+        } catch (CompletionException e) {
+          if (e.getCause() instanceof IOException) {
+            throw (IOException) e.getCause();
+          }
+          throw e;
+        }
+      }
+      // Landed but not yet removed.
+      inFlight.remove(key, existing);
+    }
+    Response response;
+    try {
+      response = delegate.execute(request, options);
+    } catch (IOException | RuntimeException e) {
+      land(key, flight);
+      flight.result.completeExceptionally(e);
+      throw e;
+    }
+    return share(key, flight, response, request);
+  }
+
+  @Override
+  public CompletableFuture<Response> execute(Request request, Request.Options options, Optional<Object> requestContext) {
+    if (request.httpMethod() != Request.HttpMethod.GET) {
+      return asyncDelegate.execute(request, options, requestContext);
+    }
+    List<Object> key = toKey(request);
+    CallScope caller = CallScope.current();
+    Flight flight = new Flight(caller);
+    Flight existing;
+    while ((existing = inFlight.putIfAbsent(key, flight)) != null) {
+      if (existing.join(caller)) {
+        return existing.result.thenApply(response -> copy(response, request));
+      }
+      inFlight.remove(key, existing);
+    }
+    Optional<Object> context = flight.scope == null ? requestContext : Optional.of(flight.scope);
+    return asyncDelegate.execute(request, options, context).handle((response, t) -> {
+      if (t != null) {
+        land(key, flight);
+        flight.result.completeExceptionally(t instanceof CompletionException && t.getCause() != null ? t.getCause() : t);
+        throw t instanceof CompletionException ? (CompletionException) t : new CompletionException(t);
+      }
+      try {
+        return share(key, flight, response, request);
+      } catch (IOException e) {
+        throw new CompletionException(e);
+      }
+    });
+  }
+
+  /*
+   * Ends the flight, so no more requests join it; returns whether any did.
+   */
+  private boolean land(List<Object> key, Flight flight) {
+    inFlight.remove(key, flight);
+    return flight.land();
+  }
+
+  /*
+   * Buffers the response for the requests which joined the flight, if any, otherwise hands it back untouched.
+   */
+  private Response share(List<Object> key, Flight flight, Response response, Request request) throws IOException {
+    if (!land(key, flight)) {
+      return response;
+    }
+    Response buffered;
+    try (Response received = response) {
+      byte[] body = received.body() == null ? null : Util.toByteArray(received.body().asInputStream());
+      buffered = received.toBuilder().body(body).build();
+    } catch (IOException | RuntimeException e) {
+      flight.result.completeExceptionally(e);
+      throw e;
+    }
+    flight.result.complete(buffered);
+    return copy(buffered, request);
+  }
+
+  private static Response copy(Response response, Request request) {
+    return response.toBuilder().request(request).build();
+  }
+
+  private static List<Object> toKey(Request request) {
+    return Arrays.asList(request.url(), request.headers());
+  }
+
+  private static final class Flight {
+
+    private final CompletableFuture<Response> result = new CompletableFuture<>();
+    private final CallScope scope;
+    private int followers;
+    private int holders;
+    private boolean pinned;
+    private boolean cancelled;
+    private boolean landed;
+
+    /*
+     * Without a caller scope the flight is never cancelled, so no scope is handed down.
+     */
+    private Flight(CallScope caller) {
+      scope = caller == null ? null : new CallScope();
+      hold(caller);
+      listen(caller);
+    }
+
+    boolean join(CallScope caller) {
+      synchronized (this) {
+        if (landed || cancelled) {
+          return false;
+        }
+        followers++;
+        hold(caller);
+      }
+      listen(caller);
+      return true;
+    }
+
+    /*
+     * A request which cannot be cancelled holds the flight for good. Once the last holder was cancelled, so is the flight, and no request joins
+     * it from then on.
+     */
+    private synchronized void hold(CallScope caller) {
+      if (caller == null) {
+        pinned = true;
+      } else {
+        holders++;
+      }
+    }
+
+    private void listen(CallScope caller) {
+      if (scope != null && caller != null) {
+        caller.onCancel(this::release);
+      }
+    }
+
+    private void release() {
+      synchronized (this) {
+        if (--holders > 0 || pinned) {
+          return;
+        }
+        cancelled = true;
+      }
+      scope.cancel();
+    }
+
+    synchronized boolean land() {
+      landed = true;
+      return followers > 0;
+    }
+  }
+}
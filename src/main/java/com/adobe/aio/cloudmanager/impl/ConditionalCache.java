@@ -0,0 +1,198 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import com.adobe.aio.cloudmanager.ConditionalCachePolicy;
+import feign.AsyncClient;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.codec.Decoder;
+
+/**
+ * Cache of responses which carried a validator, revalidated with conditional requests.
+ * <p>
+ * As a client, it adds {@code If-None-Match} and {@code If-Modified-Since} to a GET for which a response is cached, and turns a
+ * {@code 304 Not Modified} into the cached response, marked as such. As a decoder, it caches the body of other responses
+ * with a validator as it is decoded. Only the body is cached: every caller decodes its own representation from it, so no caller can change what
+ * another is handed.
+ */
+public class ConditionalCache implements Client, AsyncClient<Object> {
+
+  static final String ENTRY_HEADER = "X-Conditional-Cache-Entry";
+
+  private static final int OK = 200;
+  private static final int NOT_MODIFIED = 304;
+  private static final String ETAG = "ETag";
+  private static final String LAST_MODIFIED = "Last-Modified";
+  private static final String IF_NONE_MATCH = "If-None-Match";
+  private static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+
+  private final Client delegate;
+  private final AsyncClient<Object> asyncDelegate;
+  private final boolean enabled;
+  private final BoundedCache<List<Object>, Entry> entries;
+
+  public <C extends Client & AsyncClient<Object>> ConditionalCache(C delegate, ConditionalCachePolicy policy) {
+    this.delegate = delegate;
+    this.asyncDelegate = delegate;
+    this.enabled = policy.getMaxEntries() > 0;
+    this.entries = new BoundedCache<>(policy.getMaxEntries(), policy.getMaxWeight(), e -> e.body.length);
+  }
+
+  @Override
+  public Response execute(Request request, Request.Options options) throws IOException {
+    Entry entry = lookup(request);
+    if (entry == null) {
+      return delegate.execute(request, options);
+    }
+    return revalidated(request, entry, delegate.execute(conditional(request, entry), options));
+  }
+
+  @Override
+  public CompletableFuture<Response> execute(Request request, Request.Options options, Optional<Object> requestContext) {
+    Entry entry = lookup(request);
+    if (entry == null) {
+      return asyncDelegate.execute(request, options, requestContext);
+    }
+    return asyncDelegate.execute(conditional(request, entry), options, requestContext).thenApply(response -> revalidated(request, entry, response));
+  }
+
+  /**
+   * Wraps the decoder, to cache the bodies of responses with a validator.
+   *
+   * @param decoder the decoder for the response bodies
+   * @return the caching decoder
+   */
+  public Decoder decoder(Decoder decoder) {
+    return (response, type) -> {
+      Request request = response.request();
+      if (!enabled || request == null || request.httpMethod() != Request.HttpMethod.GET || response.status() != OK || response.body() == null) {
+        return decoder.decode(response, type);
+      }
+      if (response.headers().containsKey(ENTRY_HEADER)) {
+        return decoder.decode(response, type);
+      }
+      String etag = header(response, ETAG);
+      String lastModified = header(response, LAST_MODIFIED);
+      if (etag == null && lastModified == null) {
+        return decoder.decode(response, type);
+      }
+      ByteArrayOutputStream captured = new ByteArrayOutputStream();
+      InputStream body = response.body().asInputStream();
+      Object value = decoder.decode(response.toBuilder().body(capture(body, captured), response.body().length()).build(), type);
+      entries.put(toKey(request), new Entry(etag, lastModified, response.headers(), captured.toByteArray()));
+      return value;
+    };
+  }
+
+  private Entry lookup(Request request) {
+    return enabled && request.httpMethod() == Request.HttpMethod.GET ? entries.get(toKey(request)) : null;
+  }
+
+  private static Request conditional(Request request, Entry entry) {
+    Map<String, Collection<String>> headers = new LinkedHashMap<>(request.headers());
+    if (entry.etag != null) {
+      headers.put(IF_NONE_MATCH, Collections.singletonList(entry.etag));
+    }
+    if (entry.lastModified != null) {
+      headers.put(IF_MODIFIED_SINCE, Collections.singletonList(entry.lastModified));
+    }
+    return Request.create(request.httpMethod(), request.url(), headers, request.body(), request.charset(), request.requestTemplate());
+  }
+
+  /*
+   * Replaces a 304 with the cached response, and any other response's request with the original, so the decoder caches the body under it.
+   */
+  private static Response revalidated(Request request, Entry entry, Response response) {
+    if (response.status() != NOT_MODIFIED) {
+      return response.toBuilder().request(request).build();
+    }
+    response.close();
+    Map<String, Collection<String>> headers = new LinkedHashMap<>(entry.headers);
+    headers.put(ENTRY_HEADER, Collections.singletonList("true"));
+    return Response.builder()
+        .status(OK)
+        .reason("OK")
+        .headers(headers)
+        .request(request)
+        .body(entry.body)
+        .build();
+  }
+
+  private static InputStream capture(InputStream in, ByteArrayOutputStream captured) {
+    return new FilterInputStream(in) {
+      @Override
+      public int read() throws IOException {
+        int b = super.read();
+        if (b != -1) {
+          captured.write(b);
+        }
+        return b;
+      }
+
+      @Override
+      public int read(byte[] b, int off, int len) throws IOException {
+        int read = super.read(b, off, len);
+        if (read > 0) {
+          captured.write(b, off, read);
+        }
+        return read;
+      }
+    };
+  }
+
+  private static String header(Response response, String name) {
+    Collection<String> values = response.headers().get(name);
+    return values == null || values.isEmpty() ? null : values.iterator().next();
+  }
+
+  private static List<Object> toKey(Request request) {
+    return Arrays.asList(request.url(), request.headers());
+  }
+
+  private static class Entry {
+    private final String etag;
+    private final String lastModified;
+    private final Map<String, Collection<String>> headers;
+    private final byte[] body;
+
+    private Entry(String etag, String lastModified, Map<String, Collection<String>> headers, byte[] body) {
+      this.etag = etag;
+      this.lastModified = lastModified;
+      this.headers = headers;
+      this.body = body;
+    }
+  }
+}
@@ -0,0 +1,772 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.DownloadListener;
+import lombok.Value;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
+
+/**
+ * Downloads files on the shared HTTP client.
+ * <p>
+ * Transfers are queued on the client's dispatcher, and written to disk on its threads, so no caller thread is held while downloading. The
+ * dispatcher's limit of requests per host therefore also bounds the parallelism of {@link #forEach(List, int, Function)} downloads.
+ * Content is transferred from the response channel to the file channel, through the JDK's direct buffers rather than heap arrays.
+ * Download urls are expected to be pre-signed; no authentication is added to the requests.
+ * <p>
+ * Files are written to a {@code .part} file alongside the target, which is renamed over the target once complete. A partial file left by a failed
+ * transfer is resumed with a range request, if the server still has the same content. An existing target is not transferred again when it matches
+ * the expected MD5 hash, or when the server reports that it has not changed since it was downloaded. To detect changes, the server's {@code ETag}
+ * and {@code Last-Modified} headers are recorded under the temporary directory, keyed by the path of the file they describe, so nothing but the
+ * files themselves is left in the target directory; they are sent back as they were received. A file without recorded validators, such as one
+ * not written by this downloader, or one changed on disk since it was downloaded, is always transferred.
+ */
+public class Downloader {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final long TRANSFER_SIZE = 1024 * 1024;
+  private static final String PART_SUFFIX = ".part";
+  private static final Path VALIDATORS = Paths.get(System.getProperty("java.io.tmpdir"), "aio-cloudmanager", "validators");
+  private static final String ETAG = "ETag";
+  private static final String LAST_MODIFIED = "Last-Modified";
+  private static final String LENGTH = "Length";
+  private static final String MODIFIED = "Modified";
+  private static final Pattern CONTENT_RANGE = Pattern.compile("bytes (\\d+)-\\d+/(\\d+|\\*)");
+  private static final Pattern UNSATISFIED_RANGE = Pattern.compile("bytes \\*/(\\d+)");
+
+  private final OkHttpClient client;
+
+  public Downloader(OkHttpClient client) {
+    this.client = client;
+  }
+
+  /**
+   * Download the url to the file, unless the file is unchanged since it was last downloaded.
+   * <p>
+   * Completes exceptionally with a {@link FileNotFoundException} if the url does not exist, or an {@link IOException} when any other failure occurs.
+   * Cancelling the returned future cancels the transfer.
+   *
+   * @param url      the url to download
+   * @param file     the file to write
+   * @param listener listener for the download progress
+   * @return future with the file written
+   */
+  public CompletableFuture<File> download(String url, File file, DownloadListener listener) {
+    return download(url, file, null, listener);
+  }
+
+  /**
+   * Download the url to the file, unless the file already has the expected MD5 hash or is unchanged since it was last downloaded.
+   * <p>
+   * When a hash is provided, the content is hashed as it is received and verified against it once complete, and the download fails with an
+   * {@link IOException} if it does not match. The service reports SHA-256 or SHA-512 hashes in some {@code md5} fields, so the algorithm is
+   * picked from the length of the hash.
+   * Completes exceptionally with a {@link FileNotFoundException} if the url does not exist, or an {@link IOException} when any other failure occurs.
+   * Cancelling the returned future cancels the transfer.
+   *
+   * @param url      the url to download
+   * @param file     the file to write
+   * @param md5      the expected MD5 hash of the content, in hex, or {@code null} if not known
+   * @param listener listener for the download progress
+   * @return future with the file written
+   */
+  public CompletableFuture<File> download(String url, File file, String md5, DownloadListener listener) {
+    File part = new File(file.getPath() + PART_SUFFIX);
+    if (matches(file, md5)) {
+      listener.skipped(file);
+      return CompletableFuture.completedFuture(file);
+    }
+    Request.Builder builder;
+    try {
+      builder = new Request.Builder().url(url).get();
+    } catch (IllegalArgumentException e) {
+      listener.failed(file, e);
+      return CompletableFuture.failedFuture(new IOException(e.getMessage(), e));
+    }
+    Properties resumed = part.isFile() && part.length() > 0 ? readValidators(part) : null;
+    long offset = resumed == null ? 0 : part.length();
+    if (resumed != null) {
+      builder.header("Range", String.format("bytes=%d-", offset));
+      builder.header("If-Range", resumed.getProperty(ETAG, resumed.getProperty(LAST_MODIFIED)));
+    } else if (md5 == null && file.isFile()) {
+      Properties validators = readValidators(file);
+      if (validators != null && validators.getProperty(ETAG) != null) {
+        builder.header("If-None-Match", validators.getProperty(ETAG));
+      } else if (validators != null) {
+        builder.header("If-Modified-Since", validators.getProperty(LAST_MODIFIED));
+      }
+    }
+
+    CompletableFuture<File> future = new CompletableFuture<>();
+    Call call = client.newCall(builder.build());
+    call.enqueue(new Callback() {
+      @Override
+      public void onFailure(Call call, IOException e) {
+        listener.failed(file, e);
+        future.completeExceptionally(e);
+      }
+
+      @Override
+      public void onResponse(Call call, Response response) {
+        try (ResponseBody body = response.body()) {
+          switch (response.code()) {
+            case 304:
+              listener.skipped(file);
+              future.complete(file);
+              return;
+            case 404:
+              throw new FileNotFoundException(url);
+            case 416:
+              // The partial file is at least as large as the content; it is complete if exactly the size of it.
+              Matcher unsatisfied = UNSATISFIED_RANGE.matcher(StringUtils.defaultString(response.header("Content-Range")));
+              if (unsatisfied.matches() && Long.parseLong(unsatisfied.group(1)) == offset) {
+                complete(part, file, md5, null, offset, listener);
+                future.complete(file);
+                return;
+              }
+              delete(part);
+              retry();
+              return;
+            default:
+              break;
+          }
+          if (!response.isSuccessful() || body == null) {
+            throw new IOException(String.format("Unexpected response %d downloading %s.", response.code(), url));
+          }
+          long start = 0;
+          long size = body.contentLength();
+          if (response.code() == 206) {
+            Matcher range = CONTENT_RANGE.matcher(StringUtils.defaultString(response.header("Content-Range")));
+            if (!range.matches() || Long.parseLong(range.group(1)) != offset) {
+              delete(part);
+              retry();
+              return;
+            }
+            start = offset;
+            size = "*".equals(range.group(2)) ? -1 : Long.parseLong(range.group(2));
+          }
+          MessageDigest digest = md5 == null ? null : update(digest(md5), start > 0 ? part : null);
+          copy(body, part, start, size, response.header(ETAG), response.header(LAST_MODIFIED), digest, listener);
+          complete(part, file, md5, digest, size < 0 ? part.length() : size, listener);
+          future.complete(file);
+        } catch (IOException e) {
+          listener.failed(file, e);
+          future.completeExceptionally(e);
+        }
+      }
+
+      private void retry() {
+        download(url, file, md5, listener).whenComplete((f, t) -> {
+          if (t == null) {
+            future.complete(f);
+          } else {
+            future.completeExceptionally(t);
+          }
+        });
+      }
+    });
+    future.whenComplete((f, t) -> {
+      if (future.isCancelled()) {
+        call.cancel();
+      }
+    });
+    return future;
+  }
+
+  /**
+   * Read the lines of the url's content as it is received, decompressing it if it is gzip compressed.
+   * <p>
+   * Only the lines matching the filter are returned; nothing is written to disk and the content is never held in full.
+   * The response is open until the stream is closed, so it must be closed if not consumed entirely. Failures reading the content after the stream
+   * is returned are thrown as an {@link java.io.UncheckedIOException}.
+   *
+   * @param url    the url to read
+   * @param filter the filter for the lines
+   * @return stream of the matching lines
+   * @throws FileNotFoundException if the url does not exist
+   * @throws IOException           when any other failure occurs
+   */
+  public Stream<String> lines(String url, Predicate<String> filter) throws IOException {
+    Response response = execute(url, null);
+    try {
+      if (!response.isSuccessful() || response.body() == null) {
+        throw new IOException(String.format("Unexpected response %d reading %s.", response.code(), url));
+      }
+      BufferedReader reader = new BufferedReader(new InputStreamReader(decompressed(response.body().byteStream()), StandardCharsets.UTF_8));
+      return reader.lines().filter(filter).onClose(response::close);
+    } catch (IOException | RuntimeException e) {
+      response.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Read the size of the url's content, without transferring it.
+   *
+   * @param url the url to check
+   * @return the size of the content, or {@code -1} if the server did not report it
+   * @throws FileNotFoundException if the url does not exist
+   * @throws IOException           when any other failure occurs
+   */
+  public long length(String url) throws IOException {
+    try (Response response = execute(url, "bytes=0-0")) {
+      switch (response.code()) {
+        case 206:
+          Matcher range = CONTENT_RANGE.matcher(StringUtils.defaultString(response.header("Content-Range")));
+          return range.matches() && !"*".equals(range.group(2)) ? Long.parseLong(range.group(2)) : -1;
+        case 416:
+          Matcher unsatisfied = UNSATISFIED_RANGE.matcher(StringUtils.defaultString(response.header("Content-Range")));
+          return unsatisfied.matches() ? Long.parseLong(unsatisfied.group(1)) : 0;
+        default:
+          ResponseBody body = response.body();
+          return body == null ? -1 : body.contentLength();
+      }
+    }
+  }
+
+  /**
+   * Read the complete lines appended to the url's content after the offset, with a range request.
+   * <p>
+   * The offset must be in the content as served; a compressed log cannot be read from an offset. An incomplete last line is not returned, and is
+   * read again by the next call from the returned offset, unless {@code partial} is set.
+   *
+   * @param url     the url to read
+   * @param offset  the offset from which to read
+   * @param partial whether to return an incomplete last line
+   * @return the lines read, the offset after them, and the size of the content
+   * @throws FileNotFoundException if the url does not exist
+   * @throws IOException           when any other failure occurs
+   */
+  public Appended appended(String url, long offset, boolean partial) throws IOException {
+    try (Response response = execute(url, String.format("bytes=%d-", offset))) {
+      ResponseBody body = response.body();
+      long length;
+      byte[] content;
+      switch (response.code()) {
+        case 206:
+          Matcher range = CONTENT_RANGE.matcher(StringUtils.defaultString(response.header("Content-Range")));
+          if (!range.matches() || Long.parseLong(range.group(1)) != offset) {
+            throw new IOException(String.format("Unexpected range %s reading %s.", response.header("Content-Range"), url));
+          }
+          length = "*".equals(range.group(2)) ? -1 : Long.parseLong(range.group(2));
+          content = body.bytes();
+          break;
+        case 416:
+          // Nothing was appended, or the content was replaced by a shorter one.
+          Matcher unsatisfied = UNSATISFIED_RANGE.matcher(StringUtils.defaultString(response.header("Content-Range")));
+          length = unsatisfied.matches() ? Long.parseLong(unsatisfied.group(1)) : offset;
+          return new Appended(Collections.emptyList(), offset, length);
+        default:
+          if (!response.isSuccessful() || body == null) {
+            throw new IOException(String.format("Unexpected response %d reading %s.", response.code(), url));
+          }
+          // The range was ignored, skip what was already read.
+          BufferedSource source = body.source();
+          if (!source.request(offset)) {
+            return new Appended(Collections.emptyList(), offset, source.getBuffer().size());
+          }
+          source.skip(offset);
+          content = source.readByteArray();
+          length = offset + content.length;
+          break;
+      }
+      int end = content.length;
+      if (!partial) {
+        while (end > 0 && content[end - 1] != '\n') {
+          end--;
+        }
+      }
+      List<String> lines = new ArrayList<>();
+      int start = 0;
+      for (int i = 0; i < end; i++) {
+        if (content[i] == '\n' || i == end - 1) {
+          int last = content[i] == '\n' ? i : i + 1;
+          if (last > start && content[last - 1] == '\r') {
+            last--;
+          }
+          lines.add(new String(content, start, last - start, StandardCharsets.UTF_8));
+          start = i + 1;
+        }
+      }
+      return new Appended(lines, offset + end, length);
+    }
+  }
+
+  private Response execute(String url, String range) throws IOException {
+    Response response;
+    try {
+      Request.Builder builder = new Request.Builder().url(url).get();
+      if (range != null) {
+        builder.header("Range", range);
+      }
+      response = client.newCall(builder.build()).execute();
+    } catch (IllegalArgumentException e) {
+      throw new IOException(e.getMessage(), e);
+    }
+    if (response.code() == 404) {
+      response.close();
+      throw new FileNotFoundException(url);
+    }
+    return response;
+  }
+
+  /*
+   * Log files may be served compressed without a content encoding, so the content is checked for the gzip header.
+   */
+  static InputStream decompressed(InputStream in) throws IOException {
+    BufferedInputStream buffered = new BufferedInputStream(in, BUFFER_SIZE);
+    buffered.mark(2);
+    int first = buffered.read();
+    int second = buffered.read();
+    buffered.reset();
+    return first == (GZIPInputStream.GZIP_MAGIC & 0xff) && second == (GZIPInputStream.GZIP_MAGIC >> 8) ?
+        new GZIPInputStream(buffered, BUFFER_SIZE) :
+        buffered;
+  }
+
+  /**
+   * Run a task for each item, with at most {@code parallelism} tasks in flight at once.
+   * <p>
+   * Results are in the order of the items. Once a task fails no further tasks are started; when those in flight have finished, the future completes
+   * exceptionally with the failure of the first item which failed, so the reported failure does not depend on timing.
+   *
+   * @param items       the items
+   * @param parallelism the maximum number of tasks in flight
+   * @param task        the task to run for an item
+   * @param <T>         the type of item
+   * @param <R>         the type of result
+   * @return future with the results
+   * @throws IllegalArgumentException if {@code parallelism} is less than one
+   */
+  public static <T, R> CompletableFuture<List<R>> forEach(List<T> items, int parallelism, Function<? super T, CompletableFuture<R>> task) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException(String.format("Parallelism must be at least 1, was %d.", parallelism));
+    }
+    if (items.isEmpty()) {
+      return CompletableFuture.completedFuture(Collections.emptyList());
+    }
+    Batch<T, R> batch = new Batch<>(items, task);
+    for (int i = 0; i < Math.min(parallelism, items.size()); i++) {
+      batch.next();
+    }
+    return batch.result;
+  }
+
+  /**
+   * Waits for a future, surfacing its failure as thrown by the synchronous APIs.
+   *
+   * @param future the future
+   * @param <T>    the type of result
+   * @return the result
+   * @throws CloudManagerApiException when the future failed with one
+   */
+  public static <T> T await(CompletableFuture<T> future) throws CloudManagerApiException {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof CloudManagerApiException) {
+        throw (CloudManagerApiException) e.getCause();
+      }
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  /*
+   * Writes the body to the partial file, from the start offset, updating the digest with what is received. The validators of a new transfer are
+   * recorded for the partial file before writing, so an interrupted transfer can be resumed; without any it cannot, so it is removed. A resumed
+   * transfer keeps the validators it was resumed with.
+   */
+  private static void copy(ResponseBody body, File part, long start, long size, String etag, String lastModified, MessageDigest digest, DownloadListener listener) throws IOException {
+    Files.createDirectories(part.getAbsoluteFile().getParentFile().toPath());
+    boolean resumable = start > 0 || writeValidators(part, etag, lastModified);
+    listener.started(part, size);
+    boolean written = false;
+    Set<StandardOpenOption> options = start > 0 ?
+        EnumSet.of(StandardOpenOption.WRITE) :
+        EnumSet.of(StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    long began = System.nanoTime();
+    try (BufferedSource source = body.source(); FileChannel channel = FileChannel.open(part.toPath(), options)) {
+      long end = transfer(digest == null ? source : digesting(source, digest), channel, start, part, size, listener);
+      written = true;
+      listener.transferred(part, end - start, Duration.ofNanos(System.nanoTime() - began));
+    } finally {
+      if (!written && !resumable) {
+        Files.deleteIfExists(part.toPath());
+      }
+    }
+  }
+
+  /**
+   * Transfers the source to the file channel from the position until the source is exhausted, without copying through the heap.
+   *
+   * @param source   the source
+   * @param channel  the file channel
+   * @param position the position in the file to start writing
+   * @param file     the file, for reporting progress
+   * @param size     the total size of the file, or {@code -1} if not known
+   * @param listener listener for the progress
+   * @return the position after the last byte written
+   * @throws IOException when reading or writing fails
+   */
+  static long transfer(ReadableByteChannel source, FileChannel channel, long position, File file, long size, DownloadListener listener) throws IOException {
+    long transferred;
+    while ((transferred = channel.transferFrom(source, position, TRANSFER_SIZE)) > 0) {
+      position += transferred;
+      listener.progress(file, position, size);
+    }
+    return position;
+  }
+
+  /*
+   * Updates the digest with the bytes read from the source, as they pass through to the file channel.
+   */
+  private static ReadableByteChannel digesting(ReadableByteChannel source, MessageDigest digest) {
+    return new ReadableByteChannel() {
+      @Override
+      public int read(ByteBuffer dst) throws IOException {
+        int position = dst.position();
+        int read = source.read(dst);
+        if (read > 0) {
+          ByteBuffer received = dst.duplicate();
+          received.limit(dst.position()).position(position);
+          digest.update(received);
+        }
+        return read;
+      }
+
+      @Override
+      public boolean isOpen() {
+        return source.isOpen();
+      }
+
+      @Override
+      public void close() throws IOException {
+        source.close();
+      }
+    };
+  }
+
+  /*
+   * Verifies the partial file, with the digest of the content received if there is one, then moves it over the target, along with its validators.
+   * The target's previous validators are removed before it is replaced, so they are never left describing other content. The validators are
+   * recorded with the length and modification time of the target, so they no longer apply once it is changed on disk.
+   */
+  private static void complete(File part, File file, String md5, MessageDigest digest, long size, DownloadListener listener) throws IOException {
+    if (md5 != null && !md5.equalsIgnoreCase(hex((digest == null ? update(digest(md5), part) : digest).digest()))) {
+      delete(part);
+      throw new IOException(String.format("Downloaded content of %s does not match MD5 hash %s.", file, md5));
+    }
+    Properties validators = readValidators(part);
+    Files.deleteIfExists(validators(file));
+    move(part.toPath(), file.toPath());
+    Files.deleteIfExists(validators(part));
+    if (validators != null) {
+      validators.setProperty(LENGTH, Long.toString(file.length()));
+      validators.setProperty(MODIFIED, Long.toString(file.lastModified()));
+      store(validators(file), validators);
+    }
+    listener.completed(file, size);
+  }
+
+  private static void move(Path source, Path target) throws IOException {
+    try {
+      Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  private static void delete(File file) throws IOException {
+    Files.deleteIfExists(file.toPath());
+    Files.deleteIfExists(validators(file));
+  }
+
+  /**
+   * Where the validators recorded for the file are kept.
+   *
+   * @param file the file
+   * @return the path of its validators
+   */
+  public static Path validators(File file) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+    return VALIDATORS.resolve(hex(digest.digest(file.getAbsolutePath().getBytes(StandardCharsets.UTF_8))) + ".properties");
+  }
+
+  /*
+   * The validators recorded for the file, or null if there are none, or the file was changed since they were recorded.
+   */
+  private static Properties readValidators(File file) {
+    Path path = validators(file);
+    if (!Files.isRegularFile(path)) {
+      return null;
+    }
+    Properties validators = new Properties();
+    try (InputStream in = Files.newInputStream(path)) {
+      validators.load(in);
+    } catch (IOException e) {
+      return null;
+    }
+    if (validators.getProperty(LENGTH) != null &&
+        (!validators.getProperty(LENGTH).equals(Long.toString(file.length())) || !validators.getProperty(MODIFIED, "").equals(Long.toString(file.lastModified())))) {
+      return null;
+    }
+    return validators.getProperty(ETAG) == null && validators.getProperty(LAST_MODIFIED) == null ? null : validators;
+  }
+
+  /*
+   * Records the validators for the file, replacing any recorded before; returns whether there were any to record.
+   */
+  private static boolean writeValidators(File file, String etag, String lastModified) throws IOException {
+    Path path = validators(file);
+    if (etag == null && lastModified == null) {
+      Files.deleteIfExists(path);
+      return false;
+    }
+    Properties validators = new Properties();
+    if (etag != null) {
+      validators.setProperty(ETAG, etag);
+    }
+    if (lastModified != null) {
+      validators.setProperty(LAST_MODIFIED, lastModified);
+    }
+    store(path, validators);
+    return true;
+  }
+
+  private static void store(Path path, Properties validators) throws IOException {
+    Files.createDirectories(path.getParent());
+    try (OutputStream out = Files.newOutputStream(path)) {
+      validators.store(out, null);
+    }
+  }
+
+  /**
+   * Whether the file exists with the hash.
+   *
+   * @param file the file
+   * @param md5  the MD5, SHA-256 or SHA-512 hash, in hex, or {@code null} if not known
+   * @return {@code true} if the file exists and its content has the hash
+   */
+  public static boolean matches(File file, String md5) {
+    try {
+      return md5 != null && file.isFile() && md5.equalsIgnoreCase(hex(update(digest(md5), file).digest()));
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  static String md5(File file) throws IOException {
+    try {
+      return hex(update(MessageDigest.getInstance("MD5"), file).digest());
+    } catch (NoSuchAlgorithmException e) {
+      throw new IOException(e);
+    }
+  }
+
+  /*
+   * Hashes of 64 and 128 hex digits are SHA-256 and SHA-512, anything else is taken to be MD5.
+   */
+  static MessageDigest digest(String hash) throws IOException {
+    String algorithm = hash.length() == 128 ? "SHA-512" : hash.length() == 64 ? "SHA-256" : "MD5";
+    try {
+      return MessageDigest.getInstance(algorithm);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IOException(e);
+    }
+  }
+
+  /*
+   * Updates the digest with the content of the file, if there is one.
+   */
+  private static MessageDigest update(MessageDigest digest, File file) throws IOException {
+    if (file == null) {
+      return digest;
+    }
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+      while (channel.read(buffer) != -1) {
+        buffer.flip();
+        digest.update(buffer);
+        buffer.clear();
+      }
+    }
+    return digest;
+  }
+
+  private static String hex(byte[] bytes) {
+    StringBuilder hex = new StringBuilder();
+    for (byte b : bytes) {
+      hex.append(String.format("%02x", b));
+    }
+    return hex.toString();
+  }
+
+  /**
+   * Lines appended to a url's content.
+   */
+  @Value
+  public static class Appended {
+
+    /**
+     * The lines read, without line terminators.
+     */
+    List<String> lines;
+
+    /**
+     * The offset from which to read further lines.
+     */
+    long offset;
+
+    /**
+     * The size of the content, or {@code -1} if not reported.
+     */
+    long length;
+  }
+
+  private static class Batch<T, R> {
+    private final List<T> items;
+    private final Function<? super T, CompletableFuture<R>> task;
+    private final Object[] results;
+    private final Throwable[] failures;
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicInteger remaining;
+    private final CompletableFuture<List<R>> result = new CompletableFuture<>();
+    private volatile boolean stopped;
+
+    private Batch(List<T> items, Function<? super T, CompletableFuture<R>> task) {
+      this.items = items;
+      this.task = task;
+      this.results = new Object[items.size()];
+      this.failures = new Throwable[items.size()];
+      this.remaining = new AtomicInteger(items.size());
+    }
+
+    /*
+     * Claims the next item and starts its task, continuing once the task completes. Items claimed after a failure are settled without running.
+     * Tasks which complete immediately, such as skipped downloads, are followed in this loop rather than from their callback, so a long run of
+     * them does not grow the stack.
+     */
+    private void next() {
+      int i;
+      while ((i = next.getAndIncrement()) < items.size()) {
+        if (stopped) {
+          settle();
+          continue;
+        }
+        int index = i;
+        CompletableFuture<R> future;
+        try {
+          future = task.apply(items.get(index));
+        } catch (RuntimeException e) {
+          future = CompletableFuture.failedFuture(e);
+        }
+        boolean done = future.isDone();
+        future.whenComplete((r, t) -> {
+          record(index, r, t);
+          if (!done) {
+            next();
+          }
+        });
+        if (!done) {
+          return;
+        }
+      }
+    }
+
+    private void record(int index, R r, Throwable t) {
+      if (t == null) {
+        results[index] = r;
+      } else {
+        failures[index] = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+        stopped = true;
+      }
+      settle();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void settle() {
+      if (remaining.decrementAndGet() > 0) {
+        return;
+      }
+      Arrays.stream(failures).filter(t -> t != null).findFirst().ifPresentOrElse(result::completeExceptionally, () -> {
+        List<R> list = new ArrayList<>(results.length);
+        for (Object r : results) {
+          list.add((R) r);
+        }
+        result.complete(list);
+      });
+    }
+  }
+}
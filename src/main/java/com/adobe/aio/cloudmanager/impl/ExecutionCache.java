@@ -0,0 +1,148 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.adobe.aio.cloudmanager.ExecutionCachePolicy;
+import com.adobe.aio.cloudmanager.impl.generated.PipelineExecution;
+import com.adobe.aio.cloudmanager.impl.generated.PipelineStepMetrics;
+import com.adobe.aio.cloudmanager.impl.pipeline.execution.PipelineExecutionImpl;
+
+/**
+ * Cache of executions which have reached a terminal state, and the metrics of their steps.
+ * <p>
+ * Entries are keyed by the execution's API path, so lookups by identifiers and by event links share them. Executions and metrics are held
+ * serialized, and every lookup decodes its own copy, so a caller modifying what it was handed does not affect the cache or other callers.
+ * One instance is held by the {@link Transport}, so every API targeted through it shares the cached executions.
+ */
+public class ExecutionCache {
+
+  private static final String PATH = "/api/program/%s/pipeline/%s/execution/%s";
+
+  private final boolean enabled;
+  private final BoundedCache<String, Entry> entries;
+
+  ExecutionCache(ExecutionCachePolicy policy) {
+    enabled = policy.getMaxEntries() > 0;
+    entries = new BoundedCache<>(policy.getMaxEntries(), policy.getMaxWeight(), Entry::weigh);
+  }
+
+  public static String path(String programId, String pipelineId, String executionId) {
+    return String.format(PATH, programId, pipelineId, executionId);
+  }
+
+  public PipelineExecution get(String path) {
+    Entry entry = entries.get(path);
+    return entry == null ? null : read(entry.execution, PipelineExecution.class);
+  }
+
+  /**
+   * Keeps a copy of the execution if it is in a terminal state.
+   *
+   * @param execution the execution
+   * @return the execution
+   */
+  public PipelineExecution put(PipelineExecution execution) {
+    if (enabled && execution != null && PipelineExecutionImpl.isTerminal(execution)) {
+      String path = path(execution.getProgramId(), execution.getPipelineId(), execution.getId());
+      byte[] bytes = write(execution);
+      if (bytes != null && entries.get(path) == null) {
+        long steps = execution.getEmbedded() == null || execution.getEmbedded().getStepStates() == null ? 0 : execution.getEmbedded().getStepStates().size();
+        entries.put(path, new Entry(bytes, 1 + steps));
+      }
+    }
+    return execution;
+  }
+
+  public PipelineStepMetrics getMetrics(String path, String phaseId, String stepId) {
+    Entry entry = entries.get(path);
+    Metrics metrics = entry == null ? null : entry.metrics.get(phaseId + "/" + stepId);
+    return metrics == null ? null : read(metrics.bytes, PipelineStepMetrics.class);
+  }
+
+  /**
+   * Keeps a copy of the metrics if their execution is cached.
+   *
+   * @param path    the execution's path
+   * @param phaseId the phase of the step
+   * @param stepId  the step
+   * @param metrics the metrics
+   * @return the metrics
+   */
+  public PipelineStepMetrics putMetrics(String path, String phaseId, String stepId, PipelineStepMetrics metrics) {
+    Entry entry = entries.get(path);
+    byte[] bytes = entry == null || metrics == null ? null : write(metrics);
+    if (bytes != null) {
+      entry.metrics.put(phaseId + "/" + stepId, new Metrics(bytes, metrics.getMetrics() == null ? 0 : metrics.getMetrics().size()));
+      // Add again so the cache accounts for the new weight.
+      entries.put(path, entry);
+    }
+    return metrics;
+  }
+
+  // Anything which fails to serialize is simply not cached, and anything which fails to decode is retrieved again.
+  private static byte[] write(Object value) {
+    try {
+      return FeignUtil.getWriter(value.getClass()).writeValueAsBytes(value);
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  private static <T> T read(byte[] bytes, Class<T> type) {
+    try {
+      return FeignUtil.getReader(type).readValue(bytes);
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  private static class Entry {
+    private final byte[] execution;
+    private final long weight;
+    private final Map<String, Metrics> metrics = new ConcurrentHashMap<>();
+
+    private Entry(byte[] execution, long weight) {
+      this.execution = execution;
+      this.weight = weight;
+    }
+
+    private long weigh() {
+      long weight = this.weight;
+      for (Metrics m : metrics.values()) {
+        weight += m.weight;
+      }
+      return weight;
+    }
+  }
+
+  private static class Metrics {
+    private final byte[] bytes;
+    private final long weight;
+
+    private Metrics(byte[] bytes, long weight) {
+      this.bytes = bytes;
+      this.weight = weight;
+    }
+  }
+}
@@ -20,38 +20,87 @@ package com.adobe.aio.cloudmanager.impl;
  * #L%
  */
 
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
-import com.adobe.aio.feign.AIOHeaderInterceptor;
-import com.adobe.aio.ims.feign.AuthInterceptor;
-import com.adobe.aio.workspace.Workspace;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import feign.Feign;
-import feign.Logger;
-import feign.Request;
-import feign.RequestInterceptor;
-import feign.jackson.JacksonDecoder;
-import feign.jackson.JacksonEncoder;
-import feign.okhttp.OkHttpClient;
-import feign.slf4j.Slf4jLogger;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
 
 
 public class FeignUtil {
 
-  private static final int DEFAULT_CONNECT_TIMEOUT_IN_SECONDS = 10;
-  private static final int DEFAULT_READ_TIMEOUT_IN_SECONDS = 60;
+  static final int DEFAULT_CONNECT_TIMEOUT_IN_SECONDS = 10;
+  static final int DEFAULT_READ_TIMEOUT_IN_SECONDS = 60;
+  static final int DEFAULT_MAX_REQUESTS = 64;
 
   private FeignUtil() {
 
   }
 
+  /**
+   * The process wide JSON mapper. It is shared, so it must not be reconfigured.
+   *
+   * @return the shared mapper
+   */
   public static ObjectMapper getMapper() {
-    return JsonMapper.builder()
+    return MapperHolder.MAPPER;
+  }
+
+  /**
+   * The JSON factory of the shared mapper, for generating request bodies.
+   *
+   * @return the shared factory
+   */
+  public static JsonFactory getJsonFactory() {
+    return MapperHolder.MAPPER.getFactory();
+  }
+
+  /**
+   * Reader for the type, built once and reused.
+   *
+   * @param type the type to read
+   * @return the shared reader
+   */
+  public static ObjectReader getReader(Type type) {
+    return MapperHolder.READERS.computeIfAbsent(type, t -> MapperHolder.MAPPER.readerFor(MapperHolder.MAPPER.constructType(t)));
+  }
+
+  /**
+   * Writer for the type, built once and reused.
+   *
+   * @param type the type to write
+   * @return the shared writer
+   */
+  public static ObjectWriter getWriter(Type type) {
+    return MapperHolder.WRITERS.computeIfAbsent(type, t -> MapperHolder.MAPPER.writerFor(MapperHolder.MAPPER.constructType(t)));
+  }
+
+  /**
+   * The process wide HTTP client. All APIs share its connection pool, dispatcher and TLS session cache.
+   * <p>
+   * Timeouts match the default Feign request options so that no per-request client copies are created. Asynchronous requests are queued on its
+   * dispatcher; as all requests go to one host, the dispatcher allows {@value #DEFAULT_MAX_REQUESTS} in flight, rather than OkHttp's default of 5
+   * per host. Provide a client to {@link com.adobe.aio.cloudmanager.CloudManagerClient.Builder#httpClient(OkHttpClient)} for other limits.
+   *
+   * @return the shared client
+   */
+  public static OkHttpClient getHttpClient() {
+    return HttpClientHolder.INSTANCE;
+  }
+
+  private static class MapperHolder {
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
         .serializationInclusion(JsonInclude.Include.NON_NULL)
         .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
         .disable(DeserializationFeature.FAIL_ON_INVALID_SUBTYPE)
@@ -60,22 +109,23 @@ public class FeignUtil {
         .enable(SerializationFeature.WRITE_ENUMS_USING_TO_STRING)
         .addModule(new JavaTimeModule())
         .build();
+    private static final Map<Type, ObjectReader> READERS = new ConcurrentHashMap<>();
+    private static final Map<Type, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
   }
 
-  public static Feign.Builder getBuilder(Workspace workspace) {
-    ObjectMapper mapper = getMapper();
-
-    RequestInterceptor authInterceptor = AuthInterceptor.builder().workspace(workspace).build();
-    RequestInterceptor aioHeaderInterceptor = AIOHeaderInterceptor.builder().workspace(workspace).build();
-    Request.Options options = new Request.Options(DEFAULT_CONNECT_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS, DEFAULT_READ_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS, true);
-    return Feign.builder()
-        .client(new OkHttpClient())
-        .logger(new Slf4jLogger())
-        .logLevel(Logger.Level.BASIC)
-        .requestInterceptor(authInterceptor)
-        .requestInterceptor(aioHeaderInterceptor)
-        .encoder(new JacksonEncoder(mapper))
-        .decoder(new JacksonDecoder(mapper))
-        .options(options);
+  private static class HttpClientHolder {
+    private static final OkHttpClient INSTANCE = new OkHttpClient.Builder()
+        .dispatcher(newDispatcher())
+        .connectTimeout(DEFAULT_CONNECT_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)
+        .readTimeout(DEFAULT_READ_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)
+        .followRedirects(true)
+        .build();
+
+    private static Dispatcher newDispatcher() {
+      Dispatcher dispatcher = new Dispatcher();
+      dispatcher.setMaxRequests(DEFAULT_MAX_REQUESTS);
+      dispatcher.setMaxRequestsPerHost(DEFAULT_MAX_REQUESTS);
+      return dispatcher;
+    }
   }
 }
@@ -0,0 +1,84 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.Util;
+import feign.codec.Decoder;
+import feign.codec.EncodeException;
+import feign.codec.Encoder;
+
+/**
+ * Feign encoder and decoder on the shared mapper, using its per-type readers and writers.
+ * <p>
+ * Equivalent to Feign's Jackson codec, but UTF-8 bodies are read from bytes rather than through a character reader.
+ */
+public class JacksonCodec implements Encoder, Decoder {
+
+  static final JacksonCodec INSTANCE = new JacksonCodec();
+
+  private JacksonCodec() {
+  }
+
+  @Override
+  public void encode(Object object, Type bodyType, RequestTemplate template) throws EncodeException {
+    try {
+      template.body(FeignUtil.getWriter(bodyType).writeValueAsBytes(object), StandardCharsets.UTF_8);
+    } catch (JsonProcessingException e) {
+      throw new EncodeException(e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public Object decode(Response response, Type type) throws IOException {
+    if (response.status() == 404 || response.status() == 204) {
+      return Util.emptyValueOf(type);
+    }
+    if (response.body() == null) {
+      return null;
+    }
+    try {
+      if (!StandardCharsets.UTF_8.equals(response.charset())) {
+        return FeignUtil.getReader(type).readValue(response.body().asReader(response.charset()));
+      }
+      PushbackInputStream is = new PushbackInputStream(response.body().asInputStream(), 1);
+      int first = is.read();
+      if (first == -1) {
+        return null;  // Empty body
+      }
+      is.unread(first);
+      return FeignUtil.getReader(type).readValue((InputStream) is);
+    } catch (RuntimeJsonMappingException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw e;
+    }
+  }
+}
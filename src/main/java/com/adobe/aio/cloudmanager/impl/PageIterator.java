@@ -0,0 +1,154 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+
+/**
+ * Iterator over a paged list, which retrieves the next page in the background while the current one is consumed.
+ * <p>
+ * Pages are retrieved through asynchronous APIs, so the next page is requested on the shared HTTP client's dispatcher rather than on a thread
+ * of its own. Only one page is retrieved ahead, so iteration holds at most two pages and stops requesting pages once the consumer stops.
+ * Closing the iterator cancels the HTTP call retrieving the next page. A page is the last when it has fewer items than the page size.
+ *
+ * @param <T> the type of item
+ */
+public class PageIterator<T> implements Iterator<T>, AutoCloseable {
+
+  private final PageLoader<T> loader;
+  private final int pageSize;
+  private Iterator<T> current;
+  private CompletableFuture<Collection<T>> next;
+  private volatile CallScope scope;
+  private int start;
+  private volatile boolean closed;
+
+  private PageIterator(PageLoader<T> loader, int pageSize) {
+    this.loader = loader;
+    this.pageSize = pageSize;
+  }
+
+  /**
+   * Stream all items of the list, retrieving the first page before returning.
+   * <p>
+   * Failures retrieving later pages are thrown from the stream's terminal operation as the {@link CloudManagerApiException} which caused them,
+   * although the operation does not declare it. Closing the stream cancels retrieving the next page.
+   *
+   * @param loader   retrieves a page
+   * @param pageSize the number of items per page
+   * @param <T>      the type of item
+   * @return a stream of the items
+   * @throws CloudManagerApiException when the first page cannot be retrieved
+   */
+  public static <T> Stream<T> stream(PageLoader<T> loader, int pageSize) throws CloudManagerApiException {
+    if (pageSize < 1) {
+      throw new IllegalArgumentException("Page size must be positive.");
+    }
+    PageIterator<T> iterator = new PageIterator<>(loader, pageSize);
+    iterator.accept(Downloader.await(loader.load(0, pageSize)));
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(iterator::close);
+  }
+
+  private void accept(Collection<T> page) {
+    current = page.iterator();
+    start += page.size();
+    if (closed || page.size() < pageSize) {
+      next = null;
+      return;
+    }
+    int offset = start;
+    scope = new CallScope();
+    next = scope.run(() -> loader.load(offset, pageSize));
+    if (closed) {
+      scope.cancel();
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (!current.hasNext()) {
+      if (closed || next == null) {
+        return false;
+      }
+      accept(join(next));
+    }
+    return true;
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return current.next();
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    CallScope prefetching = scope;
+    if (prefetching != null) {
+      prefetching.cancel();
+    }
+  }
+
+  /*
+   * Iterators cannot declare the checked exception, so it is thrown undeclared rather than wrapped.
+   */
+  private static <T> T join(CompletableFuture<T> page) {
+    try {
+      return page.join();
+    } catch (CompletionException e) {
+      throw PageIterator.<RuntimeException>rethrow(e.getCause() == null ? e : e.getCause());
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <E extends Throwable> E rethrow(Throwable t) throws E {
+    throw (E) t;
+  }
+
+  /**
+   * Retrieves one page of a list.
+   *
+   * @param <T> the type of item
+   */
+  @FunctionalInterface
+  public interface PageLoader<T> {
+    /**
+     * Start retrieving a page.
+     *
+     * @param start the offset of the first item
+     * @param limit the maximum number of items
+     * @return the items, or the {@link CloudManagerApiException} which prevented retrieving them
+     */
+    CompletableFuture<Collection<T>> load(int start, int limit);
+  }
+}
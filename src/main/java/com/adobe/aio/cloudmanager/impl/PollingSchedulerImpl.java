@@ -0,0 +1,308 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.PollingScheduler;
+import feign.RetryableException;
+
+/**
+ * Single timer thread and fixed worker pool which run the checks for all watches.
+ * <p>
+ * Each watched resource is a {@link Target}, keyed by the API instance and the resource's ids. Watches of the same key subscribe to one target, which is checked once per interval for all of them.
+ */
+public final class PollingSchedulerImpl implements PollingScheduler {
+
+  private static final int THROTTLED = 429;
+  // Limits the backoff factor to 2^10, the max backoff is the practical bound.
+  private static final int MAX_THROTTLE_LEVEL = 10;
+  // Retry delay for a resource which was never successfully checked.
+  private static final Duration INITIAL_RETRY = Duration.ofSeconds(1);
+
+  private final Duration maxBackoff;
+  private final ScheduledExecutorService timer;
+  private final ExecutorService workers;
+  private final Map<Object, Target<?>> targets = new ConcurrentHashMap<>();
+  private final AtomicInteger throttleLevel = new AtomicInteger();
+
+  public PollingSchedulerImpl(int workers, Duration maxBackoff) {
+    if (workers < 1) {
+      throw new IllegalArgumentException("At least one worker is required.");
+    }
+    this.maxBackoff = maxBackoff;
+    this.timer = Executors.newSingleThreadScheduledExecutor(threads("cloudmanager-polling-timer"));
+    this.workers = Executors.newFixedThreadPool(workers, threads("cloudmanager-polling-worker"));
+  }
+
+  /**
+   * The implementation of a scheduler provided to a watcher.
+   *
+   * @param scheduler the scheduler
+   * @return the scheduler's implementation
+   * @throws IllegalArgumentException if the scheduler was not created by {@link PollingScheduler#create(int, Duration)}
+   */
+  public static PollingSchedulerImpl of(PollingScheduler scheduler) {
+    if (!(scheduler instanceof PollingSchedulerImpl)) {
+      throw new IllegalArgumentException("Polling scheduler must be created by PollingScheduler.create().");
+    }
+    return (PollingSchedulerImpl) scheduler;
+  }
+
+  private static ThreadFactory threads(String name) {
+    AtomicInteger count = new AtomicInteger();
+    return r -> {
+      Thread thread = new Thread(r, String.format("%s-%d", name, count.incrementAndGet()));
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  /*
+   * Throttling and connection failures are transient, and affect every check sent through the same client.
+   */
+  static boolean isThrottled(Exception e) {
+    return e instanceof RetryableException || (e instanceof CloudManagerApiException && ((CloudManagerApiException) e).getStatus() == THROTTLED);
+  }
+
+  int getThrottleLevel() {
+    return throttleLevel.get();
+  }
+
+  Duration getDelay(Duration interval) {
+    int level = throttleLevel.get();
+    if (level == 0 || interval.compareTo(maxBackoff) >= 0) {
+      return interval;
+    }
+    Duration delay = interval.multipliedBy(1L << level);
+    return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+  }
+
+  /**
+   * Watch a resource until it is done.
+   *
+   * @param key      identity of the resource, watches with equal keys share checks
+   * @param initial  the last known state, or {@code null} to check immediately
+   * @param check    how to check the resource
+   * @param listener notified with the previous and current state of each check, for this watch only
+   * @param <T>      the type of resource
+   * @return a future completed with the final state
+   */
+  public <T> CompletableFuture<T> watch(Object key, T initial, Check<T> check, Listener<T> listener) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    Subscription<T> subscription = new Subscription<>(future, listener, initial);
+    while (true) {
+      @SuppressWarnings("unchecked")
+      Target<T> target = (Target<T>) targets.computeIfAbsent(key, k -> new Target<>(k, check, initial));
+      synchronized (target) {
+        if (target.closed) {
+          continue;
+        }
+        target.subscriptions.add(subscription);
+        if (!target.scheduled) {
+          target.scheduled = true;
+          target.schedule(initial == null ? Duration.ZERO : check.getInterval(initial));
+        }
+      }
+      return future;
+    }
+  }
+
+  @Override
+  public void close() {
+    timer.shutdownNow();
+    workers.shutdownNow();
+    targets.values().forEach(Target::cancel);
+  }
+
+  /**
+   * How to check a watched resource.
+   *
+   * @param <T> the type of resource
+   */
+  public interface Check<T> {
+
+    /**
+     * Retrieve the current state.
+     *
+     * @return the current state
+     * @throws CloudManagerApiException when any error occurs
+     */
+    T get() throws CloudManagerApiException;
+
+    /**
+     * Whether the resource reached a final state, after which it is no longer checked.
+     *
+     * @param state the state
+     * @return true if no more checks are needed
+     */
+    boolean isDone(T state);
+
+    /**
+     * Delay until the next check of a resource in the provided state.
+     *
+     * @param state the state
+     * @return the delay
+     */
+    Duration getInterval(T state);
+  }
+
+  /**
+   * Listener for the states observed for a watch.
+   *
+   * @param <T> the type of resource
+   */
+  @FunctionalInterface
+  public interface Listener<T> {
+
+    /**
+     * Called after each check.
+     *
+     * @param previous the previously observed state, may be {@code null}
+     * @param current  the current state
+     */
+    void onUpdate(T previous, T current);
+  }
+
+  private static class Subscription<T> {
+    private final CompletableFuture<T> future;
+    private final Listener<T> listener;
+    private T last;
+
+    private Subscription(CompletableFuture<T> future, Listener<T> listener, T last) {
+      this.future = future;
+      this.listener = listener;
+      this.last = last;
+    }
+
+    private void update(T current) {
+      if (future.isDone()) {
+        return;
+      }
+      try {
+        listener.onUpdate(last, current);
+        last = current;
+      } catch (RuntimeException e) {
+        future.completeExceptionally(e);
+      }
+    }
+  }
+
+  private class Target<T> implements Runnable {
+    private final Object key;
+    private final Check<T> check;
+    private final List<Subscription<T>> subscriptions = new ArrayList<>();
+    private T state;
+    private boolean scheduled;
+    private boolean closed;
+
+    private Target(Object key, Check<T> check, T state) {
+      this.key = key;
+      this.check = check;
+      this.state = state;
+    }
+
+    private void schedule(Duration interval) {
+      try {
+        timer.schedule(() -> workers.execute(this), getDelay(interval).toMillis(), TimeUnit.MILLISECONDS);
+      } catch (RejectedExecutionException e) {
+        cancel();
+      }
+    }
+
+    private synchronized List<Subscription<T>> getActive() {
+      subscriptions.removeIf(s -> s.future.isDone());
+      if (subscriptions.isEmpty()) {
+        retire();
+      }
+      return new ArrayList<>(subscriptions);
+    }
+
+    // Called while holding this target's lock.
+    private void retire() {
+      closed = true;
+      targets.remove(key, this);
+    }
+
+    private void cancel() {
+      List<Subscription<T>> cancelled;
+      synchronized (this) {
+        retire();
+        cancelled = new ArrayList<>(subscriptions);
+      }
+      cancelled.forEach(s -> s.future.cancel(false));
+    }
+
+    private void complete(T current, Exception failure) {
+      List<Subscription<T>> completed;
+      synchronized (this) {
+        retire();
+        completed = new ArrayList<>(subscriptions);
+      }
+      for (Subscription<T> s : completed) {
+        if (failure == null) {
+          s.future.complete(current);
+        } else {
+          s.future.completeExceptionally(failure);
+        }
+      }
+    }
+
+    @Override
+    public void run() {
+      if (getActive().isEmpty()) {
+        return;
+      }
+      T current;
+      try {
+        current = check.get();
+      } catch (CloudManagerApiException | RuntimeException e) {
+        if (isThrottled(e)) {
+          throttleLevel.updateAndGet(l -> Math.min(l + 1, MAX_THROTTLE_LEVEL));
+          schedule(state == null ? INITIAL_RETRY : check.getInterval(state));
+        } else {
+          complete(null, e);
+        }
+        return;
+      }
+      throttleLevel.updateAndGet(l -> Math.max(l - 1, 0));
+      state = current;
+      getActive().forEach(s -> s.update(current));
+      if (check.isDone(current)) {
+        complete(current, null);
+      } else {
+        schedule(check.getInterval(current));
+      }
+    }
+  }
+}
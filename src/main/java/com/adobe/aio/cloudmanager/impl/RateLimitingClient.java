@@ -0,0 +1,91 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.adobe.aio.cloudmanager.RateLimiter;
+import com.adobe.aio.workspace.Workspace;
+import feign.AsyncClient;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+/**
+ * Client which draws from the workspace's read or write budget before each request is sent.
+ * <p>
+ * Blocking requests wait on the calling thread. Asynchronous requests reserve their turn and are sent once it comes, without holding a thread.
+ * A request interrupted while waiting is not sent.
+ */
+public class RateLimitingClient implements Client, AsyncClient<Object> {
+
+  private final Client delegate;
+  private final AsyncClient<Object> asyncDelegate;
+  private final RateLimiter limiter;
+  private final String key;
+
+  public <C extends Client & AsyncClient<Object>> RateLimitingClient(C delegate, RateLimiter limiter, Workspace workspace) {
+    this.delegate = delegate;
+    this.asyncDelegate = delegate;
+    this.limiter = limiter;
+    this.key = String.format("%s/%s", workspace.getImsOrgId(), workspace.getApiKey());
+  }
+
+  @Override
+  public Response execute(Request request, Request.Options options) throws IOException {
+    try {
+      limiter.acquire(key, getOperation(request.httpMethod().name()));
+    } catch (InterruptedException e) {
+      throw interrupted();
+    }
+    return delegate.execute(request, options);
+  }
+
+  @Override
+  public CompletableFuture<Response> execute(Request request, Request.Options options, Optional<Object> requestContext) {
+    Duration delay;
+    try {
+      delay = limiter.reserve(key, getOperation(request.httpMethod().name()));
+    } catch (InterruptedException e) {
+      return CompletableFuture.failedFuture(interrupted());
+    }
+    if (delay.isZero() || delay.isNegative()) {
+      return asyncDelegate.execute(request, options, requestContext);
+    }
+    return CompletableFuture.runAsync(() -> { }, CompletableFuture.delayedExecutor(delay.toNanos(), TimeUnit.NANOSECONDS))
+        .thenCompose(v -> asyncDelegate.execute(request, options, requestContext));
+  }
+
+  static RateLimiter.Operation getOperation(String method) {
+    return Request.HttpMethod.GET.name().equals(method) || Request.HttpMethod.HEAD.name().equals(method) || Request.HttpMethod.OPTIONS.name().equals(method) ?
+        RateLimiter.Operation.READ :
+        RateLimiter.Operation.WRITE;
+  }
+
+  private static InterruptedIOException interrupted() {
+    Thread.currentThread().interrupt();
+    return new InterruptedIOException("Interrupted while waiting for the rate limit.");
+  }
+}
@@ -0,0 +1,184 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import com.adobe.aio.cloudmanager.RetryPolicy;
+import feign.AsyncClient;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+/**
+ * Client which retries transient failures according to a {@link RetryPolicy}.
+ * <p>
+ * Failed responses are only handed to the error decoders once the policy gives up, so callers see the last failure. Requests whose
+ * {@link CallScope} was cancelled are not retried.
+ */
+public class RetryingClient implements Client, AsyncClient<Object> {
+
+  private static final int THROTTLED = 429;
+  private static final int CONNECTION_FAILURE = -1;
+  private static final String RETRY_AFTER = "Retry-After";
+  private static final Set<Request.HttpMethod> IDEMPOTENT = EnumSet.of(Request.HttpMethod.GET, Request.HttpMethod.HEAD, Request.HttpMethod.OPTIONS, Request.HttpMethod.DELETE);
+
+  private final Client delegate;
+  private final AsyncClient<Object> asyncDelegate;
+  private final RetryPolicy policy;
+
+  public <C extends Client & AsyncClient<Object>> RetryingClient(C delegate, RetryPolicy policy) {
+    this.delegate = delegate;
+    this.asyncDelegate = delegate;
+    this.policy = policy;
+  }
+
+  @Override
+  public Response execute(Request request, Request.Options options) throws IOException {
+    for (int attempt = 1; ; attempt++) {
+      Response response;
+      try {
+        response = delegate.execute(request, options);
+      } catch (IOException e) {
+        if (!shouldRetry(request, CONNECTION_FAILURE, attempt)) {
+          throw e;
+        }
+        sleep(notify(request, attempt, CONNECTION_FAILURE, getBackoff(attempt)));
+        continue;
+      }
+      if (!shouldRetry(request, response.status(), attempt)) {
+        return response;
+      }
+      Duration delay = getDelay(response, attempt);
+      response.close();
+      sleep(notify(request, attempt, response.status(), delay));
+    }
+  }
+
+  @Override
+  public CompletableFuture<Response> execute(Request request, Request.Options options, Optional<Object> requestContext) {
+    return execute(request, options, requestContext, 1);
+  }
+
+  private CompletableFuture<Response> execute(Request request, Request.Options options, Optional<Object> requestContext, int attempt) {
+    return asyncDelegate.execute(request, options, requestContext).handle((response, t) -> {
+      Throwable cause = t instanceof CompletionException ? t.getCause() : t;
+      if (cause != null && !(cause instanceof IOException)) {
+        return CompletableFuture.<Response>failedFuture(cause);
+      }
+      int status = cause == null ? response.status() : CONNECTION_FAILURE;
+      if (!shouldRetry(request, status, attempt) || CallScope.isCancelled(requestContext)) {
+        return cause == null ? CompletableFuture.completedFuture(response) : CompletableFuture.<Response>failedFuture(cause);
+      }
+      Duration delay;
+      if (cause == null) {
+        delay = getDelay(response, attempt);
+        response.close();
+      } else {
+        delay = getBackoff(attempt);
+      }
+      notify(request, attempt, status, delay);
+      return CompletableFuture.runAsync(() -> { }, CompletableFuture.delayedExecutor(delay.toMillis(), TimeUnit.MILLISECONDS))
+          .thenCompose(v -> execute(request, options, requestContext, attempt + 1));
+    }).thenCompose(Function.identity());
+  }
+
+  private boolean shouldRetry(Request request, int status, int attempt) {
+    if (attempt >= policy.getMaxAttempts()) {
+      return false;
+    }
+    if (status != CONNECTION_FAILURE && !policy.getRetryableStatuses().contains(status)) {
+      return false;
+    }
+    return status == THROTTLED || !policy.isIdempotentOnly() || IDEMPOTENT.contains(request.httpMethod());
+  }
+
+  private Duration notify(Request request, int attempt, int status, Duration delay) {
+    if (policy.getListener() != null) {
+      policy.getListener().onRetry(request.httpMethod().name(), request.url(), attempt, status, delay);
+    }
+    return delay;
+  }
+
+  /*
+   * Delay before the next attempt, as requested by the server if allowed, otherwise by the backoff.
+   */
+  Duration getDelay(Response response, int attempt) {
+    if (policy.isHonorRetryAfter()) {
+      Duration retryAfter = getRetryAfter(response);
+      if (retryAfter != null) {
+        return retryAfter.compareTo(policy.getMaxBackoff()) > 0 ? policy.getMaxBackoff() : retryAfter;
+      }
+    }
+    return getBackoff(attempt);
+  }
+
+  Duration getBackoff(int attempt) {
+    double base = policy.getInitialBackoff().toMillis() * Math.pow(policy.getMultiplier(), attempt - 1);
+    double jitter = Math.max(0.0, Math.min(1.0, policy.getJitter()));
+    double randomized = base * (1.0 + jitter * (2.0 * ThreadLocalRandom.current().nextDouble() - 1.0));
+    return Duration.ofMillis((long) Math.max(0.0, Math.min(randomized, policy.getMaxBackoff().toMillis())));
+  }
+
+  /*
+   * Retry-After is either a number of seconds or an HTTP date.
+   */
+  private static Duration getRetryAfter(Response response) {
+    Collection<String> values = response.headers().get(RETRY_AFTER);
+    if (values == null || values.isEmpty()) {
+      return null;
+    }
+    String value = values.iterator().next().trim();
+    try {
+      return Duration.ofSeconds(Math.max(0L, Long.parseLong(value)));
+    } catch (NumberFormatException e) {
+      // Not seconds, try a date.
+    }
+    try {
+      Duration until = Duration.between(ZonedDateTime.now(), ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME));
+      return until.isNegative() ? Duration.ZERO : until;
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
+
+  private static void sleep(Duration delay) throws InterruptedIOException {
+    try {
+      Thread.sleep(delay.toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting to retry request.");
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.adobe.aio.cloudmanager.RateLimiter;
+
+/**
+ * Token bucket rate limiter, with one bucket per key and operation.
+ * <p>
+ * Waiting callers reserve their token up front, so they are served in arrival order and a burst is smoothed out to the sustained rate.
+ */
+public class TokenBucketRateLimiter implements RateLimiter {
+
+  private final Map<String, Map<Operation, Bucket>> buckets = new ConcurrentHashMap<>();
+  private final double readsPerSecond;
+  private final int readBurst;
+  private final double writesPerSecond;
+  private final int writeBurst;
+
+  public TokenBucketRateLimiter(double readsPerSecond, int readBurst, double writesPerSecond, int writeBurst) {
+    if (readsPerSecond <= 0 || writesPerSecond <= 0) {
+      throw new IllegalArgumentException("Rates must be positive.");
+    }
+    if (readBurst < 1 || writeBurst < 1) {
+      throw new IllegalArgumentException("Bursts must be at least one request.");
+    }
+    this.readsPerSecond = readsPerSecond;
+    this.readBurst = readBurst;
+    this.writesPerSecond = writesPerSecond;
+    this.writeBurst = writeBurst;
+  }
+
+  @Override
+  public void acquire(String key, Operation operation) throws InterruptedException {
+    TimeUnit.NANOSECONDS.sleep(reserve(key, operation).toNanos());
+  }
+
+  @Override
+  public Duration reserve(String key, Operation operation) {
+    return Duration.ofNanos(buckets.computeIfAbsent(key, k -> newBuckets(System.nanoTime())).get(operation).reserve());
+  }
+
+  private Map<Operation, Bucket> newBuckets(long now) {
+    Map<Operation, Bucket> map = new EnumMap<>(Operation.class);
+    map.put(Operation.READ, new Bucket(readsPerSecond, readBurst, now));
+    map.put(Operation.WRITE, new Bucket(writesPerSecond, writeBurst, now));
+    return map;
+  }
+
+  static class Bucket {
+    private final double tokensPerNano;
+    private final double capacity;
+    private double tokens;
+    private long last;
+
+    Bucket(double perSecond, int capacity, long now) {
+      this.tokensPerNano = perSecond / TimeUnit.SECONDS.toNanos(1);
+      this.capacity = capacity;
+      this.tokens = capacity;
+      this.last = now;
+    }
+
+    synchronized long reserve() {
+      return reserve(System.nanoTime());
+    }
+
+    /*
+     * Takes a token, possibly going into debt, and returns how long the caller must wait for it. Time never goes back, so a stale reading
+     * refills nothing rather than draining the bucket.
+     */
+    synchronized long reserve(long now) {
+      now = Math.max(now, last);
+      tokens = Math.min(capacity, tokens + (now - last) * tokensPerNano);
+      last = now;
+      tokens -= 1;
+      return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / tokensPerNano);
+    }
+  }
+}
@@ -0,0 +1,218 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.adobe.aio.cloudmanager.CatalogCache;
+import com.adobe.aio.cloudmanager.ConditionalCachePolicy;
+import com.adobe.aio.cloudmanager.Constants;
+import com.adobe.aio.cloudmanager.ExecutionCachePolicy;
+import com.adobe.aio.cloudmanager.RateLimiter;
+import com.adobe.aio.cloudmanager.RetryPolicy;
+import com.adobe.aio.feign.AIOHeaderInterceptor;
+import com.adobe.aio.ims.feign.AuthInterceptor;
+import com.adobe.aio.workspace.Workspace;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.AsyncClient;
+import feign.AsyncFeign;
+import feign.Client;
+import feign.Feign;
+import feign.Logger;
+import feign.Request;
+import feign.RequestInterceptor;
+import feign.Retryer;
+import feign.codec.Decoder;
+import feign.codec.ErrorDecoder;
+import feign.slf4j.Slf4jLogger;
+import lombok.Builder;
+
+/**
+ * Transport shared by all API implementations handed out by one {@link com.adobe.aio.cloudmanager.CloudManagerClient}.
+ * <p>
+ * Owns the HTTP client, the JSON mapper and the interceptor chain, so APIs targeted through one instance reuse connections and the access token
+ * cached by its authentication interceptor.
+ * Concurrent identical GET requests are sent once and share the response. When configured, responses with validators are cached and
+ * revalidated, transient failures are retried and every attempt sent to the server is rate limited, so requests which joined another or were
+ * answered from the cache draw nothing from the budget.
+ */
+public class Transport {
+
+  private final Workspace workspace;
+  private final String baseUrl;
+  private final okhttp3.OkHttpClient httpClient;
+  private final Client client;
+  private final AsyncClient<Object> asyncClient;
+  private final Decoder decoder;
+  private final CatalogReader catalog;
+  private final RetryPolicy retryPolicy;
+  private final ExecutionCache executionCache;
+  private final ObjectMapper mapper;
+  private final List<RequestInterceptor> interceptors;
+  private final Request.Options options;
+
+  public Transport(Workspace workspace, URL url) {
+    this(workspace, url, null, null, null, null, null, null);
+  }
+
+  public Transport(Workspace workspace, URL url, okhttp3.OkHttpClient httpClient) {
+    this(workspace, url, httpClient, null, null, null, null, null);
+  }
+
+  @Builder
+  private Transport(Workspace workspace, URL url, okhttp3.OkHttpClient httpClient, RetryPolicy retryPolicy, RateLimiter rateLimiter, ExecutionCachePolicy executionCachePolicy,
+                    ConditionalCachePolicy conditionalCachePolicy, CatalogCache catalogCache) {
+    this.workspace = workspace;
+    this.baseUrl = url == null ? Constants.CLOUD_MANAGER_URL : url.toString();
+    this.httpClient = httpClient == null ? FeignUtil.getHttpClient() : httpClient;
+    this.retryPolicy = retryPolicy == null ? RetryPolicy.NONE : retryPolicy;
+    CancellableClient client = new CancellableClient(this.httpClient);
+    ConditionalCachePolicy cachePolicy = conditionalCachePolicy == null ? ConditionalCachePolicy.NONE : conditionalCachePolicy;
+    ConditionalCache cache = rateLimiter == null ? cache(client, cachePolicy) : cache(new RateLimitingClient(client, rateLimiter, workspace), cachePolicy);
+    CoalescingClient coalescing = new CoalescingClient(cache);
+    this.client = coalescing;
+    this.asyncClient = coalescing;
+    this.decoder = cache.decoder(JacksonCodec.INSTANCE);
+    this.catalog = new CatalogReader(catalogCache, workspace, baseUrl);
+    this.executionCache = new ExecutionCache(executionCachePolicy == null ? ExecutionCachePolicy.NONE : executionCachePolicy);
+    this.mapper = FeignUtil.getMapper();
+    List<RequestInterceptor> interceptors = new ArrayList<>();
+    interceptors.add(AuthInterceptor.builder().workspace(workspace).build());
+    interceptors.add(AIOHeaderInterceptor.builder().workspace(workspace).build());
+    this.interceptors = Collections.unmodifiableList(interceptors);
+    this.options = new Request.Options(this.httpClient.connectTimeoutMillis(), TimeUnit.MILLISECONDS, this.httpClient.readTimeoutMillis(), TimeUnit.MILLISECONDS, this.httpClient.followRedirects());
+  }
+
+  public Workspace getWorkspace() {
+    return workspace;
+  }
+
+  public String getBaseUrl() {
+    return baseUrl;
+  }
+
+  public okhttp3.OkHttpClient getHttpClient() {
+    return httpClient;
+  }
+
+  public ObjectMapper getMapper() {
+    return mapper;
+  }
+
+  public RetryPolicy getRetryPolicy() {
+    return retryPolicy;
+  }
+
+  public ExecutionCache getExecutionCache() {
+    return executionCache;
+  }
+
+  public CatalogReader getCatalog() {
+    return catalog;
+  }
+
+  /**
+   * Create a new Feign builder backed by this transport's shared resources.
+   *
+   * @return a Feign builder
+   */
+  public Feign.Builder feignBuilder() {
+    Feign.Builder builder = Feign.builder()
+        .client(client)
+        .logger(new Slf4jLogger())
+        .logLevel(Logger.Level.BASIC)
+        .requestInterceptors(interceptors)
+        .encoder(JacksonCodec.INSTANCE)
+        .decoder(decoder)
+        .options(options);
+    if (isRetrying()) {
+      builder.retryer(Retryer.NEVER_RETRY);
+    }
+    return builder;
+  }
+
+  /**
+   * Create a client for the Feign API definition, targeted at this transport's base url.
+   *
+   * @param type         the Feign API definition
+   * @param errorDecoder the API specific error decoder
+   * @param <T>          the type of the API
+   * @return the client
+   */
+  public <T> T target(Class<T> type, ErrorDecoder errorDecoder) {
+    return feignBuilder().errorDecoder(errorDecoder).target(type, baseUrl);
+  }
+
+  /**
+   * Create a new asynchronous Feign builder backed by this transport's shared resources.
+   * <p>
+   * Requests are queued on the shared HTTP client's dispatcher and delayed by the rate limiter without blocking, no thread is held while waiting
+   * for a response.
+   *
+   * @return an asynchronous Feign builder
+   */
+  public AsyncFeign.AsyncBuilder<Object> asyncFeignBuilder() {
+    AsyncFeign.AsyncBuilder<Object> builder = AsyncFeign.builder()
+        .client(asyncClient)
+        .logger(new Slf4jLogger())
+        .logLevel(Logger.Level.BASIC)
+        .requestInterceptors(interceptors)
+        .encoder(JacksonCodec.INSTANCE)
+        .decoder(decoder)
+        .options(options);
+    if (isRetrying()) {
+      builder.retryer(Retryer.NEVER_RETRY);
+    }
+    return builder;
+  }
+
+  /**
+   * Create an asynchronous client for the Feign API definition, targeted at this transport's base url.
+   * <p>
+   * All methods of the definition must return a {@link java.util.concurrent.CompletableFuture}.
+   *
+   * @param type         the Feign API definition
+   * @param errorDecoder the API specific error decoder
+   * @param <T>          the type of the API
+   * @return the client
+   */
+  public <T> T targetAsync(Class<T> type, ErrorDecoder errorDecoder) {
+    return asyncFeignBuilder().errorDecoder(errorDecoder).target(type, baseUrl);
+  }
+
+  /*
+   * Retries wrap the rate limited client, so each attempt waits for its turn.
+   */
+  private <C extends Client & AsyncClient<Object>> ConditionalCache cache(C client, ConditionalCachePolicy policy) {
+    return isRetrying() ? new ConditionalCache(new RetryingClient(client, retryPolicy), policy) : new ConditionalCache(client, policy);
+  }
+
+  /*
+   * Retries are handled by the client when a policy is set, otherwise Feign's default retryer applies.
+   */
+  private boolean isRetrying() {
+    return retryPolicy.getMaxAttempts() > 1;
+  }
+}
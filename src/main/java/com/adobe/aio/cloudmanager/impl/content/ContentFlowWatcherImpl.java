@@ -0,0 +1,125 @@
+package com.adobe.aio.cloudmanager.impl.content;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.ContentFlow;
+import com.adobe.aio.cloudmanager.ContentFlowWatcher;
+import com.adobe.aio.cloudmanager.ContentSetApi;
+import com.adobe.aio.cloudmanager.PollingPolicy;
+import com.adobe.aio.cloudmanager.PollingScheduler;
+import com.adobe.aio.cloudmanager.impl.PollingSchedulerImpl;
+
+public class ContentFlowWatcherImpl implements ContentFlowWatcher {
+
+  private static final Set<ContentFlow.Status> TERMINAL = EnumSet.of(
+      ContentFlow.Status.COMPLETED,
+      ContentFlow.Status.FAILED,
+      ContentFlow.Status.CANCELLED
+  );
+
+  private final ContentSetApi api;
+  private final PollingPolicy policy;
+  private final PollingSchedulerImpl scheduler;
+  private final boolean ownsScheduler;
+  private final Set<CompletableFuture<ContentFlow>> pending = ConcurrentHashMap.newKeySet();
+  private volatile boolean closed;
+
+  public ContentFlowWatcherImpl(ContentSetApi api, PollingPolicy policy) {
+    this(api, policy, new PollingSchedulerImpl(1, PollingScheduler.DEFAULT_MAX_BACKOFF), true);
+  }
+
+  public ContentFlowWatcherImpl(ContentSetApi api, PollingPolicy policy, PollingScheduler scheduler) {
+    this(api, policy, PollingSchedulerImpl.of(scheduler), false);
+  }
+
+  private ContentFlowWatcherImpl(ContentSetApi api, PollingPolicy policy, PollingSchedulerImpl scheduler, boolean ownsScheduler) {
+    this.api = api;
+    this.policy = policy;
+    this.scheduler = scheduler;
+    this.ownsScheduler = ownsScheduler;
+  }
+
+  static boolean isTerminal(ContentFlow flow) {
+    return TERMINAL.contains(flow.getFlowStatus());
+  }
+
+  @Override
+  public CompletableFuture<ContentFlow> watch(ContentFlow flow) {
+    if (isTerminal(flow)) {
+      return CompletableFuture.completedFuture(flow);
+    }
+    return watch(((ContentFlowImpl) flow).getDestProgramId(), flow.getId(), flow);
+  }
+
+  @Override
+  public CompletableFuture<ContentFlow> watch(String programId, String flowId) {
+    return watch(programId, flowId, null);
+  }
+
+  private CompletableFuture<ContentFlow> watch(String programId, String flowId, ContentFlow initial) {
+    if (closed) {
+      CompletableFuture<ContentFlow> cancelled = new CompletableFuture<>();
+      cancelled.cancel(false);
+      return cancelled;
+    }
+    PollingSchedulerImpl.Check<ContentFlow> check = new PollingSchedulerImpl.Check<>() {
+      @Override
+      public ContentFlow get() throws CloudManagerApiException {
+        return api.getFlow(programId, flowId);
+      }
+
+      @Override
+      public boolean isDone(ContentFlow state) {
+        return isTerminal(state);
+      }
+
+      @Override
+      public Duration getInterval(ContentFlow state) {
+        return policy.getRunningInterval();
+      }
+    };
+    Object key = Arrays.asList(api, policy, programId, flowId);
+    CompletableFuture<ContentFlow> future = scheduler.watch(key, initial, check, (previous, current) -> {});
+    if (policy.getTimeout() != null) {
+      future.orTimeout(policy.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+    }
+    pending.add(future);
+    future.whenComplete((f, t) -> pending.remove(future));
+    return future;
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    if (ownsScheduler) {
+      scheduler.close();
+    }
+    pending.forEach(future -> future.cancel(false));
+  }
+}
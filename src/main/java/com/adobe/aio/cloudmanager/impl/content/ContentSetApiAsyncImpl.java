@@ -0,0 +1,181 @@
+package com.adobe.aio.cloudmanager.impl.content;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.ContentFlow;
+import com.adobe.aio.cloudmanager.ContentSet;
+import com.adobe.aio.cloudmanager.ContentSetApiAsync;
+import com.adobe.aio.cloudmanager.Environment;
+import com.adobe.aio.cloudmanager.impl.Transport;
+import com.adobe.aio.cloudmanager.impl.generated.ContentFlowInput;
+import com.adobe.aio.cloudmanager.impl.generated.ContentFlowList;
+import com.adobe.aio.cloudmanager.impl.generated.ContentSetList;
+import com.adobe.aio.cloudmanager.impl.generated.ContentSetPath;
+import com.adobe.aio.cloudmanager.impl.generated.NewContentSet;
+import feign.Param;
+import feign.RequestLine;
+
+public class ContentSetApiAsyncImpl implements ContentSetApiAsync {
+
+  private final FeignApi api;
+  private final ContentSetApiImpl client;
+
+  public ContentSetApiAsyncImpl(Transport transport) {
+    this(transport, new ContentSetApiImpl(transport));
+  }
+
+  ContentSetApiAsyncImpl(Transport transport, ContentSetApiImpl client) {
+    api = transport.targetAsync(FeignApi.class, new ExceptionDecoder());
+    this.client = client;
+  }
+
+  @Override
+  public CompletableFuture<Collection<ContentSet>> list(String programId) {
+    return api.list(programId).thenApply(this::toContentSets);
+  }
+
+  @Override
+  public CompletableFuture<Collection<ContentSet>> list(String programId, int start, int limit) {
+    return api.list(programId, start, limit).thenApply(this::toContentSets);
+  }
+
+  @Override
+  public CompletableFuture<ContentSet> create(String programId, String name, String description, Collection<ContentSet.PathDefinition> definitions) {
+    NewContentSet ncs = new NewContentSet()
+        .name(name)
+        .description(description);
+
+    definitions.forEach((pd) -> {
+      ncs.addPathsItem(new ContentSetPath().path(pd.getPath()).excluded(new ArrayList<>(pd.getExcluded())));
+    });
+
+    return api.create(programId, ncs).thenApply(cs -> new ContentSetImpl(cs, client));
+  }
+
+  @Override
+  public CompletableFuture<ContentSet> get(String programId, String id) {
+    return api.get(programId, id).thenApply(cs -> new ContentSetImpl(cs, client));
+  }
+
+  @Override
+  public CompletableFuture<ContentSet> update(String programId, String id, String name, String description, Collection<ContentSet.PathDefinition> definitions) {
+    return api.get(programId, id).thenCompose(current -> {
+      NewContentSet ncs = new NewContentSet();
+      ncs.setName(name != null ? name : current.getName());
+      ncs.setDescription(description != null ? description : current.getDescription());
+      if (definitions != null && !definitions.isEmpty()) {
+        definitions.forEach(pd -> ncs.addPathsItem(new ContentSetPath().path(pd.getPath()).excluded(new ArrayList<>(pd.getExcluded()))));
+      } else {
+        ncs.setPaths(current.getPaths());
+      }
+      return api.update(programId, id, ncs);
+    }).thenApply(cs -> new ContentSetImpl(cs, client));
+  }
+
+  @Override
+  public CompletableFuture<Void> delete(String programId, String id) {
+    return api.delete(programId, id).thenApply(cs -> null);
+  }
+
+  @Override
+  public CompletableFuture<Collection<ContentFlow>> listFlows(String programId) {
+    return api.listFlows(programId).thenApply(this::toContentFlows);
+  }
+
+  @Override
+  public CompletableFuture<Collection<ContentFlow>> listFlows(String programId, int start, int limit) {
+    return api.listFlows(programId, start, limit).thenApply(this::toContentFlows);
+  }
+
+  @Override
+  public CompletableFuture<ContentFlow> startFlow(String programId, String id, String srcEnvironmentId, String destEnvironmentId, boolean includeAcl) {
+    ContentFlowInput cfi = new ContentFlowInput()
+        .contentSetId(id)
+        .destProgramId(programId)
+        .destEnvironmentId(destEnvironmentId)
+        .tier(Environment.Tier.AUTHOR.name().toLowerCase())
+        .includeACL(includeAcl);
+    return api.createFlow(programId, srcEnvironmentId, cfi).thenApply(cf -> new ContentFlowImpl(cf, client));
+  }
+
+  @Override
+  public CompletableFuture<ContentFlow> getFlow(String programId, String id) {
+    return api.getFlow(programId, id).thenApply(cf -> new ContentFlowImpl(cf, client));
+  }
+
+  @Override
+  public CompletableFuture<ContentFlow> cancelFlow(String programId, String id) {
+    return api.cancelFlow(programId, id).thenApply(cf -> new ContentFlowImpl(cf, client));
+  }
+
+  private Collection<ContentSet> toContentSets(ContentSetList list) {
+    return list.getEmbedded() == null || list.getEmbedded().getContentSets() == null ?
+        Collections.emptyList() :
+        list.getEmbedded().getContentSets().stream().map(cs -> new ContentSetImpl(cs, client)).collect(Collectors.toList());
+  }
+
+  private Collection<ContentFlow> toContentFlows(ContentFlowList list) {
+    return list.getEmbedded() == null || list.getEmbedded().getContentFlows() == null ?
+        Collections.emptyList() :
+        list.getEmbedded().getContentFlows().stream().map(cf -> new ContentFlowImpl(cf, client)).collect(Collectors.toList());
+  }
+
+  private interface FeignApi {
+    @RequestLine("GET /api/program/{programId}/contentSets")
+    CompletableFuture<ContentSetList> list(@Param("programId") String programId);
+
+    @RequestLine("GET /api/program/{programId}/contentSets?start={start}&limit={limit}")
+    CompletableFuture<ContentSetList> list(@Param("programId") String programId, @Param("start") int start, @Param("limit") int limit);
+
+    @RequestLine("POST /api/program/{programId}/contentSets")
+    CompletableFuture<com.adobe.aio.cloudmanager.impl.generated.ContentSet> create(@Param("programId") String programId, NewContentSet contentSet);
+
+    @RequestLine("GET /api/program/{programId}/contentSet/{id}")
+    CompletableFuture<com.adobe.aio.cloudmanager.impl.generated.ContentSet> get(@Param("programId") String programId, @Param("id") String id);
+
+    @RequestLine("PUT /api/program/{programId}/contentSet/{id}")
+    CompletableFuture<com.adobe.aio.cloudmanager.impl.generated.ContentSet> update(@Param("programId") String programId, @Param("id") String id, NewContentSet contentSet);
+
+    @RequestLine("DELETE /api/program/{programId}/contentSet/{id}")
+    CompletableFuture<com.adobe.aio.cloudmanager.impl.generated.ContentSet> delete(@Param("programId") String programId, @Param("id") String id);
+
+    @RequestLine("GET /api/program/{programId}/contentFlows")
+    CompletableFuture<ContentFlowList> listFlows(@Param("programId") String programId);
+
+    @RequestLine("GET /api/program/{programId}/contentFlows?start={start}&limit={limit}")
+    CompletableFuture<ContentFlowList> listFlows(@Param("programId") String programId, @Param("start") int start, @Param("limit") int limit);
+
+    @RequestLine("POST /api/program/{programId}/environment/{environmentId}/contentFlow")
+    CompletableFuture<com.adobe.aio.cloudmanager.impl.generated.ContentFlow> createFlow(@Param("programId") String programId, @Param("environmentId") String environmentId, ContentFlowInput input);
+
+    @RequestLine("GET /api/program/{programId}/contentFlow/{id}")
+    CompletableFuture<com.adobe.aio.cloudmanager.impl.generated.ContentFlow> getFlow(@Param("programId") String programId, @Param("id") String id);
+
+    @RequestLine("DELETE /api/program/{programId}/contentFlow/{id}")
+    CompletableFuture<com.adobe.aio.cloudmanager.impl.generated.ContentFlow> cancelFlow(@Param("programId") String programId, @Param("id") String id);
+  }
+}
@@ -25,6 +25,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.adobe.aio.cloudmanager.ContentFlow;
 import com.adobe.aio.cloudmanager.ContentSet;
@@ -34,22 +35,26 @@ import feign.Param;
 import feign.RequestLine;
 import com.adobe.aio.cloudmanager.CloudManagerApiException;
 import com.adobe.aio.cloudmanager.Environment;
-import com.adobe.aio.cloudmanager.impl.FeignUtil;
+import com.adobe.aio.cloudmanager.impl.PageIterator;
+import com.adobe.aio.cloudmanager.impl.Transport;
 import com.adobe.aio.cloudmanager.impl.generated.ContentFlowInput;
 import com.adobe.aio.cloudmanager.impl.generated.ContentFlowList;
 import com.adobe.aio.cloudmanager.impl.generated.ContentSetList;
 import com.adobe.aio.cloudmanager.impl.generated.ContentSetPath;
 import com.adobe.aio.cloudmanager.impl.generated.NewContentSet;
 
-import static com.adobe.aio.cloudmanager.Constants.*;
-
 public class ContentSetApiImpl implements ContentSetApi {
 
   private final FeignApi api;
+  private final ContentSetApiAsyncImpl async;
 
   public ContentSetApiImpl(Workspace workspace, URL url) {
-    String baseUrl = url == null ? CLOUD_MANAGER_URL : url.toString();
-    api = FeignUtil.getBuilder(workspace).errorDecoder(new ExceptionDecoder()).target(FeignApi.class, baseUrl);
+    this(new Transport(workspace, url));
+  }
+
+  public ContentSetApiImpl(Transport transport) {
+    api = transport.target(FeignApi.class, new ExceptionDecoder());
+    async = new ContentSetApiAsyncImpl(transport, this);
   }
 
   @Override
@@ -73,6 +78,11 @@ public class ContentSetApiImpl implements ContentSetApi {
         list.getEmbedded().getContentSets().stream().map(cs -> new ContentSetImpl(cs, this)).collect(Collectors.toList());
   }
 
+  @Override
+  public Stream<ContentSet> stream(String programId, int pageSize) throws CloudManagerApiException {
+    return PageIterator.stream((start, limit) -> async.list(programId, start, limit), pageSize);
+  }
+
   @Override
   public ContentSet create(String programId, String name, String description, Collection<ContentSet.PathDefinition> definitions) throws CloudManagerApiException {
     NewContentSet ncs = new NewContentSet()
@@ -122,6 +132,11 @@ public class ContentSetApiImpl implements ContentSetApi {
         list.getEmbedded().getContentFlows().stream().map(cf -> new ContentFlowImpl(cf, this)).collect(Collectors.toList());
   }
 
+  @Override
+  public Stream<ContentFlow> streamFlows(String programId, int pageSize) throws CloudManagerApiException {
+    return PageIterator.stream((start, limit) -> async.listFlows(programId, start, limit), pageSize);
+  }
+
   @Override
   public ContentFlow startFlow(String programId, String id, String srcEnvironmentId, String destEnvironmentId, boolean includeAcl) throws CloudManagerApiException {
     ContentFlowInput cfi = new ContentFlowInput()
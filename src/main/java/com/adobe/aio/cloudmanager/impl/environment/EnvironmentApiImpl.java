@@ -34,26 +34,30 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 
+import com.adobe.aio.cloudmanager.CatalogCache;
 import com.adobe.aio.cloudmanager.Region;
 import com.adobe.aio.cloudmanager.impl.generated.Environment;
 import com.adobe.aio.cloudmanager.impl.generated.EnvironmentLog;
 import com.adobe.aio.cloudmanager.impl.generated.RegionDeployment;
 import com.adobe.aio.cloudmanager.impl.generated.Variable;
 import com.adobe.aio.workspace.Workspace;
-import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
 import feign.Body;
 import feign.Headers;
 import feign.Param;
 import feign.RequestLine;
 import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.DownloadListener;
+import com.adobe.aio.cloudmanager.impl.FeignUtil;
 import com.adobe.aio.cloudmanager.EnvironmentApi;
 import com.adobe.aio.cloudmanager.LogOption;
-import com.adobe.aio.cloudmanager.impl.FeignUtil;
+import com.adobe.aio.cloudmanager.impl.Downloader;
+import com.adobe.aio.cloudmanager.impl.CatalogReader;
+import com.adobe.aio.cloudmanager.impl.Transport;
 import com.adobe.aio.cloudmanager.impl.VariableImpl;
 import com.adobe.aio.cloudmanager.impl.exception.CloudManagerExceptionDecoder;
 import com.adobe.aio.cloudmanager.impl.generated.EnvironmentList;
@@ -62,22 +66,27 @@ import com.adobe.aio.cloudmanager.impl.generated.Redirect;
 import com.adobe.aio.cloudmanager.impl.generated.RegionDeploymentList;
 import com.adobe.aio.cloudmanager.impl.generated.VariableList;
 
-import static com.adobe.aio.cloudmanager.Constants.*;
-
 public class EnvironmentApiImpl implements EnvironmentApi {
+  static final String ENVIRONMENT_LOG_READ_ERROR = "Cannot read log for environment %s, service '%s', log name '%s', date '%s' (Cause: %s).";
   private static final String ENVIRONMENT_LOG_REDIRECT_ERROR = "Log redirect for environment %s, service '%s', log name '%s', date '%s' did not exist.";
 
   private final FeignApi api;
-  private final String baseUrl;
+  private final LogDownloader downloader;
+  private final CatalogReader catalog;
 
   public EnvironmentApiImpl(Workspace workspace, URL url) {
-    baseUrl = url == null ? CLOUD_MANAGER_URL : url.toString();
-    api = FeignUtil.getBuilder(workspace).errorDecoder(new ExceptionDecoder()).target(FeignApi.class, baseUrl);
+    this(new Transport(workspace, url));
+  }
+
+  public EnvironmentApiImpl(Transport transport) {
+    api = transport.target(FeignApi.class, new ExceptionDecoder());
+    downloader = new LogDownloader(transport);
+    catalog = transport.getCatalog();
   }
 
   @Override
   public Collection<com.adobe.aio.cloudmanager.Environment> list(String programId) throws CloudManagerApiException {
-    EnvironmentList list = api.list(programId);
+    EnvironmentList list = catalog.read(CatalogCache.Type.ENVIRONMENT, () -> api.list(programId), "list", programId);
     return list.getEmbedded() == null || list.getEmbedded().getEnvironments() == null ?
         Collections.emptyList() :
         list.getEmbedded().getEnvironments().stream().map(e -> new EnvironmentImpl(e, this)).collect(Collectors.toList());
@@ -85,7 +94,7 @@ public class EnvironmentApiImpl implements EnvironmentApi {
 
   @Override
   public Collection<com.adobe.aio.cloudmanager.Environment> list(String programId, com.adobe.aio.cloudmanager.Environment.Type type) throws CloudManagerApiException {
-    EnvironmentList list = api.list(programId, type.name().toLowerCase());
+    EnvironmentList list = catalog.read(CatalogCache.Type.ENVIRONMENT, () -> api.list(programId, type.name().toLowerCase()), "list", programId, type);
     return list.getEmbedded() == null || list.getEmbedded().getEnvironments() == null ?
         Collections.emptyList() :
         list.getEmbedded().getEnvironments().stream().map(e -> new EnvironmentImpl(e, this)).collect(Collectors.toList());
@@ -93,29 +102,14 @@ public class EnvironmentApiImpl implements EnvironmentApi {
 
   @Override
   public com.adobe.aio.cloudmanager.Environment create(String programId, String name, com.adobe.aio.cloudmanager.Environment.Type type, String region, String description) throws CloudManagerApiException {
-    try {
-      StringWriter writer = new StringWriter();
-      JsonFactory jsonFactory = new JsonFactory();
-      JsonGenerator gen = jsonFactory.createGenerator(writer);
-      gen.writeStartObject();
-      gen.writeStringField("name", name);
-      gen.writeStringField("type", type.name().toLowerCase());
-      gen.writeStringField("region", region);
-      if (StringUtils.isNotBlank(description)) {
-        gen.writeStringField("description", description);
-      }
-      gen.writeEndObject();
-      gen.close();
-      String body = writer.toString();
-      return new EnvironmentImpl(api.create(programId, body), this);
-    } catch (IOException e) {
-      throw new CloudManagerApiException(String.format(CloudManagerExceptionDecoder.GENERATE_BODY, e.getLocalizedMessage()));
-    }
+    Environment created = api.create(programId, getCreateBody(name, type, region, description));
+    catalog.invalidate(CatalogCache.Type.ENVIRONMENT);
+    return new EnvironmentImpl(created, this);
   }
 
   @Override
   public com.adobe.aio.cloudmanager.Environment get(String programId, String environmentId) throws CloudManagerApiException {
-    return new EnvironmentImpl(api.get(programId, environmentId), this);
+    return new EnvironmentImpl(catalog.read(CatalogCache.Type.ENVIRONMENT, () -> api.get(programId, environmentId), "get", programId, environmentId), this);
   }
 
   @Override
@@ -131,6 +125,7 @@ public class EnvironmentApiImpl implements EnvironmentApi {
   @Override
   public void delete(String programId, String environmentId, boolean ignoreFailure) throws CloudManagerApiException {
     api.delete(programId, environmentId, ignoreFailure);
+    catalog.invalidate(CatalogCache.Type.ENVIRONMENT);
   }
 
   @Override
@@ -141,7 +136,7 @@ public class EnvironmentApiImpl implements EnvironmentApi {
   @Override
   public Collection<com.adobe.aio.cloudmanager.EnvironmentLog> listLogs(String programId, String environmentId, LogOption option, int days) throws CloudManagerApiException {
     EnvironmentLogs list = api.listLogs(programId, environmentId, option.getService(), option.getName(), days);
-    return list.getEmbedded() == null ?
+    return list.getEmbedded() == null || list.getEmbedded().getDownloads() == null ?
         Collections.emptyList() :
         list.getEmbedded().getDownloads().stream().map(EnvironmentLogImpl::new).collect(Collectors.toList());
   }
@@ -165,6 +160,21 @@ public class EnvironmentApiImpl implements EnvironmentApi {
     return getLogDownloadUrl(environment.getProgramId(), environment.getId(), option, date);
   }
 
+  @Override
+  public Stream<String> streamLog(String programId, String environmentId, LogOption option, LocalDate date, Predicate<String> filter) throws CloudManagerApiException {
+    String url = getLogDownloadUrl(programId, environmentId, option, date);
+    try {
+      return downloader.lines(url, filter);
+    } catch (IOException e) {
+      throw new CloudManagerApiException(String.format(ENVIRONMENT_LOG_READ_ERROR, environmentId, option.getService(), option.getName(), date, e.getClass().getName()));
+    }
+  }
+
+  @Override
+  public Stream<String> streamLog(com.adobe.aio.cloudmanager.Environment environment, LogOption option, LocalDate date, Predicate<String> filter) throws CloudManagerApiException {
+    return streamLog(environment.getProgramId(), environment.getId(), option, date, filter);
+  }
+
   @Override
   public com.adobe.aio.cloudmanager.RegionDeployment getRegionDeployment(String programId, String environmentId, String deploymentId) throws CloudManagerApiException {
     return new RegionDeploymentImpl(api.getDeployment(programId, environmentId, deploymentId));
@@ -201,12 +211,29 @@ public class EnvironmentApiImpl implements EnvironmentApi {
               .filter(r -> r.getRegion().equals(region.getValue()))
               .findFirst()
               .orElseThrow(() -> new CloudManagerApiException(String.format("Cannot remove region deployment, Environment %s is not deployed to region '%s'.", environment.getId(), region.getValue())));
-      toRemove.add(deployment);
+      toRemove.add(toDelete(deployment));
     }
-    toRemove.forEach(d -> d.setStatus(RegionDeployment.StatusEnum.TO_DELETE));
     api.removeDeployments(environment.getProgramId(), environment.getId(), toRemove);
   }
 
+  /*
+   * Copies the listed deployment rather than changing it, as decoded responses may be shared by other callers.
+   */
+  private static RegionDeployment toDelete(RegionDeployment deployment) {
+    return new RegionDeployment()
+        .cluster(deployment.getCluster())
+        .namespace(deployment.getNamespace())
+        .createdAt(deployment.getCreatedAt())
+        .updatedAt(deployment.getUpdatedAt())
+        .id(deployment.getId())
+        .environmentId(deployment.getEnvironmentId())
+        .region(deployment.getRegion())
+        .integrations(deployment.getIntegrations())
+        .status(RegionDeployment.StatusEnum.TO_DELETE)
+        .type(deployment.getType())
+        ._links(deployment.getLinks());
+  }
+
   @Override
   public Set<com.adobe.aio.cloudmanager.Variable> getVariables(String programId, String environmentId) throws CloudManagerApiException {
     VariableList list = api.getVariables(programId, environmentId);
@@ -223,14 +250,7 @@ public class EnvironmentApiImpl implements EnvironmentApi {
   @Override
   public Set<com.adobe.aio.cloudmanager.Variable> setVariables(String programId, String environmentId, com.adobe.aio.cloudmanager.Variable... variables) throws
       CloudManagerApiException {
-    List<Variable> toSet =
-        Arrays.stream(variables).map((v) -> new Variable()
-                .name(v.getName())
-                .value(v.getValue())
-                .type(Variable.TypeEnum.fromValue(v.getVarType().getValue()))
-                .service(v.getTier().name().toLowerCase()))
-            .collect(Collectors.toList());
-    VariableList list = api.setVariables(programId, environmentId, toSet);
+    VariableList list = api.setVariables(programId, environmentId, toVariables(variables));
     return list.getEmbedded() == null || list.getEmbedded().getVariables() == null ?
         Collections.emptySet() : // How did creating a variable result in none returned?
         list.getEmbedded().getVariables().stream().map(VariableImpl::new).collect(Collectors.toSet());
@@ -258,19 +278,7 @@ public class EnvironmentApiImpl implements EnvironmentApi {
 
   @Override
   public Collection<com.adobe.aio.cloudmanager.EnvironmentLog> downloadLogs(String programId, String environmentId, LogOption logOption, int days, File dir) throws CloudManagerApiException {
-    EnvironmentLogs logs = api.listLogs(programId, environmentId, logOption.getService(), logOption.getName(), days);
-    if (logs.getEmbedded() == null || logs.getEmbedded().getDownloads() == null || logs.getEmbedded().getDownloads().isEmpty()) {
-      return Collections.emptyList();
-    }
-    List<EnvironmentLog> downloads = logs.getEmbedded().getDownloads();
-    List<com.adobe.aio.cloudmanager.EnvironmentLog> downloaded = new ArrayList<>();
-    for (EnvironmentLog log : downloads) {
-      String logfileName = String.format("environment-%s-%s-%s-%s.log.gz", environmentId, log.getService(), log.getName(), log.getDate());
-      EnvironmentLogImpl impl = new EnvironmentLogImpl(log, String.format("%s/%s", dir.getPath(), logfileName));
-      downloadLog(impl);
-      downloaded.add(impl);
-    }
-    return downloaded;
+    return downloadLogs(programId, environmentId, logOption, days, dir, LogDownloader.DEFAULT_PARALLELISM, DownloadListener.NONE);
   }
 
   @Override
@@ -278,16 +286,52 @@ public class EnvironmentApiImpl implements EnvironmentApi {
     return downloadLogs(environment.getProgramId(), environment.getId(), logOption, days, dir);
   }
 
-  private void downloadLog(EnvironmentLogImpl log) throws CloudManagerApiException {
-    Redirect redirect = api.getLogs(log.getProgramId(), log.getEnvironmentId(), log.getService(), log.getName(), log.getDate().toString());
+  @Override
+  public Collection<com.adobe.aio.cloudmanager.EnvironmentLog> downloadLogs(String programId, String environmentId, LogOption logOption, int days, File dir, int parallelism, DownloadListener listener) throws CloudManagerApiException {
+    EnvironmentLogs list = api.listLogs(programId, environmentId, logOption.getService(), logOption.getName(), days);
+    Collection<EnvironmentLogImpl> downloads = list.getEmbedded() == null || list.getEmbedded().getDownloads() == null ?
+        Collections.emptyList() :
+        list.getEmbedded().getDownloads().stream().map(log -> LogDownloader.toDownload(log, environmentId, dir)).collect(Collectors.toList());
+    return Downloader.await(downloader.download(downloads, parallelism, listener));
+  }
+
+  @Override
+  public Collection<com.adobe.aio.cloudmanager.EnvironmentLog> downloadLogs(com.adobe.aio.cloudmanager.Environment environment, LogOption logOption, int days, File dir, int parallelism, DownloadListener listener) throws CloudManagerApiException {
+    return downloadLogs(environment.getProgramId(), environment.getId(), logOption, days, dir, parallelism, listener);
+  }
+
+  static String getCreateBody(String name, com.adobe.aio.cloudmanager.Environment.Type type, String region, String description) throws CloudManagerApiException {
     try {
-      File downloaded = new File(log.getDownloadPath());
-      FileUtils.copyInputStreamToFile(new URL(redirect.getRedirect()).openStream(), downloaded);
+      StringWriter writer = new StringWriter();
+      JsonGenerator gen = FeignUtil.getJsonFactory().createGenerator(writer);
+      gen.writeStartObject();
+      gen.writeStringField("name", name);
+      gen.writeStringField("type", type.name().toLowerCase());
+      gen.writeStringField("region", region);
+      if (StringUtils.isNotBlank(description)) {
+        gen.writeStringField("description", description);
+      }
+      gen.writeEndObject();
+      gen.close();
+      return writer.toString();
     } catch (IOException e) {
-      throw new CloudManagerApiException(String.format("Cannot download %s%s to %s (Cause: %s).", baseUrl, log.getUrl(), log.getDownloadPath(), e.getClass().getName()));
+      throw new CloudManagerApiException(String.format(CloudManagerExceptionDecoder.GENERATE_BODY, e.getLocalizedMessage()));
     }
   }
 
+  static List<Variable> toVariables(com.adobe.aio.cloudmanager.Variable... variables) {
+    return Arrays.stream(variables).map((v) -> new Variable()
+            .name(v.getName())
+            .value(v.getValue())
+            .type(Variable.TypeEnum.fromValue(v.getVarType().getValue()))
+            .service(v.getTier().name().toLowerCase()))
+        .collect(Collectors.toList());
+  }
+
+  LogDownloader getDownloader() {
+    return downloader;
+  }
+
   private interface FeignApi {
 
     @RequestLine("GET /api/program/{programId}/environments")
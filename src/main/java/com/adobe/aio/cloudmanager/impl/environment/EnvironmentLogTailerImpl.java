@@ -0,0 +1,177 @@
+package com.adobe.aio.cloudmanager.impl.environment;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.Environment;
+import com.adobe.aio.cloudmanager.EnvironmentApi;
+import com.adobe.aio.cloudmanager.EnvironmentLogTailer;
+import com.adobe.aio.cloudmanager.LogOption;
+import com.adobe.aio.cloudmanager.PollingScheduler;
+import com.adobe.aio.cloudmanager.impl.Downloader;
+import com.adobe.aio.cloudmanager.impl.PollingSchedulerImpl;
+
+public class EnvironmentLogTailerImpl implements EnvironmentLogTailer {
+
+  private final EnvironmentApiImpl api;
+  private final Duration interval;
+  private final PollingSchedulerImpl scheduler;
+  private final boolean ownsScheduler;
+  private final Clock clock;
+  private final Set<CompletableFuture<Void>> pending = ConcurrentHashMap.newKeySet();
+  private volatile boolean closed;
+
+  public EnvironmentLogTailerImpl(EnvironmentApi api, Duration interval) {
+    this(api, interval, new PollingSchedulerImpl(1, PollingScheduler.DEFAULT_MAX_BACKOFF), true, Clock.systemUTC());
+  }
+
+  public EnvironmentLogTailerImpl(EnvironmentApi api, Duration interval, PollingScheduler scheduler) {
+    this(api, interval, PollingSchedulerImpl.of(scheduler), false, Clock.systemUTC());
+  }
+
+  EnvironmentLogTailerImpl(EnvironmentApi api, Duration interval, PollingSchedulerImpl scheduler, boolean ownsScheduler, Clock clock) {
+    this.api = (EnvironmentApiImpl) api;
+    this.interval = interval;
+    this.scheduler = scheduler;
+    this.ownsScheduler = ownsScheduler;
+    this.clock = clock;
+  }
+
+  @Override
+  public CompletableFuture<Void> tail(Environment environment, LogOption option, Listener listener) {
+    return tail(environment.getProgramId(), environment.getId(), option, listener);
+  }
+
+  @Override
+  public CompletableFuture<Void> tail(String programId, String environmentId, LogOption option, Listener listener) {
+    CompletableFuture<Void> tail = new CompletableFuture<>();
+    if (closed) {
+      tail.cancel(false);
+      return tail;
+    }
+    Object key = Arrays.asList(api, interval, programId, environmentId, option.getService(), option.getName());
+    CompletableFuture<List<String>> watch = scheduler.watch(key, null, new Check(programId, environmentId, option), (previous, current) -> current.forEach(listener::onLine));
+    // A tail never completes on its own, only failures and cancellation are propagated.
+    watch.whenComplete((lines, t) -> tail.completeExceptionally(t));
+    tail.whenComplete((v, t) -> {
+      pending.remove(tail);
+      watch.cancel(false);
+    });
+    pending.add(tail);
+    return tail;
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    if (ownsScheduler) {
+      scheduler.close();
+    }
+    pending.forEach(future -> future.cancel(false));
+  }
+
+  /*
+   * Tracks the position in the followed log. Only one poll of a target runs at a time, so the position is not shared between threads.
+   */
+  private class Check implements PollingSchedulerImpl.Check<List<String>> {
+    private final String programId;
+    private final String environmentId;
+    private final LogOption option;
+    private LocalDate date;
+    private long offset;
+
+    private Check(String programId, String environmentId, LogOption option) {
+      this.programId = programId;
+      this.environmentId = environmentId;
+      this.option = option;
+    }
+
+    @Override
+    public List<String> get() throws CloudManagerApiException {
+      LocalDate today = LocalDate.now(clock);
+      if (date == null) {
+        date = today;
+        offset = length(today);
+        return Collections.emptyList();
+      }
+      List<String> lines = new ArrayList<>();
+      if (!date.equals(today)) {
+        // The previous day's log is complete, so its last line is read even without a terminator.
+        lines.addAll(read(date, true).getLines());
+        date = today;
+        offset = 0;
+      }
+      Downloader.Appended appended = read(today, false);
+      if (appended.getLength() >= 0 && appended.getLength() < offset) {
+        // The log was replaced, follow it from the start.
+        offset = 0;
+        appended = read(today, false);
+      }
+      offset = appended.getOffset();
+      lines.addAll(appended.getLines());
+      return lines;
+    }
+
+    @Override
+    public boolean isDone(List<String> state) {
+      return false;
+    }
+
+    @Override
+    public Duration getInterval(List<String> state) {
+      return interval;
+    }
+
+    private long length(LocalDate day) throws CloudManagerApiException {
+      String url = api.getLogDownloadUrl(programId, environmentId, option, day);
+      try {
+        return Math.max(api.getDownloader().length(url), 0);
+      } catch (FileNotFoundException e) {
+        return 0;
+      } catch (IOException e) {
+        throw new CloudManagerApiException(String.format(EnvironmentApiImpl.ENVIRONMENT_LOG_READ_ERROR, environmentId, option.getService(), option.getName(), day, e.getClass().getName()));
+      }
+    }
+
+    private Downloader.Appended read(LocalDate day, boolean partial) throws CloudManagerApiException {
+      String url = api.getLogDownloadUrl(programId, environmentId, option, day);
+      try {
+        return api.getDownloader().appended(url, offset, partial);
+      } catch (FileNotFoundException e) {
+        return new Downloader.Appended(Collections.emptyList(), offset, -1);
+      } catch (IOException e) {
+        throw new CloudManagerApiException(String.format(EnvironmentApiImpl.ENVIRONMENT_LOG_READ_ERROR, environmentId, option.getService(), option.getName(), day, e.getClass().getName()));
+      }
+    }
+  }
+}
@@ -88,7 +88,7 @@ public class ExceptionDecoder extends CloudManagerExceptionDecoder {
         break;
       }
     }
-    return new CloudManagerApiException(String.format(type.message, getError(response)));
+    return new CloudManagerApiException(String.format(type.message, getError(response)), response.status());
   }
 
   @Getter
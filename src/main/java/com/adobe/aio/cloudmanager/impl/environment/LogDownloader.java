@@ -0,0 +1,115 @@
+package com.adobe.aio.cloudmanager.impl.environment;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.DownloadListener;
+import com.adobe.aio.cloudmanager.impl.Downloader;
+import com.adobe.aio.cloudmanager.impl.Transport;
+import com.adobe.aio.cloudmanager.impl.generated.EnvironmentLog;
+import com.adobe.aio.cloudmanager.impl.generated.Redirect;
+import feign.Param;
+import feign.RequestLine;
+
+/**
+ * Downloads environment logs, several at a time.
+ * <p>
+ * Each log's redirect is resolved and its file transferred without holding a thread, on the transport's shared HTTP client.
+ */
+class LogDownloader {
+
+  static final int DEFAULT_PARALLELISM = 4;
+
+  private static final String DOWNLOAD_ERROR = "Cannot download %s%s to %s (Cause: %s).";
+  private static final String REDIRECT_ERROR = "Log redirect for environment %s, service '%s', log name '%s', date '%s' did not exist.";
+
+  private final FeignApi api;
+  private final Downloader downloader;
+  private final String baseUrl;
+
+  LogDownloader(Transport transport) {
+    this.api = transport.targetAsync(FeignApi.class, new ExceptionDecoder());
+    this.downloader = new Downloader(transport.getHttpClient());
+    this.baseUrl = transport.getBaseUrl();
+  }
+
+  /**
+   * Creates the representation of a log to download into the directory.
+   *
+   * @param log           the log
+   * @param environmentId the environment of the log
+   * @param dir           the directory in which to save the log
+   * @return the log with its download path
+   */
+  static EnvironmentLogImpl toDownload(EnvironmentLog log, String environmentId, File dir) {
+    String logfileName = String.format("environment-%s-%s-%s-%s.log.gz", environmentId, log.getService(), log.getName(), log.getDate());
+    return new EnvironmentLogImpl(log, String.format("%s/%s", dir.getPath(), logfileName));
+  }
+
+  Stream<String> lines(String url, Predicate<String> filter) throws IOException {
+    return downloader.lines(url, filter);
+  }
+
+  long length(String url) throws IOException {
+    return downloader.length(url);
+  }
+
+  Downloader.Appended appended(String url, long offset, boolean partial) throws IOException {
+    return downloader.appended(url, offset, partial);
+  }
+
+  CompletableFuture<Collection<com.adobe.aio.cloudmanager.EnvironmentLog>> download(Collection<EnvironmentLogImpl> logs, int parallelism, DownloadListener listener) {
+    return Downloader.forEach(new ArrayList<>(logs), parallelism, log -> download(log, listener)).thenApply(ArrayList::new);
+  }
+
+  private CompletableFuture<com.adobe.aio.cloudmanager.EnvironmentLog> download(EnvironmentLogImpl log, DownloadListener listener) {
+    File file = new File(log.getDownloadPath());
+    return api.getLogs(log.getProgramId(), log.getEnvironmentId(), log.getService(), log.getName(), log.getDate().toString())
+        .thenCompose(redirect -> {
+          if (redirect == null || StringUtils.isBlank(redirect.getRedirect())) {
+            throw new CompletionException(new CloudManagerApiException(String.format(REDIRECT_ERROR, log.getEnvironmentId(), log.getService(), log.getName(), log.getDate())));
+          }
+          return downloader.download(redirect.getRedirect(), file, listener).handle((f, t) -> {
+            if (t != null) {
+              Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+              throw new CompletionException(new CloudManagerApiException(String.format(DOWNLOAD_ERROR, baseUrl, log.getUrl(), log.getDownloadPath(), cause.getClass().getName())));
+            }
+            return log;
+          });
+        });
+  }
+
+  private interface FeignApi {
+
+    @RequestLine("GET /api/program/{programId}/environment/{environmentId}/logs/download?service={service}&name={name}&date={date}")
+    CompletableFuture<Redirect> getLogs(@Param("programId") String programId, @Param("environmentId") String environmentId, @Param("service") String service, @Param("name") String name, @Param("date") String date);
+  }
+}
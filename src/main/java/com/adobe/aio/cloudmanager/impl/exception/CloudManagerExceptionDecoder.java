@@ -31,7 +31,9 @@ import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.adobe.aio.cloudmanager.impl.FeignUtil;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
 import feign.Response;
 import feign.codec.ErrorDecoder;
 
@@ -44,19 +46,23 @@ public abstract class CloudManagerExceptionDecoder implements ErrorDecoder {
 
   private static final Map<Integer, String> phrases = new HashMap<>();
 
+  // Payloads are parsed strictly, as they always have been, unknown properties mean the body is not the expected error.
+  private static final ObjectReader PROBLEM_READER = FeignUtil.getReader(ProblemPayload.class).with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+  private static final ObjectReader ERROR_READER = FeignUtil.getReader(ErrorPayload.class).with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
   static {
     phrases.put(400, "Bad Request");
     phrases.put(403, "Forbidden");
     phrases.put(404, "Not Found");
     phrases.put(405, "Method Not Allowed");
+    phrases.put(429, "Too Many Requests");
   }
 
   private static ProblemPayload getProblemBody(Response response, String body) {
     String contentType = getHeader(response, CONTENT_TYPE, null);
     if (StringUtils.equals(contentType, "application/problem+json")) {
-      ObjectMapper objectMapper = new ObjectMapper();
       try {
-        return objectMapper.readValue(body, ProblemPayload.class);
+        return PROBLEM_READER.readValue(body);
       } catch (IOException e) {
         return null;
       }
@@ -76,9 +82,8 @@ public abstract class CloudManagerExceptionDecoder implements ErrorDecoder {
     String contentType = getHeader(response, CONTENT_TYPE, null);
     if (contentType != null) {
       if (contentType.contains(APPLICATION_JSON_TYPE)) {
-        ObjectMapper objectMapper = new ObjectMapper();
         try {
-          return objectMapper.readValue(body, ErrorPayload.class);
+          return ERROR_READER.readValue(body);
         } catch (IOException e) {
           // TODO -- log?
           return null;
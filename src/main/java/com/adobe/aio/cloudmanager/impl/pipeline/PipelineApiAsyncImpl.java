@@ -0,0 +1,144 @@
+package com.adobe.aio.cloudmanager.impl.pipeline;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.Pipeline;
+import com.adobe.aio.cloudmanager.PipelineApiAsync;
+import com.adobe.aio.cloudmanager.PipelineUpdate;
+import com.adobe.aio.cloudmanager.Variable;
+import com.adobe.aio.cloudmanager.impl.Transport;
+import com.adobe.aio.cloudmanager.impl.VariableImpl;
+import com.adobe.aio.cloudmanager.impl.generated.PipelineList;
+import com.adobe.aio.cloudmanager.impl.generated.PipelinePhase;
+import com.adobe.aio.cloudmanager.impl.generated.VariableList;
+import feign.Headers;
+import feign.Param;
+import feign.RequestLine;
+
+public class PipelineApiAsyncImpl implements PipelineApiAsync {
+
+  private final FeignApi api;
+  private final PipelineApiImpl client;
+
+  public PipelineApiAsyncImpl(Transport transport) {
+    api = transport.targetAsync(FeignApi.class, new ExceptionDecoder());
+    client = new PipelineApiImpl(transport);
+  }
+
+  @Override
+  public CompletableFuture<Collection<Pipeline>> list(String programId) {
+    return api.list(programId).thenApply(list -> {
+      if (list.getEmbedded() == null || list.getEmbedded().getPipelines() == null) {
+        throw new CompletionException(new CloudManagerApiException(String.format("Cannot find pipelines for program %s.", programId)));
+      }
+      return list.getEmbedded().getPipelines().stream().map(this::wrap).collect(Collectors.toList());
+    });
+  }
+
+  @Override
+  public CompletableFuture<Pipeline> get(String programId, String pipelineId) {
+    return api.get(programId, pipelineId).thenApply(this::wrap);
+  }
+
+  @Override
+  public CompletableFuture<Void> delete(String programId, String pipelineId) {
+    return api.delete(programId, pipelineId);
+  }
+
+  @Override
+  public CompletableFuture<Pipeline> update(String programId, String pipelineId, PipelineUpdate updates) {
+    return api.get(programId, pipelineId).thenCompose(original -> {
+      PipelinePhase buildPhase = original.getPhases().stream()
+          .filter(p -> PipelinePhase.TypeEnum.BUILD == p.getType())
+          .findFirst()
+          .orElseThrow(() -> new CompletionException(new CloudManagerApiException(String.format("Pipeline %s does not appear to have a build phase.", pipelineId))));
+
+      com.adobe.aio.cloudmanager.impl.generated.Pipeline toUpdate = new com.adobe.aio.cloudmanager.impl.generated.Pipeline();
+      toUpdate.getPhases().add(PipelineApiImpl.toBuildPhase(buildPhase, updates));
+      return api.update(programId, pipelineId, toUpdate);
+    }).thenApply(this::wrap);
+  }
+
+  @Override
+  public CompletableFuture<Void> invalidateCache(String programId, String pipelineId) {
+    return api.invalidateCache(programId, pipelineId);
+  }
+
+  @Override
+  public CompletableFuture<Set<Variable>> getVariables(String programId, String pipelineId) {
+    return api.getVariables(programId, pipelineId).thenApply(PipelineApiAsyncImpl::toVariables);
+  }
+
+  @Override
+  public CompletableFuture<Set<Variable>> setVariables(String programId, String pipelineId, Variable... variables) {
+    List<com.adobe.aio.cloudmanager.impl.generated.Variable> toSet =
+        Arrays.stream(variables).map((v) -> new com.adobe.aio.cloudmanager.impl.generated.Variable()
+                .name(v.getName())
+                .value(v.getValue())
+                .type(com.adobe.aio.cloudmanager.impl.generated.Variable.TypeEnum.fromValue(v.getVarType().getValue())))
+            .collect(Collectors.toList());
+    return api.setVariables(programId, pipelineId, toSet).thenApply(PipelineApiAsyncImpl::toVariables);
+  }
+
+  private Pipeline wrap(com.adobe.aio.cloudmanager.impl.generated.Pipeline pipeline) {
+    return new PipelineImpl(pipeline, client, client.getExecutionApi());
+  }
+
+  private static Set<Variable> toVariables(VariableList list) {
+    return list.getEmbedded() == null || list.getEmbedded().getVariables() == null ?
+        Collections.emptySet() :
+        list.getEmbedded().getVariables().stream().map(VariableImpl::new).collect(Collectors.toSet());
+  }
+
+  private interface FeignApi {
+    @RequestLine("GET /api/program/{programId}/pipelines")
+    CompletableFuture<PipelineList> list(@Param("programId") String programId);
+
+    @RequestLine("GET /api/program/{programId}/pipeline/{id}")
+    CompletableFuture<com.adobe.aio.cloudmanager.impl.generated.Pipeline> get(@Param("programId") String programId, @Param("id") String id);
+
+    @RequestLine("DELETE /api/program/{programId}/pipeline/{id}")
+    CompletableFuture<Void> delete(@Param("programId") String programId, @Param("id") String id);
+
+    @RequestLine("PATCH /api/program/{programId}/pipeline/{id}")
+    @Headers("Content-Type: application/json")
+    CompletableFuture<com.adobe.aio.cloudmanager.impl.generated.Pipeline> update(@Param("programId") String programId, @Param("id") String id, com.adobe.aio.cloudmanager.impl.generated.Pipeline update);
+
+    @RequestLine("DELETE /api/program/{programId}/pipeline/{id}/cache")
+    CompletableFuture<Void> invalidateCache(@Param("programId") String programId, @Param("id") String id);
+
+    @RequestLine("GET api/program/{programId}/pipeline/{id}/variables")
+    CompletableFuture<VariableList> getVariables(@Param("programId") String programId, @Param("id") String id);
+
+    @RequestLine("PATCH api/program/{programId}/pipeline/{id}/variables")
+    @Headers("Content-Type: application/json")
+    CompletableFuture<VariableList> setVariables(@Param("programId") String programId, @Param("id") String id, List<com.adobe.aio.cloudmanager.impl.generated.Variable> variables);
+  }
+}
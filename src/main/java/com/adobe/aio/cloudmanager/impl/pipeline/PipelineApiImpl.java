@@ -20,7 +20,6 @@ package com.adobe.aio.cloudmanager.impl.pipeline;
  * #L%
  */
 
-import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Arrays;
 import java.util.Collection;
@@ -30,14 +29,12 @@ import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
-import com.adobe.aio.cloudmanager.ApiBuilder;
 import com.adobe.aio.cloudmanager.CloudManagerApiException;
-import com.adobe.aio.cloudmanager.Constants;
 import com.adobe.aio.cloudmanager.Pipeline;
 import com.adobe.aio.cloudmanager.PipelineUpdate;
 import com.adobe.aio.cloudmanager.Program;
 import com.adobe.aio.cloudmanager.Variable;
-import com.adobe.aio.cloudmanager.impl.FeignUtil;
+import com.adobe.aio.cloudmanager.impl.Transport;
 import com.adobe.aio.workspace.Workspace;
 import feign.Headers;
 import feign.Param;
@@ -48,6 +45,7 @@ import com.adobe.aio.cloudmanager.impl.VariableImpl;
 import com.adobe.aio.cloudmanager.impl.generated.PipelineList;
 import com.adobe.aio.cloudmanager.impl.generated.PipelinePhase;
 import com.adobe.aio.cloudmanager.impl.generated.VariableList;
+import com.adobe.aio.cloudmanager.impl.pipeline.execution.PipelineExecutionApiImpl;
 
 public class PipelineApiImpl implements PipelineApi {
 
@@ -55,14 +53,12 @@ public class PipelineApiImpl implements PipelineApi {
   private final PipelineExecutionApi executionApi;
 
   public PipelineApiImpl(Workspace workspace, URL url) {
-    String baseUrl = url == null ? Constants.CLOUD_MANAGER_URL : url.toString();
-    api = FeignUtil.getBuilder(workspace).errorDecoder(new ExceptionDecoder()).target(FeignApi.class, baseUrl);
-    try {
-      executionApi = new ApiBuilder<>(PipelineExecutionApi.class).workspace(workspace).url(new URL(baseUrl)).build();
-    } catch (CloudManagerApiException | MalformedURLException e) {
-      // This shouldn't be possible to reach.
-      throw new RuntimeException(e);
-    }
+    this(new Transport(workspace, url));
+  }
+
+  public PipelineApiImpl(Transport transport) {
+    api = transport.target(FeignApi.class, new ExceptionDecoder());
+    executionApi = new PipelineExecutionApiImpl(transport);
   }
 
   @Override
@@ -99,18 +95,25 @@ public class PipelineApiImpl implements PipelineApi {
         .findFirst()
         .orElseThrow(() -> new CloudManagerApiException(String.format("Pipeline %s does not appear to have a build phase.", pipelineId)));
 
-    if (updates.getBranch() != null) {
-      buildPhase.setBranch(updates.getBranch());
-    }
-
-    if (updates.getRepositoryId() != null) {
-      buildPhase.setRepositoryId(updates.getRepositoryId());
-    }
     com.adobe.aio.cloudmanager.impl.generated.Pipeline toUpdate = new com.adobe.aio.cloudmanager.impl.generated.Pipeline();
-    toUpdate.getPhases().add(buildPhase);
+    toUpdate.getPhases().add(toBuildPhase(buildPhase, updates));
     return new PipelineImpl(api.update(programId, pipelineId, toUpdate), this, executionApi);
   }
 
+  /*
+   * Copies the retrieved phase rather than changing it, as decoded responses may be shared by other callers.
+   */
+  static PipelinePhase toBuildPhase(PipelinePhase phase, PipelineUpdate updates) {
+    return new PipelinePhase()
+        .name(phase.getName())
+        .type(phase.getType())
+        .repositoryId(updates.getRepositoryId() != null ? updates.getRepositoryId() : phase.getRepositoryId())
+        .branch(updates.getBranch() != null ? updates.getBranch() : phase.getBranch())
+        .environmentId(phase.getEnvironmentId())
+        .environmentType(phase.getEnvironmentType())
+        .steps(phase.getSteps());
+  }
+
   @Override
   public Pipeline update(Pipeline pipeline, PipelineUpdate updates) throws CloudManagerApiException {
     return update(pipeline.getProgramId(), pipeline.getId(), updates);
@@ -163,6 +166,10 @@ public class PipelineApiImpl implements PipelineApi {
     return listDetails(programId, predicate);
   }
 
+  PipelineExecutionApi getExecutionApi() {
+    return executionApi;
+  }
+
   private Collection<Pipeline> listDetails(String programId, Predicate<Pipeline> predicate) throws CloudManagerApiException {
     PipelineList list = api.list(programId);
     if (list.getEmbedded() == null || list.getEmbedded().getPipelines() == null) {
@@ -0,0 +1,102 @@
+package com.adobe.aio.cloudmanager.impl.pipeline.execution;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.DownloadListener;
+import com.adobe.aio.cloudmanager.PipelineExecution;
+import com.adobe.aio.cloudmanager.PipelineExecutionStepState;
+import com.adobe.aio.cloudmanager.impl.Downloader;
+import com.adobe.aio.cloudmanager.impl.Transport;
+import com.adobe.aio.cloudmanager.impl.generated.Redirect;
+import feign.Param;
+import feign.RequestLine;
+
+/**
+ * Downloads the artifacts of a step, several at a time.
+ * <p>
+ * Artifacts already on disk with the listed hash are skipped before their redirect is resolved. Others cost one redirect and one transfer,
+ * neither of which holds a thread, and are verified against the listed hash as they are received.
+ */
+class ArtifactDownloader {
+
+  static final int DEFAULT_PARALLELISM = 4;
+
+  private static final String DIRECTORY_ERROR = "Cannot create directory %s for pipeline %s, execution %s, step '%s' (Cause: %s).";
+  private static final String DOWNLOAD_ERROR = "Cannot download artifact %s for pipeline %s, execution %s, step '%s' to %s (Cause: %s).";
+
+  private final FeignApi api;
+  private final Downloader downloader;
+
+  ArtifactDownloader(Transport transport, Downloader downloader) {
+    this.api = transport.targetAsync(FeignApi.class, new ExceptionDecoder());
+    this.downloader = downloader;
+  }
+
+  CompletableFuture<Collection<File>> download(PipelineExecution execution, PipelineExecutionStepState step, List<ArtifactImpl> artifacts, File dir, int parallelism, DownloadListener listener) {
+    CompletableFuture<List<File>> files;
+    try {
+      Files.createDirectories(dir.toPath());
+      files = Downloader.forEach(artifacts, parallelism, artifact -> download(execution, step, artifact, dir, listener));
+    } catch (IOException e) {
+      files = CompletableFuture.failedFuture(new CloudManagerApiException(String.format(DIRECTORY_ERROR, dir, execution.getPipelineId(), execution.getId(), step.getStepAction(), e.getClass().getName())));
+    }
+    return files.thenApply(ArrayList::new);
+  }
+
+  private CompletableFuture<File> download(PipelineExecution execution, PipelineExecutionStepState step, ArtifactImpl artifact, File dir, DownloadListener listener) {
+    File file = new File(dir, artifact.getFileName());
+    if (Downloader.matches(file, artifact.getMd5())) {
+      listener.skipped(file);
+      return CompletableFuture.completedFuture(file);
+    }
+    return api.getArtifact(execution.getProgramId(), execution.getPipelineId(), execution.getId(), step.getPhaseId(), step.getStepId(), artifact.getId())
+        .thenCompose(redirect -> {
+          if (redirect == null || StringUtils.isBlank(redirect.getRedirect())) {
+            throw new CompletionException(new CloudManagerApiException(String.format(PipelineExecutionApiImpl.ARTIFACT_REDIRECT_ERROR, execution.getId(), step.getPhaseId(), step.getStepId())));
+          }
+          return downloader.download(redirect.getRedirect(), file, artifact.getMd5(), listener).handle((f, t) -> {
+            if (t != null) {
+              Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+              throw new CompletionException(new CloudManagerApiException(String.format(DOWNLOAD_ERROR, artifact.getId(), execution.getPipelineId(), execution.getId(), step.getStepAction(), file, cause.getClass().getName())));
+            }
+            return f;
+          });
+        });
+  }
+
+  private interface FeignApi {
+
+    @RequestLine("GET /api/program/{programId}/pipeline/{pipelineId}/execution/{executionId}/phase/{phaseId}/step/{stepId}/artifact/{id}")
+    CompletableFuture<Redirect> getArtifact(@Param("programId") String programId, @Param("pipelineId") String pipelineId, @Param("executionId") String executionId, @Param("phaseId") String phaseId, @Param("stepId") String stepId, @Param("id") String id);
+  }
+}
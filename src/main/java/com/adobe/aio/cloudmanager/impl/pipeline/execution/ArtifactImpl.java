@@ -20,12 +20,16 @@ package com.adobe.aio.cloudmanager.impl.pipeline.execution;
  * #L%
  */
 
+import java.io.File;
+import java.util.Collections;
+
 import org.apache.commons.io.FilenameUtils;
 
 import com.adobe.aio.cloudmanager.Artifact;
 import com.adobe.aio.cloudmanager.CloudManagerApiException;
-import com.adobe.aio.cloudmanager.PipelineExecutionApi;
+import com.adobe.aio.cloudmanager.DownloadListener;
 import com.adobe.aio.cloudmanager.PipelineExecutionStepState;
+import com.adobe.aio.cloudmanager.impl.Downloader;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
@@ -37,13 +41,13 @@ public class ArtifactImpl implements Artifact {
 
   @ToString.Exclude
   @EqualsAndHashCode.Exclude
-  private final PipelineExecutionApi client;
+  private final PipelineExecutionApiAsyncImpl client;
 
   @ToString.Exclude
   @EqualsAndHashCode.Exclude
   private final PipelineExecutionStepState step;
 
-  public ArtifactImpl(com.adobe.aio.cloudmanager.impl.generated.Artifact delegate, PipelineExecutionApi client, PipelineExecutionStepState step) {
+  public ArtifactImpl(com.adobe.aio.cloudmanager.impl.generated.Artifact delegate, PipelineExecutionApiAsyncImpl client, PipelineExecutionStepState step) {
     this.delegate = delegate;
     this.client = client;
     this.step = step;
@@ -71,6 +75,12 @@ public class ArtifactImpl implements Artifact {
 
   @Override
   public String getDownloadUrl() throws CloudManagerApiException {
-    return client.getArtifactDownloadUrl(step, getId());
+    return Downloader.await(client.getArtifactDownloadUrl(step, getId()));
+  }
+
+  @Override
+  public File download(File dir) throws CloudManagerApiException {
+    return Downloader.await(client.getArtifactDownloader().download(step.getExecution(), step, Collections.singletonList(this), dir, 1, DownloadListener.NONE))
+        .iterator().next();
   }
 }
@@ -0,0 +1,67 @@
+package com.adobe.aio.cloudmanager.impl.pipeline.execution;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.util.concurrent.CompletableFuture;
+
+import com.adobe.aio.cloudmanager.impl.ExecutionCache;
+import com.adobe.aio.cloudmanager.impl.Transport;
+import com.adobe.aio.cloudmanager.impl.generated.PipelineExecution;
+import com.adobe.aio.cloudmanager.impl.generated.PipelineExecutionStepState;
+import feign.Param;
+import feign.RequestLine;
+
+/**
+ * Retrieves the objects referenced by events.
+ * <p>
+ * Lookups of the same execution or step state which overlap share one request through the transport, while each caller decodes its own copy.
+ * Executions which have ended are served from the execution cache.
+ */
+class EventObjectResolver {
+
+  private final FeignApi api;
+  private final ExecutionCache cache;
+
+  EventObjectResolver(Transport transport, ExecutionCache cache) {
+    this.api = transport.targetAsync(FeignApi.class, new ExceptionDecoder());
+    this.cache = cache;
+  }
+
+  CompletableFuture<PipelineExecution> getExecution(String path) {
+    PipelineExecution cached = cache.get(path);
+    if (cached != null) {
+      return CompletableFuture.completedFuture(cached);
+    }
+    return api.get(path).thenApply(cache::put);
+  }
+
+  CompletableFuture<PipelineExecutionStepState> getStepState(String path) {
+    return api.getStepState(path);
+  }
+
+  private interface FeignApi {
+
+    @RequestLine("GET {path}")
+    CompletableFuture<PipelineExecution> get(@Param("path") String url);
+
+    @RequestLine("GET {path}")
+    CompletableFuture<PipelineExecutionStepState> getStepState(@Param("path") String url);
+  }
+}
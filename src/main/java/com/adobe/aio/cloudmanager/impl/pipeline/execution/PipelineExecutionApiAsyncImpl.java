@@ -0,0 +1,297 @@
+package com.adobe.aio.cloudmanager.impl.pipeline.execution;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.io.File;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.adobe.aio.cloudmanager.Artifact;
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.DownloadListener;
+import com.adobe.aio.cloudmanager.Metric;
+import com.adobe.aio.cloudmanager.PipelineExecution;
+import com.adobe.aio.cloudmanager.PipelineExecutionApiAsync;
+import com.adobe.aio.cloudmanager.PipelineExecutionStepState;
+import com.adobe.aio.cloudmanager.StepAction;
+import com.adobe.aio.cloudmanager.impl.Downloader;
+import com.adobe.aio.cloudmanager.impl.ExecutionCache;
+import com.adobe.aio.cloudmanager.impl.MetricImpl;
+import com.adobe.aio.cloudmanager.impl.Transport;
+import com.adobe.aio.cloudmanager.impl.generated.ArtifactList;
+import com.adobe.aio.cloudmanager.impl.generated.PipelineExecutionListRepresentation;
+import com.adobe.aio.cloudmanager.impl.generated.PipelineStepMetrics;
+import com.adobe.aio.cloudmanager.impl.generated.Redirect;
+import feign.Body;
+import feign.Headers;
+import feign.Param;
+import feign.RequestLine;
+
+public class PipelineExecutionApiAsyncImpl implements PipelineExecutionApiAsync {
+
+  private final FeignApi api;
+  private final ExecutionCache cache;
+  private final Downloader downloader;
+  private final StepLogDownloader stepLogDownloader;
+  private final ArtifactDownloader artifactDownloader;
+
+  public PipelineExecutionApiAsyncImpl(Transport transport) {
+    api = transport.targetAsync(FeignApi.class, new ExceptionDecoder());
+    cache = transport.getExecutionCache();
+    downloader = new Downloader(transport.getHttpClient());
+    stepLogDownloader = new StepLogDownloader(transport, downloader);
+    artifactDownloader = new ArtifactDownloader(transport, downloader);
+  }
+
+  @Override
+  public CompletableFuture<Optional<PipelineExecution>> getCurrent(String programId, String pipelineId) {
+    return api.current(programId, pipelineId).handle((current, t) -> {
+      if (t == null) {
+        return CompletableFuture.completedFuture(Optional.<PipelineExecution>of(wrap(cache.put(current))));
+      }
+      Throwable cause = t instanceof CompletionException ? t.getCause() : t;
+      if (cause instanceof CurrentNotFoundException) {
+        return CompletableFuture.completedFuture(Optional.<PipelineExecution>empty());
+      }
+      return CompletableFuture.<Optional<PipelineExecution>>failedFuture(cause);
+    }).thenCompose(Function.identity());
+  }
+
+  @Override
+  public CompletableFuture<PipelineExecution> start(String programId, String pipelineId) {
+    return api.start(programId, pipelineId).thenApply(this::wrap);
+  }
+
+  @Override
+  public CompletableFuture<PipelineExecution> get(String programId, String pipelineId, String executionId) {
+    return getActual(programId, pipelineId, executionId).thenApply(Function.identity());
+  }
+
+  @Override
+  public CompletableFuture<PipelineExecutionStepState> getStepState(PipelineExecution execution, StepAction action) {
+    return getActual(execution.getProgramId(), execution.getPipelineId(), execution.getId())
+        .thenCompose(actual -> call(() -> PipelineExecutionApiImpl.getStepStateDetail(actual, action)));
+  }
+
+  @Override
+  public CompletableFuture<Void> advance(String programId, String pipelineId, String executionId) {
+    return getActual(programId, pipelineId, executionId).thenCompose(this::advance);
+  }
+
+  @Override
+  public CompletableFuture<Void> cancel(String programId, String pipelineId, String executionId) {
+    return getActual(programId, pipelineId, executionId).thenCompose(this::cancel);
+  }
+
+  @Override
+  public CompletableFuture<String> getStepLogDownloadUrl(String programId, String pipelineId, String executionId, StepAction action) {
+    return getStepLogDownloadUrl(programId, pipelineId, executionId, action, null);
+  }
+
+  @Override
+  public CompletableFuture<String> getStepLogDownloadUrl(String programId, String pipelineId, String executionId, StepAction action, String name) {
+    return getActual(programId, pipelineId, executionId).thenCompose(actual -> call(() -> PipelineExecutionApiImpl.getStepStateDetail(actual, action)).thenCompose(step -> {
+      CompletableFuture<Redirect> redirect = StringUtils.isBlank(name) ?
+          api.getLogs(programId, pipelineId, executionId, step.getPhaseId(), step.getStepId()) :
+          api.getLogs(programId, pipelineId, executionId, step.getPhaseId(), step.getStepId(), name);
+      return redirect.thenApply(r -> {
+        if (r != null && StringUtils.isNotBlank(r.getRedirect())) {
+          return r.getRedirect();
+        }
+        throw new CompletionException(new CloudManagerApiException(String.format(PipelineExecutionApiImpl.EXECUTION_LOG_REDIRECT_ERROR, executionId, action.name())));
+      });
+    }));
+  }
+
+  @Override
+  public CompletableFuture<Collection<File>> downloadAllLogs(PipelineExecution execution, File dir, int parallelism, DownloadListener listener) {
+    CompletableFuture<PipelineExecutionImpl> snapshot = execution instanceof PipelineExecutionImpl ?
+        CompletableFuture.completedFuture((PipelineExecutionImpl) execution) :
+        getActual(execution.getProgramId(), execution.getPipelineId(), execution.getId());
+    return snapshot.thenCompose(actual -> stepLogDownloader.download(actual, dir, parallelism, listener));
+  }
+
+  @Override
+  public CompletableFuture<Collection<Metric>> getQualityGateResults(PipelineExecution execution, StepAction action) {
+    return getActual(execution.getProgramId(), execution.getPipelineId(), execution.getId())
+        .thenCompose(actual -> call(() -> PipelineExecutionApiImpl.getStepStateDetail(actual, action)))
+        .thenCompose(this::getMetrics);
+  }
+
+  @Override
+  public CompletableFuture<Collection<PipelineExecution>> list(String programId, String pipelineId) {
+    return api.list(programId, pipelineId).thenApply(this::toExecutions);
+  }
+
+  @Override
+  public CompletableFuture<Collection<PipelineExecution>> list(String programId, String pipelineId, int start, int limit) {
+    return api.list(programId, pipelineId, start, limit).thenApply(this::toExecutions);
+  }
+
+  @Override
+  public CompletableFuture<Collection<Artifact>> listArtifacts(PipelineExecutionStepState step) {
+    return call(step::getExecution).thenCompose(execution ->
+        api.listArtifacts(execution.getProgramId(), execution.getPipelineId(), execution.getId(), step.getPhaseId(), step.getStepId())
+    ).thenApply(list -> list.getEmbedded() == null || list.getEmbedded().getArtifacts() == null ?
+        Collections.emptyList() :
+        list.getEmbedded().getArtifacts().stream().map(a -> new ArtifactImpl(a, this, step)).collect(Collectors.toList()));
+  }
+
+  @Override
+  public CompletableFuture<Collection<File>> downloadArtifacts(PipelineExecutionStepState step, File dir, int parallelism, DownloadListener listener) {
+    return call(step::getExecution).thenCompose(execution -> listArtifacts(step).thenCompose(artifacts -> artifactDownloader.download(
+        execution, step, artifacts.stream().map(ArtifactImpl.class::cast).collect(Collectors.toList()), dir, parallelism, listener)));
+  }
+
+  @Override
+  public CompletableFuture<String> getArtifactDownloadUrl(PipelineExecutionStepState step, String artifactId) {
+    return call(step::getExecution).thenCompose(execution ->
+        api.getArtifact(execution.getProgramId(), execution.getPipelineId(), execution.getId(), step.getPhaseId(), step.getStepId(), artifactId).thenApply(redirect -> {
+          if (redirect != null && StringUtils.isNotBlank(redirect.getRedirect())) {
+            return redirect.getRedirect();
+          }
+          throw new CompletionException(new CloudManagerApiException(String.format(PipelineExecutionApiImpl.ARTIFACT_REDIRECT_ERROR, execution.getId(), step.getPhaseId(), step.getStepId())));
+        }));
+  }
+
+  // Helper methods.
+
+  Downloader getDownloader() {
+    return downloader;
+  }
+
+  StepLogDownloader getStepLogDownloader() {
+    return stepLogDownloader;
+  }
+
+  ArtifactDownloader getArtifactDownloader() {
+    return artifactDownloader;
+  }
+
+  CompletableFuture<Void> advance(PipelineExecutionImpl actual) {
+    return call(() -> PipelineExecutionApiImpl.getWaitingStep(actual)).thenCompose(waiting -> {
+      CompletableFuture<Collection<Metric>> metrics = StepAction.approval == waiting.getStepAction() ?
+          CompletableFuture.completedFuture(Collections.emptyList()) :
+          call(() -> PipelineExecutionApiImpl.getStepStateDetail(actual, StepAction.codeQuality)).thenCompose(this::getMetrics);
+      return metrics
+          .thenCompose(m -> call(() -> waiting.getAdvanceBody(m)))
+          .thenCompose(body -> api.advance(actual.getProgramId(), actual.getPipelineId(), actual.getId(), waiting.getPhaseId(), waiting.getStepId(), body));
+    });
+  }
+
+  CompletableFuture<Void> cancel(PipelineExecutionImpl actual) {
+    return call(() -> PipelineExecutionApiImpl.getCancelableStep(actual)).thenCompose(step ->
+        call(step::getCancelBody).thenCompose(body -> api.cancel(actual.getProgramId(), actual.getPipelineId(), actual.getId(), step.getPhaseId(), step.getStepId(), body)));
+  }
+
+  private CompletableFuture<PipelineExecutionImpl> getActual(String programId, String pipelineId, String executionId) {
+    com.adobe.aio.cloudmanager.impl.generated.PipelineExecution cached = cache.get(ExecutionCache.path(programId, pipelineId, executionId));
+    if (cached != null) {
+      return CompletableFuture.completedFuture(wrap(cached));
+    }
+    return api.get(programId, pipelineId, executionId).thenApply(pe -> wrap(cache.put(pe)));
+  }
+
+  private CompletableFuture<Collection<Metric>> getMetrics(PipelineExecutionStepStateImpl step) {
+    PipelineExecution execution = step.getExecution();
+    String path = ExecutionCache.path(execution.getProgramId(), execution.getPipelineId(), execution.getId());
+    PipelineStepMetrics cached = cache.getMetrics(path, step.getPhaseId(), step.getStepId());
+    CompletableFuture<PipelineStepMetrics> metrics = cached != null ?
+        CompletableFuture.completedFuture(cached) :
+        api.getStepMetrics(execution.getProgramId(), execution.getPipelineId(), execution.getId(), step.getPhaseId(), step.getStepId())
+            .thenApply(psm -> cache.putMetrics(path, step.getPhaseId(), step.getStepId(), psm));
+    return metrics
+        .thenApply(psm -> psm.getMetrics() == null || psm.getMetrics().isEmpty() ?
+            Collections.emptyList() :
+            psm.getMetrics().stream().map(MetricImpl::new).collect(Collectors.toList()));
+  }
+
+  private PipelineExecutionImpl wrap(com.adobe.aio.cloudmanager.impl.generated.PipelineExecution execution) {
+    return new PipelineExecutionImpl(execution, this);
+  }
+
+  private Collection<PipelineExecution> toExecutions(PipelineExecutionListRepresentation list) {
+    return list.getEmbedded() == null || list.getEmbedded().getExecutions() == null ?
+        Collections.emptyList() :
+        list.getEmbedded().getExecutions().stream().map(this::wrap).collect(Collectors.toList());
+  }
+
+  /*
+   * Adapts a local, possibly failing, computation to a future so it can be chained with remote calls.
+   */
+  private static <T> CompletableFuture<T> call(Callable<T> callable) {
+    try {
+      return CompletableFuture.completedFuture(callable.call());
+    } catch (Exception e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private interface FeignApi {
+
+    @RequestLine("GET /api/program/{programId}/pipeline/{pipelineId}/execution")
+    CompletableFuture<com.adobe.aio.cloudmanager.impl.generated.PipelineExecution> current(@Param("programId") String programId, @Param("pipelineId") String pipelineId);
+
+    @RequestLine("PUT /api/program/{programId}/pipeline/{pipelineId}/execution")
+    CompletableFuture<com.adobe.aio.cloudmanager.impl.generated.PipelineExecution> start(@Param("programId") String programId, @Param("pipelineId") String pipelineId);
+
+    @RequestLine("GET /api/program/{programId}/pipeline/{pipelineId}/execution/{id}")
+    CompletableFuture<com.adobe.aio.cloudmanager.impl.generated.PipelineExecution> get(@Param("programId") String programId, @Param("pipelineId") String pipelineId, @Param("id") String id);
+
+    @RequestLine("PUT /api/program/{programId}/pipeline/{pipelineId}/execution/{executionId}/phase/{phaseId}/step/{stepId}/advance")
+    @Headers("Content-Type: application/json")
+    @Body("{body}")
+    CompletableFuture<Void> advance(@Param("programId") String programId, @Param("pipelineId") String pipelineId, @Param("executionId") String executionId, @Param("phaseId") String phaseId, @Param("stepId") String stepId, @Param("body") String body);
+
+    @RequestLine("PUT /api/program/{programId}/pipeline/{pipelineId}/execution/{executionId}/phase/{phaseId}/step/{stepId}/cancel")
+    @Headers("Content-Type: application/json")
+    @Body("{body}")
+    CompletableFuture<Void> cancel(@Param("programId") String programId, @Param("pipelineId") String pipelineId, @Param("executionId") String executionId, @Param("phaseId") String phaseId, @Param("stepId") String stepId, @Param("body") String body);
+
+    @RequestLine("GET /api/program/{programId}/pipeline/{pipelineId}/execution/{executionId}/phase/{phaseId}/step/{stepId}/logs")
+    CompletableFuture<Redirect> getLogs(@Param("programId") String programId, @Param("pipelineId") String pipelineId, @Param("executionId") String executionId, @Param("phaseId") String phaseId, @Param("stepId") String stepId);
+
+    @RequestLine("GET /api/program/{programId}/pipeline/{pipelineId}/execution/{executionId}/phase/{phaseId}/step/{stepId}/logs?file={filename}")
+    CompletableFuture<Redirect> getLogs(@Param("programId") String programId, @Param("pipelineId") String pipelineId, @Param("executionId") String executionId, @Param("phaseId") String phaseId, @Param("stepId") String stepId, @Param("filename") String filename);
+
+    @RequestLine("GET /api/program/{programId}/pipeline/{pipelineId}/execution/{executionId}/phase/{phaseId}/step/{stepId}/metrics")
+    CompletableFuture<PipelineStepMetrics> getStepMetrics(@Param("programId") String programId, @Param("pipelineId") String pipelineId, @Param("executionId") String executionId, @Param("phaseId") String phaseId, @Param("stepId") String stepId);
+
+    @RequestLine("GET /api/program/{programId}/pipeline/{pipelineId}/executions")
+    CompletableFuture<PipelineExecutionListRepresentation> list(@Param("programId") String programId, @Param("pipelineId") String pipelineId);
+
+    @RequestLine("GET /api/program/{programId}/pipeline/{pipelineId}/executions?start={start}&limit={limit}")
+    CompletableFuture<PipelineExecutionListRepresentation> list(@Param("programId") String programId, @Param("pipelineId") String pipelineId, @Param("start") int start, @Param("limit") int limit);
+
+    @RequestLine("GET /api/program/{programId}/pipeline/{pipelineId}/execution/{executionId}/phase/{phaseId}/step/{stepId}/artifacts")
+    CompletableFuture<ArtifactList> listArtifacts(@Param("programId") String programId, @Param("pipelineId") String pipelineId, @Param("executionId") String executionId, @Param("phaseId") String phaseId, @Param("stepId") String stepId);
+
+    @RequestLine("GET /api/program/{programId}/pipeline/{pipelineId}/execution/{executionId}/phase/{phaseId}/step/{stepId}/artifact/{id}")
+    CompletableFuture<Redirect> getArtifact(@Param("programId") String programId, @Param("pipelineId") String pipelineId, @Param("executionId") String executionId, @Param("phaseId") String phaseId, @Param("stepId") String stepId, @Param("id") String id);
+  }
+}
@@ -20,48 +20,54 @@ package com.adobe.aio.cloudmanager.impl.pipeline.execution;
  * #L%
  */
 
+import java.io.File;
+import java.io.IOException;
 import java.net.URL;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Predicate;
+import java.util.concurrent.CompletableFuture;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.validation.constraints.NotNull;
 
 import org.apache.commons.lang3.StringUtils;
 
 import com.adobe.aio.cloudmanager.Artifact;
 import com.adobe.aio.cloudmanager.CloudManagerApiException;
-import com.adobe.aio.cloudmanager.Constants;
+import com.adobe.aio.cloudmanager.DownloadListener;
 import com.adobe.aio.cloudmanager.Metric;
 import com.adobe.aio.cloudmanager.Pipeline;
 import com.adobe.aio.cloudmanager.PipelineExecution;
 import com.adobe.aio.cloudmanager.PipelineExecutionEvent;
 import com.adobe.aio.cloudmanager.PipelineExecutionStepState;
 import com.adobe.aio.cloudmanager.StepAction;
+import com.adobe.aio.cloudmanager.impl.ExecutionCache;
 import com.adobe.aio.cloudmanager.impl.FeignUtil;
 import com.adobe.aio.cloudmanager.impl.MetricImpl;
-import com.adobe.aio.cloudmanager.impl.generated.event.PipelineExecutionEndEvent;
-import com.adobe.aio.cloudmanager.impl.generated.event.PipelineExecutionStartEvent;
-import com.adobe.aio.cloudmanager.impl.generated.event.PipelineExecutionStepEndEvent;
-import com.adobe.aio.cloudmanager.impl.generated.event.PipelineExecutionStepStartEvent;
-import com.adobe.aio.cloudmanager.impl.generated.event.PipelineExecutionStepWaitingEvent;
+import com.adobe.aio.cloudmanager.impl.Downloader;
+import com.adobe.aio.cloudmanager.impl.PageIterator;
+import com.adobe.aio.cloudmanager.impl.Transport;
+import com.adobe.aio.cloudmanager.impl.generated.event.PipelineExecutionEndEventEvent;
+import com.adobe.aio.cloudmanager.impl.generated.event.PipelineExecutionStartEventEvent;
+import com.adobe.aio.cloudmanager.impl.generated.event.PipelineExecutionStepStartEventEvent;
 import com.adobe.aio.event.webhook.service.EventVerifier;
 import com.adobe.aio.workspace.Workspace;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.jayway.jsonpath.JsonPath;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserSequence;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import feign.Body;
 import feign.Headers;
 import feign.Param;
 import feign.RequestLine;
 import com.adobe.aio.cloudmanager.PipelineExecutionApi;
 import com.adobe.aio.cloudmanager.impl.generated.ArtifactList;
-import com.adobe.aio.cloudmanager.impl.generated.PipelineExecutionEmbedded;
 import com.adobe.aio.cloudmanager.impl.generated.PipelineExecutionListRepresentation;
 import com.adobe.aio.cloudmanager.impl.generated.PipelineStepMetrics;
 import com.adobe.aio.cloudmanager.impl.generated.Redirect;
@@ -73,27 +79,41 @@ public class PipelineExecutionApiImpl implements PipelineExecutionApi {
   private static final String ENDED_EVENT_TYPE = "https://ns.adobe.com/experience/cloudmanager/event/ended";
   private static final String PIPELINE_EXECUTION_TYPE = "https://ns.adobe.com/experience/cloudmanager/pipeline-execution";
   private static final String PIPELINE_STEP_STATE_TYPE = "https://ns.adobe.com/experience/cloudmanager/execution-step-state";
-  private static final String EXECUTION_LOG_REDIRECT_ERROR = "Log redirect for execution %s, action '%s' did not exist.";
-  private static final String ARTIFACT_REDIRECT_ERROR = "Artifact redirect for execution %s, phase %s, step %s did not exist.";
+  private static final String EVENT_FIELD = "event";
+  private static final String EVENT_TYPE_FIELD = "@type";
+  private static final String OBJECT_TYPE_FIELD = "xdmEventEnvelope:objectType";
+  private static final String UNKNOWN_EVENT_ERROR = "Unknown event/object types (Event: '%s', Object: '%s').";
+  private static final String PROCESS_EVENT_ERROR = "Unable to process event: %s";
+  static final String EXECUTION_LOG_REDIRECT_ERROR = "Log redirect for execution %s, action '%s' did not exist.";
+  static final String ARTIFACT_REDIRECT_ERROR = "Artifact redirect for execution %s, phase %s, step %s did not exist.";
+  private static final Pattern API_PATH = Pattern.compile("^.*(/api.*)$");
+  private static final Pattern STEP_STATE_PATH = Pattern.compile("^(/api/program/[^/]+/pipeline/[^/]+/execution/[^/]+)/phase/([^/]+)/step/([^/]+)$");
 
   private final Workspace workspace;
   private final EventVerifier verifier;
-  private final ObjectMapper mapper;
   private final FeignApi api;
+  private final ExecutionCache cache;
+  private final EventObjectResolver resolver;
+  private final PipelineExecutionApiAsyncImpl async;
 
   public PipelineExecutionApiImpl(Workspace workspace, URL url) {
-    this.workspace = workspace;
-    mapper = FeignUtil.getMapper();
+    this(new Transport(workspace, url));
+  }
+
+  public PipelineExecutionApiImpl(Transport transport) {
+    this.workspace = transport.getWorkspace();
     verifier = new EventVerifier();
-    String baseUrl = url == null ? Constants.CLOUD_MANAGER_URL : url.toString();
-    api = FeignUtil.getBuilder(workspace).errorDecoder(new ExceptionDecoder()).target(FeignApi.class, baseUrl);
+    api = transport.target(FeignApi.class, new ExceptionDecoder());
+    cache = transport.getExecutionCache();
+    resolver = new EventObjectResolver(transport, cache);
+    async = new PipelineExecutionApiAsyncImpl(transport);
   }
 
   @Override
   public Optional<PipelineExecution> getCurrent(String programId, String pipelineId) throws CloudManagerApiException {
     try {
-      com.adobe.aio.cloudmanager.impl.generated.PipelineExecution current = api.current(programId, pipelineId);
-      return Optional.of(new PipelineExecutionImpl(current, this));
+      com.adobe.aio.cloudmanager.impl.generated.PipelineExecution current = cache.put(api.current(programId, pipelineId));
+      return Optional.of(new PipelineExecutionImpl(current, async));
     } catch (CurrentNotFoundException ex) {
       return Optional.empty();
     }
@@ -106,7 +126,7 @@ public class PipelineExecutionApiImpl implements PipelineExecutionApi {
 
   @Override
   public PipelineExecution start(String programId, String pipelineId) throws CloudManagerApiException {
-    return new PipelineExecutionImpl(api.start(programId, pipelineId), this);
+    return new PipelineExecutionImpl(api.start(programId, pipelineId), async);
   }
 
   @Override
@@ -116,7 +136,8 @@ public class PipelineExecutionApiImpl implements PipelineExecutionApi {
 
   @Override
   public PipelineExecutionImpl get(String programId, String pipelineId, String executionId) throws CloudManagerApiException {
-    return new PipelineExecutionImpl(api.get(programId, pipelineId, executionId), this);
+    com.adobe.aio.cloudmanager.impl.generated.PipelineExecution cached = cache.get(ExecutionCache.path(programId, pipelineId, executionId));
+    return new PipelineExecutionImpl(cached == null ? cache.put(api.get(programId, pipelineId, executionId)) : cached, async);
   }
 
   @Override
@@ -126,8 +147,12 @@ public class PipelineExecutionApiImpl implements PipelineExecutionApi {
 
   @Override
   public PipelineExecutionStepStateImpl getStepState(PipelineExecution execution, StepAction action) throws CloudManagerApiException {
-    PipelineExecutionImpl actual = get(execution.getProgramId(), execution.getPipelineId(), execution.getId());
-    return getStepStateDetail(actual, action);
+    return getStepState(execution, action, Duration.ZERO);
+  }
+
+  @Override
+  public PipelineExecutionStepStateImpl getStepState(PipelineExecution execution, StepAction action, Duration maxAge) throws CloudManagerApiException {
+    return getStepStateDetail(getActual(execution, maxAge), action);
   }
 
   @Override
@@ -140,6 +165,11 @@ public class PipelineExecutionApiImpl implements PipelineExecutionApi {
     advance(execution.getProgramId(), execution.getPipelineId(), execution.getId());
   }
 
+  @Override
+  public void advance(PipelineExecution execution, Duration maxAge) throws CloudManagerApiException {
+    internalAdvance(getActual(execution, maxAge));
+  }
+
   @Override
   public void cancel(String programId, String pipelineId, String executionId) throws CloudManagerApiException {
     internalCancel(get(programId, pipelineId, executionId));
@@ -150,6 +180,11 @@ public class PipelineExecutionApiImpl implements PipelineExecutionApi {
     cancel(execution.getProgramId(), execution.getPipelineId(), execution.getId());
   }
 
+  @Override
+  public void cancel(PipelineExecution execution, Duration maxAge) throws CloudManagerApiException {
+    internalCancel(getActual(execution, maxAge));
+  }
+
   @Override
   public String getStepLogDownloadUrl(String programId, String pipelineId, String executionId, StepAction action) throws CloudManagerApiException {
     return getStepLogDownloadUrl(programId, pipelineId, executionId, action, null);
@@ -171,10 +206,28 @@ public class PipelineExecutionApiImpl implements PipelineExecutionApi {
     return getStepLogDownloadUrl(execution.getProgramId(), execution.getPipelineId(), execution.getId(), action, name);
   }
 
+  @Override
+  public Collection<File> downloadAllLogs(PipelineExecution execution, File dir, int parallelism, DownloadListener listener) throws CloudManagerApiException {
+    PipelineExecutionImpl snapshot = execution instanceof PipelineExecutionImpl ? (PipelineExecutionImpl) execution : get(execution.getProgramId(), execution.getPipelineId(), execution.getId());
+    return Downloader.await(async.getStepLogDownloader().download(snapshot, dir, parallelism, listener));
+  }
+
   @Override
   public Collection<Metric> getQualityGateResults(PipelineExecution execution, StepAction action) throws CloudManagerApiException {
-    PipelineExecutionStepStateImpl step = getStepState(execution, action);
-    PipelineStepMetrics psm = api.getStepMetrics(execution.getProgramId(), execution.getPipelineId(), execution.getId(), step.getPhaseId(), step.getStepId());
+    return getQualityGateResults(execution, action, Duration.ZERO);
+  }
+
+  @Override
+  public Collection<Metric> getQualityGateResults(PipelineExecution execution, StepAction action, Duration maxAge) throws CloudManagerApiException {
+    return getSnapshotQualityGateResults(getActual(execution, maxAge), action);
+  }
+
+  /*
+   * Reads the results for the step in the snapshot, without retrieving the execution again.
+   */
+  private Collection<Metric> getSnapshotQualityGateResults(PipelineExecutionImpl snapshot, StepAction action) throws CloudManagerApiException {
+    PipelineExecutionStepStateImpl step = getStepStateDetail(snapshot, action);
+    PipelineStepMetrics psm = getStepMetrics(snapshot.getProgramId(), snapshot.getPipelineId(), snapshot.getId(), step.getPhaseId(), step.getStepId());
     return psm.getMetrics() == null || psm.getMetrics().isEmpty() ?
         Collections.emptyList() :
         psm.getMetrics().stream().map(MetricImpl::new).collect(Collectors.toList());
@@ -186,7 +239,7 @@ public class PipelineExecutionApiImpl implements PipelineExecutionApi {
 
     return list.getEmbedded() == null || list.getEmbedded().getExecutions() == null ?
         Collections.emptyList() :
-        list.getEmbedded().getExecutions().stream().map(pe -> new PipelineExecutionImpl(pe, this)).collect(Collectors.toList());
+        list.getEmbedded().getExecutions().stream().map(pe -> new PipelineExecutionImpl(pe, async)).collect(Collectors.toList());
   }
 
   @Override
@@ -209,7 +262,7 @@ public class PipelineExecutionApiImpl implements PipelineExecutionApi {
     PipelineExecutionListRepresentation list = api.list(programId, pipelineId, start, limit);
     return list.getEmbedded() == null || list.getEmbedded().getExecutions() == null ?
         Collections.emptyList() :
-        list.getEmbedded().getExecutions().stream().map(pe -> new PipelineExecutionImpl(pe, this)).collect(Collectors.toList());
+        list.getEmbedded().getExecutions().stream().map(pe -> new PipelineExecutionImpl(pe, async)).collect(Collectors.toList());
   }
 
   @Override
@@ -217,12 +270,33 @@ public class PipelineExecutionApiImpl implements PipelineExecutionApi {
     return list(pipeline.getProgramId(), pipeline.getId(), start, limit);
   }
 
+  @Override
+  public Stream<PipelineExecution> stream(String programId, String pipelineId, int pageSize) throws CloudManagerApiException {
+    return PageIterator.stream((start, limit) -> async.list(programId, pipelineId, start, limit), pageSize);
+  }
+
+  @Override
+  public Stream<PipelineExecution> stream(Pipeline pipeline, int pageSize) throws CloudManagerApiException {
+    return stream(pipeline.getProgramId(), pipeline.getId(), pageSize);
+  }
+
   @Override
   public Collection<Artifact> listArtifacts(PipelineExecutionStepState step) throws CloudManagerApiException {
     ArtifactList list = api.listArtifacts(step.getExecution().getProgramId(), step.getExecution().getPipelineId(), step.getExecution().getId(), step.getPhaseId(), step.getStepId());
     return list.getEmbedded() == null || list.getEmbedded().getArtifacts() == null ?
         Collections.emptyList() :
-        list.getEmbedded().getArtifacts().stream().map(a -> new ArtifactImpl(a, this, step)).collect(Collectors.toList());
+        list.getEmbedded().getArtifacts().stream().map(a -> new ArtifactImpl(a, async, step)).collect(Collectors.toList());
+  }
+
+  @Override
+  public Collection<File> downloadArtifacts(PipelineExecutionStepState step, File dir) throws CloudManagerApiException {
+    return downloadArtifacts(step, dir, ArtifactDownloader.DEFAULT_PARALLELISM, DownloadListener.NONE);
+  }
+
+  @Override
+  public Collection<File> downloadArtifacts(PipelineExecutionStepState step, File dir, int parallelism, DownloadListener listener) throws CloudManagerApiException {
+    List<ArtifactImpl> artifacts = listArtifacts(step).stream().map(ArtifactImpl.class::cast).collect(Collectors.toList());
+    return Downloader.await(async.getArtifactDownloader().download(step.getExecution(), step, artifacts, dir, parallelism, listener));
   }
 
   @Override
@@ -236,28 +310,65 @@ public class PipelineExecutionApiImpl implements PipelineExecutionApi {
 
   @Override
   public PipelineExecutionEvent parseEvent(String eventBody) throws CloudManagerApiException {
-    String eventType = JsonPath.read(eventBody, "$.event.@type");
-    String objType = JsonPath.read(eventBody, "$.event.xdmEventEnvelope:objectType");
-    PipelineExecutionEvent event;
-    try {
-      if (Objects.equals(objType, PIPELINE_EXECUTION_TYPE) && Objects.equals(eventType, STARTED_EVENT_TYPE)) {
-        event = new PipelineExecutionStartEventImpl(mapper.readValue(eventBody, PipelineExecutionStartEvent.class).getEvent(), this);
-      } else if (Objects.equals(objType, PIPELINE_EXECUTION_TYPE) && Objects.equals(eventType, ENDED_EVENT_TYPE)) {
-        event = new PipelineExecutionEndEventImpl(mapper.readValue(eventBody, PipelineExecutionEndEvent.class).getEvent(), this);
-      } else if (Objects.equals(objType, PIPELINE_STEP_STATE_TYPE) && Objects.equals(eventType, STARTED_EVENT_TYPE)) {
-        event = new PipelineExecutionStepStartEventImpl(mapper.readValue(eventBody, PipelineExecutionStepStartEvent.class).getEvent(), this);
-      } else if (Objects.equals(objType, PIPELINE_STEP_STATE_TYPE) && Objects.equals(eventType, WAITING_EVENT_TYPE)) {
-        event = new PipelineExecutionStepWaitingEventImpl(mapper.readValue(eventBody, PipelineExecutionStepWaitingEvent.class).getEvent(), this);
-      } else if (Objects.equals(objType, PIPELINE_STEP_STATE_TYPE) && Objects.equals(eventType, ENDED_EVENT_TYPE)) {
-        event = new PipelineExecutionStepEndEventImpl(mapper.readValue(eventBody, PipelineExecutionStepEndEvent.class).getEvent(), this);
-      } else {
-        throw new CloudManagerApiException(String.format("Unknown event/object types (Event: '%s', Object: '%s').", eventType, objType));
+    try (JsonParser parser = FeignUtil.getJsonFactory().createParser(eventBody)) {
+      if (parser.nextToken() == JsonToken.START_OBJECT) {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          String name = parser.currentName();
+          if (parser.nextToken() == JsonToken.START_OBJECT && EVENT_FIELD.equals(name)) {
+            return parseEvent(parser);
+          }
+          parser.skipChildren();
+        }
       }
-    } catch (JsonProcessingException e) {
-      throw new CloudManagerApiException(String.format("Unable to process event: %s", e.getLocalizedMessage()));
+      throw new CloudManagerApiException(String.format(UNKNOWN_EVENT_ERROR, null, null));
+    } catch (IOException e) {
+      throw new CloudManagerApiException(String.format(PROCESS_EVENT_ERROR, e.getLocalizedMessage()));
     }
+  }
 
-    return event;
+  /*
+   * Reads the event object in a single pass: fields are buffered only until both type fields are seen, then the
+   * buffered prefix and the rest of the stream are bound directly to the matching event type.
+   */
+  private PipelineExecutionEvent parseEvent(JsonParser parser) throws IOException, CloudManagerApiException {
+    TokenBuffer buffer = new TokenBuffer(parser);
+    buffer.writeStartObject();
+    String eventType = null;
+    String objType = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String name = parser.currentName();
+      parser.nextToken();
+      if (EVENT_TYPE_FIELD.equals(name)) {
+        eventType = parser.getValueAsString();
+      } else if (OBJECT_TYPE_FIELD.equals(name)) {
+        objType = parser.getValueAsString();
+      }
+      buffer.writeFieldName(name);
+      buffer.copyCurrentStructure(parser);
+      if (eventType != null && objType != null) {
+        return bindEvent(eventType, objType, JsonParserSequence.createFlattened(false, buffer.asParser(parser), parser));
+      }
+    }
+    throw new CloudManagerApiException(String.format(UNKNOWN_EVENT_ERROR, eventType, objType));
+  }
+
+  private PipelineExecutionEvent bindEvent(String eventType, String objType, JsonParser parser) throws IOException, CloudManagerApiException {
+    if (PIPELINE_EXECUTION_TYPE.equals(objType)) {
+      if (STARTED_EVENT_TYPE.equals(eventType)) {
+        return new PipelineExecutionStartEventImpl(FeignUtil.getReader(PipelineExecutionStartEventEvent.class).readValue(parser), this);
+      } else if (ENDED_EVENT_TYPE.equals(eventType)) {
+        return new PipelineExecutionEndEventImpl(FeignUtil.getReader(PipelineExecutionEndEventEvent.class).readValue(parser), this);
+      }
+    } else if (PIPELINE_STEP_STATE_TYPE.equals(objType)) {
+      if (STARTED_EVENT_TYPE.equals(eventType)) {
+        return new PipelineExecutionStepStartEventImpl(FeignUtil.getReader(PipelineExecutionStepStartEventEvent.class).readValue(parser), this);
+      } else if (WAITING_EVENT_TYPE.equals(eventType)) {
+        return new PipelineExecutionStepWaitingEventImpl(FeignUtil.getReader(PipelineExecutionStepStartEventEvent.class).readValue(parser), this);
+      } else if (ENDED_EVENT_TYPE.equals(eventType)) {
+        return new PipelineExecutionStepEndEventImpl(FeignUtil.getReader(PipelineExecutionStepStartEventEvent.class).readValue(parser), this);
+      }
+    }
+    throw new CloudManagerApiException(String.format(UNKNOWN_EVENT_ERROR, eventType, objType));
   }
 
   @Override
@@ -270,44 +381,77 @@ public class PipelineExecutionApiImpl implements PipelineExecutionApi {
 
   // Helper methods.
 
-  void internalAdvance(PipelineExecutionImpl execution) throws CloudManagerApiException {
-    PipelineExecutionStepStateImpl waitingStep = getWaitingStep(execution);
-    api.advance(execution.getProgramId(), execution.getPipelineId(), execution.getId(), waitingStep.getPhaseId(), waitingStep.getStepId(), waitingStep.getAdvanceBody());
+  PipelineExecutionApiAsyncImpl getAsync() {
+    return async;
   }
 
-  void internalCancel(PipelineExecutionImpl execution) throws CloudManagerApiException {
-    final String err = String.format("Cannot find a cancelable step for pipeline %s, execution %s.", execution.getPipelineId(), execution.getId());
-    PipelineExecutionStepStateImpl step;
-    try {
-      step = getStep(execution, PipelineExecutionStepStateImpl.IS_RUNNING, err);
-    } catch (CloudManagerApiException ex) {
-      step = getStep(execution, PipelineExecutionStepStateImpl.IS_WAITING, err);
+  /*
+   * Reuses the caller's snapshot when it is recent enough, rather than retrieving the execution again.
+   */
+  PipelineExecutionImpl getActual(PipelineExecution execution, Duration maxAge) throws CloudManagerApiException {
+    if (execution instanceof PipelineExecutionImpl && ((PipelineExecutionImpl) execution).isFresh(maxAge)) {
+      return (PipelineExecutionImpl) execution;
     }
+    return get(execution.getProgramId(), execution.getPipelineId(), execution.getId());
+  }
+
+  private void internalAdvance(PipelineExecutionImpl execution) throws CloudManagerApiException {
+    PipelineExecutionStepStateImpl waitingStep = getWaitingStep(execution);
+    // Step identifiers never change, so the code quality step is found in the same snapshot without retrieving it again.
+    Collection<Metric> metrics = StepAction.approval == waitingStep.getStepAction() ?
+        Collections.emptyList() :
+        getSnapshotQualityGateResults(execution, StepAction.codeQuality);
+    api.advance(execution.getProgramId(), execution.getPipelineId(), execution.getId(), waitingStep.getPhaseId(), waitingStep.getStepId(), waitingStep.getAdvanceBody(metrics));
+  }
+
+  private void internalCancel(PipelineExecutionImpl execution) throws CloudManagerApiException {
+    PipelineExecutionStepStateImpl step = getCancelableStep(execution);
     api.cancel(execution.getProgramId(), execution.getPipelineId(), execution.getId(), step.getPhaseId(), step.getStepId(), step.getCancelBody());
   }
 
   @NotNull
   PipelineExecutionImpl get(com.adobe.aio.cloudmanager.impl.generated.event.PipelineExecution pe) throws CloudManagerApiException {
-    String path = pe.getAtId();
-    Matcher matcher = Pattern.compile("^.*(/api.*)$").matcher(path);
-    if (!matcher.matches()) {
-      throw new CloudManagerApiException(String.format("Unable to parse Event Object ID: %s.", path));
-    }
-    return new PipelineExecutionImpl(api.get(matcher.group(1)), this);
+    return new PipelineExecutionImpl(Downloader.await(resolver.getExecution(getApiPath(pe.getAtId()))), async);
   }
 
   @NotNull
   PipelineExecutionStepStateImpl getStepState(com.adobe.aio.cloudmanager.impl.generated.event.PipelineExecutionStepState pes) throws CloudManagerApiException {
-    String path = pes.getAtId();
-    Matcher matcher = Pattern.compile("^.*(/api.*)$").matcher(path);
-    if (!matcher.matches()) {
-      throw new CloudManagerApiException(String.format("Unable to parse Event Object ID: %s.", path));
+    String path = getApiPath(pes.getAtId());
+    Matcher matcher = STEP_STATE_PATH.matcher(path);
+    if (matcher.matches()) {
+      com.adobe.aio.cloudmanager.impl.generated.PipelineExecution cached = cache.get(matcher.group(1));
+      if (cached != null && cached.getEmbedded() != null && cached.getEmbedded().getStepStates() != null) {
+        Optional<com.adobe.aio.cloudmanager.impl.generated.PipelineExecutionStepState> delegate = cached.getEmbedded().getStepStates().stream()
+            .filter(s -> matcher.group(2).equals(s.getPhaseId()) && matcher.group(3).equals(s.getStepId()))
+            .findFirst();
+        if (delegate.isPresent()) {
+          return new PipelineExecutionStepStateImpl(delegate.get(), new PipelineExecutionImpl(cached, async), async);
+        }
+      }
+      // The execution's path is known from the step's, so both are retrieved at once.
+      CompletableFuture<com.adobe.aio.cloudmanager.impl.generated.PipelineExecutionStepState> delegate = resolver.getStepState(path);
+      CompletableFuture<com.adobe.aio.cloudmanager.impl.generated.PipelineExecution> execution = resolver.getExecution(matcher.group(1));
+      return new PipelineExecutionStepStateImpl(Downloader.await(delegate), new PipelineExecutionImpl(Downloader.await(execution), async), async);
     }
 
-    com.adobe.aio.cloudmanager.impl.generated.PipelineExecutionStepState delegate = api.getStepState(matcher.group(1));
-    PipelineExecution execution = new PipelineExecutionImpl(api.get(delegate.getLinks().getHttpnsAdobeComadobecloudrelexecution().getHref()), this);
+    com.adobe.aio.cloudmanager.impl.generated.PipelineExecutionStepState delegate = Downloader.await(resolver.getStepState(path));
+    PipelineExecution execution = new PipelineExecutionImpl(Downloader.await(resolver.getExecution(delegate.getLinks().getHttpnsAdobeComadobecloudrelexecution().getHref())), async);
+
+    return new PipelineExecutionStepStateImpl(delegate, execution, async);
+  }
+
+  PipelineStepMetrics getStepMetrics(String programId, String pipelineId, String executionId, String phaseId, String stepId) throws CloudManagerApiException {
+    String path = ExecutionCache.path(programId, pipelineId, executionId);
+    PipelineStepMetrics cached = cache.getMetrics(path, phaseId, stepId);
+    return cached == null ? cache.putMetrics(path, phaseId, stepId, api.getStepMetrics(programId, pipelineId, executionId, phaseId, stepId)) : cached;
+  }
 
-    return new PipelineExecutionStepStateImpl(delegate, execution, this);
+  private static String getApiPath(String path) throws CloudManagerApiException {
+    Matcher matcher = API_PATH.matcher(path);
+    if (!matcher.matches()) {
+      throw new CloudManagerApiException(String.format("Unable to parse Event Object ID: %s.", path));
+    }
+    return matcher.group(1);
   }
 
   String getStepLogDownloadUrlDetail(PipelineExecutionImpl execution, StepAction action, String file) throws CloudManagerApiException {
@@ -324,31 +468,31 @@ public class PipelineExecutionApiImpl implements PipelineExecutionApi {
     throw new CloudManagerApiException(String.format(EXECUTION_LOG_REDIRECT_ERROR, execution.getId(), action.name()));
   }
 
-  private PipelineExecutionStepStateImpl getStepStateDetail(PipelineExecutionImpl execution, StepAction action) throws CloudManagerApiException {
-    return getStep(execution,
-        s -> s.getStepAction() == action,
-        String.format("Cannot find step state for action '%s' on execution %s.", action, execution.getId()));
+  static PipelineExecutionStepStateImpl getCancelableStep(PipelineExecutionImpl execution) throws CloudManagerApiException {
+    PipelineExecutionStepStateImpl step = execution.findStep(PipelineExecutionStepState.Status.RUNNING);
+    if (step == null) {
+      step = execution.findStep(PipelineExecutionStepState.Status.WAITING);
+    }
+    if (step == null) {
+      throw new CloudManagerApiException(String.format("Cannot find a cancelable step for pipeline %s, execution %s.", execution.getPipelineId(), execution.getId()));
+    }
+    return step;
   }
 
-  private PipelineExecutionStepStateImpl getWaitingStep(PipelineExecutionImpl execution) throws CloudManagerApiException {
-    return getStep(execution, PipelineExecutionStepStateImpl.IS_WAITING, String.format("Cannot find a waiting step for pipeline %s, execution %s.", execution.getPipelineId(), execution.getId()));
+  static PipelineExecutionStepStateImpl getStepStateDetail(PipelineExecutionImpl execution, StepAction action) throws CloudManagerApiException {
+    PipelineExecutionStepStateImpl step = execution.findStep(action);
+    if (step == null) {
+      throw new CloudManagerApiException(String.format("Cannot find step state for action '%s' on execution %s.", action, execution.getId()));
+    }
+    return step;
   }
 
-  private PipelineExecutionStepStateImpl getStep(
-      PipelineExecutionImpl actual,
-      Predicate<PipelineExecutionStepState> predicate,
-      String errorMessage) throws CloudManagerApiException {
-    PipelineExecutionEmbedded embeddeds = actual.getEmbedded();
-    CloudManagerApiException potential = new CloudManagerApiException(errorMessage);
-    if (embeddeds == null || embeddeds.getStepStates() == null || embeddeds.getStepStates().isEmpty()) {
-      throw potential;
+  static PipelineExecutionStepStateImpl getWaitingStep(PipelineExecutionImpl execution) throws CloudManagerApiException {
+    PipelineExecutionStepStateImpl step = execution.findStep(PipelineExecutionStepState.Status.WAITING);
+    if (step == null) {
+      throw new CloudManagerApiException(String.format("Cannot find a waiting step for pipeline %s, execution %s.", execution.getPipelineId(), execution.getId()));
     }
-    return embeddeds.getStepStates()
-        .stream()
-        .map(s -> new PipelineExecutionStepStateImpl(s, actual, this))
-        .filter(predicate)
-        .findFirst()
-        .orElseThrow(() -> potential);
+    return step;
   }
 
   private interface FeignApi {
@@ -393,11 +537,5 @@ public class PipelineExecutionApiImpl implements PipelineExecutionApi {
     @RequestLine("GET /api/program/{programId}/pipeline/{pipelineId}/execution/{executionId}/phase/{phaseId}/step/{stepId}/artifact/{id}")
     Redirect getArtifact(@Param("programId") String programId, @Param("pipelineId") String pipelineId, @Param("executionId") String executionId, @Param("phaseId") String phaseId, @Param("stepId") String stepId, @Param("id") String id) throws CloudManagerApiException;
 
-    @RequestLine("GET {path}")
-    com.adobe.aio.cloudmanager.impl.generated.PipelineExecution get(@Param("path") String url) throws CloudManagerApiException;
-
-    @RequestLine("GET {path}")
-    com.adobe.aio.cloudmanager.impl.generated.PipelineExecutionStepState getStepState(@Param("path") String url) throws CloudManagerApiException;
-
   }
 }
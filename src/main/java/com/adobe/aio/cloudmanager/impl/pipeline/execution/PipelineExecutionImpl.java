@@ -20,14 +20,26 @@ package com.adobe.aio.cloudmanager.impl.pipeline.execution;
  * #L%
  */
 
-import java.util.Arrays;
+import java.io.File;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import com.adobe.aio.cloudmanager.impl.generated.PipelineExecution;
 import com.adobe.aio.cloudmanager.impl.generated.PipelineExecutionStepState;
 import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.DownloadListener;
 import com.adobe.aio.cloudmanager.StepAction;
+import com.adobe.aio.cloudmanager.impl.Downloader;
 import com.adobe.aio.cloudmanager.impl.generated.PipelineExecutionEmbedded;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -43,6 +55,9 @@ public class PipelineExecutionImpl extends PipelineExecution implements com.adob
   private static final String FIND_STEP_ERROR = "Cannot find step with action '%s' for pipeline %s, execution %s.";
   private static final String FIND_CURRENT_ERROR = "Cannot find a current step for pipeline %s, execution %s.";
 
+  private static final Set<Status> TERMINAL = EnumSet.of(Status.FINISHED, Status.ERROR, Status.FAILED, Status.CANCELLED);
+  private static final Set<Status> RUNNING = EnumSet.of(Status.NOT_STARTED, Status.RUNNING, Status.CANCELLED);
+
   private static final long serialVersionUID = 1L;
 
   @Delegate
@@ -50,14 +65,42 @@ public class PipelineExecutionImpl extends PipelineExecution implements com.adob
 
   @ToString.Exclude
   @EqualsAndHashCode.Exclude
-  private final PipelineExecutionApiImpl client;
+  private final PipelineExecutionApiAsyncImpl client;
+
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private final transient Instant retrieved = Instant.now();
 
-  public PipelineExecutionImpl(PipelineExecution delegate, PipelineExecutionApiImpl client) {
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private transient volatile Steps steps;
+
+  public PipelineExecutionImpl(PipelineExecution delegate, PipelineExecutionApiAsyncImpl client) {
     this.delegate = delegate;
     this.client = client;
   }
 
+  /**
+   * Whether this snapshot can be used in place of retrieving the execution again. Ended executions never change, but a zero {@code maxAge}
+   * always retrieves the execution again.
+   *
+   * @param maxAge how long ago the snapshot may have been taken
+   * @return true if the snapshot is recent enough
+   */
+  boolean isFresh(Duration maxAge) {
+    if (maxAge.isZero() || maxAge.isNegative()) {
+      return false;
+    }
+    return isTerminal(delegate) || (retrieved != null && Duration.between(retrieved, Instant.now()).compareTo(maxAge) < 0);
+  }
+
+  static boolean isTerminal(com.adobe.aio.cloudmanager.PipelineExecution execution) {
+    return TERMINAL.contains(execution.getStatusState());
+  }
 
+  public static boolean isTerminal(PipelineExecution execution) {
+    return execution.getStatus() != null && TERMINAL.contains(Status.valueOf(execution.getStatus().getValue()));
+  }
 
   @Override
   public Status getStatusState() {
@@ -66,48 +109,132 @@ public class PipelineExecutionImpl extends PipelineExecution implements com.adob
 
   @Override
   public com.adobe.aio.cloudmanager.PipelineExecutionStepState getStep(StepAction action) throws CloudManagerApiException {
-    Optional<com.adobe.aio.cloudmanager.PipelineExecutionStepState> step = getStep((s) -> s.getStepAction() == action);
-    if (step.isEmpty()) {
+    PipelineExecutionStepStateImpl step = findStep(action);
+    if (step == null) {
       throw new CloudManagerApiException(String.format(FIND_STEP_ERROR, action, getPipelineId(), getId()));
     }
-    return step.get();
+    return step;
   }
 
   @Override
   public com.adobe.aio.cloudmanager.PipelineExecutionStepState getCurrentStep() throws CloudManagerApiException {
-    PipelineExecutionEmbedded embeddeds = getEmbedded();
-    if (embeddeds == null || embeddeds.getStepStates().isEmpty()) {
+    PipelineExecutionStepStateImpl step = index().current;
+    if (step == null) {
       throw new CloudManagerApiException(String.format(FIND_CURRENT_ERROR, getPipelineId(), getId()));
     }
-    PipelineExecutionStepState step = embeddeds.getStepStates()
-        .stream()
-        .filter(stepState -> stepState.getStatus() != PipelineExecutionStepState.StatusEnum.FINISHED)
-        .findFirst()
-        .orElseThrow(() -> new CloudManagerApiException(String.format(FIND_CURRENT_ERROR, getPipelineId(), getId())));
-    return new PipelineExecutionStepStateImpl(step, this, client);
+    return step;
+  }
+
+  @Override
+  public List<com.adobe.aio.cloudmanager.PipelineExecutionStepState> getSteps() {
+    return Collections.unmodifiableList(index().all);
   }
 
   @Override
   public Optional<com.adobe.aio.cloudmanager.PipelineExecutionStepState> getStep(Predicate<com.adobe.aio.cloudmanager.PipelineExecutionStepState> predicate) {
-    PipelineExecutionEmbedded embeddeds = getEmbedded();
-    if (embeddeds == null || embeddeds.getStepStates().isEmpty()) {
-      return Optional.empty();
+    for (PipelineExecutionStepStateImpl step : index().all) {
+      if (predicate.test(step)) {
+        return Optional.of(step);
+      }
     }
-    return embeddeds.getStepStates().stream().map(s -> (com.adobe.aio.cloudmanager.PipelineExecutionStepState) new PipelineExecutionStepStateImpl(s, this, client)).filter(predicate).findFirst();
+    return Optional.empty();
+  }
+
+  /**
+   * The first step for the action.
+   *
+   * @param action the step action
+   * @return the step, or null if there is none
+   */
+  PipelineExecutionStepStateImpl findStep(StepAction action) {
+    return index().byAction.get(action);
+  }
+
+  /**
+   * The first step in the status.
+   *
+   * @param status the step status
+   * @return the step, or null if there is none
+   */
+  PipelineExecutionStepStateImpl findStep(com.adobe.aio.cloudmanager.PipelineExecutionStepState.Status status) {
+    return index().byStatus.get(status);
+  }
+
+  /**
+   * All steps, in the order of the execution.
+   *
+   * @return the steps
+   */
+  List<PipelineExecutionStepStateImpl> getStepStates() {
+    return index().all;
+  }
+
+  /*
+   * Step states are wrapped and indexed on first use; the delegate is not modified once retrieved.
+   */
+  private Steps index() {
+    Steps indexed = steps;
+    if (indexed == null) {
+      indexed = new Steps(this);
+      steps = indexed;
+    }
+    return indexed;
   }
 
   @Override
   public void advance() throws CloudManagerApiException {
-    client.internalAdvance(this);
+    Downloader.await(client.advance(this));
   }
 
   @Override
   public void cancel() throws CloudManagerApiException {
-    client.internalCancel(this);
+    Downloader.await(client.cancel(this));
   }
 
   @Override
   public boolean isRunning() {
-    return Arrays.asList(new Status[] { Status.NOT_STARTED, Status.RUNNING, Status.CANCELLED }).contains(getStatusState());
+    return RUNNING.contains(getStatusState());
+  }
+
+  @Override
+  public Collection<File> downloadAllLogs(File dir, int parallelism) throws CloudManagerApiException {
+    return Downloader.await(client.downloadAllLogs(this, dir, parallelism, DownloadListener.NONE));
+  }
+
+  private static final class Steps {
+    private final List<PipelineExecutionStepStateImpl> all;
+    private final Map<StepAction, PipelineExecutionStepStateImpl> byAction = new EnumMap<>(StepAction.class);
+    private final Map<com.adobe.aio.cloudmanager.PipelineExecutionStepState.Status, PipelineExecutionStepStateImpl> byStatus = new EnumMap<>(com.adobe.aio.cloudmanager.PipelineExecutionStepState.Status.class);
+    private final PipelineExecutionStepStateImpl current;
+
+    private Steps(PipelineExecutionImpl execution) {
+      PipelineExecutionEmbedded embeddeds = execution.getEmbedded();
+      if (embeddeds == null || embeddeds.getStepStates() == null || embeddeds.getStepStates().isEmpty()) {
+        all = Collections.emptyList();
+        current = null;
+        return;
+      }
+      List<PipelineExecutionStepStateImpl> wrapped = new ArrayList<>(embeddeds.getStepStates().size());
+      PipelineExecutionStepStateImpl first = null;
+      for (PipelineExecutionStepState s : embeddeds.getStepStates()) {
+        PipelineExecutionStepStateImpl step = new PipelineExecutionStepStateImpl(s, execution, execution.client);
+        wrapped.add(step);
+        if (s.getAction() != null) {
+          try {
+            byAction.putIfAbsent(step.getStepAction(), step);
+          } catch (IllegalArgumentException e) {
+            // Actions unknown to this version of the library can only be found by predicate.
+          }
+        }
+        if (s.getStatus() != null) {
+          byStatus.putIfAbsent(step.getStatusState(), step);
+        }
+        if (first == null && s.getStatus() != PipelineExecutionStepState.StatusEnum.FINISHED) {
+          first = step;
+        }
+      }
+      all = Collections.unmodifiableList(wrapped);
+      current = first;
+    }
   }
 }
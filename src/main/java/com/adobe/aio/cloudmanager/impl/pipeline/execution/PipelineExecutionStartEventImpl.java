@@ -39,6 +39,10 @@ public class PipelineExecutionStartEventImpl implements PipelineExecutionStartEv
   @EqualsAndHashCode.Exclude
   private final PipelineExecutionApiImpl client;
 
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private volatile PipelineExecution execution;
+
   public PipelineExecutionStartEventImpl(PipelineExecutionStartEventEvent delegate, PipelineExecutionApiImpl client) {
     this.delegate = delegate;
     this.client = client;
@@ -56,7 +60,10 @@ public class PipelineExecutionStartEventImpl implements PipelineExecutionStartEv
 
   @Override
   public PipelineExecution getExecution() throws CloudManagerApiException {
-    return client.get(delegate.getActivitystreamsobject());
+    if (execution == null) {
+      execution = client.get(delegate.getActivitystreamsobject());
+    }
+    return execution;
   }
 
 }
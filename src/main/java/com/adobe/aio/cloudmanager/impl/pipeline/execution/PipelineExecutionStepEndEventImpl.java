@@ -37,6 +37,10 @@ public class PipelineExecutionStepEndEventImpl implements PipelineExecutionStepE
 
   private final PipelineExecutionApiImpl client;
 
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private volatile PipelineExecutionStepState stepState;
+
   public PipelineExecutionStepEndEventImpl(PipelineExecutionStepStartEventEvent delegate, PipelineExecutionApiImpl client) {
     this.delegate = delegate;
     this.client = client;
@@ -54,6 +58,9 @@ public class PipelineExecutionStepEndEventImpl implements PipelineExecutionStepE
 
   @Override
   public PipelineExecutionStepState getStepState() throws CloudManagerApiException {
-    return client.getStepState(delegate.getActivitystreamsobject());
+    if (stepState == null) {
+      stepState = client.getStepState(delegate.getActivitystreamsobject());
+    }
+    return stepState;
   }
 }
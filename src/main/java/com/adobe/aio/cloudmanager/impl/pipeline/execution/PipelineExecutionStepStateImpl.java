@@ -23,19 +23,20 @@ package com.adobe.aio.cloudmanager.impl.pipeline.execution;
 import java.io.File;
 import java.io.IOException;
 import java.io.StringWriter;
-import java.net.URL;
 import java.util.Collection;
+import java.util.concurrent.CompletionException;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
-
-import org.apache.commons.io.FileUtils;
+import java.util.stream.Stream;
 
 import com.adobe.aio.cloudmanager.impl.generated.PipelineExecutionStepState;
-import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.DownloadListener;
+import com.adobe.aio.cloudmanager.impl.Downloader;
+import com.adobe.aio.cloudmanager.impl.FeignUtil;
 import com.adobe.aio.cloudmanager.Metric;
 import com.adobe.aio.cloudmanager.PipelineExecution;
-import com.adobe.aio.cloudmanager.PipelineExecutionApi;
 import com.adobe.aio.cloudmanager.StepAction;
 import com.adobe.aio.cloudmanager.impl.exception.CloudManagerExceptionDecoder;
 import lombok.EqualsAndHashCode;
@@ -59,7 +60,7 @@ public class PipelineExecutionStepStateImpl extends PipelineExecutionStepState i
   private final PipelineExecutionStepState delegate;
   @ToString.Exclude
   @EqualsAndHashCode.Exclude
-  private final PipelineExecutionApi client;
+  private final PipelineExecutionApiAsyncImpl client;
 
   @ToString.Exclude
   @EqualsAndHashCode.Exclude
@@ -67,7 +68,7 @@ public class PipelineExecutionStepStateImpl extends PipelineExecutionStepState i
 
   public PipelineExecutionStepStateImpl(PipelineExecutionStepState delegate,
                                         PipelineExecution execution,
-                                        PipelineExecutionApi client) {
+                                        PipelineExecutionApiAsyncImpl client) {
     this.delegate = delegate;
     this.execution = execution;
     this.client = client;
@@ -90,47 +91,67 @@ public class PipelineExecutionStepStateImpl extends PipelineExecutionStepState i
 
   @Override
   public boolean hasLogs() {
-    return delegate.getLinks().getHttpnsAdobeComadobecloudrelpipelinelogs() != null;
+    return delegate.getLinks() != null && delegate.getLinks().getHttpnsAdobeComadobecloudrelpipelinelogs() != null;
   }
 
   @Override
   public void getLog(File dir) throws CloudManagerApiException {
-    String downloadUrl = client.getStepLogDownloadUrl(execution, getStepAction());
+    String downloadUrl = Downloader.await(client.getStepLogDownloadUrl(execution.getProgramId(), execution.getPipelineId(), execution.getId(), getStepAction()));
     String filename = String.format("pipeline-%s-execution-%s-%s.txt", execution.getPipelineId(), execution.getId(), getStepAction());
 
     try {
-      File downloaded = new File(dir, filename);
-      FileUtils.copyInputStreamToFile(new URL(downloadUrl).openStream(), downloaded);
-    } catch (IOException e) {
-      throw new CloudManagerApiException(String.format("Cannot download log for pipeline %s, execution %s, step '%s' to %s/%s (Cause: %s).", execution.getPipelineId(), execution.getId(), getStepAction(), dir, filename, e.getClass().getName()));
+      client.getDownloader().download(downloadUrl, new File(dir, filename), DownloadListener.NONE).join();
+    } catch (CompletionException e) {
+      throw new CloudManagerApiException(String.format("Cannot download log for pipeline %s, execution %s, step '%s' to %s/%s (Cause: %s).", execution.getPipelineId(), execution.getId(), getStepAction(), dir, filename, e.getCause().getClass().getName()));
     }
   }
 
   @Override
   public void getLog(String name, File dir) throws CloudManagerApiException {
-    String downloadUrl = client.getStepLogDownloadUrl(execution, getStepAction(), name);
+    String downloadUrl = Downloader.await(client.getStepLogDownloadUrl(execution.getProgramId(), execution.getPipelineId(), execution.getId(), getStepAction(), name));
     String filename = String.format("pipeline-%s-execution-%s-%s-%s.txt", execution.getPipelineId(), execution.getId(), getStepAction(), name);
 
     try {
-      File downloaded = new File(dir, filename);
-      FileUtils.copyInputStreamToFile(new URL(downloadUrl).openStream(), downloaded);
+      client.getDownloader().download(downloadUrl, new File(dir, filename), DownloadListener.NONE).join();
+    } catch (CompletionException e) {
+      throw new CloudManagerApiException(String.format("Cannot download '%s' log for pipeline %s, execution %s, step '%s' to %s/%s (Cause: %s).", name, execution.getPipelineId(), execution.getId(), getStepAction(), dir, filename, e.getCause().getClass().getName()));
+    }
+  }
+
+  @Override
+  public Stream<String> streamLog(Predicate<String> filter) throws CloudManagerApiException {
+    String downloadUrl = Downloader.await(client.getStepLogDownloadUrl(execution.getProgramId(), execution.getPipelineId(), execution.getId(), getStepAction()));
+    try {
+      return client.getDownloader().lines(downloadUrl, filter);
     } catch (IOException e) {
-      throw new CloudManagerApiException(String.format("Cannot download '%s' log for pipeline %s, execution %s, step '%s' to %s/%s (Cause: %s).", name, execution.getPipelineId(), execution.getId(), getStepAction(), dir, filename, e.getClass().getName()));
+      throw new CloudManagerApiException(String.format("Cannot read log for pipeline %s, execution %s, step '%s' (Cause: %s).", execution.getPipelineId(), execution.getId(), getStepAction(), e.getClass().getName()));
     }
   }
 
-  protected String getAdvanceBody() throws CloudManagerApiException {
+  @Override
+  public Stream<String> streamLog(String name, Predicate<String> filter) throws CloudManagerApiException {
+    String downloadUrl = Downloader.await(client.getStepLogDownloadUrl(execution.getProgramId(), execution.getPipelineId(), execution.getId(), getStepAction(), name));
+    try {
+      return client.getDownloader().lines(downloadUrl, filter);
+    } catch (IOException e) {
+      throw new CloudManagerApiException(String.format("Cannot read '%s' log for pipeline %s, execution %s, step '%s' (Cause: %s).", name, execution.getPipelineId(), execution.getId(), getStepAction(), e.getClass().getName()));
+    }
+  }
+
+  /*
+   * Builds the advance body, overriding any blocking metrics from the provided code quality results.
+   */
+  String getAdvanceBody(Collection<Metric> metrics) throws CloudManagerApiException {
     StringWriter writer = new StringWriter();
-    JsonFactory jsonFactory = new JsonFactory();
     try {
-      JsonGenerator gen = jsonFactory.createGenerator(writer);
+      JsonGenerator gen = FeignUtil.getJsonFactory().createGenerator(writer);
       gen.writeStartObject();
       if (StepAction.approval == getStepAction()) {
         gen.writeBooleanField("approved", true);
       } else {
         gen.writeFieldName("metrics");
         gen.writeStartArray();
-        buildMetricsOverride(gen);
+        buildMetricsOverride(gen, metrics);
         gen.writeEndArray();
       }
       gen.writeEndObject();
@@ -143,10 +164,9 @@ public class PipelineExecutionStepStateImpl extends PipelineExecutionStepState i
 
   public String getCancelBody() throws CloudManagerApiException {
     StringWriter writer = new StringWriter();
-    JsonFactory jsonFactory = new JsonFactory();
 
     try {
-      JsonGenerator gen = jsonFactory.createGenerator(writer);
+      JsonGenerator gen = FeignUtil.getJsonFactory().createGenerator(writer);
       gen.writeStartObject();
       if (StepAction.approval == getStepAction()) {
         gen.writeBooleanField("approved", false);
@@ -171,8 +191,7 @@ public class PipelineExecutionStepStateImpl extends PipelineExecutionStepState i
   /*
    * Builds the body needed to override any blocking metrics for advancing the pipeline.
    */
-  private void buildMetricsOverride(JsonGenerator gen) throws CloudManagerApiException, IOException {
-    Collection<Metric> metrics = client.getQualityGateResults(getExecution(), StepAction.codeQuality);
+  private void buildMetricsOverride(JsonGenerator gen, Collection<Metric> metrics) throws IOException {
     Collection<Metric> failed = metrics.stream().filter(m -> !m.isPassed() && Metric.Severity.IMPORTANT.equals(m.getSev())).collect(Collectors.toList());
     for (Metric m : failed) {
       gen.writeStartObject();
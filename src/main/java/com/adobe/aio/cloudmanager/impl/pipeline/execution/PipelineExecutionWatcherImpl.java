@@ -0,0 +1,140 @@
+package com.adobe.aio.cloudmanager.impl.pipeline.execution;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.PipelineExecution;
+import com.adobe.aio.cloudmanager.PipelineExecutionApi;
+import com.adobe.aio.cloudmanager.PipelineExecutionStepState;
+import com.adobe.aio.cloudmanager.PipelineExecutionWatcher;
+import com.adobe.aio.cloudmanager.PollingPolicy;
+import com.adobe.aio.cloudmanager.PollingScheduler;
+import com.adobe.aio.cloudmanager.impl.PollingSchedulerImpl;
+
+public class PipelineExecutionWatcherImpl implements PipelineExecutionWatcher {
+
+  private static final Listener NONE = (step, previous) -> {};
+
+  private final PipelineExecutionApi api;
+  private final PollingPolicy policy;
+  private final PollingSchedulerImpl scheduler;
+  private final boolean ownsScheduler;
+  private final Set<CompletableFuture<PipelineExecution>> pending = ConcurrentHashMap.newKeySet();
+  private volatile boolean closed;
+
+  public PipelineExecutionWatcherImpl(PipelineExecutionApi api, PollingPolicy policy) {
+    this(api, policy, new PollingSchedulerImpl(1, PollingScheduler.DEFAULT_MAX_BACKOFF), true);
+  }
+
+  public PipelineExecutionWatcherImpl(PipelineExecutionApi api, PollingPolicy policy, PollingScheduler scheduler) {
+    this(api, policy, PollingSchedulerImpl.of(scheduler), false);
+  }
+
+  private PipelineExecutionWatcherImpl(PipelineExecutionApi api, PollingPolicy policy, PollingSchedulerImpl scheduler, boolean ownsScheduler) {
+    this.api = api;
+    this.policy = policy;
+    this.scheduler = scheduler;
+    this.ownsScheduler = ownsScheduler;
+  }
+
+  private static String getKey(PipelineExecutionStepState step) {
+    return step.getPhaseId() + "/" + step.getStepId();
+  }
+
+  private static void notify(Listener listener, PipelineExecution previous, PipelineExecution current) {
+    Map<String, PipelineExecutionStepState.Status> statuses = new HashMap<>();
+    previous.getSteps().forEach(step -> statuses.put(getKey(step), step.getStatusState()));
+    for (PipelineExecutionStepState step : current.getSteps()) {
+      PipelineExecutionStepState.Status status = statuses.get(getKey(step));
+      if (status != step.getStatusState()) {
+        listener.onStepTransition(step, status);
+      }
+    }
+  }
+
+  Duration getInterval(PipelineExecution execution) {
+    boolean waiting = execution.getStep(PipelineExecutionStepState.IS_WAITING).isPresent() &&
+        execution.getStep(PipelineExecutionStepState.IS_RUNNING).isEmpty();
+    return waiting ? policy.getWaitingInterval() : policy.getRunningInterval();
+  }
+
+  @Override
+  public CompletableFuture<PipelineExecution> watch(PipelineExecution execution) {
+    return watch(execution, NONE);
+  }
+
+  @Override
+  public CompletableFuture<PipelineExecution> watch(PipelineExecution execution, Listener listener) {
+    if (PipelineExecutionImpl.isTerminal(execution)) {
+      return CompletableFuture.completedFuture(execution);
+    }
+    if (closed) {
+      CompletableFuture<PipelineExecution> cancelled = new CompletableFuture<>();
+      cancelled.cancel(false);
+      return cancelled;
+    }
+    String programId = execution.getProgramId();
+    String pipelineId = execution.getPipelineId();
+    String executionId = execution.getId();
+    PollingSchedulerImpl.Check<PipelineExecution> check = new PollingSchedulerImpl.Check<>() {
+      @Override
+      public PipelineExecution get() throws CloudManagerApiException {
+        return api.get(programId, pipelineId, executionId);
+      }
+
+      @Override
+      public boolean isDone(PipelineExecution state) {
+        return PipelineExecutionImpl.isTerminal(state);
+      }
+
+      @Override
+      public Duration getInterval(PipelineExecution state) {
+        return PipelineExecutionWatcherImpl.this.getInterval(state);
+      }
+    };
+    // Executions are identified by their ids, but only coalesced when checked through the same API instance and policy.
+    Object key = Arrays.asList(api, policy, programId, pipelineId, executionId);
+    CompletableFuture<PipelineExecution> future = scheduler.watch(key, execution, check, (previous, current) -> notify(listener, previous, current));
+    if (policy.getTimeout() != null) {
+      future.orTimeout(policy.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+    }
+    pending.add(future);
+    future.whenComplete((e, t) -> pending.remove(future));
+    return future;
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    if (ownsScheduler) {
+      scheduler.close();
+    }
+    pending.forEach(future -> future.cancel(false));
+  }
+}
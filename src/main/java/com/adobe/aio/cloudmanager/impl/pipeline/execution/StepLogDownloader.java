@@ -0,0 +1,112 @@
+package com.adobe.aio.cloudmanager.impl.pipeline.execution;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.DownloadListener;
+import com.adobe.aio.cloudmanager.PipelineExecution;
+import com.adobe.aio.cloudmanager.impl.Downloader;
+import com.adobe.aio.cloudmanager.impl.Transport;
+import com.adobe.aio.cloudmanager.impl.generated.Redirect;
+import feign.Param;
+import feign.RequestLine;
+
+/**
+ * Downloads the logs of all steps of an execution, several at a time.
+ * <p>
+ * Steps are taken from the execution snapshot, so each log costs one redirect and one transfer, neither of which holds a thread.
+ */
+class StepLogDownloader {
+
+  static final int DEFAULT_PARALLELISM = 4;
+
+  private static final String DIRECTORY_ERROR = "Cannot create directory %s for pipeline %s, execution %s (Cause: %s).";
+  private static final String DOWNLOAD_ERROR = "Cannot download log for pipeline %s, execution %s, step '%s' to %s (Cause: %s).";
+
+  private final FeignApi api;
+  private final Downloader downloader;
+
+  StepLogDownloader(Transport transport, Downloader downloader) {
+    this.api = transport.targetAsync(FeignApi.class, new ExceptionDecoder());
+    this.downloader = downloader;
+  }
+
+  /**
+   * The file for a step's log, as named by {@link PipelineExecutionStepStateImpl#getLog(File)}. Steps which run in an environment, such as the
+   * deployments to each tier, have its type appended so they do not overwrite each other.
+   *
+   * @param step the step
+   * @param dir  the directory in which to save the log
+   * @return the file
+   */
+  static File toFile(PipelineExecutionStepStateImpl step, File dir) {
+    String name = StringUtils.isBlank(step.getEnvironmentType()) ? step.getAction() : String.format("%s-%s", step.getAction(), step.getEnvironmentType());
+    return new File(dir, String.format("pipeline-%s-execution-%s-%s.txt", step.getExecution().getPipelineId(), step.getExecution().getId(), name));
+  }
+
+  CompletableFuture<Collection<File>> download(PipelineExecutionImpl execution, File dir, int parallelism, DownloadListener listener) {
+    File folder = new File(dir, String.format("pipeline-%s-execution-%s", execution.getPipelineId(), execution.getId()));
+    List<PipelineExecutionStepStateImpl> steps = execution.getStepStates().stream().filter(PipelineExecutionStepStateImpl::hasLogs).collect(Collectors.toList());
+    CompletableFuture<List<File>> files;
+    try {
+      Files.createDirectories(folder.toPath());
+      files = Downloader.forEach(steps, parallelism, step -> download(step, folder, listener));
+    } catch (IOException e) {
+      files = CompletableFuture.failedFuture(new CloudManagerApiException(String.format(DIRECTORY_ERROR, folder, execution.getPipelineId(), execution.getId(), e.getClass().getName())));
+    }
+    return files.thenApply(ArrayList::new);
+  }
+
+  private CompletableFuture<File> download(PipelineExecutionStepStateImpl step, File dir, DownloadListener listener) {
+    PipelineExecution execution = step.getExecution();
+    File file = toFile(step, dir);
+    return api.getLogs(execution.getProgramId(), execution.getPipelineId(), execution.getId(), step.getPhaseId(), step.getStepId())
+        .thenCompose(redirect -> {
+          if (redirect == null || StringUtils.isBlank(redirect.getRedirect())) {
+            throw new CompletionException(new CloudManagerApiException(String.format(PipelineExecutionApiImpl.EXECUTION_LOG_REDIRECT_ERROR, execution.getId(), step.getAction())));
+          }
+          return downloader.download(redirect.getRedirect(), file, listener).handle((f, t) -> {
+            if (t != null) {
+              Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+              throw new CompletionException(new CloudManagerApiException(String.format(DOWNLOAD_ERROR, execution.getPipelineId(), execution.getId(), step.getAction(), file.getPath(), cause.getClass().getName())));
+            }
+            return f;
+          });
+        });
+  }
+
+  private interface FeignApi {
+
+    @RequestLine("GET /api/program/{programId}/pipeline/{pipelineId}/execution/{executionId}/phase/{phaseId}/step/{stepId}/logs")
+    CompletableFuture<Redirect> getLogs(@Param("programId") String programId, @Param("pipelineId") String pipelineId, @Param("executionId") String executionId, @Param("phaseId") String phaseId, @Param("stepId") String stepId);
+  }
+}
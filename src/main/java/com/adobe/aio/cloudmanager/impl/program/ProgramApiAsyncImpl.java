@@ -0,0 +1,92 @@
+package com.adobe.aio.cloudmanager.impl.program;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import com.adobe.aio.cloudmanager.CatalogCache;
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.Program;
+import com.adobe.aio.cloudmanager.ProgramApiAsync;
+import com.adobe.aio.cloudmanager.Region;
+import com.adobe.aio.cloudmanager.impl.CatalogReader;
+import com.adobe.aio.cloudmanager.impl.Transport;
+import com.adobe.aio.cloudmanager.impl.generated.EmbeddedProgram;
+import com.adobe.aio.cloudmanager.impl.generated.ProgramList;
+import com.adobe.aio.cloudmanager.impl.generated.RegionsList;
+import feign.Param;
+import feign.RequestLine;
+
+public class ProgramApiAsyncImpl implements ProgramApiAsync {
+
+  private final FeignApi api;
+  private final CatalogReader catalog;
+  private final ProgramApiImpl client;
+
+  public ProgramApiAsyncImpl(Transport transport) {
+    api = transport.targetAsync(FeignApi.class, new ExceptionDecoder());
+    client = new ProgramApiImpl(transport);
+    catalog = transport.getCatalog();
+  }
+
+  @Override
+  public CompletableFuture<Program> get(String programId) {
+    return catalog.readAsync(CatalogCache.Type.PROGRAM, () -> api.get(programId), "get", programId).thenApply(p -> new ProgramImpl(p, client));
+  }
+
+  @Override
+  public CompletableFuture<Void> delete(String programId) {
+    return api.delete(programId).thenApply(v -> {
+      catalog.invalidate(CatalogCache.Type.PROGRAM);
+      return v;
+    });
+  }
+
+  @Override
+  public CompletableFuture<Collection<Program>> list(String tenantId) {
+    return catalog.readAsync(CatalogCache.Type.PROGRAM, () -> api.list(tenantId), "list", tenantId).thenApply(list -> list.getEmbedded() == null || list.getEmbedded().getPrograms() == null ?
+        Collections.emptyList() :
+        list.getEmbedded().getPrograms().stream().map(p -> new ProgramImpl(p, client)).collect(Collectors.toList()));
+  }
+
+  @Override
+  public CompletableFuture<Collection<Region>> listRegions(String programId) {
+    return catalog.readAsync(CatalogCache.Type.REGION, () -> api.listRegions(programId), "list", programId).thenApply(list -> list.getEmbedded() == null || list.getEmbedded().getRegions() == null ?
+        Collections.emptySet() :
+        list.getEmbedded().getRegions().stream().map(r -> Region.fromValue(r.getName())).collect(Collectors.toList()));
+  }
+
+  private interface FeignApi {
+    @RequestLine("GET /api/program/{id}")
+    CompletableFuture<EmbeddedProgram> get(@Param("id") String id);
+
+    @RequestLine("DELETE /api/program/{id}")
+    CompletableFuture<Void> delete(@Param("id") String id);
+
+    @RequestLine("GET /api/tenant/{tenantId}/programs")
+    CompletableFuture<ProgramList> list(@Param("tenantId") String tenantId);
+
+    @RequestLine("GET /api/program/{id}/regions")
+    CompletableFuture<RegionsList> listRegions(@Param("id") String id);
+  }
+}
@@ -25,8 +25,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.stream.Collectors;
 
+import com.adobe.aio.cloudmanager.CatalogCache;
 import com.adobe.aio.cloudmanager.CloudManagerApiException;
-import com.adobe.aio.cloudmanager.Constants;
 import com.adobe.aio.cloudmanager.Program;
 import com.adobe.aio.cloudmanager.Region;
 import com.adobe.aio.workspace.Workspace;
@@ -34,7 +34,8 @@ import feign.Param;
 import feign.RequestLine;
 import com.adobe.aio.cloudmanager.ProgramApi;
 import com.adobe.aio.cloudmanager.Tenant;
-import com.adobe.aio.cloudmanager.impl.FeignUtil;
+import com.adobe.aio.cloudmanager.impl.CatalogReader;
+import com.adobe.aio.cloudmanager.impl.Transport;
 import com.adobe.aio.cloudmanager.impl.generated.EmbeddedProgram;
 import com.adobe.aio.cloudmanager.impl.generated.ProgramList;
 import com.adobe.aio.cloudmanager.impl.generated.RegionsList;
@@ -42,21 +43,27 @@ import com.adobe.aio.cloudmanager.impl.generated.RegionsList;
 public class ProgramApiImpl implements ProgramApi {
 
   private final FeignApi api;
+  private final CatalogReader catalog;
 
   public ProgramApiImpl(Workspace workspace, URL url) {
-    String baseUrl = url == null ? Constants.CLOUD_MANAGER_URL : url.toString();
-    api = FeignUtil.getBuilder(workspace).errorDecoder(new ExceptionDecoder()).target(FeignApi.class, baseUrl);
+    this(new Transport(workspace, url));
+  }
+
+  public ProgramApiImpl(Transport transport) {
+    api = transport.target(FeignApi.class, new ExceptionDecoder());
+    catalog = transport.getCatalog();
   }
 
   @Override
   public Program get(String programId) throws CloudManagerApiException {
-    EmbeddedProgram program = api.get(programId);
+    EmbeddedProgram program = catalog.read(CatalogCache.Type.PROGRAM, () -> api.get(programId), "get", programId);
     return new ProgramImpl(program, this);
   }
 
   @Override
   public void delete(String programId) throws CloudManagerApiException {
     api.delete(programId);
+    catalog.invalidate(CatalogCache.Type.PROGRAM);
   }
 
   @Override
@@ -66,7 +73,7 @@ public class ProgramApiImpl implements ProgramApi {
 
   @Override
   public Collection<Program> list(String tenantId) throws CloudManagerApiException {
-    ProgramList list = api.list(tenantId);
+    ProgramList list = catalog.read(CatalogCache.Type.PROGRAM, () -> api.list(tenantId), "list", tenantId);
     return list.getEmbedded() == null || list.getEmbedded().getPrograms() == null ?
         Collections.emptyList() :
         list.getEmbedded().getPrograms().stream().map(p -> new ProgramImpl(p, this)).collect(Collectors.toList());
@@ -78,7 +85,7 @@ public class ProgramApiImpl implements ProgramApi {
 
   @Override
   public Collection<Region> listRegions(String programId) throws CloudManagerApiException {
-    RegionsList list = api.listRegions(programId);
+    RegionsList list = catalog.read(CatalogCache.Type.REGION, () -> api.listRegions(programId), "list", programId);
     return list.getEmbedded() == null || list.getEmbedded().getRegions() == null ?
         Collections.emptySet() :
         list.getEmbedded().getRegions().stream().map(r -> Region.fromValue(r.getName())).collect(Collectors.toList());
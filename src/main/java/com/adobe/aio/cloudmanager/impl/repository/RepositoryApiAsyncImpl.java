@@ -0,0 +1,102 @@
+package com.adobe.aio.cloudmanager.impl.repository;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import com.adobe.aio.cloudmanager.CatalogCache;
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.RepositoryApiAsync;
+import com.adobe.aio.cloudmanager.impl.CatalogReader;
+import com.adobe.aio.cloudmanager.impl.Transport;
+import com.adobe.aio.cloudmanager.impl.generated.BranchList;
+import com.adobe.aio.cloudmanager.impl.generated.Repository;
+import com.adobe.aio.cloudmanager.impl.generated.RepositoryBranch;
+import com.adobe.aio.cloudmanager.impl.generated.RepositoryList;
+import feign.Param;
+import feign.RequestLine;
+
+public class RepositoryApiAsyncImpl implements RepositoryApiAsync {
+
+  private final FeignApi api;
+  private final RepositoryApiImpl client;
+  private final CatalogReader catalog;
+
+  public RepositoryApiAsyncImpl(Transport transport) {
+    this(transport, new RepositoryApiImpl(transport));
+  }
+
+  RepositoryApiAsyncImpl(Transport transport, RepositoryApiImpl client) {
+    api = transport.targetAsync(FeignApi.class, new ExceptionDecoder());
+    this.client = client;
+    catalog = transport.getCatalog();
+  }
+
+  @Override
+  public CompletableFuture<Collection<com.adobe.aio.cloudmanager.Repository>> list(String programId) {
+    return catalog.readAsync(CatalogCache.Type.REPOSITORY, () -> api.list(programId).thenApply(RepositoryApiAsyncImpl::toList), "list", programId).thenApply(this::toCollection);
+  }
+
+  @Override
+  public CompletableFuture<Collection<com.adobe.aio.cloudmanager.Repository>> list(String programId, int start, int limit) {
+    return catalog.readAsync(CatalogCache.Type.REPOSITORY, () -> api.list(programId, start, limit).thenApply(RepositoryApiAsyncImpl::toList), "list", programId, start, limit)
+        .thenApply(this::toCollection);
+  }
+
+  @Override
+  public CompletableFuture<com.adobe.aio.cloudmanager.Repository> get(String programId, String repositoryId) {
+    return catalog.readAsync(CatalogCache.Type.REPOSITORY, () -> api.get(programId, repositoryId), "get", programId, repositoryId).thenApply(r -> new RepositoryImpl(r, client));
+  }
+
+  @Override
+  public CompletableFuture<Collection<String>> listBranches(com.adobe.aio.cloudmanager.Repository repository) {
+    return api.listBranches(repository.getProgramId(), repository.getId()).thenApply(list -> list.getEmbedded() == null || list.getEmbedded().getBranches() == null ?
+        Collections.emptyList() :
+        list.getEmbedded().getBranches().stream().map(RepositoryBranch::getName).collect(Collectors.toList()));
+  }
+
+  private Collection<com.adobe.aio.cloudmanager.Repository> toCollection(Collection<Repository> repositories) {
+    return repositories.stream().map(r -> new RepositoryImpl(r, client)).collect(Collectors.toList());
+  }
+
+  private static Collection<Repository> toList(RepositoryList list) {
+    return list.getEmbedded() == null || list.getEmbedded().getRepositories() == null ?
+        Collections.emptyList() :
+        list.getEmbedded().getRepositories();
+  }
+
+  private interface FeignApi {
+
+    @RequestLine("GET /api/program/{programId}/repositories")
+    CompletableFuture<RepositoryList> list(@Param("programId") String programId);
+
+    @RequestLine("GET /api/program/{programId}/repositories?start={start}&limit={limit}")
+    CompletableFuture<RepositoryList> list(@Param("programId") String programId, @Param("start") int start, @Param("limit") int limit);
+
+    @RequestLine("GET /api/program/{programId}/repository/{id}")
+    CompletableFuture<Repository> get(@Param("programId") String programId, @Param("id") String id);
+
+    @RequestLine("GET /api/program/{programId}/repository/{id}/branches")
+    CompletableFuture<BranchList> listBranches(@Param("programId") String programId, @Param("id") String id);
+  }
+}
@@ -24,16 +24,19 @@ import java.net.URL;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import com.adobe.aio.cloudmanager.CatalogCache;
 import com.adobe.aio.cloudmanager.CloudManagerApiException;
-import com.adobe.aio.cloudmanager.Constants;
 import com.adobe.aio.cloudmanager.Program;
+import com.adobe.aio.cloudmanager.impl.CatalogReader;
+import com.adobe.aio.cloudmanager.impl.PageIterator;
 import com.adobe.aio.cloudmanager.impl.generated.Repository;
 import com.adobe.aio.workspace.Workspace;
 import feign.Param;
 import feign.RequestLine;
 import com.adobe.aio.cloudmanager.RepositoryApi;
-import com.adobe.aio.cloudmanager.impl.FeignUtil;
+import com.adobe.aio.cloudmanager.impl.Transport;
 import com.adobe.aio.cloudmanager.impl.generated.BranchList;
 import com.adobe.aio.cloudmanager.impl.generated.RepositoryBranch;
 import com.adobe.aio.cloudmanager.impl.generated.RepositoryList;
@@ -41,18 +44,23 @@ import com.adobe.aio.cloudmanager.impl.generated.RepositoryList;
 public class RepositoryApiImpl implements RepositoryApi {
 
   private final FeignApi api;
+  private final CatalogReader catalog;
+  private final RepositoryApiAsyncImpl async;
 
   public RepositoryApiImpl(Workspace workspace, URL url) {
-    String baseUrl = url == null ? Constants.CLOUD_MANAGER_URL : url.toString();
-    api = FeignUtil.getBuilder(workspace).errorDecoder(new ExceptionDecoder()).target(FeignApi.class, baseUrl);
+    this(new Transport(workspace, url));
+  }
+
+  public RepositoryApiImpl(Transport transport) {
+    api = transport.target(FeignApi.class, new ExceptionDecoder());
+    catalog = transport.getCatalog();
+    async = new RepositoryApiAsyncImpl(transport, this);
   }
 
   @Override
   public Collection<com.adobe.aio.cloudmanager.Repository> list(String programId) throws CloudManagerApiException {
-    RepositoryList list = api.list(programId);
-    return list.getEmbedded() == null || list.getEmbedded().getRepositories() == null ?
-        Collections.emptyList() :
-        list.getEmbedded().getRepositories().stream().map(r -> new RepositoryImpl(r, this)).collect(Collectors.toList());
+    Collection<Repository> repositories = catalog.read(CatalogCache.Type.REPOSITORY, () -> toList(api.list(programId)), "list", programId);
+    return repositories.stream().map(r -> new RepositoryImpl(r, this)).collect(Collectors.toList());
   }
 
   @Override
@@ -72,10 +80,8 @@ public class RepositoryApiImpl implements RepositoryApi {
 
   @Override
   public Collection<com.adobe.aio.cloudmanager.Repository> list(String programId, int start, int limit) throws CloudManagerApiException {
-    RepositoryList list = api.list(programId, start, limit);
-    return list.getEmbedded() == null || list.getEmbedded().getRepositories() == null ?
-        Collections.emptyList() :
-        list.getEmbedded().getRepositories().stream().map(r -> new RepositoryImpl(r, this)).collect(Collectors.toList());
+    Collection<Repository> repositories = catalog.read(CatalogCache.Type.REPOSITORY, () -> toList(api.list(programId, start, limit)), "list", programId, start, limit);
+    return repositories.stream().map(r -> new RepositoryImpl(r, this)).collect(Collectors.toList());
   }
 
   @Override
@@ -83,9 +89,19 @@ public class RepositoryApiImpl implements RepositoryApi {
     return list(program.getId(), start, limit);
   }
 
+  @Override
+  public Stream<com.adobe.aio.cloudmanager.Repository> stream(String programId, int pageSize) throws CloudManagerApiException {
+    return PageIterator.stream((start, limit) -> async.list(programId, start, limit), pageSize);
+  }
+
+  @Override
+  public Stream<com.adobe.aio.cloudmanager.Repository> stream(Program program, int pageSize) throws CloudManagerApiException {
+    return stream(program.getId(), pageSize);
+  }
+
   @Override
   public com.adobe.aio.cloudmanager.Repository get(String programId, String repositoryId) throws CloudManagerApiException {
-    return new RepositoryImpl(api.get(programId, repositoryId), this);
+    return new RepositoryImpl(catalog.read(CatalogCache.Type.REPOSITORY, () -> api.get(programId, repositoryId), "get", programId, repositoryId), this);
   }
 
   @Override
@@ -101,6 +117,12 @@ public class RepositoryApiImpl implements RepositoryApi {
         list.getEmbedded().getBranches().stream().map(RepositoryBranch::getName).collect(Collectors.toList());
   }
 
+  private static Collection<Repository> toList(RepositoryList list) {
+    return list.getEmbedded() == null || list.getEmbedded().getRepositories() == null ?
+        Collections.emptyList() :
+        list.getEmbedded().getRepositories();
+  }
+
   private interface FeignApi {
 
     @RequestLine("GET /api/program/{programId}/repositories")
@@ -0,0 +1,66 @@
+package com.adobe.aio.cloudmanager.impl.tenant;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import com.adobe.aio.cloudmanager.CatalogCache;
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.Tenant;
+import com.adobe.aio.cloudmanager.TenantApiAsync;
+import com.adobe.aio.cloudmanager.impl.CatalogReader;
+import com.adobe.aio.cloudmanager.impl.Transport;
+import com.adobe.aio.cloudmanager.impl.generated.TenantList;
+import feign.Param;
+import feign.RequestLine;
+
+public class TenantApiAsyncImpl implements TenantApiAsync {
+
+  private final FeignApi api;
+  private final CatalogReader catalog;
+
+  public TenantApiAsyncImpl(Transport transport) {
+    api = transport.targetAsync(FeignApi.class, new ExceptionDecoder());
+    catalog = transport.getCatalog();
+  }
+
+  @Override
+  public CompletableFuture<Collection<Tenant>> list() {
+    return catalog.readAsync(CatalogCache.Type.TENANT, api::list, "list").thenApply(tenantList -> tenantList.getEmbedded() == null ?
+        Collections.emptyList() :
+        tenantList.getEmbedded().getTenants().stream().map(TenantImpl::new).collect(Collectors.toList()));
+  }
+
+  @Override
+  public CompletableFuture<Tenant> get(String tenantId) {
+    return catalog.readAsync(CatalogCache.Type.TENANT, () -> api.get(tenantId), "get", tenantId).thenApply(TenantImpl::new);
+  }
+
+  private interface FeignApi {
+    @RequestLine("GET /api/tenants")
+    CompletableFuture<TenantList> list();
+
+    @RequestLine("GET /api/tenant/{id}")
+    CompletableFuture<com.adobe.aio.cloudmanager.impl.generated.Tenant> get(@Param("id") String id);
+  }
+}
@@ -25,11 +25,12 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.stream.Collectors;
 
+import com.adobe.aio.cloudmanager.CatalogCache;
 import com.adobe.aio.cloudmanager.CloudManagerApiException;
-import com.adobe.aio.cloudmanager.Constants;
 import com.adobe.aio.cloudmanager.Tenant;
 import com.adobe.aio.cloudmanager.TenantApi;
-import com.adobe.aio.cloudmanager.impl.FeignUtil;
+import com.adobe.aio.cloudmanager.impl.CatalogReader;
+import com.adobe.aio.cloudmanager.impl.Transport;
 import com.adobe.aio.workspace.Workspace;
 import feign.Param;
 import feign.RequestLine;
@@ -38,15 +39,20 @@ import com.adobe.aio.cloudmanager.impl.generated.TenantList;
 public class TenantApiImpl implements TenantApi {
 
   private final FeignApi api;
+  private final CatalogReader catalog;
 
   public TenantApiImpl(Workspace workspace, URL url) {
-    String baseUrl = url == null ? Constants.CLOUD_MANAGER_URL : url.toString();
-    api = FeignUtil.getBuilder(workspace).errorDecoder(new ExceptionDecoder()).target(FeignApi.class, baseUrl);
+    this(new Transport(workspace, url));
+  }
+
+  public TenantApiImpl(Transport transport) {
+    api = transport.target(FeignApi.class, new ExceptionDecoder());
+    catalog = transport.getCatalog();
   }
 
   @Override
   public Collection<Tenant> list() throws CloudManagerApiException {
-    TenantList tenantList = api.list();
+    TenantList tenantList = catalog.read(CatalogCache.Type.TENANT, api::list, "list");
     return tenantList.getEmbedded() == null ?
         Collections.emptyList() :
         tenantList.getEmbedded().getTenants().stream().map(TenantImpl::new).collect(Collectors.toList());
@@ -55,7 +61,7 @@ public class TenantApiImpl implements TenantApi {
 
   @Override
   public Tenant get(String tenantId) throws CloudManagerApiException {
-    return new TenantImpl(api.get(tenantId));
+    return new TenantImpl(catalog.read(CatalogCache.Type.TENANT, () -> api.get(tenantId), "get", tenantId));
   }
 
   private interface FeignApi {
@@ -0,0 +1,136 @@
+package com.adobe.aio.cloudmanager;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.net.URL;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.adobe.aio.cloudmanager.impl.AbstractApiTest;
+import com.adobe.aio.ims.feign.AuthInterceptor;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import org.mockserver.model.HttpRequest;
+
+import static com.adobe.aio.util.Constants.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.mockserver.model.HttpRequest.*;
+import static org.mockserver.model.HttpResponse.*;
+
+public class CloudManagerClientTest extends AbstractApiTest {
+
+  @Test
+  void apis_share_interceptor_chain() throws Exception {
+    try (MockedConstruction<AuthInterceptor.Builder> builders = mockConstruction(AuthInterceptor.Builder.class,
+        (mock, mockContext) -> {
+          when(mock.workspace(workspace)).thenReturn(mock);
+          when(mock.build()).thenReturn(authInterceptor);
+        }
+    )) {
+      CloudManagerClient underTest = CloudManagerClient.builder().workspace(workspace).url(new URL(baseUrl)).build();
+      assertNotNull(underTest.getApi(TenantApi.class), "Tenant API created.");
+      assertNotNull(underTest.getApi(ProgramApi.class), "Program API created.");
+      assertNotNull(underTest.getApi(PipelineApi.class), "Pipeline API created.");
+      assertNotNull(underTest.getApi(TenantApiAsync.class), "Asynchronous tenant API created.");
+      assertEquals(1, builders.constructed().size(), "One authentication interceptor for all APIs.");
+    }
+  }
+
+  @Test
+  void api_builders_do_not_share() throws Exception {
+    try (MockedConstruction<AuthInterceptor.Builder> builders = mockConstruction(AuthInterceptor.Builder.class,
+        (mock, mockContext) -> {
+          when(mock.workspace(workspace)).thenReturn(mock);
+          when(mock.build()).thenReturn(authInterceptor);
+        }
+    )) {
+      new ApiBuilder<>(TenantApi.class).workspace(workspace).url(new URL(baseUrl)).build();
+      new ApiBuilder<>(ProgramApi.class).workspace(workspace).url(new URL(baseUrl)).build();
+      assertEquals(2, builders.constructed().size(), "One authentication interceptor per built API.");
+    }
+  }
+
+  @Test
+  void get_api_reuses_instance() throws Exception {
+    CloudManagerClient underTest = newClient(null);
+    TenantApi tenants = underTest.getApi(TenantApi.class);
+    assertSame(tenants, underTest.getApi(TenantApi.class), "Same API instance.");
+    assertSame(tenants, new ApiBuilder<>(TenantApi.class).client(underTest).build(), "Builder hands out client's API.");
+  }
+
+  @Test
+  void get_api_unknown_type() throws Exception {
+    CloudManagerClient underTest = newClient(null);
+    CloudManagerApiException exception = assertThrows(CloudManagerApiException.class, () -> underTest.getApi(ApiBuilder.class), "Exception thrown.");
+    assertEquals("Unknown API requested (class com.adobe.aio.cloudmanager.ApiBuilder).", exception.getMessage(), "Message was correct.");
+  }
+
+  @Test
+  void api_builder_client_with_workspace() throws Exception {
+    CloudManagerClient underTest = newClient(null);
+    IllegalStateException exception = assertThrows(IllegalStateException.class,
+        () -> new ApiBuilder<>(TenantApi.class).client(underTest).workspace(workspace).build(), "Exception thrown.");
+    assertEquals("Client must not be combined with a workspace, url or policies.", exception.getMessage(), "Message was correct.");
+  }
+
+  @Test
+  void apis_use_configured_http_client() throws Exception {
+    AtomicInteger sent = new AtomicInteger();
+    OkHttpClient httpClient = new OkHttpClient.Builder().addInterceptor(chain -> {
+      sent.incrementAndGet();
+      return chain.proceed(chain.request());
+    }).build();
+    CloudManagerClient underTest = newClient(httpClient);
+
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/tenants");
+    client.when(list).respond(response().withBody(loadBodyJson("tenant/list.json")));
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1");
+    client.when(get).respond(response().withBody(loadBodyJson("program/get.json")));
+
+    Collection<Tenant> tenants = underTest.getApi(TenantApi.class).list();
+    assertEquals(1, tenants.size(), "Correct length of tenant list");
+    assertNotNull(underTest.getApi(ProgramApiAsync.class).get("1").get(), "Program found.");
+    assertEquals(2, sent.get(), "Both requests sent through configured client.");
+    client.verify(list);
+    client.verify(get);
+    client.clear(list);
+    client.clear(get);
+  }
+
+  private CloudManagerClient newClient(OkHttpClient httpClient) throws Exception {
+    try (MockedConstruction<AuthInterceptor.Builder> ignored = mockConstruction(AuthInterceptor.Builder.class,
+        (mock, mockContext) -> {
+          when(mock.workspace(workspace)).thenReturn(mock);
+          when(mock.build()).thenReturn(authInterceptor);
+        }
+    )) {
+      CloudManagerClient.Builder builder = CloudManagerClient.builder().workspace(workspace).url(new URL(baseUrl));
+      if (httpClient != null) {
+        builder.httpClient(httpClient);
+      }
+      return builder.build();
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoundedCacheTest {
+
+  @Test
+  void evicts_leastRecentlyUsed() {
+    BoundedCache<String, String> cache = new BoundedCache<>(2, 100, v -> 1);
+    cache.put("a", "A");
+    cache.put("b", "B");
+    cache.get("a");
+    cache.put("c", "C");
+    assertEquals(2, cache.size(), "Bounded by entries.");
+    assertEquals("A", cache.get("a"), "Recently used kept.");
+    assertNull(cache.get("b"), "Eldest evicted.");
+    assertEquals("C", cache.get("c"), "New entry kept.");
+  }
+
+  @Test
+  void evicts_byWeight() {
+    BoundedCache<String, List<Integer>> cache = new BoundedCache<>(10, 5, List::size);
+    cache.put("a", List.of(1, 2));
+    cache.put("b", List.of(1, 2));
+    cache.put("c", List.of(1, 2));
+    assertEquals(4, cache.getWeight(), "Weight bounded.");
+    assertNull(cache.get("a"), "Eldest evicted.");
+    cache.put("d", List.of(1, 2, 3, 4, 5, 6));
+    assertNull(cache.get("d"), "Heavier than bound not kept.");
+    assertEquals(2, cache.size(), "Existing entries kept.");
+  }
+
+  @Test
+  void replace_and_remove() {
+    BoundedCache<String, List<Integer>> cache = new BoundedCache<>(10, 10, List::size);
+    cache.put("a", List.of(1));
+    cache.put("a", List.of(1, 2, 3));
+    assertEquals(3, cache.getWeight(), "Replaced weight.");
+    assertEquals(List.of(1, 2, 3), cache.remove("a"), "Removed value.");
+    assertEquals(0, cache.getWeight(), "Weight released.");
+    assertNull(cache.remove("a"), "Nothing to remove.");
+  }
+
+  @Test
+  void disabled() {
+    BoundedCache<String, String> cache = new BoundedCache<>(0, 10, v -> 1);
+    cache.put("a", "A");
+    assertNull(cache.get("a"), "Nothing kept.");
+    assertEquals(0, cache.size(), "Empty.");
+  }
+}
@@ -0,0 +1,244 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.net.URL;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.adobe.aio.cloudmanager.ApiBuilder;
+import com.adobe.aio.cloudmanager.CatalogCache;
+import com.adobe.aio.cloudmanager.CatalogCachePolicy;
+import com.adobe.aio.cloudmanager.EnvironmentApi;
+import com.adobe.aio.cloudmanager.ProgramApi;
+import com.adobe.aio.cloudmanager.Repository;
+import com.adobe.aio.cloudmanager.RepositoryApi;
+import com.adobe.aio.cloudmanager.RepositoryApiAsync;
+import com.adobe.aio.cloudmanager.TenantApi;
+import com.adobe.aio.cloudmanager.impl.generated.EmbeddedProgram;
+import com.adobe.aio.cloudmanager.impl.program.ProgramImpl;
+import com.adobe.aio.cloudmanager.impl.repository.RepositoryImpl;
+import com.adobe.aio.ims.feign.AuthInterceptor;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import org.mockserver.model.Delay;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.verify.VerificationTimes;
+
+import static com.adobe.aio.util.Constants.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.mockserver.model.HttpRequest.*;
+import static org.mockserver.model.HttpResponse.*;
+
+public class CatalogCacheImplTest extends AbstractApiTest {
+
+  private final MutableClock clock = new MutableClock(Instant.parse("2023-05-01T00:00:00Z"));
+
+  private final CatalogCacheImpl cache = new CatalogCacheImpl(CatalogCachePolicy.builder()
+      .ttl(CatalogCache.Type.PROGRAM, Duration.ofMinutes(5))
+      .ttl(CatalogCache.Type.REGION, Duration.ofMinutes(5))
+      .ttl(CatalogCache.Type.REPOSITORY, Duration.ofMinutes(5))
+      .ttl(CatalogCache.Type.ENVIRONMENT, Duration.ofMinutes(5))
+      .build(), clock);
+
+  private <A> A build(Class<A> clazz) throws Exception {
+    return build(clazz, baseUrl);
+  }
+
+  private <A> A build(Class<A> clazz, String url) throws Exception {
+    try (MockedConstruction<AuthInterceptor.Builder> ignored = mockConstruction(AuthInterceptor.Builder.class,
+        (mock, mockContext) -> {
+          when(mock.workspace(workspace)).thenReturn(mock);
+          when(mock.build()).thenReturn(authInterceptor);
+        }
+    )) {
+      return new ApiBuilder<>(clazz).workspace(workspace).url(new URL(url)).catalogCache(cache).build();
+    }
+  }
+
+  @Test
+  void program_cached_until_expired() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1");
+    client.when(get).respond(response().withBody(loadBodyJson("program/get.json")));
+    HttpRequest regions = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/regions");
+    client.when(regions).respond(response().withBody(loadBodyJson("program/regions.json")));
+
+    ProgramApi api = build(ProgramApi.class);
+    assertEquals("1", api.get("1").getId(), "Program retrieved");
+    assertEquals("1", api.get("1").getId(), "Program cached");
+    assertEquals(api.listRegions("1"), api.listRegions("1"), "Regions cached");
+    client.verify(get, VerificationTimes.once());
+    client.verify(regions, VerificationTimes.once());
+
+    clock.instant = clock.instant.plus(Duration.ofMinutes(5));
+    assertEquals("1", api.get("1").getId(), "Program retrieved again");
+    client.verify(get, VerificationTimes.exactly(2));
+    assertEquals(new CatalogCache.Stats(1, 2), cache.getStats(CatalogCache.Type.PROGRAM), "Program stats");
+    assertEquals(new CatalogCache.Stats(1, 1), cache.getStats(CatalogCache.Type.REGION), "Region stats");
+    client.clear(get);
+    client.clear(regions);
+  }
+
+  @Test
+  void program_cached_as_copy() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1");
+    client.when(get).respond(response().withBody(loadBodyJson("program/get.json")));
+
+    ProgramApi api = build(ProgramApi.class);
+    ((ProgramImpl) api.get("1")).setStatus(EmbeddedProgram.StatusEnum.DELETED);
+    assertNull(((ProgramImpl) api.get("1")).getStatus(), "Cached program unchanged");
+    client.verify(get, VerificationTimes.once());
+    client.clear(get);
+  }
+
+  @Test
+  void repository_list_cached_as_copy() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/repositories");
+    client.when(list).respond(response().withBody(loadBodyJson("repository/list.json")));
+
+    RepositoryApi api = build(RepositoryApi.class);
+    Repository first = api.list("1").iterator().next();
+    ((RepositoryImpl) first).setRepo("changed");
+    Repository second = api.list("1").iterator().next();
+    assertNotSame(first, second, "Copy returned");
+    assertEquals("Repo1", ((RepositoryImpl) second).getRepo(), "Cached repository unchanged");
+    client.verify(list, VerificationTimes.once());
+    client.clear(list);
+  }
+
+  @Test
+  void environment_invalidated_by_delete() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/environments");
+    client.when(list).respond(response().withBody(loadBodyJson("environment/list.json")));
+    HttpRequest del = request().withMethod("DELETE").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/environment/1");
+    client.when(del).respond(response().withBody(loadBodyJson("environment/get.json")));
+
+    EnvironmentApi api = build(EnvironmentApi.class);
+    assertEquals(api.list("1").size(), api.list("1").size(), "Environments cached");
+    client.verify(list, VerificationTimes.once());
+    api.delete("1", "1");
+    api.list("1");
+    client.verify(list, VerificationTimes.exactly(2));
+    client.clear(list);
+    client.clear(del);
+  }
+
+  @Test
+  void repository_async_cached_and_invalidated() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/repositories");
+    client.when(list).respond(response().withBody(loadBodyJson("repository/list.json")));
+
+    RepositoryApiAsync api = build(RepositoryApiAsync.class);
+    assertEquals(api.list("1").get().size(), api.list("1").get().size(), "Repositories cached");
+    client.verify(list, VerificationTimes.once());
+    cache.invalidate(CatalogCache.Type.REPOSITORY);
+    api.list("1").get();
+    client.verify(list, VerificationTimes.exactly(2));
+    client.clear(list);
+  }
+
+  @Test
+  void repository_invalidated_during_load_not_stored() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/repository/1");
+    client.when(get).respond(response().withBody(loadBodyJson("repository/get.json")).withDelay(Delay.delay(TimeUnit.MILLISECONDS, 500)));
+
+    RepositoryApiAsync api = build(RepositoryApiAsync.class);
+    CompletableFuture<Repository> loading = api.get("1", "1");
+    cache.invalidate(CatalogCache.Type.REPOSITORY);
+    loading.get();
+    api.get("1", "1").get();
+    client.verify(get, VerificationTimes.exactly(2));
+    client.clear(get);
+  }
+
+  @Test
+  void program_cached_per_server() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1");
+    client.when(get).respond(response().withBody(loadBodyJson("program/get.json")));
+
+    ProgramApi api = build(ProgramApi.class);
+    ProgramApi other = build(ProgramApi.class, baseUrl.replace("localhost", "127.0.0.1"));
+    api.get("1");
+    other.get("1");
+    client.verify(get, VerificationTimes.exactly(2));
+    api.get("1");
+    client.verify(get, VerificationTimes.exactly(2));
+    client.clear(get);
+  }
+
+  @Test
+  void tenant_not_cached_without_ttl() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/tenant/1");
+    client.when(get).respond(response().withBody(loadBodyJson("tenant/get.json")));
+
+    TenantApi api = build(TenantApi.class);
+    assertEquals(api.get("1"), api.get("1"), "Tenant retrieved");
+    client.verify(get, VerificationTimes.exactly(2));
+    assertEquals(new CatalogCache.Stats(0, 0), cache.getStats(CatalogCache.Type.TENANT), "Tenant reads not counted");
+    client.clear(get);
+  }
+
+  private static class MutableClock extends Clock {
+    private volatile Instant instant;
+
+    private MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
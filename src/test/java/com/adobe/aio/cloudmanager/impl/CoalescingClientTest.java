@@ -0,0 +1,146 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.net.URL;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import com.adobe.aio.cloudmanager.ApiBuilder;
+import com.adobe.aio.cloudmanager.Tenant;
+import com.adobe.aio.cloudmanager.TenantApi;
+import com.adobe.aio.cloudmanager.TenantApiAsync;
+import com.adobe.aio.ims.feign.AuthInterceptor;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import org.mockserver.model.Delay;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.verify.VerificationTimes;
+
+import static com.adobe.aio.util.Constants.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.mockserver.model.HttpRequest.*;
+import static org.mockserver.model.HttpResponse.*;
+
+public class CoalescingClientTest extends AbstractApiTest {
+
+  private <A> A build(Class<A> clazz) throws Exception {
+    try (MockedConstruction<AuthInterceptor.Builder> ignored = mockConstruction(AuthInterceptor.Builder.class,
+        (mock, mockContext) -> {
+          when(mock.workspace(workspace)).thenReturn(mock);
+          when(mock.build()).thenReturn(authInterceptor);
+        }
+    )) {
+      return new ApiBuilder<>(clazz).workspace(workspace).url(new URL(baseUrl)).build();
+    }
+  }
+
+  @Test
+  void get_concurrent_async_coalesced() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/tenant/1");
+    client.when(get).respond(response().withBody(loadBodyJson("tenant/get.json")).withDelay(Delay.delay(TimeUnit.MILLISECONDS, 500)));
+
+    TenantApiAsync api = build(TenantApiAsync.class);
+    CompletableFuture<Tenant> first = api.get("1");
+    CompletableFuture<Tenant> second = api.get("1");
+    Tenant tenant = first.get();
+    assertEquals(tenant, second.get(), "Same tenant returned");
+    assertNotSame(tenant, second.get(), "Each caller decoded its own copy");
+    client.verify(get, VerificationTimes.once());
+    client.clear(get);
+  }
+
+  @Test
+  void get_concurrent_sync_coalesced() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/tenant/1");
+    client.when(get).respond(response().withBody(loadBodyJson("tenant/get.json")).withDelay(Delay.delay(TimeUnit.SECONDS, 1)));
+
+    TenantApi api = build(TenantApi.class);
+    CompletableFuture<Tenant> first = CompletableFuture.supplyAsync(() -> get(api));
+    Thread.sleep(200);
+    CompletableFuture<Tenant> second = CompletableFuture.supplyAsync(() -> get(api));
+    assertEquals(first.get(), second.get(), "Same tenant returned");
+    client.verify(get, VerificationTimes.once());
+    client.clear(get);
+  }
+
+  @Test
+  void get_sequential_not_coalesced() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/tenant/1");
+    client.when(get).respond(response().withBody(loadBodyJson("tenant/get.json")));
+
+    TenantApi api = build(TenantApi.class);
+    assertEquals(api.get("1"), api.get("1"), "Same tenant returned");
+    client.verify(get, VerificationTimes.exactly(2));
+    client.clear(get);
+  }
+
+  @Test
+  void get_cancelled_with_scope() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/tenant/1");
+    client.when(get).respond(response().withBody(loadBodyJson("tenant/get.json")).withDelay(Delay.delay(TimeUnit.SECONDS, 5)));
+
+    TenantApiAsync api = build(TenantApiAsync.class);
+    CallScope scope = new CallScope();
+    CompletableFuture<Tenant> tenant = scope.run(() -> api.get("1"));
+    Thread.sleep(200);
+    scope.cancel();
+    assertThrows(ExecutionException.class, () -> tenant.get(2, TimeUnit.SECONDS), "Call cancelled");
+    client.clear(get);
+  }
+
+  @Test
+  void get_joined_survives_cancelled_caller() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/tenant/1");
+    client.when(get).respond(response().withBody(loadBodyJson("tenant/get.json")).withDelay(Delay.delay(TimeUnit.MILLISECONDS, 500)));
+
+    TenantApiAsync api = build(TenantApiAsync.class);
+    CallScope first = new CallScope();
+    first.run(() -> api.get("1"));
+    CallScope second = new CallScope();
+    CompletableFuture<Tenant> joined = second.run(() -> api.get("1"));
+    first.cancel();
+    assertNotNull(joined.get(5, TimeUnit.SECONDS), "Joined request completed");
+    client.verify(get, VerificationTimes.once());
+    client.clear(get);
+  }
+
+  private static Tenant get(TenantApi api) {
+    try {
+      return api.get("1");
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,173 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.net.URL;
+import java.util.UUID;
+
+import com.adobe.aio.cloudmanager.ApiBuilder;
+import com.adobe.aio.cloudmanager.ConditionalCachePolicy;
+import com.adobe.aio.cloudmanager.PipelineApi;
+import com.adobe.aio.cloudmanager.PipelineUpdate;
+import com.adobe.aio.cloudmanager.Tenant;
+import com.adobe.aio.cloudmanager.TenantApi;
+import com.adobe.aio.cloudmanager.TenantApiAsync;
+import com.adobe.aio.cloudmanager.impl.pipeline.PipelineImpl;
+import com.adobe.aio.ims.feign.AuthInterceptor;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.MediaType;
+import org.mockserver.verify.VerificationTimes;
+
+import static com.adobe.aio.util.Constants.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.mockserver.model.HttpRequest.*;
+import static org.mockserver.model.HttpResponse.*;
+import static org.mockserver.model.HttpStatusCode.*;
+import static org.mockserver.model.NottableString.*;
+
+public class ConditionalCacheTest extends AbstractApiTest {
+
+  private <A> A build(Class<A> clazz, ConditionalCachePolicy policy) throws Exception {
+    try (MockedConstruction<AuthInterceptor.Builder> ignored = mockConstruction(AuthInterceptor.Builder.class,
+        (mock, mockContext) -> {
+          when(mock.workspace(workspace)).thenReturn(mock);
+          when(mock.build()).thenReturn(authInterceptor);
+        }
+    )) {
+      return new ApiBuilder<>(clazz).workspace(workspace).url(new URL(baseUrl)).conditionalCache(policy).build();
+    }
+  }
+
+  @Test
+  void get_etag_not_modified() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest conditional = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withHeader("If-None-Match", "\"v1\"").withPath("/api/tenant/1");
+    client.when(conditional).respond(response().withStatusCode(NOT_MODIFIED_304.code()));
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withHeader(not("If-None-Match")).withPath("/api/tenant/1");
+    client.when(get).respond(response().withHeader("ETag", "\"v1\"").withBody(loadBodyJson("tenant/get.json")));
+
+    TenantApi api = build(TenantApi.class, ConditionalCachePolicy.DEFAULT);
+    Tenant tenant = api.get("1");
+    assertEquals(tenant, api.get("1"), "Cached tenant returned");
+    assertEquals(tenant, api.get("1"), "Cached tenant returned again");
+    client.verify(get, VerificationTimes.once());
+    client.verify(conditional, VerificationTimes.exactly(2));
+    client.clear(conditional);
+    client.clear(get);
+  }
+
+  @Test
+  void get_last_modified_not_modified_async() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    String lastModified = "Wed, 21 Oct 2015 07:28:00 GMT";
+    HttpRequest conditional = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withHeader("If-Modified-Since", lastModified).withPath("/api/tenant/1");
+    client.when(conditional).respond(response().withStatusCode(NOT_MODIFIED_304.code()));
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withHeader(not("If-Modified-Since")).withPath("/api/tenant/1");
+    client.when(get).respond(response().withHeader("Last-Modified", lastModified).withBody(loadBodyJson("tenant/get.json")));
+
+    TenantApiAsync api = build(TenantApiAsync.class, ConditionalCachePolicy.DEFAULT);
+    Tenant tenant = api.get("1").get();
+    assertEquals(tenant, api.get("1").get(), "Cached tenant returned");
+    client.verify(get, VerificationTimes.once());
+    client.verify(conditional, VerificationTimes.once());
+    client.clear(conditional);
+    client.clear(get);
+  }
+
+  @Test
+  void get_etag_modified() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest conditional = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withHeader("If-None-Match", "\"v1\"").withPath("/api/tenant/1");
+    client.when(conditional).respond(response().withHeader("ETag", "\"v2\"").withBody(loadBodyJson("tenant/get.json").getValue().replace("\"1\"", "\"2\""), MediaType.APPLICATION_JSON));
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withHeader(not("If-None-Match")).withPath("/api/tenant/1");
+    client.when(get).respond(response().withHeader("ETag", "\"v1\"").withBody(loadBodyJson("tenant/get.json")));
+
+    TenantApi api = build(TenantApi.class, ConditionalCachePolicy.DEFAULT);
+    assertEquals("1", api.get("1").getId(), "Tenant retrieved");
+    assertEquals("2", api.get("1").getId(), "Changed tenant retrieved");
+    client.verify(get, VerificationTimes.once());
+    client.verify(conditional, VerificationTimes.once());
+    client.clear(conditional);
+    client.clear(get);
+  }
+
+  @Test
+  void get_not_modified_returns_copy() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest conditional = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withHeader("If-None-Match", "\"v1\"").withPath("/api/program/1/pipeline/1");
+    client.when(conditional).respond(response().withStatusCode(NOT_MODIFIED_304.code()));
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withHeader(not("If-None-Match")).withPath("/api/program/1/pipeline/1");
+    client.when(get).respond(response().withHeader("ETag", "\"v1\"").withBody(loadBodyJson("pipeline/get.json")));
+
+    PipelineApi api = build(PipelineApi.class, ConditionalCachePolicy.DEFAULT);
+    PipelineImpl first = (PipelineImpl) api.get("1", "1");
+    first.getPhases().get(1).setBranch("changed");
+    PipelineImpl second = (PipelineImpl) api.get("1", "1");
+    assertNotSame(first, second, "Copy returned.");
+    assertEquals("yellow", second.getPhases().get(1).getBranch(), "Cached branch unchanged.");
+    client.verify(get, VerificationTimes.once());
+    client.verify(conditional, VerificationTimes.once());
+    client.clear(conditional);
+    client.clear(get);
+  }
+
+  @Test
+  void get_not_conditional_without_policy() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withHeader(not("If-None-Match")).withPath("/api/tenant/1");
+    client.when(get).respond(response().withHeader("ETag", "\"v1\"").withBody(loadBodyJson("tenant/get.json")));
+
+    TenantApi api = build(TenantApi.class, ConditionalCachePolicy.NONE);
+    assertEquals(api.get("1"), api.get("1"), "Tenant retrieved");
+    client.verify(get, VerificationTimes.exactly(2));
+    client.clear(get);
+  }
+
+  @Test
+  void pipeline_update_does_not_change_cached() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest conditional = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withHeader("If-None-Match", "\"v1\"").withPath("/api/program/1/pipeline/1");
+    client.when(conditional).respond(response().withStatusCode(NOT_MODIFIED_304.code()));
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withHeader(not("If-None-Match")).withPath("/api/program/1/pipeline/1");
+    client.when(get).respond(response().withHeader("ETag", "\"v1\"").withBody(loadBodyJson("pipeline/get.json")));
+    HttpRequest patch = request().withMethod("PATCH").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1");
+    client.when(patch).respond(response().withBody(loadBodyJson("pipeline/get.json")));
+
+    PipelineApi api = build(PipelineApi.class, ConditionalCachePolicy.DEFAULT);
+    api.update("1", "1", PipelineUpdate.builder().branch("newbranch").repositoryId("2").build());
+    PipelineImpl pipeline = (PipelineImpl) api.get("1", "1");
+    assertEquals("yellow", pipeline.getPhases().get(1).getBranch(), "Cached branch unchanged.");
+    client.verify(get, VerificationTimes.once());
+    client.verify(conditional, VerificationTimes.once());
+    client.clear(conditional);
+    client.clear(get);
+    client.clear(patch);
+  }
+}
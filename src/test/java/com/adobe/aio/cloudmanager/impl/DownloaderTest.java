@@ -0,0 +1,143 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.commons.io.FileUtils;
+
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.DownloadListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DownloaderTest {
+
+  private ExecutorService executor;
+
+  @BeforeEach
+  void before() {
+    executor = Executors.newFixedThreadPool(8);
+  }
+
+  @AfterEach
+  void after() {
+    executor.shutdownNow();
+  }
+
+  private static CompletableFuture<Integer> delayed(Executor executor, int value, AtomicInteger inFlight, AtomicInteger maxInFlight) {
+    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        Thread.sleep(10);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      inFlight.decrementAndGet();
+      return value;
+    }, executor);
+  }
+
+  @Test
+  void invalid_parallelism() {
+    assertThrows(IllegalArgumentException.class, () -> Downloader.forEach(List.of(1), 0, CompletableFuture::completedFuture), "Exception thrown.");
+  }
+
+  @Test
+  void empty() throws Exception {
+    assertTrue(Downloader.forEach(Collections.<Integer>emptyList(), 2, CompletableFuture::completedFuture).get().isEmpty(), "No results.");
+  }
+
+  @Test
+  void completed_tasks_do_not_recurse() throws Exception {
+    List<Integer> items = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+    assertEquals(items, Downloader.forEach(items, 1, CompletableFuture::completedFuture).get(10, TimeUnit.SECONDS), "All results returned.");
+  }
+
+  @Test
+  void bounded_and_ordered() throws Exception {
+    List<Integer> items = IntStream.range(0, 20).boxed().collect(Collectors.toList());
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maxInFlight = new AtomicInteger();
+    List<Integer> results = Downloader.forEach(items, 3, i -> delayed(executor, i * 2, inFlight, maxInFlight)).get(10, TimeUnit.SECONDS);
+    assertEquals(items.stream().map(i -> i * 2).collect(Collectors.toList()), results, "Results in order.");
+    assertTrue(maxInFlight.get() <= 3, "Parallelism bounded.");
+    assertTrue(maxInFlight.get() > 1, "Ran in parallel.");
+  }
+
+  @Test
+  void failure_stops_and_reports_first() {
+    List<Integer> items = IntStream.range(0, 20).boxed().collect(Collectors.toList());
+    AtomicInteger started = new AtomicInteger();
+    CompletableFuture<List<Integer>> future = Downloader.forEach(items, 2, i -> {
+      started.incrementAndGet();
+      if (i == 3 || i == 4) {
+        return CompletableFuture.failedFuture(new CloudManagerApiException("Failed " + i));
+      }
+      return CompletableFuture.completedFuture(i);
+    });
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS), "Exception thrown.");
+    assertEquals("Failed 3", exception.getCause().getMessage(), "First failure reported.");
+    assertEquals(4, started.get(), "No tasks started after failure.");
+  }
+
+  @Test
+  void md5_match_skipped() throws Exception {
+    File file = Files.createTempFile("downloader", ".txt").toFile();
+    FileUtils.writeStringToFile(file, "content", StandardCharsets.UTF_8);
+    assertEquals("9a0364b9e99bb480dd25e1f0284c8555", Downloader.md5(file), "MD5 computed.");
+    AtomicBoolean skipped = new AtomicBoolean();
+    Downloader downloader = new Downloader(FeignUtil.getHttpClient());
+    File result = downloader.download("http://localhost:1/not-requested", file, "9A0364B9E99BB480DD25E1F0284C8555", new DownloadListener() {
+      @Override
+      public void skipped(File f) {
+        skipped.set(true);
+      }
+    }).get(10, TimeUnit.SECONDS);
+    assertSame(file, result, "File returned.");
+    assertTrue(skipped.get(), "Download skipped.");
+    assertEquals("content", FileUtils.readFileToString(file, StandardCharsets.UTF_8), "Content kept.");
+  }
+
+  @Test
+  void await_unwraps() {
+    CloudManagerApiException exception = assertThrows(CloudManagerApiException.class,
+        () -> Downloader.await(CompletableFuture.failedFuture(new CompletionException(new CloudManagerApiException("Failed")))), "Exception thrown.");
+    assertEquals("Failed", exception.getMessage(), "Message was correct.");
+  }
+}
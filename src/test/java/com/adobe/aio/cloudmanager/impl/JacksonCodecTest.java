@@ -0,0 +1,75 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import com.adobe.aio.cloudmanager.impl.generated.Program;
+import com.fasterxml.jackson.core.type.TypeReference;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JacksonCodecTest {
+
+  private static final Request REQUEST = Request.create(Request.HttpMethod.GET, "/", Collections.emptyMap(), null, StandardCharsets.UTF_8, new RequestTemplate());
+
+  private static Response response(int status, String body) {
+    return Response.builder().status(status).request(REQUEST).headers(Collections.emptyMap())
+        .body(body == null ? null : body.getBytes(StandardCharsets.UTF_8)).build();
+  }
+
+  @Test
+  void readers_writers_cached() {
+    assertSame(FeignUtil.getReader(Program.class), FeignUtil.getReader(Program.class), "Reader reused");
+    assertSame(FeignUtil.getWriter(Program.class), FeignUtil.getWriter(Program.class), "Writer reused");
+    assertSame(FeignUtil.getMapper().getFactory(), FeignUtil.getJsonFactory(), "Factory shared");
+  }
+
+  @Test
+  void decode() throws Exception {
+    Program program = (Program) JacksonCodec.INSTANCE.decode(response(200, "{ \"id\": \"1\", \"name\": \"Program\" }"), Program.class);
+    assertEquals("1", program.getId(), "Id correct");
+    assertEquals("Program", program.getName(), "Name correct");
+  }
+
+  @Test
+  void decode_empty() throws Exception {
+    assertNull(JacksonCodec.INSTANCE.decode(response(200, ""), Program.class), "Empty body");
+    assertNull(JacksonCodec.INSTANCE.decode(response(200, null), Program.class), "Missing body");
+    List<?> list = (List<?>) JacksonCodec.INSTANCE.decode(response(404, null), new TypeReference<List<Program>>() {}.getType());
+    assertTrue(list.isEmpty(), "Not found is empty");
+  }
+
+  @Test
+  void encode() {
+    RequestTemplate template = new RequestTemplate();
+    Program program = new Program().id("1").name("Program");
+    JacksonCodec.INSTANCE.encode(program, Program.class, template);
+    String body = new String(template.body(), StandardCharsets.UTF_8);
+    assertTrue(body.contains("\"id\":\"1\""), "Id written");
+    assertTrue(body.contains("\"name\":\"Program\""), "Name written");
+  }
+}
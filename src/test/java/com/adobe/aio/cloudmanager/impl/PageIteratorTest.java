@@ -0,0 +1,119 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PageIteratorTest {
+
+  private static CompletableFuture<Collection<Integer>> page(int total, int start, int limit) {
+    return CompletableFuture.completedFuture(IntStream.range(start, Math.min(total, start + limit)).boxed().collect(Collectors.toList()));
+  }
+
+  @Test
+  void invalid_pageSize() {
+    assertThrows(IllegalArgumentException.class, () -> PageIterator.stream((start, limit) -> page(10, start, limit), 0), "Exception thrown.");
+  }
+
+  @Test
+  void walks_all_pages() throws CloudManagerApiException {
+    List<Integer> starts = new CopyOnWriteArrayList<>();
+    List<Integer> items = PageIterator.stream((start, limit) -> {
+      starts.add(start);
+      return page(25, start, limit);
+    }, 10).collect(Collectors.toList());
+    assertEquals(25, items.size(), "All items returned.");
+    assertEquals(IntStream.range(0, 25).boxed().collect(Collectors.toList()), items, "Items in order.");
+    assertEquals(List.of(0, 10, 20), starts, "Pages requested.");
+  }
+
+  @Test
+  void exact_multiple() throws CloudManagerApiException {
+    List<Integer> starts = new CopyOnWriteArrayList<>();
+    long count = PageIterator.stream((start, limit) -> {
+      starts.add(start);
+      return page(20, start, limit);
+    }, 10).count();
+    assertEquals(20, count, "All items returned.");
+    assertEquals(List.of(0, 10, 20), starts, "Empty page ends iteration.");
+  }
+
+  @Test
+  void stops_early() throws Exception {
+    List<Integer> starts = new CopyOnWriteArrayList<>();
+    List<Integer> items;
+    try (Stream<Integer> stream = PageIterator.stream((start, limit) -> {
+      starts.add(start);
+      return page(1000, start, limit);
+    }, 10)) {
+      items = stream.limit(5).collect(Collectors.toList());
+    }
+    assertEquals(5, items.size(), "Items returned.");
+    assertTrue(starts.size() <= 2, "At most one page retrieved ahead.");
+  }
+
+  @Test
+  void close_cancels_prefetch() throws Exception {
+    List<CallScope> scopes = new CopyOnWriteArrayList<>();
+    Stream<Integer> stream = PageIterator.stream((start, limit) -> {
+      if (start == 0) {
+        return page(100, start, limit);
+      }
+      scopes.add(CallScope.current());
+      return new CompletableFuture<>();
+    }, 10);
+    assertEquals(1, scopes.size(), "Next page requested within a scope.");
+    assertFalse(scopes.get(0).isCancelled(), "Prefetch running.");
+    stream.close();
+    assertTrue(scopes.get(0).isCancelled(), "Prefetch cancelled.");
+    assertNull(CallScope.current(), "Scope not left current.");
+  }
+
+  @Test
+  void first_page_failure() {
+    CloudManagerApiException exception = assertThrows(CloudManagerApiException.class, () -> PageIterator.stream((start, limit) ->
+        CompletableFuture.failedFuture(new CloudManagerApiException("Failed")), 10), "Exception thrown.");
+    assertEquals("Failed", exception.getMessage(), "Message was correct.");
+  }
+
+  @Test
+  void later_page_failure() throws CloudManagerApiException {
+    Stream<Integer> stream = PageIterator.stream((start, limit) -> {
+      if (start > 0) {
+        return CompletableFuture.failedFuture(new CloudManagerApiException("Failed"));
+      }
+      return page(100, start, limit).thenApply(ArrayList::new);
+    }, 10);
+    CloudManagerApiException exception = assertThrows(CloudManagerApiException.class, stream::count, "Exception thrown.");
+    assertEquals("Failed", exception.getMessage(), "Message was correct.");
+  }
+}
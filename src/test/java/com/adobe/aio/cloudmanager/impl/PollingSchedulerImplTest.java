@@ -0,0 +1,145 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.PollingScheduler;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PollingSchedulerImplTest {
+
+  private static final Duration INTERVAL = Duration.ofMillis(10);
+
+  private static PollingSchedulerImpl.Check<Integer> countdown(AtomicInteger calls, int done, int throttled) {
+    return new PollingSchedulerImpl.Check<>() {
+      @Override
+      public Integer get() throws CloudManagerApiException {
+        int call = calls.incrementAndGet();
+        if (call <= throttled) {
+          throw new CloudManagerApiException("Cannot get execution: http://localhost/api (429 Too Many Requests).", 429);
+        }
+        return call - throttled;
+      }
+
+      @Override
+      public boolean isDone(Integer state) {
+        return state >= done;
+      }
+
+      @Override
+      public Duration getInterval(Integer state) {
+        return INTERVAL;
+      }
+    };
+  }
+
+  @Test
+  void invalid_configuration() {
+    assertThrows(IllegalArgumentException.class, () -> new PollingSchedulerImpl(0, Duration.ofSeconds(1)), "Exception thrown");
+  }
+
+  @Test
+  void other_implementation_rejected() {
+    PollingScheduler other = () -> { };
+    assertThrows(IllegalArgumentException.class, () -> PollingSchedulerImpl.of(other), "Exception thrown");
+  }
+
+  @Test
+  void throttled_by_status() {
+    assertTrue(PollingSchedulerImpl.isThrottled(new CloudManagerApiException("Cannot get execution.", 429)), "Throttled by status");
+    assertFalse(PollingSchedulerImpl.isThrottled(new CloudManagerApiException("Detail: (429 Too Many Requests)", 500)), "Message ignored");
+  }
+
+  @Test
+  void watch_updates() throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    List<String> updates = new ArrayList<>();
+    try (PollingSchedulerImpl scheduler = new PollingSchedulerImpl(1, Duration.ofSeconds(1))) {
+      CompletableFuture<Integer> future = scheduler.watch("key", null, countdown(calls, 3, 0), (previous, current) -> updates.add(previous + "->" + current));
+      assertEquals(3, future.get(5, TimeUnit.SECONDS), "Final state returned");
+    }
+    assertEquals(List.of("null->1", "1->2", "2->3"), updates, "Each check reported");
+  }
+
+  @Test
+  void watch_coalesced() throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    try (PollingSchedulerImpl scheduler = new PollingSchedulerImpl(2, Duration.ofSeconds(1))) {
+      CompletableFuture<Integer> first = scheduler.watch("key", 0, countdown(calls, 3, 0), (previous, current) -> {});
+      CompletableFuture<Integer> second = scheduler.watch("key", 0, countdown(calls, 3, 0), (previous, current) -> {});
+      assertEquals(3, first.get(5, TimeUnit.SECONDS), "First watch completed");
+      assertEquals(3, second.get(5, TimeUnit.SECONDS), "Second watch completed");
+    }
+    assertEquals(3, calls.get(), "Checks shared");
+  }
+
+  @Test
+  void watch_throttled() throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    try (PollingSchedulerImpl scheduler = new PollingSchedulerImpl(1, Duration.ofMillis(30))) {
+      CompletableFuture<Integer> future = scheduler.watch("key", 0, countdown(calls, 1, 3), (previous, current) -> {});
+      assertEquals(1, future.get(5, TimeUnit.SECONDS), "Watch survived throttling");
+      assertEquals(2, scheduler.getThrottleLevel(), "Backoff reduced after success");
+      assertEquals(Duration.ofMillis(30), scheduler.getDelay(INTERVAL), "Backoff capped");
+      assertEquals(Duration.ofMillis(50), scheduler.getDelay(Duration.ofMillis(50)), "Interval beyond max backoff unchanged");
+    }
+    assertEquals(4, calls.get(), "Throttled checks repeated");
+  }
+
+  @Test
+  void watch_failure_listener() {
+    try (PollingSchedulerImpl scheduler = new PollingSchedulerImpl(1, Duration.ofSeconds(1))) {
+      CompletableFuture<Integer> failed = scheduler.watch("failed", 0, new PollingSchedulerImpl.Check<>() {
+        @Override
+        public Integer get() throws CloudManagerApiException {
+          throw new CloudManagerApiException("Cannot get execution: http://localhost/api (404 Not Found).");
+        }
+
+        @Override
+        public boolean isDone(Integer state) {
+          return false;
+        }
+
+        @Override
+        public Duration getInterval(Integer state) {
+          return INTERVAL;
+        }
+      }, (previous, current) -> {});
+      ExecutionException exception = assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS), "Exception thrown");
+      assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause correct");
+
+      CompletableFuture<Integer> listener = scheduler.watch("listener", 0, countdown(new AtomicInteger(), 3, 0), (previous, current) -> {
+        throw new IllegalStateException("Listener failed");
+      });
+      exception = assertThrows(ExecutionException.class, () -> listener.get(5, TimeUnit.SECONDS), "Exception thrown");
+      assertEquals("Listener failed", exception.getCause().getMessage(), "Cause correct");
+    }
+  }
+}
@@ -0,0 +1,205 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.adobe.aio.cloudmanager.ApiBuilder;
+import com.adobe.aio.cloudmanager.PipelineExecutionApi;
+import com.adobe.aio.cloudmanager.RateLimiter;
+import com.adobe.aio.cloudmanager.RetryPolicy;
+import com.adobe.aio.cloudmanager.Tenant;
+import com.adobe.aio.cloudmanager.TenantApi;
+import com.adobe.aio.cloudmanager.TenantApiAsync;
+import com.adobe.aio.ims.feign.AuthInterceptor;
+import feign.RetryableException;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import org.mockserver.matchers.Times;
+import org.mockserver.model.Delay;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.verify.VerificationTimes;
+
+import static com.adobe.aio.util.Constants.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.mockserver.model.HttpRequest.*;
+import static org.mockserver.model.HttpResponse.*;
+import static org.mockserver.model.HttpStatusCode.*;
+
+public class RateLimitingClientTest extends AbstractApiTest {
+
+  @Test
+  void requests_limited_per_workspace() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    when(workspace.getImsOrgId()).thenReturn("org");
+    List<String> acquired = new ArrayList<>();
+    RateLimiter limiter = (key, operation) -> acquired.add(key + " " + operation);
+
+    PipelineExecutionApi api;
+    try (MockedConstruction<AuthInterceptor.Builder> ignored = mockConstruction(AuthInterceptor.Builder.class,
+        (mock, mockContext) -> {
+          when(mock.workspace(workspace)).thenReturn(mock);
+          when(mock.build()).thenReturn(authInterceptor);
+        }
+    )) {
+      api = new ApiBuilder<>(PipelineExecutionApi.class).workspace(workspace).url(new URL(baseUrl)).rateLimiter(limiter).build();
+    }
+
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get).respond(response().withBody(loadBodyJson("pipeline/execution/get.json")));
+    HttpRequest put = request().withMethod("PUT").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution");
+    client.when(put).respond(response().withStatusCode(CREATED_201.code()).withBody(loadBodyJson("pipeline/execution/get.json")));
+
+    api.get("1", "1", "1");
+    api.start("1", "1");
+    assertEquals(List.of(String.format("org/%s READ", sessionId), String.format("org/%s WRITE", sessionId)), acquired, "Budgets were drawn from");
+    client.verify(get, put);
+    client.clear(get);
+    client.clear(put);
+  }
+
+  @Test
+  void async_requests_delayed_without_blocking() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    when(workspace.getImsOrgId()).thenReturn("org");
+    RateLimiter limiter = new RateLimiter() {
+      @Override
+      public void acquire(String key, Operation operation) {
+        fail("Asynchronous requests must not block.");
+      }
+
+      @Override
+      public Duration reserve(String key, Operation operation) {
+        return Duration.ofMillis(500);
+      }
+    };
+    TenantApiAsync api = build(TenantApiAsync.class, limiter);
+
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/tenants");
+    client.when(list).respond(response().withBody(loadBodyJson("tenant/list.json")));
+    CompletableFuture<Collection<Tenant>> tenants = api.list();
+    assertFalse(tenants.isDone(), "Request is delayed");
+    client.verify(list, VerificationTimes.never());
+    assertEquals(1, tenants.get(5, TimeUnit.SECONDS).size(), "Request was sent after the delay");
+    client.verify(list, VerificationTimes.once());
+    client.clear(list);
+  }
+
+  @Test
+  void interrupted_request_not_sent() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    when(workspace.getImsOrgId()).thenReturn("org");
+    RateLimiter limiter = (key, operation) -> {
+      throw new InterruptedException();
+    };
+    TenantApi api = build(TenantApi.class, limiter);
+
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/tenants");
+    client.when(list).respond(response().withBody(loadBodyJson("tenant/list.json")));
+    try {
+      assertThrows(RetryableException.class, api::list, "Exception thrown");
+      assertTrue(Thread.currentThread().isInterrupted(), "Interrupt was kept");
+    } finally {
+      Thread.interrupted();
+    }
+    client.verify(list, VerificationTimes.never());
+    client.clear(list);
+  }
+
+  @Test
+  void each_attempt_limited() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    when(workspace.getImsOrgId()).thenReturn("org");
+    AtomicInteger acquired = new AtomicInteger();
+    RateLimiter limiter = (key, operation) -> acquired.incrementAndGet();
+    TenantApi api;
+    try (MockedConstruction<AuthInterceptor.Builder> ignored = mockConstruction(AuthInterceptor.Builder.class,
+        (mock, mockContext) -> {
+          when(mock.workspace(workspace)).thenReturn(mock);
+          when(mock.build()).thenReturn(authInterceptor);
+        }
+    )) {
+      api = new ApiBuilder<>(TenantApi.class).workspace(workspace).url(new URL(baseUrl)).rateLimiter(limiter)
+          .retryPolicy(RetryPolicy.builder().initialBackoff(Duration.ofMillis(1)).build()).build();
+    }
+
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/tenant/1");
+    client.when(get, Times.once()).respond(response().withStatusCode(SERVICE_UNAVAILABLE_503.code()));
+    client.when(get).respond(response().withBody(loadBodyJson("tenant/get.json")));
+    assertNotNull(api.get("1"), "Tenant retrieved");
+    assertEquals(2, acquired.get(), "Retry drew from the budget");
+    client.verify(get, VerificationTimes.exactly(2));
+    client.clear(get);
+  }
+
+  @Test
+  void coalesced_requests_limited_once() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    when(workspace.getImsOrgId()).thenReturn("org");
+    AtomicInteger reserved = new AtomicInteger();
+    RateLimiter limiter = new RateLimiter() {
+      @Override
+      public void acquire(String key, Operation operation) {
+        fail("Asynchronous requests must not block.");
+      }
+
+      @Override
+      public Duration reserve(String key, Operation operation) {
+        reserved.incrementAndGet();
+        return Duration.ZERO;
+      }
+    };
+    TenantApiAsync api = build(TenantApiAsync.class, limiter);
+
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/tenants");
+    client.when(list).respond(response().withBody(loadBodyJson("tenant/list.json")).withDelay(Delay.delay(TimeUnit.MILLISECONDS, 500)));
+    CompletableFuture<Collection<Tenant>> first = api.list();
+    CompletableFuture<Collection<Tenant>> second = api.list();
+    assertEquals(first.get(5, TimeUnit.SECONDS).size(), second.get(5, TimeUnit.SECONDS).size(), "Both callers answered");
+    assertEquals(1, reserved.get(), "Joined request drew nothing from the budget");
+    client.verify(list, VerificationTimes.once());
+    client.clear(list);
+  }
+
+  private <A> A build(Class<A> type, RateLimiter limiter) throws Exception {
+    try (MockedConstruction<AuthInterceptor.Builder> ignored = mockConstruction(AuthInterceptor.Builder.class,
+        (mock, mockContext) -> {
+          when(mock.workspace(workspace)).thenReturn(mock);
+          when(mock.build()).thenReturn(authInterceptor);
+        }
+    )) {
+      return new ApiBuilder<>(type).workspace(workspace).url(new URL(baseUrl)).rateLimiter(limiter).build();
+    }
+  }
+}
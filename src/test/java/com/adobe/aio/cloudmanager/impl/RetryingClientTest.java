@@ -0,0 +1,167 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+
+import com.adobe.aio.cloudmanager.ApiBuilder;
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.PipelineExecutionApi;
+import com.adobe.aio.cloudmanager.RetryPolicy;
+import com.adobe.aio.cloudmanager.TenantApi;
+import com.adobe.aio.cloudmanager.TenantApiAsync;
+import com.adobe.aio.ims.feign.AuthInterceptor;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import org.mockserver.matchers.Times;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.verify.VerificationTimes;
+
+import static com.adobe.aio.util.Constants.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.mockserver.model.HttpRequest.*;
+import static org.mockserver.model.HttpResponse.*;
+import static org.mockserver.model.HttpStatusCode.*;
+
+public class RetryingClientTest extends AbstractApiTest {
+
+  private final List<Integer> retries = new ArrayList<>();
+
+  private final RetryPolicy policy = RetryPolicy.builder()
+      .initialBackoff(Duration.ofMillis(1))
+      .listener((method, url, retry, status, delay) -> retries.add(status))
+      .build();
+
+  private <A> A build(Class<A> clazz, RetryPolicy policy) throws Exception {
+    try (MockedConstruction<AuthInterceptor.Builder> ignored = mockConstruction(AuthInterceptor.Builder.class,
+        (mock, mockContext) -> {
+          when(mock.workspace(workspace)).thenReturn(mock);
+          when(mock.build()).thenReturn(authInterceptor);
+        }
+    )) {
+      return new ApiBuilder<>(clazz).workspace(workspace).url(new URL(baseUrl)).retryPolicy(policy).build();
+    }
+  }
+
+  @Test
+  void get_retried_unavailable() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/tenant/1");
+    client.when(get, Times.once()).respond(response().withStatusCode(SERVICE_UNAVAILABLE_503.code()));
+    client.when(get).respond(response().withBody(loadBodyJson("tenant/get.json")));
+
+    assertNotNull(build(TenantApi.class, policy).get("1"), "Tenant retrieved");
+    assertEquals(List.of(503), retries, "Retry was reported");
+    client.verify(get, VerificationTimes.exactly(2));
+    client.clear(get);
+  }
+
+  @Test
+  void get_retries_exhausted() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/tenant/1");
+    client.when(get).respond(response().withStatusCode(BAD_GATEWAY_502.code()));
+
+    TenantApi api = build(TenantApi.class, policy);
+    CloudManagerApiException exception = assertThrows(CloudManagerApiException.class, () -> api.get("1"), "Exception thrown");
+    assertEquals(String.format("Cannot retrieve tenant: %s/api/tenant/1 (502 Unknown).", baseUrl), exception.getMessage(), "Message was correct");
+    assertEquals(List.of(502, 502), retries, "Retries were reported");
+    client.verify(get, VerificationTimes.exactly(3));
+    client.clear(get);
+  }
+
+  @Test
+  void get_not_retried_without_policy() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/tenant/1");
+    client.when(get).respond(response().withStatusCode(SERVICE_UNAVAILABLE_503.code()));
+
+    TenantApi api = build(TenantApi.class, RetryPolicy.NONE);
+    assertThrows(CloudManagerApiException.class, () -> api.get("1"), "Exception thrown");
+    client.verify(get, VerificationTimes.once());
+    client.clear(get);
+  }
+
+  @Test
+  void put_not_retried_unavailable() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest put = request().withMethod("PUT").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution");
+    client.when(put).respond(response().withStatusCode(SERVICE_UNAVAILABLE_503.code()));
+
+    PipelineExecutionApi api = build(PipelineExecutionApi.class, policy);
+    CloudManagerApiException exception = assertThrows(CloudManagerApiException.class, () -> api.start("1", "1"), "Exception thrown");
+    assertEquals(String.format("Cannot create execution: %s/api/program/1/pipeline/1/execution (503 Unknown).", baseUrl), exception.getMessage(), "Message was correct");
+    assertTrue(retries.isEmpty(), "No retries");
+    client.verify(put, VerificationTimes.once());
+    client.clear(put);
+  }
+
+  @Test
+  void put_retried_throttled() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest put = request().withMethod("PUT").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution");
+    client.when(put, Times.once()).respond(response().withStatusCode(429).withHeader("Retry-After", "0"));
+    client.when(put).respond(response().withStatusCode(CREATED_201.code()).withBody(loadBodyJson("pipeline/execution/get.json")));
+
+    assertNotNull(build(PipelineExecutionApi.class, policy).start("1", "1"), "Execution started");
+    assertEquals(List.of(429), retries, "Retry was reported");
+    client.verify(put, VerificationTimes.exactly(2));
+    client.clear(put);
+  }
+
+  @Test
+  void async_retried_unavailable() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/tenant/1");
+    client.when(get, Times.once()).respond(response().withStatusCode(GATEWAY_TIMEOUT_504.code()));
+    client.when(get).respond(response().withBody(loadBodyJson("tenant/get.json")));
+
+    assertNotNull(build(TenantApiAsync.class, policy).get("1").get(), "Tenant retrieved");
+    assertEquals(List.of(504), retries, "Retry was reported");
+    client.verify(get, VerificationTimes.exactly(2));
+    client.clear(get);
+  }
+
+  @Test
+  void async_retries_exhausted() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/tenant/1");
+    client.when(get).respond(response().withStatusCode(SERVICE_UNAVAILABLE_503.code()));
+
+    TenantApiAsync api = build(TenantApiAsync.class, policy);
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> api.get("1").get(), "Exception thrown");
+    assertEquals(String.format("Cannot retrieve tenant: %s/api/tenant/1 (503 Unknown).", baseUrl), exception.getCause().getMessage(), "Message was correct");
+    client.verify(get, VerificationTimes.exactly(3));
+    client.clear(get);
+  }
+}
@@ -0,0 +1,78 @@
+package com.adobe.aio.cloudmanager.impl;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.util.concurrent.TimeUnit;
+
+import com.adobe.aio.cloudmanager.RateLimiter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TokenBucketRateLimiterTest {
+
+  private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  @Test
+  void bucket_burst_then_rate() {
+    TokenBucketRateLimiter.Bucket bucket = new TokenBucketRateLimiter.Bucket(2, 2, 0);
+    assertEquals(0, bucket.reserve(0), "First token available");
+    assertEquals(0, bucket.reserve(0), "Second token available");
+    assertEquals(SECOND / 2, bucket.reserve(0), "Third token waits for refill");
+    assertEquals(SECOND, bucket.reserve(0), "Fourth token queued behind third");
+    assertEquals(0, bucket.reserve(3 * SECOND), "Refilled after idle");
+  }
+
+  @Test
+  void bucket_capacity() {
+    TokenBucketRateLimiter.Bucket bucket = new TokenBucketRateLimiter.Bucket(10, 1, 0);
+    assertEquals(0, bucket.reserve(10 * SECOND), "Token available");
+    assertEquals(SECOND / 10, bucket.reserve(10 * SECOND), "Idle time does not exceed capacity");
+  }
+
+  @Test
+  void bucket_stale_time() {
+    TokenBucketRateLimiter.Bucket bucket = new TokenBucketRateLimiter.Bucket(1, 1, 0);
+    assertEquals(0, bucket.reserve(SECOND), "Token available");
+    assertEquals(SECOND, bucket.reserve(0), "Earlier reading does not drain the bucket");
+  }
+
+  @Test
+  void reserve_does_not_wait() throws Exception {
+    RateLimiter limiter = RateLimiter.tokenBucket(1, 1);
+    assertEquals(0, limiter.reserve("key", RateLimiter.Operation.READ).toNanos(), "Token available");
+    assertTrue(limiter.reserve("key", RateLimiter.Operation.READ).toNanos() > SECOND / 2, "Next token is delayed");
+    assertEquals(0, limiter.reserve("key", RateLimiter.Operation.WRITE).toNanos(), "Writes have their own budget");
+  }
+
+  @Test
+  void invalid_configuration() {
+    assertThrows(IllegalArgumentException.class, () -> RateLimiter.tokenBucket(0, 1), "Exception thrown");
+    assertThrows(IllegalArgumentException.class, () -> RateLimiter.tokenBucket(1, 0, 1, 1), "Exception thrown");
+  }
+
+  @Test
+  void operations() {
+    assertEquals(RateLimiter.Operation.READ, RateLimitingClient.getOperation("GET"), "GET is a read");
+    assertEquals(RateLimiter.Operation.WRITE, RateLimitingClient.getOperation("PUT"), "PUT is a write");
+    assertEquals(RateLimiter.Operation.WRITE, RateLimitingClient.getOperation("PATCH"), "PATCH is a write");
+    assertEquals(RateLimiter.Operation.WRITE, RateLimitingClient.getOperation("DELETE"), "DELETE is a write");
+  }
+}
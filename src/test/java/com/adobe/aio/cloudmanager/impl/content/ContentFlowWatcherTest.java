@@ -0,0 +1,108 @@
+package com.adobe.aio.cloudmanager.impl.content;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.net.URL;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.adobe.aio.cloudmanager.ApiBuilder;
+import com.adobe.aio.cloudmanager.ContentFlow;
+import com.adobe.aio.cloudmanager.ContentFlowWatcher;
+import com.adobe.aio.cloudmanager.ContentSetApi;
+import com.adobe.aio.cloudmanager.PollingPolicy;
+import com.adobe.aio.cloudmanager.PollingScheduler;
+import com.adobe.aio.cloudmanager.impl.AbstractApiTest;
+import com.adobe.aio.ims.feign.AuthInterceptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import org.mockserver.matchers.Times;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.JsonBody;
+import org.mockserver.verify.VerificationTimes;
+
+import static com.adobe.aio.util.Constants.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.mockserver.model.HttpRequest.*;
+import static org.mockserver.model.HttpResponse.*;
+
+public class ContentFlowWatcherTest extends AbstractApiTest {
+  private static final String GET_FLOW = loadBodyJson("content/flow/get.json").getValue().replace("\"contentSetId\"", "\"id\": \"1\", \"contentSetId\"");
+  private static final JsonBody IN_PROGRESS_BODY = JsonBody.json(GET_FLOW.replace("\"Running\"", "\"In Progress\""));
+  private static final JsonBody COMPLETED_BODY = JsonBody.json(GET_FLOW.replace("\"Running\"", "\"Completed\""));
+
+  private static final PollingPolicy FAST = PollingPolicy.builder().runningInterval(Duration.ofMillis(10)).build();
+
+  private ContentSetApi underTest;
+
+  @BeforeEach
+  void before() throws Exception {
+    try (MockedConstruction<AuthInterceptor.Builder> ignored = mockConstruction(AuthInterceptor.Builder.class,
+        (mock, mockContext) -> {
+          when(mock.workspace(workspace)).thenReturn(mock);
+          when(mock.build()).thenReturn(authInterceptor);
+        }
+    )) {
+      underTest = new ApiBuilder<>(ContentSetApi.class).workspace(workspace).url(new URL(baseUrl)).build();
+    }
+  }
+
+  @Test
+  void watch_completes() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/contentFlow/1");
+    client.when(get, Times.exactly(2)).respond(response().withBody(IN_PROGRESS_BODY));
+    client.when(get, Times.once()).respond(response().withBody(COMPLETED_BODY));
+
+    try (PollingScheduler scheduler = PollingScheduler.create(1);
+         ContentFlowWatcher watcher = ContentFlowWatcher.create(underTest, FAST, scheduler)) {
+      ContentFlow flow = watcher.watch("1", "1").get(5, TimeUnit.SECONDS);
+      assertEquals(ContentFlow.Status.COMPLETED, flow.getFlowStatus(), "Final state returned.");
+    }
+    client.verify(get, VerificationTimes.exactly(3));
+    client.clear(get);
+  }
+
+  @Test
+  void watch_flow() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/contentFlow/1");
+    client.when(get, Times.once()).respond(response().withBody(IN_PROGRESS_BODY));
+    ContentFlow flow = underTest.getFlow("1", "1");
+    client.when(get).respond(response().withBody(COMPLETED_BODY));
+
+    try (ContentFlowWatcher watcher = ContentFlowWatcher.create(underTest, FAST)) {
+      ContentFlow completed = watcher.watch(flow).get(5, TimeUnit.SECONDS);
+      assertEquals(ContentFlow.Status.COMPLETED, completed.getFlowStatus(), "Final state returned.");
+
+      CompletableFuture<ContentFlow> done = watcher.watch(completed);
+      assertTrue(done.isDone(), "Completed flow not watched.");
+      assertSame(completed, done.get(), "Flow returned.");
+    }
+    client.verify(get, VerificationTimes.exactly(2));
+    client.clear(get);
+  }
+}
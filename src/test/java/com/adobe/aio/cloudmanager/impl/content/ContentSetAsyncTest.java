@@ -0,0 +1,346 @@
+package com.adobe.aio.cloudmanager.impl.content;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.net.URL;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+
+import com.adobe.aio.ims.feign.AuthInterceptor;
+import com.adobe.aio.cloudmanager.ApiBuilder;
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.ContentFlow;
+import com.adobe.aio.cloudmanager.ContentSet;
+import com.adobe.aio.cloudmanager.ContentSetApiAsync;
+import com.adobe.aio.cloudmanager.impl.AbstractApiTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import org.mockserver.model.HttpRequest;
+
+import static com.adobe.aio.util.Constants.*;
+import static com.adobe.aio.cloudmanager.ContentSet.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.mockserver.model.HttpRequest.*;
+import static org.mockserver.model.HttpResponse.*;
+import static org.mockserver.model.HttpStatusCode.*;
+import static org.mockserver.model.JsonBody.*;
+
+public class ContentSetAsyncTest extends AbstractApiTest {
+
+  private static final String SET_BODY = "{ \"name\": \"Test\", \"description\":  \"Description\", \"paths\": [ { \"path\": \"/content/foo\", \"excluded\": [\"/content/foo/bar\"] } ] }";
+  private static final List<PathDefinition> PATHS = Collections.singletonList(new PathDefinition("/content/foo", Set.of("/content/foo/bar")));
+
+  private ContentSetApiAsync underTest;
+
+  @BeforeEach
+  void before() throws Exception {
+    try (MockedConstruction<AuthInterceptor.Builder> ignored = mockConstruction(AuthInterceptor.Builder.class,
+        (mock, mockContext) -> {
+          when(mock.workspace(workspace)).thenReturn(mock);
+          when(mock.build()).thenReturn(authInterceptor);
+        }
+    )) {
+      underTest = new ApiBuilder<>(ContentSetApiAsync.class).workspace(workspace).url(new URL(baseUrl)).build();
+    }
+  }
+
+  @Test
+  void list_failure_400() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/contentSets");
+    client.when(get).respond(response().withStatusCode(BAD_REQUEST_400.code()));
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.list("1").get(), "Exception thrown.");
+    assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause was correct type");
+    assertEquals(String.format("Cannot list content sets: %s/api/program/1/contentSets (400 Bad Request).", baseUrl), exception.getCause().getMessage(), "Message was correct.");
+    client.verify(get);
+    client.clear(get);
+  }
+
+  @Test
+  void list_empty() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/contentSets");
+    client.when(get).respond(response().withBody(json("{ \"_embedded\": {} }")));
+    assertTrue(underTest.list("1").get().isEmpty());
+    client.verify(get);
+    client.clear(get);
+  }
+
+  @Test
+  void list_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/contentSets");
+    client.when(get).respond(response().withBody(ContentSetTest.LIST_SET_BODY));
+    Collection<ContentSet> list = underTest.list("1").get();
+    assertEquals(2, list.size(), "List correct.");
+    client.verify(get);
+    client.clear(get);
+  }
+
+  @Test
+  void list_start_limit_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request()
+        .withMethod("GET")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/contentSets")
+        .withQueryStringParameter("start", "10")
+        .withQueryStringParameter("limit", "10");
+    client.when(get).respond(response().withBody(ContentSetTest.LIST_SET_BODY));
+    assertEquals(2, underTest.list("1", 10, 10).get().size(), "List correct.");
+    client.verify(get);
+    client.clear(get);
+  }
+
+  @Test
+  void create_failure_400() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest post = request().withMethod("POST").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/contentSets").withBody(json(SET_BODY));
+    client.when(post).respond(response().withStatusCode(BAD_REQUEST_400.code()));
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.create("1", "Test", "Description", PATHS).get(), "Exception thrown.");
+    assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause was correct type");
+    assertEquals(String.format("Cannot create content set: %s/api/program/1/contentSets (400 Bad Request).", baseUrl), exception.getCause().getMessage(), "Message was correct.");
+    client.verify(post);
+    client.clear(post);
+  }
+
+  @Test
+  void create_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest post = request().withMethod("POST").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/contentSets").withBody(json(SET_BODY));
+    client.when(post).respond(response().withBody(loadBodyJson("content/set/get.json")));
+    ContentSet cs = underTest.create("1", "Test", "Description", PATHS).get();
+    assertEquals(2, cs.getPathDefinitions().stream().findFirst().orElseThrow().getExcluded().size());
+    client.verify(post);
+    client.clear(post);
+  }
+
+  @Test
+  void get_failure_404() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/contentSet/1");
+    client.when(get).respond(response().withStatusCode(NOT_FOUND_404.code()));
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.get("1", "1").get(), "Exception thrown.");
+    assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause was correct type");
+    assertEquals(String.format("Cannot get content set: %s/api/program/1/contentSet/1 (404 Not Found).", baseUrl), exception.getCause().getMessage(), "Message was correct.");
+    client.verify(get);
+    client.clear(get);
+  }
+
+  @Test
+  void get_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/contentSet/1");
+    client.when(get).respond(response().withBody(loadBodyJson("content/set/get.json")));
+    ContentSet cs = underTest.get("1", "1").get();
+    assertEquals(2, cs.getPathDefinitions().stream().findFirst().orElseThrow().getExcluded().size());
+    client.verify(get);
+    client.clear(get);
+  }
+
+  @Test
+  void update_failure_400() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/contentSet/1");
+    client.when(get).respond(response().withBody(loadBodyJson("content/set/get.json")));
+    HttpRequest put = request().withMethod("PUT").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/contentSet/1").withBody(json(SET_BODY));
+    client.when(put).respond(response().withStatusCode(BAD_REQUEST_400.code()));
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.update("1", "1", "Test", "Description", PATHS).get(), "Exception thrown.");
+    assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause was correct type");
+    assertEquals(String.format("Cannot update content set: %s/api/program/1/contentSet/1 (400 Bad Request).", baseUrl), exception.getCause().getMessage(), "Message was correct.");
+    client.verify(get, put);
+    client.clear(get);
+    client.clear(put);
+  }
+
+  @Test
+  void update_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/contentSet/1");
+    client.when(get).respond(response().withBody(loadBodyJson("content/set/get.json")));
+    HttpRequest put = request().withMethod("PUT").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/contentSet/1").withBody(json(SET_BODY));
+    client.when(put).respond(response().withBody(loadBodyJson("content/set/get.json")));
+    assertNotNull(underTest.update("1", "1", "Test", "Description", PATHS).get(), "Update successful.");
+    client.verify(get, put);
+    client.clear(get);
+    client.clear(put);
+  }
+
+  @Test
+  void delete_failure_400() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest del = request().withMethod("DELETE").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/contentSet/1");
+    client.when(del).respond(response().withStatusCode(BAD_REQUEST_400.code()));
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.delete("1", "1").get(), "Exception thrown.");
+    assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause was correct type");
+    assertEquals(String.format("Cannot delete content set: %s/api/program/1/contentSet/1 (400 Bad Request).", baseUrl), exception.getCause().getMessage(), "Message was correct.");
+    client.verify(del);
+    client.clear(del);
+  }
+
+  @Test
+  void delete_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest del = request().withMethod("DELETE").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/contentSet/1");
+    client.when(del).respond(response().withStatusCode(NO_CONTENT_204.code()));
+    underTest.delete("1", "1").get();
+    client.verify(del);
+    client.clear(del);
+  }
+
+  @Test
+  void listFlows_failure_400() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/contentFlows");
+    client.when(get).respond(response().withStatusCode(BAD_REQUEST_400.code()));
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.listFlows("1").get(), "Exception thrown.");
+    assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause was correct type");
+    assertEquals(String.format("Cannot list content flows: %s/api/program/1/contentFlows (400 Bad Request).", baseUrl), exception.getCause().getMessage(), "Message was correct.");
+    client.verify(get);
+    client.clear(get);
+  }
+
+  @Test
+  void listFlows_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/contentFlows");
+    client.when(get).respond(response().withBody(ContentSetTest.LIST_FLOW_BODY));
+    Collection<ContentFlow> flows = underTest.listFlows("1").get();
+    assertFalse(flows.isEmpty(), "Flows found.");
+    client.verify(get);
+    client.clear(get);
+  }
+
+  @Test
+  void listFlows_start_limit_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request()
+        .withMethod("GET")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/contentFlows")
+        .withQueryStringParameter("start", "10")
+        .withQueryStringParameter("limit", "10");
+    client.when(get).respond(response().withBody(ContentSetTest.LIST_FLOW_BODY));
+    assertFalse(underTest.listFlows("1", 10, 10).get().isEmpty(), "Flows found.");
+    client.verify(get);
+    client.clear(get);
+  }
+
+  @Test
+  void startFlow_failure_403() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest post = request()
+        .withMethod("POST")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/environment/1/contentFlow")
+        .withBody(json("{ \"contentSetId\": \"1\", \"destEnvironmentId\": \"2\", \"tier\": \"author\", \"includeACL\": true, \"destProgramId\": \"1\" }"));
+    client.when(post).respond(response().withStatusCode(FORBIDDEN_403.code()));
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.startFlow("1", "1", "1", "2", true).get(), "Exception thrown.");
+    assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause was correct type");
+    assertEquals(String.format("Cannot start content flow: %s/api/program/1/environment/1/contentFlow (403 Forbidden).", baseUrl), exception.getCause().getMessage(), "Message was correct.");
+    client.verify(post);
+    client.clear(post);
+  }
+
+  @Test
+  void startFlow_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest post = request()
+        .withMethod("POST")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/environment/1/contentFlow")
+        .withBody(json("{ \"contentSetId\": \"1\", \"destEnvironmentId\": \"2\", \"tier\": \"author\", \"includeACL\": false, \"destProgramId\": \"1\" }"));
+    client.when(post).respond(response().withBody(loadBodyJson("content/flow/get.json")));
+    assertNotNull(underTest.startFlow("1", "1", "1", "2", false).get(), "Flow started.");
+    client.verify(post);
+    client.clear(post);
+  }
+
+  @Test
+  void getFlow_failure_404() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/contentFlow/1");
+    client.when(get).respond(response().withStatusCode(NOT_FOUND_404.code()));
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.getFlow("1", "1").get(), "Exception thrown.");
+    assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause was correct type");
+    assertEquals(String.format("Cannot get content flow: %s/api/program/1/contentFlow/1 (404 Not Found).", baseUrl), exception.getCause().getMessage(), "Message was correct.");
+    client.verify(get);
+    client.clear(get);
+  }
+
+  @Test
+  void getFlow_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/contentFlow/1");
+    client.when(get).respond(response().withBody(loadBodyJson("content/flow/get.json")));
+    assertNotNull(underTest.getFlow("1", "1").get(), "Flow found.");
+    client.verify(get);
+    client.clear(get);
+  }
+
+  @Test
+  void cancelFlow_failure_404() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest del = request().withMethod("DELETE").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/contentFlow/1");
+    client.when(del).respond(response().withStatusCode(NOT_FOUND_404.code()));
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.cancelFlow("1", "1").get(), "Exception thrown.");
+    assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause was correct type");
+    assertEquals(String.format("Cannot cancel content flow: %s/api/program/1/contentFlow/1 (404 Not Found).", baseUrl), exception.getCause().getMessage(), "Message was correct.");
+    client.verify(del);
+    client.clear(del);
+  }
+
+  @Test
+  void cancelFlow_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest del = request().withMethod("DELETE").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/contentFlow/1");
+    client.when(del).respond(response().withBody(loadBodyJson("content/flow/get.json")));
+    assertNotNull(underTest.cancelFlow("1", "1").get(), "Flow cancelled.");
+    client.verify(del);
+    client.clear(del);
+  }
+}
@@ -0,0 +1,371 @@
+package com.adobe.aio.cloudmanager.impl.environment;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.net.URL;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+
+import com.adobe.aio.ims.feign.AuthInterceptor;
+import com.adobe.aio.cloudmanager.ApiBuilder;
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.Environment;
+import com.adobe.aio.cloudmanager.EnvironmentApiAsync;
+import com.adobe.aio.cloudmanager.EnvironmentLog;
+import com.adobe.aio.cloudmanager.LogOption;
+import com.adobe.aio.cloudmanager.RegionDeployment;
+import com.adobe.aio.cloudmanager.Variable;
+import com.adobe.aio.cloudmanager.impl.AbstractApiTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import org.mockserver.model.HttpRequest;
+
+import static com.adobe.aio.util.Constants.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.mockserver.model.HttpRequest.*;
+import static org.mockserver.model.HttpResponse.*;
+import static org.mockserver.model.HttpStatusCode.*;
+import static org.mockserver.model.JsonBody.*;
+
+public class EnvironmentAsyncTest extends AbstractApiTest {
+
+  private EnvironmentApiAsync underTest;
+
+  private final LogOption option = LogOption.builder().service("author").name("aemerror").build();
+
+  @BeforeEach
+  void before() throws Exception {
+    try (MockedConstruction<AuthInterceptor.Builder> ignored = mockConstruction(AuthInterceptor.Builder.class,
+        (mock, mockContext) -> {
+          when(mock.workspace(workspace)).thenReturn(mock);
+          when(mock.build()).thenReturn(authInterceptor);
+        }
+    )) {
+      underTest = new ApiBuilder<>(EnvironmentApiAsync.class).workspace(workspace).url(new URL(baseUrl)).build();
+    }
+  }
+
+  @Test
+  void list_failure_404() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/environments");
+    client.when(list).respond(response().withStatusCode(NOT_FOUND_404.code()));
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.list("1").get(), "Exception thrown.");
+    assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause was correct type");
+    assertEquals(String.format("Cannot list environments: %s/api/program/1/environments (404 Not Found).", baseUrl), exception.getCause().getMessage(), "Message was correct.");
+    client.verify(list);
+    client.clear(list);
+  }
+
+  @Test
+  void list_empty() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/environments");
+    client.when(list).respond(response().withBody(json("{}")));
+    assertTrue(underTest.list("1").get().isEmpty());
+    client.verify(list);
+    client.clear(list);
+  }
+
+  @Test
+  void list_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/environments");
+    client.when(list).respond(response().withBody(loadBodyJson("environment/list.json")));
+    Collection<Environment> environments = underTest.list("1").get();
+    assertEquals(4, environments.size(), "List was correct size.");
+    client.verify(list);
+    client.clear(list);
+  }
+
+  @Test
+  void list_type_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest list = request().withMethod("GET")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/environments")
+        .withQueryStringParameter("type", "dev");
+    client.when(list).respond(response().withBody(loadBodyJson("environment/list-dev.json")));
+    Collection<Environment> environments = underTest.list("1", Environment.Type.DEV).get();
+    assertEquals(2, environments.size(), "List was correct size.");
+    client.verify(list);
+    client.clear(list);
+  }
+
+  @Test
+  void create_failure_400() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest post = request().withMethod("POST")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/environments")
+        .withBody(json("{ \"name\": \"Test\", \"type\": \"dev\", \"region\": \"va7\" }"));
+    client.when(post).respond(response().withStatusCode(BAD_REQUEST_400.code()));
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.create("1", "Test", Environment.Type.DEV, "va7", null).get(), "Exception thrown.");
+    assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause was correct type");
+    assertEquals(String.format("Cannot create environment: %s/api/program/1/environments (400 Bad Request).", baseUrl), exception.getCause().getMessage(), "Message was correct.");
+    client.verify(post);
+    client.clear(post);
+  }
+
+  @Test
+  void create_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest post = request().withMethod("POST")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/environments")
+        .withBody(json("{ \"name\": \"Test\", \"type\": \"dev\", \"region\": \"va7\", \"description\":  \"desc\" }"));
+    client.when(post).respond(response().withBody(loadBodyJson("environment/get.json")));
+    assertEquals("1", underTest.create("1", "Test", Environment.Type.DEV, "va7", "desc").get().getId(), "Creation successful.");
+    client.verify(post);
+    client.clear(post);
+  }
+
+  @Test
+  void get_failure_404() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/environment/1");
+    client.when(get).respond(response().withStatusCode(NOT_FOUND_404.code()));
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.get("1", "1").get(), "Exception thrown.");
+    assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause was correct type");
+    assertEquals(String.format("Cannot get environment: %s/api/program/1/environment/1 (404 Not Found)", baseUrl), exception.getCause().getMessage(), "Message was correct.");
+    client.verify(get);
+    client.clear(get);
+  }
+
+  @Test
+  void get_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/environment/1");
+    client.when(get).respond(response().withBody(loadBodyJson("environment/get.json")));
+    assertEquals("1", underTest.get("1", "1").get().getId(), "Environment found.");
+    client.verify(get);
+    client.clear(get);
+  }
+
+  @Test
+  void delete_failure_400() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest del = request()
+        .withMethod("DELETE")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/environment/1")
+        .withQueryStringParameter("ignoreResourcesDeletionResult", "false");
+    client.when(del).respond(response().withStatusCode(BAD_REQUEST_400.code()));
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.delete("1", "1", false).get(), "Exception thrown.");
+    assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause was correct type");
+    assertEquals("Cannot delete environment, deletion in progress.", exception.getCause().getMessage(), "Message was correct.");
+    client.verify(del);
+    client.clear(del);
+  }
+
+  @Test
+  void delete_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest del = request()
+        .withMethod("DELETE")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/environment/1")
+        .withQueryStringParameter("ignoreResourcesDeletionResult", "true");
+    client.when(del).respond(response().withBody(loadBodyJson("environment/get.json")));
+    underTest.delete("1", "1", true).get();
+    client.verify(del);
+    client.clear(del);
+  }
+
+  @Test
+  void listLogs_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest list = request()
+        .withMethod("GET")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/environment/1/logs")
+        .withQueryStringParameter("service", "author")
+        .withQueryStringParameter("name", "aemerror")
+        .withQueryStringParameter("days", "1");
+    client.when(list).respond(response().withBody(loadBodyJson("environment/list-logs.json")));
+    Collection<EnvironmentLog> logs = underTest.listLogs("1", "1", option, 1).get();
+    assertEquals(2, logs.size(), "Log file count correct.");
+    client.verify(list);
+    client.clear(list);
+  }
+
+  @Test
+  void getLogDownloadUrl_no_redirect() {
+    LocalDate date = LocalDate.now();
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request()
+        .withMethod("GET")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/environment/1/logs/download")
+        .withQueryStringParameter("service", "author")
+        .withQueryStringParameter("name", "aemerror")
+        .withQueryStringParameter("date", date.toString());
+    client.when(get).respond(response().withStatusCode(OK_200.code()).withBody(json("{}")));
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.getLogDownloadUrl("1", "1", option, date).get(), "Exception thrown.");
+    assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause was correct type");
+    assertEquals(String.format("Log redirect for environment 1, service 'author', log name 'aemerror', date '%s' did not exist.", date), exception.getCause().getMessage(), "Message was correct.");
+    client.verify(get);
+    client.clear(get);
+  }
+
+  @Test
+  void getLogDownloadUrl_success() throws Exception {
+    LocalDate date = LocalDate.now();
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request()
+        .withMethod("GET")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/environment/1/logs/download")
+        .withQueryStringParameter("service", "author")
+        .withQueryStringParameter("name", "aemerror")
+        .withQueryStringParameter("date", date.toString());
+    client.when(get).respond(response().withBody(json(String.format("{ \"redirect\": \"%s/logs/author-aemerror-%s.txt\" }", baseUrl, date))));
+    String url = underTest.getLogDownloadUrl("1", "1", option, date).get();
+    assertEquals(String.format("%s/logs/author-aemerror-%s.txt", baseUrl, date), url, "URL was correct.");
+    client.verify(get);
+    client.clear(get);
+  }
+
+  @Test
+  void getRegionDeployment_failure_404() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/environment/1/regionDeployments/1");
+    client.when(get).respond(response().withStatusCode(NOT_FOUND_404.code()));
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.getRegionDeployment("1", "1", "1").get(), "Exception thrown.");
+    assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause was correct type");
+    assertEquals(String.format("Cannot get region deployment: %s/api/program/1/environment/1/regionDeployments/1 (404 Not Found).", baseUrl), exception.getCause().getMessage(), "Message was correct.");
+    client.verify(get);
+    client.clear(get);
+  }
+
+  @Test
+  void getRegionDeployment_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/environment/1/regionDeployments/1");
+    client.when(get).respond(response().withBody(EnvironmentTest.GET_REGION_BODY));
+    assertNotNull(underTest.getRegionDeployment("1", "1", "1").get(), "Region deployment found.");
+    client.verify(get);
+    client.clear(get);
+  }
+
+  @Test
+  void listRegionDeployments_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/environment/1/regionDeployments");
+    client.when(list).respond(response().withBody(EnvironmentTest.LIST_REGIONS_BODY));
+    Collection<RegionDeployment> deployments = underTest.listRegionDeployments("1", "1").get();
+    assertEquals(2, deployments.size(), "List was correct size.");
+    client.verify(list);
+    client.clear(list);
+  }
+
+  @Test
+  void getVariables_failure_404() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/environment/1/variables");
+    client.when(list).respond(response().withStatusCode(NOT_FOUND_404.code()));
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.getVariables("1", "1").get(), "Exception thrown.");
+    assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause was correct type");
+    assertEquals(String.format("Cannot list environment variables: %s/api/program/1/environment/1/variables (404 Not Found).", baseUrl), exception.getCause().getMessage(), "Message was correct");
+    client.verify(list);
+    client.clear(list);
+  }
+
+  @Test
+  void getVariables_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/environment/1/variables");
+    client.when(list).respond(response().withBody(EnvironmentTest.LIST_VARIABLES_BODY));
+    Set<Variable> variables = underTest.getVariables("1", "1").get();
+    assertFalse(variables.isEmpty(), "Variables found.");
+    client.verify(list);
+    client.clear(list);
+  }
+
+  @Test
+  void setVariables_failure_400() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest patch = request().withMethod("PATCH")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withHeader("Content-Type", "application/json")
+        .withPath("/api/program/1/environment/1/variables")
+        .withBody(json("[ { \"name\": \"foo\", \"value\": \"bar\", \"type\": \"string\", \"service\": \"author\" } ]"));
+    client.when(patch).respond(
+        response()
+            .withStatusCode(BAD_REQUEST_400.code())
+            .withHeader("Content-Type", "application/problem+json")
+            .withBody(json("{ \"type\" : \"http://ns.adobe.com/adobecloud/validation-exception\", \"errors\": [ \"some error\" ] }"))
+    );
+    Variable var = Variable.builder().name("foo").value("bar").type(Variable.Type.STRING).service(Environment.Tier.AUTHOR).build();
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.setVariables("1", "1", var).get(), "Exception thrown.");
+    assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause was correct type");
+    assertEquals(String.format("Cannot set environment variables: %s/api/program/1/environment/1/variables (400 Bad Request) - Validation Error(s): some error.", baseUrl), exception.getCause().getMessage(), "Message was correct");
+    client.verify(patch);
+    client.clear(patch);
+  }
+
+  @Test
+  void resetRde_failure_404() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest put = request().withMethod("PUT").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/environment/1/reset");
+    client.when(put).respond(response().withStatusCode(NOT_FOUND_404.code()));
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.resetRde("1", "1").get(), "Exception thrown");
+    assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause was correct type");
+    assertEquals(String.format("Cannot reset rapid development environment: %s/api/program/1/environment/1/reset (404 Not Found).", baseUrl), exception.getCause().getMessage(), "Message was correct.");
+    client.verify(put);
+    client.clear(put);
+  }
+
+  @Test
+  void resetRde_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest put = request().withMethod("PUT").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/environment/1/reset");
+    client.when(put).respond(response().withStatusCode(ACCEPTED_202.code()));
+    underTest.resetRde("1", "1").get();
+    client.verify(put);
+    client.clear(put);
+  }
+}
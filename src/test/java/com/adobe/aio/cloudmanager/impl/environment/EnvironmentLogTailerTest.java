@@ -0,0 +1,199 @@
+package com.adobe.aio.cloudmanager.impl.environment;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.net.URL;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import com.adobe.aio.cloudmanager.ApiBuilder;
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.EnvironmentApi;
+import com.adobe.aio.cloudmanager.EnvironmentLogTailer;
+import com.adobe.aio.cloudmanager.LogOption;
+import com.adobe.aio.cloudmanager.PollingScheduler;
+import com.adobe.aio.cloudmanager.impl.AbstractApiTest;
+import com.adobe.aio.cloudmanager.impl.PollingSchedulerImpl;
+import com.adobe.aio.ims.feign.AuthInterceptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import org.mockserver.matchers.Times;
+import org.mockserver.model.HttpRequest;
+
+import static com.adobe.aio.util.Constants.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.mockserver.model.HttpRequest.*;
+import static org.mockserver.model.HttpResponse.*;
+import static org.mockserver.model.HttpStatusCode.*;
+import static org.mockserver.model.JsonBody.*;
+
+public class EnvironmentLogTailerTest extends AbstractApiTest {
+
+  private static final Duration FAST = Duration.ofMillis(10);
+  private static final Instant DAY_ONE = Instant.parse("2019-09-08T23:59:00Z");
+  private static final Instant DAY_TWO = Instant.parse("2019-09-09T00:01:00Z");
+
+  private final LogOption option = LogOption.builder().service("author").name("aemerror").build();
+
+  private EnvironmentApi underTest;
+
+  @BeforeEach
+  void before() throws Exception {
+    try (MockedConstruction<AuthInterceptor.Builder> ignored = mockConstruction(AuthInterceptor.Builder.class,
+        (mock, mockContext) -> {
+          when(mock.workspace(workspace)).thenReturn(mock);
+          when(mock.build()).thenReturn(authInterceptor);
+        }
+    )) {
+      underTest = new ApiBuilder<>(EnvironmentApi.class).workspace(workspace).url(new URL(baseUrl)).build();
+    }
+  }
+
+  private static void await(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5000;
+    while (!condition.getAsBoolean()) {
+      assertTrue(System.currentTimeMillis() < deadline, "Condition met in time.");
+      Thread.sleep(10);
+    }
+  }
+
+  private HttpRequest redirect(String sessionId, String date, String path) {
+    HttpRequest getRedirect = request()
+        .withMethod("GET")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/environment/1/logs/download")
+        .withQueryStringParameter("service", "author")
+        .withQueryStringParameter("name", "aemerror")
+        .withQueryStringParameter("date", date);
+    client.when(getRedirect).respond(response().withBody(json(String.format("{ \"redirect\": \"%s%s\" }", baseUrl, path))));
+    return getRedirect;
+  }
+
+  private HttpRequest range(String path, String range) {
+    return request().withMethod("GET").withPath(path).withHeader("Range", range);
+  }
+
+  @Test
+  void tail_appended_lines() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest getRedirect = redirect(sessionId, "2019-09-08", "/logs/tail.log");
+    client.when(range("/logs/tail.log", "bytes=0-0"), Times.once()).respond(response().withStatusCode(PARTIAL_CONTENT_206.code()).withHeader("Content-Range", "bytes 0-0/11").withBody("f"));
+    client.when(range("/logs/tail.log", "bytes=11-"), Times.once()).respond(response().withStatusCode(REQUESTED_RANGE_NOT_SATISFIABLE_416.code()).withHeader("Content-Range", "bytes */11"));
+    client.when(range("/logs/tail.log", "bytes=11-"), Times.once()).respond(response().withStatusCode(PARTIAL_CONTENT_206.code()).withHeader("Content-Range", "bytes 11-27/28").withBody("second line\nthird"));
+    client.when(range("/logs/tail.log", "bytes=23-"), Times.once()).respond(response().withStatusCode(PARTIAL_CONTENT_206.code()).withHeader("Content-Range", "bytes 23-34/35").withBody("third line\r\n"));
+    HttpRequest unchanged = range("/logs/tail.log", "bytes=35-");
+    client.when(unchanged).respond(response().withStatusCode(REQUESTED_RANGE_NOT_SATISFIABLE_416.code()).withHeader("Content-Range", "bytes */35"));
+
+    List<String> lines = new CopyOnWriteArrayList<>();
+    CompletableFuture<Void> tail;
+    try (EnvironmentLogTailer tailer = new EnvironmentLogTailerImpl(underTest, FAST, new PollingSchedulerImpl(1, PollingScheduler.DEFAULT_MAX_BACKOFF), true, Clock.fixed(DAY_ONE, ZoneOffset.UTC))) {
+      tail = tailer.tail("1", "1", option, lines::add);
+      await(() -> client.retrieveRecordedRequests(unchanged).length > 0);
+      assertFalse(tail.isDone(), "Tail still running.");
+    }
+    assertTrue(tail.isCancelled(), "Tail cancelled on close.");
+    assertEquals(Arrays.asList("second line", "third line"), lines, "Only new lines emitted.");
+    client.clear(getRedirect);
+    client.clear(request().withPath("/logs/tail.log"));
+  }
+
+  @Test
+  void tail_next_day() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest dayOne = redirect(sessionId, "2019-09-08", "/logs/day-one.log");
+    HttpRequest dayTwo = redirect(sessionId, "2019-09-09", "/logs/day-two.log");
+    HttpRequest length = range("/logs/day-one.log", "bytes=0-0");
+    client.when(length).respond(response().withStatusCode(PARTIAL_CONTENT_206.code()).withHeader("Content-Range", "bytes 0-0/5").withBody("a"));
+    client.when(range("/logs/day-one.log", "bytes=5-")).respond(response().withStatusCode(PARTIAL_CONTENT_206.code()).withHeader("Content-Range", "bytes 5-13/14").withBody("last line"));
+    // The next day's log is served in full, without support for ranges.
+    HttpRequest full = request().withMethod("GET").withPath("/logs/day-two.log");
+    client.when(full).respond(response().withBody("new day\n"));
+
+    MutableClock clock = new MutableClock(DAY_ONE);
+    List<String> lines = new CopyOnWriteArrayList<>();
+    try (PollingScheduler scheduler = PollingScheduler.create(1);
+         EnvironmentLogTailer tailer = new EnvironmentLogTailerImpl(underTest, FAST, (PollingSchedulerImpl) scheduler, false, clock)) {
+      CompletableFuture<Void> tail = tailer.tail("1", "1", option, lines::add);
+      await(() -> client.retrieveRecordedRequests(length).length > 0);
+      clock.instant = DAY_TWO;
+      await(() -> client.retrieveRecordedRequests(full).length > 1);
+      assertFalse(tail.isDone(), "Tail still running.");
+    }
+    assertEquals(Arrays.asList("last line", "new day"), lines, "Previous day completed before the next.");
+    client.clear(dayOne);
+    client.clear(dayTwo);
+    client.clear(request().withPath("/logs/day-one.log"));
+    client.clear(full);
+  }
+
+  @Test
+  void tail_failure() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest getRedirect = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/environment/1/logs/download");
+    client.when(getRedirect).respond(response().withStatusCode(NOT_FOUND_404.code()));
+
+    try (EnvironmentLogTailer tailer = EnvironmentLogTailer.create(underTest, FAST)) {
+      CompletableFuture<Void> tail = tailer.tail("1", "1", option, line -> {});
+      ExecutionException exception = assertThrows(ExecutionException.class, () -> tail.get(5, TimeUnit.SECONDS), "Exception thrown.");
+      assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause was correct.");
+      assertTrue(exception.getCause().getMessage().startsWith("Cannot get logs: "), "Message was correct.");
+    }
+    client.clear(getRedirect);
+  }
+
+  private static class MutableClock extends Clock {
+    private volatile Instant instant;
+
+    private MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
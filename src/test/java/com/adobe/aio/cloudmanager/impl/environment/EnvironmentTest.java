@@ -20,17 +20,28 @@ package com.adobe.aio.cloudmanager.impl.environment;
  * #L%
  */
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
@@ -39,13 +50,16 @@ import com.adobe.aio.cloudmanager.impl.generated.Environment;
 import com.adobe.aio.ims.feign.AuthInterceptor;
 import com.adobe.aio.cloudmanager.ApiBuilder;
 import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.DownloadListener;
 import com.adobe.aio.cloudmanager.EnvironmentApi;
+import com.adobe.aio.cloudmanager.EnvironmentApiAsync;
 import com.adobe.aio.cloudmanager.EnvironmentLog;
 import com.adobe.aio.cloudmanager.LogOption;
 import com.adobe.aio.cloudmanager.Region;
 import com.adobe.aio.cloudmanager.RegionDeployment;
 import com.adobe.aio.cloudmanager.Variable;
 import com.adobe.aio.cloudmanager.impl.AbstractApiTest;
+import com.adobe.aio.cloudmanager.impl.Downloader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -61,6 +75,7 @@ import static org.mockserver.model.HttpRequest.*;
 import static org.mockserver.model.HttpResponse.*;
 import static org.mockserver.model.HttpStatusCode.*;
 import static org.mockserver.model.JsonBody.*;
+import static org.mockserver.model.NottableString.*;
 
 public class EnvironmentTest extends AbstractApiTest {
   private static final JsonBody GET_BODY = loadBodyJson("environment/get.json");
@@ -947,6 +962,228 @@ public class EnvironmentTest extends AbstractApiTest {
     client.clear(download2);
   }
 
+  @Test
+  void downloadLogs_async_listener() throws Exception {
+    byte[] zipBytes = IOUtils.toByteArray(EnvironmentTest.class.getClassLoader().getResourceAsStream("file.log.gz"));
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    EnvironmentApiAsync asyncApi;
+    try (MockedConstruction<AuthInterceptor.Builder> ignored = mockConstruction(AuthInterceptor.Builder.class,
+        (mock, mockContext) -> {
+          when(mock.workspace(workspace)).thenReturn(mock);
+          when(mock.build()).thenReturn(authInterceptor);
+        }
+    )) {
+      asyncApi = new ApiBuilder<>(EnvironmentApiAsync.class).workspace(workspace).url(new URL(baseUrl)).build();
+    }
+
+    HttpRequest listLogs = request()
+        .withMethod("GET")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/environment/1/logs")
+        .withQueryStringParameter("service", "author")
+        .withQueryStringParameter("name", "aemerror")
+        .withQueryStringParameter("days", "1");
+    client.when(listLogs).respond(response().withBody(LIST_LOGS_BODY));
+    HttpRequest getRedirect = request()
+        .withMethod("GET")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/environment/1/logs/download")
+        .withQueryStringParameter("service", "author")
+        .withQueryStringParameter("name", "aemerror");
+    client.when(getRedirect).respond(response().withBody(json(String.format("{ \"redirect\": \"%s/logs/author-aemerror.txt\" }", baseUrl))));
+    HttpRequest download = request().withMethod("GET").withPath("/logs/author-aemerror.txt");
+    client.when(download).respond(response().withBody(zipBytes));
+
+    Map<String, Long> completed = new ConcurrentHashMap<>();
+    AtomicLong transferred = new AtomicLong();
+    DownloadListener listener = new DownloadListener() {
+      @Override
+      public void progress(File file, long bytes, long size) {
+        transferred.accumulateAndGet(bytes, Math::max);
+      }
+
+      @Override
+      public void completed(File file, long size) {
+        completed.put(file.getName(), size);
+      }
+    };
+    File outputDir = Files.createTempDirectory("log-output").toFile();
+    List<EnvironmentLog> logs = new ArrayList<>(asyncApi.downloadLogs("1", "1", option, 1, outputDir, 2, listener).get(10, TimeUnit.SECONDS));
+    assertEquals(2, logs.size(), "Correct Object response");
+    assertEquals(outputDir + "/environment-1-author-aemerror-2019-09-08.log.gz", logs.get(0).getDownloadPath(), "Order kept.");
+    assertEquals(outputDir + "/environment-1-author-aemerror-2019-09-07.log.gz", logs.get(1).getDownloadPath(), "Order kept.");
+    assertEquals(2, completed.size(), "Each file reported.");
+    assertEquals(Long.valueOf(zipBytes.length), completed.get("environment-1-author-aemerror-2019-09-08.log.gz"), "Size reported.");
+    assertEquals(zipBytes.length, transferred.get(), "Progress reported.");
+    assertEquals(zipBytes.length, FileUtils.sizeOf(new File(logs.get(1).getDownloadPath())), "File written.");
+
+    client.verify(listLogs, VerificationTimes.exactly(1));
+    client.verify(getRedirect, VerificationTimes.exactly(2));
+    client.verify(download, VerificationTimes.exactly(2));
+    client.clear(listLogs);
+    client.clear(getRedirect);
+    client.clear(download);
+  }
+
+  @Test
+  void downloadLogs_resume_and_skip_unchanged() throws Exception {
+    byte[] zipBytes = IOUtils.toByteArray(EnvironmentTest.class.getClassLoader().getResourceAsStream("file.log.gz"));
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+
+    HttpRequest listLogs = request()
+        .withMethod("GET")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/environment/1/logs")
+        .withQueryStringParameter("service", "author")
+        .withQueryStringParameter("name", "aemerror")
+        .withQueryStringParameter("days", "1");
+    client.when(listLogs).respond(response().withBody(LIST_LOGS_BODY));
+    HttpRequest getRedirect = request()
+        .withMethod("GET")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/environment/1/logs/download")
+        .withQueryStringParameter("service", "author")
+        .withQueryStringParameter("name", "aemerror");
+    client.when(getRedirect).respond(response().withBody(json(String.format("{ \"redirect\": \"%s/logs/author-aemerror.txt\" }", baseUrl))));
+
+    // A partial file of the first log is left from an earlier attempt, with the validators it was started with.
+    File outputDir = Files.createTempDirectory("log-output").toFile();
+    File partial = new File(outputDir, "environment-1-author-aemerror-2019-09-08.log.gz.part");
+    FileUtils.writeByteArrayToFile(partial, Arrays.copyOf(zipBytes, 10));
+    Files.createDirectories(Downloader.validators(partial).getParent());
+    FileUtils.writeStringToFile(Downloader.validators(partial).toFile(), "ETag=\"abc\"\n", StandardCharsets.UTF_8);
+    HttpRequest resume = request().withMethod("GET").withPath("/logs/author-aemerror.txt").withHeader("Range", "bytes=10-").withHeader("If-Range", "\"abc\"");
+    client.when(resume).respond(response().withStatusCode(PARTIAL_CONTENT_206.code())
+        .withHeader("Content-Range", String.format("bytes 10-%d/%d", zipBytes.length - 1, zipBytes.length))
+        .withBody(Arrays.copyOfRange(zipBytes, 10, zipBytes.length)));
+    HttpRequest download = request().withMethod("GET").withPath("/logs/author-aemerror.txt");
+    client.when(download).respond(response().withHeader("Last-Modified", "Sun, 08 Sep 2019 23:59:59 GMT").withHeader("ETag", "\"abc\"").withBody(zipBytes));
+
+    List<EnvironmentLog> logs = new ArrayList<>(underTest.downloadLogs("1", "1", option, 1, outputDir, 2, DownloadListener.NONE));
+    assertEquals(2, logs.size(), "Correct Object response");
+    for (EnvironmentLog log : logs) {
+      assertArrayEquals(zipBytes, FileUtils.readFileToByteArray(new File(log.getDownloadPath())), "File content correct.");
+    }
+    assertFalse(partial.exists(), "Partial file moved into place.");
+    assertFalse(Files.exists(Downloader.validators(partial)), "Partial file validators removed.");
+    assertEquals(2, outputDir.list().length, "Only the logs written to the output directory.");
+    client.verify(resume, VerificationTimes.exactly(1));
+    client.clear(resume);
+    client.clear(download);
+
+    // Both logs are now on disk and unchanged on the server.
+    HttpRequest conditional = request().withMethod("GET").withPath("/logs/author-aemerror.txt").withHeader("If-(None-Match|Modified-Since)", ".+");
+    client.when(conditional).respond(response().withStatusCode(NOT_MODIFIED_304.code()));
+    List<File> skipped = new CopyOnWriteArrayList<>();
+    logs = new ArrayList<>(underTest.downloadLogs("1", "1", option, 1, outputDir, 2, new DownloadListener() {
+      @Override
+      public void skipped(File file) {
+        skipped.add(file);
+      }
+    }));
+    assertEquals(2, logs.size(), "Correct Object response");
+    assertEquals(2, skipped.size(), "Both files skipped.");
+    for (EnvironmentLog log : logs) {
+      assertArrayEquals(zipBytes, FileUtils.readFileToByteArray(new File(log.getDownloadPath())), "File content kept.");
+    }
+    client.verify(conditional, VerificationTimes.exactly(2));
+    client.clear(conditional);
+
+    // Without recorded validators, the local file's dates say nothing about the server's content, so it is transferred again.
+    Files.delete(Downloader.validators(new File(logs.get(0).getDownloadPath())));
+    HttpRequest unconditional = request().withMethod("GET").withPath("/logs/author-aemerror.txt").withHeader(not("If-None-Match")).withHeader(not("If-Modified-Since"));
+    client.when(unconditional).respond(response().withBody(zipBytes));
+    client.when(conditional).respond(response().withStatusCode(NOT_MODIFIED_304.code()));
+    skipped.clear();
+    underTest.downloadLogs("1", "1", option, 1, outputDir, 2, new DownloadListener() {
+      @Override
+      public void skipped(File file) {
+        skipped.add(file);
+      }
+    });
+    assertEquals(1, skipped.size(), "Only the file with validators skipped.");
+    client.verify(unconditional, VerificationTimes.exactly(1));
+    client.clear(listLogs);
+    client.clear(getRedirect);
+    client.clear(unconditional);
+    client.clear(conditional);
+  }
+
+  @Test
+  void downloadLogs_invalid_parallelism() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest listLogs = request()
+        .withMethod("GET")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/environment/1/logs")
+        .withQueryStringParameter("service", "author")
+        .withQueryStringParameter("name", "aemerror")
+        .withQueryStringParameter("days", "1");
+    client.when(listLogs).respond(response().withBody(LIST_LOGS_BODY));
+    assertThrows(IllegalArgumentException.class, () -> underTest.downloadLogs("1", "1", option, 1, new File("."), 0, DownloadListener.NONE), "Exception thrown.");
+    client.clear(listLogs);
+  }
+
+  @Test
+  void streamLog_failure_404() {
+    LocalDate date = LocalDate.of(2019, 9, 8);
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest getRedirect = request()
+        .withMethod("GET")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/environment/1/logs/download")
+        .withQueryStringParameter("service", "author")
+        .withQueryStringParameter("name", "aemerror")
+        .withQueryStringParameter("date", date.toString());
+    client.when(getRedirect).respond(response().withBody(json(String.format("{ \"redirect\": \"%s/logs/author-aemerror-stream.txt\" }", baseUrl))));
+    HttpRequest getFile = request().withMethod("GET").withPath("/logs/author-aemerror-stream.txt");
+    client.when(getFile).respond(response().withStatusCode(NOT_FOUND_404.code()));
+
+    CloudManagerApiException exception = assertThrows(CloudManagerApiException.class, () -> underTest.streamLog("1", "1", option, date, line -> true), "Exception thrown.");
+    assertEquals("Cannot read log for environment 1, service 'author', log name 'aemerror', date '2019-09-08' (Cause: java.io.FileNotFoundException).", exception.getMessage(), "Message was correct");
+    client.verify(getRedirect);
+    client.verify(getFile);
+    client.clear(getRedirect);
+    client.clear(getFile);
+  }
+
+  @Test
+  void streamLog_gzip_filtered(@Mock Environment mock) throws Exception {
+    LocalDate date = LocalDate.of(2019, 9, 8);
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+      gzip.write("08.09.2019 INFO first\n08.09.2019 ERROR second\n08.09.2019 ERROR third\n".getBytes(StandardCharsets.UTF_8));
+    }
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    when(mock.getProgramId()).thenReturn("1");
+    when(mock.getId()).thenReturn("1");
+    HttpRequest getRedirect = request()
+        .withMethod("GET")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/environment/1/logs/download")
+        .withQueryStringParameter("service", "author")
+        .withQueryStringParameter("name", "aemerror")
+        .withQueryStringParameter("date", date.toString());
+    client.when(getRedirect).respond(response().withBody(json(String.format("{ \"redirect\": \"%s/logs/author-aemerror-stream.log.gz\" }", baseUrl))));
+    HttpRequest getFile = request().withMethod("GET").withPath("/logs/author-aemerror-stream.log.gz");
+    client.when(getFile).respond(response().withBody(compressed.toByteArray()));
+
+    List<String> lines;
+    try (Stream<String> stream = underTest.streamLog(new EnvironmentImpl(mock, underTest), option, date, line -> line.contains("ERROR"))) {
+      lines = stream.collect(Collectors.toList());
+    }
+    assertEquals(Arrays.asList("08.09.2019 ERROR second", "08.09.2019 ERROR third"), lines, "Filtered lines returned.");
+    client.verify(getRedirect);
+    client.verify(getFile);
+    client.clear(getRedirect);
+    client.clear(getFile);
+  }
+
   @Test
   void getDeveloperConsoleUrl() throws CloudManagerApiException {
     String sessionId = UUID.randomUUID().toString();
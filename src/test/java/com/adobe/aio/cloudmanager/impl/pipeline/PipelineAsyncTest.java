@@ -0,0 +1,276 @@
+package com.adobe.aio.cloudmanager.impl.pipeline;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.net.URL;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+
+import com.adobe.aio.ims.feign.AuthInterceptor;
+import com.adobe.aio.cloudmanager.ApiBuilder;
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.Pipeline;
+import com.adobe.aio.cloudmanager.PipelineApiAsync;
+import com.adobe.aio.cloudmanager.PipelineUpdate;
+import com.adobe.aio.cloudmanager.Variable;
+import com.adobe.aio.cloudmanager.impl.AbstractApiTest;
+import com.adobe.aio.cloudmanager.impl.generated.PipelinePhase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.MediaType;
+
+import static com.adobe.aio.util.Constants.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.mockserver.model.HttpRequest.*;
+import static org.mockserver.model.HttpResponse.*;
+import static org.mockserver.model.HttpStatusCode.*;
+import static org.mockserver.model.JsonBody.*;
+
+class PipelineAsyncTest extends AbstractApiTest {
+
+  private PipelineApiAsync underTest;
+
+  @BeforeEach
+  void before() throws Exception {
+    try (MockedConstruction<AuthInterceptor.Builder> ignored = mockConstruction(AuthInterceptor.Builder.class,
+        (mock, mockContext) -> {
+          when(mock.workspace(workspace)).thenReturn(mock);
+          when(mock.build()).thenReturn(authInterceptor);
+        }
+    )) {
+      underTest = new ApiBuilder<>(PipelineApiAsync.class).workspace(workspace).url(new URL(baseUrl)).build();
+    }
+  }
+
+  @Test
+  void list_failure_404() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipelines");
+    client.when(list).respond(response().withStatusCode(NOT_FOUND_404.code()));
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.list("1").get(), "Exception thrown.");
+    assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause was correct type");
+    assertEquals(String.format("Cannot retrieve pipelines: %s/api/program/1/pipelines (404 Not Found).", baseUrl), exception.getCause().getMessage(), "Message was correct");
+    client.verify(list);
+    client.clear(list);
+  }
+
+  @Test
+  void list_failure_emptyPipelines() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipelines");
+    client.when(list).respond(response().withStatusCode(OK_200.code()).withBody(json("{ \"_embedded\": {} }")));
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.list("1").get(), "Exception thrown.");
+    assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause was correct type");
+    assertEquals("Cannot find pipelines for program 1.", exception.getCause().getMessage(), "Message was correct");
+    client.verify(list);
+    client.clear(list);
+  }
+
+  @Test
+  void list_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipelines");
+    client.when(list).respond(response().withBody(PipelineTest.LIST_BODY));
+    Collection<Pipeline> pipelines = underTest.list("1").get();
+    assertEquals(4, pipelines.size(), "Correct pipelines list length");
+    client.verify(list);
+    client.clear(list);
+  }
+
+  @Test
+  void get_failure_404() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1");
+    client.when(get).respond(response().withStatusCode(NOT_FOUND_404.code()));
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.get("1", "1").get(), "Exception thrown.");
+    assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause was correct type");
+    assertEquals(String.format("Cannot retrieve pipeline: %s/api/program/1/pipeline/1 (404 Not Found).", baseUrl), exception.getCause().getMessage(), "Message was correct");
+    client.verify(get);
+    client.clear(get);
+  }
+
+  @Test
+  void get_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1");
+    client.when(get).respond(response().withBody(loadBodyJson("pipeline/get.json")));
+    assertEquals("1", underTest.get("1", "1").get().getId());
+    client.verify(get);
+    client.clear(get);
+  }
+
+  @Test
+  void delete_failure_400() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest delete = request().withMethod("DELETE").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1");
+    client.when(delete).respond(response().withStatusCode(BAD_REQUEST_400.code()));
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.delete("1", "1").get(), "Exception thrown.");
+    assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause was correct type");
+    assertEquals(String.format("Cannot delete pipeline: %s/api/program/1/pipeline/1 (400 Bad Request).", baseUrl), exception.getCause().getMessage(), "Message was correct");
+    client.verify(delete);
+    client.clear(delete);
+  }
+
+  @Test
+  void delete_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest delete = request().withMethod("DELETE").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1");
+    client.when(delete).respond(response().withStatusCode(NO_CONTENT_204.code()));
+    underTest.delete("1", "1").get();
+    client.verify(delete);
+    client.clear(delete);
+  }
+
+  @Test
+  void update_failure_400() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1");
+    client.when(get).respond(response().withBody(loadBodyJson("pipeline/get.json")));
+    HttpRequest patch = request().withMethod("PATCH").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1").withContentType(MediaType.APPLICATION_JSON);
+    client.when(patch).respond(response().withStatusCode(BAD_REQUEST_400.code()));
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.update("1", "1", PipelineUpdate.builder().build()).get(), "Exception thrown");
+    assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause was correct type");
+    assertEquals(String.format("Cannot update pipeline: %s/api/program/1/pipeline/1 (400 Bad Request).", baseUrl), exception.getCause().getMessage(), "Message was correct");
+    client.verify(get);
+    client.verify(patch);
+    client.clear(get);
+    client.clear(patch);
+  }
+
+  @Test
+  void update_branch_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1");
+    client.when(get).respond(response().withBody(loadBodyJson("pipeline/get.json")));
+    HttpRequest patch = request().withMethod("PATCH").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1").withContentType(MediaType.APPLICATION_JSON);
+    client.when(patch).respond(request -> response().withBody(json(request.getBodyAsString())));
+    PipelineImpl result = (PipelineImpl) underTest.update("1", "1", PipelineUpdate.builder().branch("newbranch").build()).get();
+    PipelinePhase build = result.getPhases().stream().filter(p -> PipelinePhase.TypeEnum.BUILD == p.getType()).findFirst().orElseThrow();
+    assertEquals("newbranch", build.getBranch(), "Branch was set correctly.");
+    client.verify(get);
+    client.verify(patch);
+    client.clear(get);
+    client.clear(patch);
+  }
+
+  @Test
+  void invalidateCache_failure_404() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest delete = request().withMethod("DELETE").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/cache");
+    client.when(delete).respond(response().withStatusCode(NOT_FOUND_404.code()));
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.invalidateCache("1", "1").get(), "Exception thrown.");
+    assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause was correct type");
+    assertEquals(String.format("Cannot invalidate pipeline cache: %s/api/program/1/pipeline/1/cache (404 Not Found).", baseUrl), exception.getCause().getMessage(), "Message was correct");
+    client.verify(delete);
+    client.clear(delete);
+  }
+
+  @Test
+  void invalidateCache_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest delete = request().withMethod("DELETE").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/cache");
+    client.when(delete).respond(response().withStatusCode(ACCEPTED_202.code()));
+    underTest.invalidateCache("1", "1").get();
+    client.verify(delete);
+    client.clear(delete);
+  }
+
+  @Test
+  void getVariables_failure_404() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/variables");
+    client.when(list).respond(response().withStatusCode(NOT_FOUND_404.code()));
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.getVariables("1", "1").get(), "Exception thrown.");
+    assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause was correct type");
+    assertEquals(String.format("Cannot list pipeline variables: %s/api/program/1/pipeline/1/variables (404 Not Found).", baseUrl), exception.getCause().getMessage(), "Message was correct");
+    client.verify(list);
+    client.clear(list);
+  }
+
+  @Test
+  void getVariables_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/variables");
+    client.when(list).respond(response().withBody(PipelineTest.LIST_VARIABLES_BODY));
+    Set<Variable> variables = underTest.getVariables("1", "1").get();
+    assertEquals(2, variables.size(), "Correct response");
+    client.verify(list);
+    client.clear(list);
+  }
+
+  @Test
+  void setVariables_failure_400() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest patch = request().withMethod("PATCH")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withHeader("Content-Type", "application/json")
+        .withPath("/api/program/1/pipeline/1/variables")
+        .withBody(json("[ { \"name\": \"foo\", \"value\": \"bar\", \"type\": \"string\" } ]"));
+    client.when(patch).respond(
+        response()
+            .withStatusCode(BAD_REQUEST_400.code())
+            .withHeader("Content-Type", "application/problem+json")
+            .withBody(json("{ \"type\" : \"http://ns.adobe.com/adobecloud/validation-exception\", \"errors\": [ \"some error\" ] }"))
+    );
+    Variable var = Variable.builder().name("foo").value("bar").type(Variable.Type.STRING).build();
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.setVariables("1", "1", var).get(), "Exception thrown.");
+    assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause was correct type");
+    assertEquals(String.format("Cannot set pipeline variables: %s/api/program/1/pipeline/1/variables (400 Bad Request) - Validation Error(s): some error.", baseUrl), exception.getCause().getMessage(), "Message was correct");
+    client.verify(patch);
+    client.clear(patch);
+  }
+
+  @Test
+  void setVariables_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest patch = request().withMethod("PATCH")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withHeader("Content-Type", "application/json")
+        .withPath("/api/program/1/pipeline/1/variables")
+        .withBody(json("[ { \"name\": \"foo\", \"value\": \"bar\", \"type\": \"string\" }, { \"name\": \"secretFoo\", \"value\": \"secretBar\", \"type\": \"secretString\" } ]"));
+    client.when(patch).respond(response().withBody(PipelineTest.LIST_VARIABLES_BODY));
+    Variable var1 = Variable.builder().name("foo").value("bar").type(Variable.Type.STRING).build();
+    Variable var2 = Variable.builder().name("secretFoo").value("secretBar").type(Variable.Type.SECRET).build();
+    Set<Variable> variables = underTest.setVariables("1", "1", var1, var2).get();
+    assertEquals(2, variables.size(), "Correct response");
+    client.verify(patch);
+    client.clear(patch);
+  }
+}
@@ -0,0 +1,193 @@
+package com.adobe.aio.cloudmanager.impl.pipeline.execution;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.util.Collection;
+import java.util.UUID;
+
+import com.adobe.aio.cloudmanager.ApiBuilder;
+import com.adobe.aio.cloudmanager.CloudManagerClient;
+import com.adobe.aio.cloudmanager.ExecutionCachePolicy;
+import com.adobe.aio.cloudmanager.Metric;
+import com.adobe.aio.cloudmanager.PipelineExecution;
+import com.adobe.aio.cloudmanager.PipelineExecutionApi;
+import com.adobe.aio.cloudmanager.PipelineExecutionApiAsync;
+import com.adobe.aio.cloudmanager.PipelineExecutionEndEvent;
+import com.adobe.aio.cloudmanager.PipelineExecutionStepEndEvent;
+import com.adobe.aio.cloudmanager.StepAction;
+import com.adobe.aio.cloudmanager.impl.AbstractApiTest;
+import com.adobe.aio.ims.feign.AuthInterceptor;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.JsonBody;
+import org.mockserver.verify.VerificationTimes;
+
+import static com.adobe.aio.util.Constants.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.mockserver.model.HttpRequest.*;
+import static org.mockserver.model.HttpResponse.*;
+
+public class ExecutionCacheTest extends AbstractApiTest {
+  private static final JsonBody GET_BODY = loadBodyJson("pipeline/execution/get.json");
+  private static final JsonBody GET_FINISHED_BODY = JsonBody.json(loadBodyJson("pipeline/execution/codeQuality-waiting.json").getValue()
+      .replace("\"WAITING\"", "\"FINISHED\"")
+      .replace("\"RUNNING\"", "\"FINISHED\""));
+  private static final JsonBody METRICS_BODY = loadBodyJson("pipeline/execution/codeQuality-metrics.json");
+
+  private PipelineExecutionApi executionApi;
+  private PipelineExecutionApiAsync asyncApi;
+  private PipelineExecutionApi uncachedApi;
+  private CloudManagerClient sharedClient;
+
+  @BeforeEach
+  void before() throws Exception {
+    try (MockedConstruction<AuthInterceptor.Builder> ignored = mockConstruction(AuthInterceptor.Builder.class,
+        (mock, mockContext) -> {
+          when(mock.workspace(workspace)).thenReturn(mock);
+          when(mock.build()).thenReturn(authInterceptor);
+        }
+    )) {
+      executionApi = new ApiBuilder<>(PipelineExecutionApi.class).workspace(workspace).url(new URL(baseUrl)).executionCache(ExecutionCachePolicy.DEFAULT).build();
+      asyncApi = new ApiBuilder<>(PipelineExecutionApiAsync.class).workspace(workspace).url(new URL(baseUrl)).executionCache(ExecutionCachePolicy.DEFAULT).build();
+      uncachedApi = new ApiBuilder<>(PipelineExecutionApi.class).workspace(workspace).url(new URL(baseUrl)).build();
+      sharedClient = CloudManagerClient.builder().workspace(workspace).url(new URL(baseUrl)).executionCache(ExecutionCachePolicy.DEFAULT).build();
+    }
+  }
+
+  @Test
+  void terminal_cached() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get).respond(response().withBody(GET_FINISHED_BODY));
+    HttpRequest metrics = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/2/step/2/metrics");
+    client.when(metrics).respond(response().withBody(METRICS_BODY));
+
+    PipelineExecution execution = executionApi.get("1", "1", "1");
+    assertEquals(PipelineExecution.Status.FINISHED, executionApi.get("1", "1", "1").getStatusState(), "Execution returned.");
+    Collection<Metric> first = executionApi.getQualityGateResults(execution, StepAction.codeQuality);
+    Collection<Metric> second = executionApi.getQualityGateResults(execution, StepAction.codeQuality);
+    assertEquals(first.size(), second.size(), "Same metrics returned.");
+    client.verify(get, VerificationTimes.once());
+    client.verify(metrics, VerificationTimes.once());
+    client.clear(get);
+    client.clear(metrics);
+  }
+
+  @Test
+  void terminal_cached_async() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get).respond(response().withBody(GET_FINISHED_BODY));
+    HttpRequest metrics = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/2/step/2/metrics");
+    client.when(metrics).respond(response().withBody(METRICS_BODY));
+
+    PipelineExecution execution = asyncApi.get("1", "1", "1").get();
+    asyncApi.get("1", "1", "1").get();
+    asyncApi.getQualityGateResults(execution, StepAction.codeQuality).get();
+    assertFalse(asyncApi.getQualityGateResults(execution, StepAction.codeQuality).get().isEmpty(), "Metrics returned.");
+    client.verify(get, VerificationTimes.once());
+    client.verify(metrics, VerificationTimes.once());
+    client.clear(get);
+    client.clear(metrics);
+  }
+
+  @Test
+  void terminal_shared_by_client() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get).respond(response().withBody(GET_FINISHED_BODY));
+
+    sharedClient.getApi(PipelineExecutionApi.class).get("1", "1", "1");
+    assertEquals(PipelineExecution.Status.FINISHED, sharedClient.getApi(PipelineExecutionApiAsync.class).get("1", "1", "1").get().getStatusState(), "Execution returned.");
+    client.verify(get, VerificationTimes.once());
+    client.clear(get);
+  }
+
+  @Test
+  void terminal_copied() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get).respond(response().withBody(GET_FINISHED_BODY));
+
+    PipelineExecutionImpl first = (PipelineExecutionImpl) executionApi.get("1", "1", "1");
+    first.setStatus(com.adobe.aio.cloudmanager.impl.generated.PipelineExecution.StatusEnum.RUNNING);
+    first.getEmbedded().getStepStates().clear();
+    PipelineExecution second = executionApi.get("1", "1", "1");
+    assertNotSame(first, second, "Copy returned.");
+    assertEquals(PipelineExecution.Status.FINISHED, second.getStatusState(), "Cached execution not modified.");
+    assertEquals(StepAction.validate, second.getStep(StepAction.validate).getStepAction(), "Cached steps not modified.");
+    client.verify(get, VerificationTimes.once());
+    client.clear(get);
+  }
+
+  @Test
+  void running_notCached() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get).respond(response().withBody(GET_BODY));
+
+    executionApi.get("1", "1", "1");
+    executionApi.get("1", "1", "1");
+    client.verify(get, VerificationTimes.exactly(2));
+    client.clear(get);
+  }
+
+  @Test
+  void disabled() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get).respond(response().withBody(GET_FINISHED_BODY));
+
+    uncachedApi.get("1", "1", "1");
+    uncachedApi.get("1", "1", "1");
+    client.verify(get, VerificationTimes.exactly(2));
+    client.clear(get);
+  }
+
+  @Test
+  void events_shareExecution() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get).respond(response().withBody(GET_FINISHED_BODY));
+    HttpRequest getStep = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/1/step/1");
+
+    PipelineExecutionEndEvent ended = (PipelineExecutionEndEvent) executionApi.parseEvent(IOUtils.resourceToString("pipeline/execution/event/pipeline-end.json", Charset.defaultCharset(), ExecutionCacheTest.class.getClassLoader()));
+    assertEquals(PipelineExecution.Status.FINISHED, ended.getExecution().getStatusState(), "Execution returned.");
+    PipelineExecutionStepEndEvent stepEnded = (PipelineExecutionStepEndEvent) executionApi.parseEvent(IOUtils.resourceToString("pipeline/execution/event/pipeline-step-end.json", Charset.defaultCharset(), ExecutionCacheTest.class.getClassLoader()));
+    assertEquals(StepAction.validate, stepEnded.getStepState().getStepAction(), "Step found in execution.");
+    assertSame(stepEnded.getStepState(), stepEnded.getStepState(), "Step state memoized.");
+    client.verify(get, VerificationTimes.once());
+    client.verify(getStep, VerificationTimes.never());
+    client.clear(get);
+  }
+}
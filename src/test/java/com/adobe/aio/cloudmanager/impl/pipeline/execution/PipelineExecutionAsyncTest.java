@@ -0,0 +1,227 @@
+package com.adobe.aio.cloudmanager.impl.pipeline.execution;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.io.File;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+
+import org.apache.commons.io.FileUtils;
+
+import com.adobe.aio.cloudmanager.ApiBuilder;
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.DownloadListener;
+import com.adobe.aio.cloudmanager.PipelineExecution;
+import com.adobe.aio.cloudmanager.PipelineExecutionApiAsync;
+import com.adobe.aio.cloudmanager.exception.PipelineRunningException;
+import com.adobe.aio.cloudmanager.impl.AbstractApiTest;
+import com.adobe.aio.ims.feign.AuthInterceptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockedConstruction;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.JsonBody;
+import org.mockserver.verify.VerificationTimes;
+
+import static com.adobe.aio.util.Constants.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.mockserver.model.HttpRequest.*;
+import static org.mockserver.model.HttpResponse.*;
+import static org.mockserver.model.HttpStatusCode.*;
+
+public class PipelineExecutionAsyncTest extends AbstractApiTest {
+  private static final JsonBody GET_BODY = loadBodyJson("pipeline/execution/get.json");
+  private static final JsonBody GET_WAITING_BODY = loadBodyJson("pipeline/execution/approval-waiting.json");
+  private static final JsonBody GET_CODE_QUALITY_BODY = loadBodyJson("pipeline/execution/codeQuality-waiting.json");
+
+  private PipelineExecutionApiAsync underTest;
+
+  @BeforeEach
+  void before() throws Exception {
+    try (MockedConstruction<AuthInterceptor.Builder> ignored = mockConstruction(AuthInterceptor.Builder.class,
+        (mock, mockContext) -> {
+          when(mock.workspace(workspace)).thenReturn(mock);
+          when(mock.build()).thenReturn(authInterceptor);
+        }
+    )) {
+      underTest = new ApiBuilder<>(PipelineExecutionApiAsync.class).workspace(workspace).url(new URL(baseUrl)).build();
+    }
+  }
+
+  @Test
+  void current_failure_404() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution");
+    client.when(get).respond(response().withStatusCode(NOT_FOUND_404.code()));
+
+    assertFalse(underTest.getCurrent("1", "1").get().isPresent(), "Correct state");
+    client.verify(get);
+    client.clear(get);
+  }
+
+  @Test
+  void current_failure_500() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution");
+    client.when(get).respond(response().withStatusCode(INTERNAL_SERVER_ERROR_500.code()));
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.getCurrent("1", "1").get(), "Exception was thrown.");
+    assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause was correct type");
+    assertEquals(String.format("Cannot get execution: %s/api/program/1/pipeline/1/execution (500 Unknown).", baseUrl), exception.getCause().getMessage(), "Message was correct.");
+    client.verify(get);
+    client.clear(get);
+  }
+
+  @Test
+  void current_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution");
+    client.when(get).respond(response().withBody(GET_BODY));
+
+    Optional<PipelineExecution> opt = underTest.getCurrent("1", "1").get();
+    assertTrue(opt.isPresent(), "Execution found.");
+    assertEquals("1", opt.get().getId(), "Id Matches");
+    client.verify(get);
+    client.clear(get);
+  }
+
+  @Test
+  void start_failure_412() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest put = request().withMethod("PUT").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution");
+    client.when(put).respond(response().withStatusCode(PRECONDITION_FAILED_412.code()));
+
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.start("1", "1").get(), "Exception thrown");
+    assertTrue(exception.getCause() instanceof PipelineRunningException, "Cause was correct type");
+    assertEquals("Cannot create execution. Pipeline already running.", exception.getCause().getMessage(), "Message was correct");
+    client.verify(put);
+    client.clear(put);
+  }
+
+  @Test
+  void advance_failure_buildRunning() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get).respond(response().withBody(GET_BODY));
+
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.advance("1", "1", "1").get(), "Exception thrown");
+    assertEquals("Cannot find a waiting step for pipeline 1, execution 1.", exception.getCause().getMessage(), "Message was correct");
+    client.verify(get);
+    client.clear(get);
+  }
+
+  @Test
+  void advance_approval_waiting() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get).respond(response().withBody(GET_WAITING_BODY));
+
+    HttpRequest put = request().withMethod("PUT")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/pipeline/1/execution/1/phase/4/step/3/advance")
+        .withBody(new JsonBody("{ \"approved\": true }"));
+    client.when(put).respond(response().withStatusCode(ACCEPTED_202.code()));
+
+    underTest.advance("1", "1", "1").get();
+    client.verify(get, put);
+    client.clear(get);
+    client.clear(put);
+  }
+
+  @Test
+  void advance_codeQuality_waiting() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get).respond(response().withBody(GET_CODE_QUALITY_BODY));
+
+    HttpRequest metrics = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/2/step/2/metrics");
+    client.when(metrics).respond(response().withBody(loadBodyJson("pipeline/execution/codeQuality-metrics.json")));
+
+    HttpRequest put = request().withMethod("PUT")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/pipeline/1/execution/1/phase/2/step/2/advance")
+        .withBody(loadBodyJson("pipeline/execution/put-metrics-override.json"));
+    client.when(put).respond(response().withStatusCode(ACCEPTED_202.code()));
+
+    underTest.advance("1", "1", "1").get();
+    client.verify(get, VerificationTimes.once());
+    client.verify(metrics, put);
+    client.clear(get);
+    client.clear(metrics);
+    client.clear(put);
+  }
+
+  @Test
+  void cancel_approval_waiting() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get).respond(response().withBody(GET_WAITING_BODY));
+
+    HttpRequest put = request().withMethod("PUT")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/pipeline/1/execution/1/phase/4/step/3/cancel")
+        .withBody(new JsonBody("{ \"approved\": false }"));
+    client.when(put).respond(response().withStatusCode(ACCEPTED_202.code()));
+
+    underTest.cancel("1", "1", "1").get();
+    client.verify(get, put);
+    client.clear(get);
+    client.clear(put);
+  }
+
+  @Test
+  void downloadAllLogs_success(@Mock PipelineExecution execution) throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    when(execution.getProgramId()).thenReturn("1");
+    when(execution.getPipelineId()).thenReturn("1");
+    when(execution.getId()).thenReturn("1");
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get).respond(response().withBody(GET_BODY));
+    HttpRequest getRedirect = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/2/step/1/logs");
+    client.when(getRedirect).respond(response().withBody(JsonBody.json(String.format("{ \"redirect\": \"%s/logs/async-build.txt\" }", baseUrl))));
+    HttpRequest getFile = request().withMethod("GET").withPath("/logs/async-build.txt");
+    client.when(getFile).respond(response().withBody("build log line\n"));
+
+    File outputDir = Files.createTempDirectory("log-output").toFile();
+    List<File> files = new ArrayList<>(underTest.downloadAllLogs(execution, outputDir, 2, DownloadListener.NONE).get());
+    assertEquals(List.of(new File(outputDir, "pipeline-1-execution-1/pipeline-1-execution-1-build.txt")), files, "Build log downloaded.");
+    assertEquals("build log line\n", FileUtils.readFileToString(files.get(0), StandardCharsets.UTF_8), "Content correct.");
+    client.verify(get, VerificationTimes.once());
+    client.clear(get);
+    client.clear(getRedirect);
+    client.clear(getFile);
+  }
+}
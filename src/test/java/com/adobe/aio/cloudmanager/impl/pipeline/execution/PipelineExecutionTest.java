@@ -25,14 +25,19 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
@@ -42,9 +47,11 @@ import com.adobe.aio.cloudmanager.impl.generated.PipelineExecution;
 import com.adobe.aio.event.webhook.service.EventVerifier;
 import com.adobe.aio.ims.feign.AuthInterceptor;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.adobe.aio.cloudmanager.ApiBuilder;
 import com.adobe.aio.cloudmanager.Artifact;
 import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.DownloadListener;
 import com.adobe.aio.cloudmanager.Metric;
 import com.adobe.aio.cloudmanager.PipelineApi;
 import com.adobe.aio.cloudmanager.PipelineExecutionApi;
@@ -289,7 +296,7 @@ public class PipelineExecutionTest extends AbstractApiTest {
     HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
     client.when(get).respond(response().withBody(GET_BODY));
 
-    CloudManagerApiException exception = assertThrows(CloudManagerApiException.class, () -> executionApi.getStepState(new PipelineExecutionImpl(mock, executionApi), StepAction.deploy), "Exception thrown.");
+    CloudManagerApiException exception = assertThrows(CloudManagerApiException.class, () -> executionApi.getStepState(new PipelineExecutionImpl(mock, executionApi.getAsync()), StepAction.deploy), "Exception thrown.");
     assertEquals("Cannot find step state for action 'deploy' on execution 1.", exception.getMessage(), "Message was correct");
     client.verify(get);
     client.clear(get);
@@ -305,17 +312,17 @@ public class PipelineExecutionTest extends AbstractApiTest {
 
     HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
     client.when(get).respond(response().withBody(json("{}")));
-    assertThrows(CloudManagerApiException.class, () -> executionApi.getStepState(new PipelineExecutionImpl(mock, executionApi), StepAction.codeQuality), "Exception thrown.");
+    assertThrows(CloudManagerApiException.class, () -> executionApi.getStepState(new PipelineExecutionImpl(mock, executionApi.getAsync()), StepAction.codeQuality), "Exception thrown.");
     client.verify(get);
     client.clear(get);
 
     client.when(get).respond(response().withBody(json("{ \"_embedded\": {} }")));
-    assertThrows(CloudManagerApiException.class, () -> executionApi.getStepState(new PipelineExecutionImpl(mock, executionApi), StepAction.codeQuality), "Exception thrown.");
+    assertThrows(CloudManagerApiException.class, () -> executionApi.getStepState(new PipelineExecutionImpl(mock, executionApi.getAsync()), StepAction.codeQuality), "Exception thrown.");
     client.verify(get);
     client.clear(get);
 
     client.when(get).respond(response().withBody(json("{ \"_embedded\": { \"stepStates\": [] } }")));
-    assertThrows(CloudManagerApiException.class, () -> executionApi.getStepState(new PipelineExecutionImpl(mock, executionApi), StepAction.codeQuality), "Exception thrown.");
+    assertThrows(CloudManagerApiException.class, () -> executionApi.getStepState(new PipelineExecutionImpl(mock, executionApi.getAsync()), StepAction.codeQuality), "Exception thrown.");
     client.verify(get);
     client.clear(get);
   }
@@ -330,7 +337,7 @@ public class PipelineExecutionTest extends AbstractApiTest {
     HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
     client.when(get).respond(response().withBody(GET_BODY));
 
-    PipelineExecutionStepState stepState = executionApi.getStepState(new PipelineExecutionImpl(mock, executionApi), StepAction.codeQuality);
+    PipelineExecutionStepState stepState = executionApi.getStepState(new PipelineExecutionImpl(mock, executionApi.getAsync()), StepAction.codeQuality);
     assertNotNull(stepState);
     assertEquals(PipelineExecutionStepState.Status.NOT_STARTED, stepState.getStatusState());
     client.verify(get);
@@ -353,6 +360,9 @@ public class PipelineExecutionTest extends AbstractApiTest {
 
     com.adobe.aio.cloudmanager.PipelineExecution execution = executions.get(0);
     assertEquals(StepAction.build, execution.getStep(StepAction.build).getStepAction(), "Correct step found.");
+    assertEquals(StepAction.validate, execution.getSteps().get(0).getStepAction(), "Steps listed in order.");
+    assertSame(execution.getStep(StepAction.build), execution.getSteps().get(1), "Steps share the index.");
+    assertThrows(UnsupportedOperationException.class, () -> execution.getSteps().clear(), "Steps not modifiable.");
 
     client.verify(list, VerificationTimes.once());
     client.clear(list);
@@ -457,13 +467,70 @@ public class PipelineExecutionTest extends AbstractApiTest {
         .withBody(loadBodyJson("pipeline/execution/put-metrics-override.json"));
     client.when(put).respond(response().withStatusCode(ACCEPTED_202.code()));
 
-    executionApi.advance(new PipelineExecutionImpl(mock, executionApi));
+    executionApi.advance(new PipelineExecutionImpl(mock, executionApi.getAsync()));
     client.verify(get, metrics, put);
     client.clear(get);
     client.clear(metrics);
     client.clear(put);
   }
 
+  @Test
+  void advance_codeQuality_fresh() throws CloudManagerApiException {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get).respond(response().withBody(GET_CODE_QUALITY_BODY));
+
+    HttpRequest metrics = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/2/step/2/metrics");
+    client.when(metrics).respond(response().withBody(loadBodyJson("pipeline/execution/codeQuality-metrics.json")));
+
+    HttpRequest put = request().withMethod("PUT")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/pipeline/1/execution/1/phase/2/step/2/advance")
+        .withBody(loadBodyJson("pipeline/execution/put-metrics-override.json"));
+    client.when(put).respond(response().withStatusCode(ACCEPTED_202.code()));
+
+    com.adobe.aio.cloudmanager.PipelineExecution execution = executionApi.get("1", "1", "1");
+    executionApi.advance(execution, Duration.ofMinutes(1));
+    client.verify(get, VerificationTimes.once());
+    client.verify(metrics, VerificationTimes.once());
+    client.verify(put, VerificationTimes.once());
+    client.clear(get);
+    client.clear(metrics);
+    client.clear(put);
+  }
+
+  @Test
+  void getStepState_maxAge() throws CloudManagerApiException {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get).respond(response().withBody(GET_CODE_QUALITY_BODY));
+
+    com.adobe.aio.cloudmanager.PipelineExecution execution = executionApi.get("1", "1", "1");
+    assertEquals(StepAction.codeQuality, executionApi.getStepState(execution, StepAction.codeQuality, Duration.ofMinutes(1)).getStepAction(), "Step found.");
+    client.verify(get, VerificationTimes.once());
+    executionApi.getStepState(execution, StepAction.codeQuality, Duration.ZERO);
+    client.verify(get, VerificationTimes.exactly(2));
+    client.clear(get);
+  }
+
+  @Test
+  void getStepState_maxAge_zero_ended() throws CloudManagerApiException {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get).respond(response().withBody(GET_CODE_QUALITY_BODY));
+
+    PipelineExecutionImpl execution = executionApi.get("1", "1", "1");
+    execution.setStatus(com.adobe.aio.cloudmanager.impl.generated.PipelineExecution.StatusEnum.FINISHED);
+    executionApi.getStepState(execution, StepAction.codeQuality, Duration.ofMinutes(1));
+    client.verify(get, VerificationTimes.once());
+    executionApi.getStepState(execution, StepAction.codeQuality, Duration.ZERO);
+    client.verify(get, VerificationTimes.exactly(2));
+    client.clear(get);
+  }
+
   @Test
   void advance_via_execution() throws Exception {
     String sessionId = UUID.randomUUID().toString();
@@ -479,7 +546,7 @@ public class PipelineExecutionTest extends AbstractApiTest {
           .withBody(new JsonBody("{ \"approved\": true }"));
       client.when(put).respond(response().withStatusCode(ACCEPTED_202.code()));
 
-      new PipelineExecutionImpl(original, executionApi).advance();
+      new PipelineExecutionImpl(original, executionApi.getAsync()).advance();
       client.verify(put);
       client.clear(put);
     }
@@ -573,7 +640,7 @@ public class PipelineExecutionTest extends AbstractApiTest {
         .withBody(json("{ \"override\": false }"));
     client.when(put).respond(response().withStatusCode(ACCEPTED_202.code()));
 
-    executionApi.cancel(new PipelineExecutionImpl(mock, executionApi));
+    executionApi.cancel(new PipelineExecutionImpl(mock, executionApi.getAsync()));
     client.verify(get, put);
     client.clear(get);
     client.clear(put);
@@ -632,7 +699,7 @@ public class PipelineExecutionTest extends AbstractApiTest {
           .withBody(new JsonBody("{ \"approved\": false }"));
       client.when(put).respond(response().withStatusCode(ACCEPTED_202.code()));
 
-      new PipelineExecutionImpl(original, executionApi).cancel();
+      new PipelineExecutionImpl(original, executionApi.getAsync()).cancel();
       client.verify(put);
       client.clear(put);
     }
@@ -691,7 +758,7 @@ public class PipelineExecutionTest extends AbstractApiTest {
     client.when(get).respond(response().withBody(GET_BODY));
     HttpRequest redirect = setupDownloadUrl(sessionId, "/api/program/1/pipeline/1/execution/1/phase/2/step/1/logs");
 
-    com.adobe.aio.cloudmanager.PipelineExecution execution = new PipelineExecutionImpl(mock, executionApi);
+    com.adobe.aio.cloudmanager.PipelineExecution execution = new PipelineExecutionImpl(mock, executionApi.getAsync());
     assertEquals(String.format("%s/logs/special.txt", baseUrl), executionApi.getStepLogDownloadUrl(execution, StepAction.build));
     client.verify(get, redirect);
     client.clear(get);
@@ -709,7 +776,7 @@ public class PipelineExecutionTest extends AbstractApiTest {
     HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
     client.when(get).respond(response().withBody(GET_BODY));
     HttpRequest redirect = setupDownloadUrlSpecial(sessionId);
-    com.adobe.aio.cloudmanager.PipelineExecution execution = new PipelineExecutionImpl(mock, executionApi);
+    com.adobe.aio.cloudmanager.PipelineExecution execution = new PipelineExecutionImpl(mock, executionApi.getAsync());
 
     assertEquals(String.format("%s/logs/somethingspecial.txt", baseUrl), executionApi.getStepLogDownloadUrl(execution, StepAction.build, "somethingspecial"));
     client.verify(get, redirect);
@@ -730,7 +797,7 @@ public class PipelineExecutionTest extends AbstractApiTest {
     HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/2/step/2/metrics");
     client.when(get).respond(response().withStatusCode(FORBIDDEN_403.code()));
 
-    CloudManagerApiException exception = assertThrows(CloudManagerApiException.class, () -> executionApi.getQualityGateResults(new PipelineExecutionImpl(mock, executionApi), StepAction.codeQuality), "Exception thrown.");
+    CloudManagerApiException exception = assertThrows(CloudManagerApiException.class, () -> executionApi.getQualityGateResults(new PipelineExecutionImpl(mock, executionApi.getAsync()), StepAction.codeQuality), "Exception thrown.");
     assertEquals(String.format("Cannot get metrics: %s/api/program/1/pipeline/1/execution/1/phase/2/step/2/metrics (403 Forbidden).", baseUrl), exception.getMessage(), "Message was correct.");
 
     client.verify(exec, get);
@@ -750,13 +817,13 @@ public class PipelineExecutionTest extends AbstractApiTest {
 
     HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/2/step/2/metrics");
     client.when(get).respond(response().withBody(json("{}")));
-    Collection<Metric> metrics = executionApi.getQualityGateResults(new PipelineExecutionImpl(mock, executionApi), StepAction.codeQuality);
+    Collection<Metric> metrics = executionApi.getQualityGateResults(new PipelineExecutionImpl(mock, executionApi.getAsync()), StepAction.codeQuality);
     assertTrue(metrics.isEmpty());
     client.verify(get);
     client.clear(get);
 
     client.when(get).respond(response().withBody(json("{ \"metrics\": [] }")));
-    metrics = executionApi.getQualityGateResults(new PipelineExecutionImpl(mock, executionApi), StepAction.codeQuality);
+    metrics = executionApi.getQualityGateResults(new PipelineExecutionImpl(mock, executionApi.getAsync()), StepAction.codeQuality);
     assertTrue(metrics.isEmpty());
     client.verify(get);
     client.clear(get);
@@ -778,7 +845,7 @@ public class PipelineExecutionTest extends AbstractApiTest {
     HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/2/step/2/metrics");
     client.when(get).respond(response().withBody(loadBodyJson("pipeline/execution/codeQuality-metrics.json")));
 
-    Collection<Metric> metrics = executionApi.getQualityGateResults(new PipelineExecutionImpl(mock, executionApi), StepAction.codeQuality);
+    Collection<Metric> metrics = executionApi.getQualityGateResults(new PipelineExecutionImpl(mock, executionApi.getAsync()), StepAction.codeQuality);
     assertEquals(8, metrics.size());
 
     client.verify(exec, get);
@@ -906,6 +973,34 @@ public class PipelineExecutionTest extends AbstractApiTest {
     client.clear(list);
   }
 
+  @Test
+  void stream_success(@Mock Pipeline mock) throws CloudManagerApiException {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    when(mock.getProgramId()).thenReturn("1");
+    when(mock.getId()).thenReturn("1");
+    HttpRequest first = request().withMethod("GET")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/pipeline/1/executions")
+        .withQueryStringParameter("start", "0")
+        .withQueryStringParameter("limit", "20");
+    client.when(first).respond(response().withBody(LIST_BODY));
+    HttpRequest second = request().withMethod("GET")
+        .withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/pipeline/1/executions")
+        .withQueryStringParameter("start", "20")
+        .withQueryStringParameter("limit", "20");
+    client.when(second).respond(response().withBody(json("{ \"_embedded\": { \"executions\": [] } }")));
+
+    try (Stream<com.adobe.aio.cloudmanager.PipelineExecution> executions = executionApi.stream(new PipelineImpl(mock, pipelineApi, executionApi), 20)) {
+      assertEquals(20, executions.count(), "Correct length.");
+    }
+    client.verify(first, VerificationTimes.once());
+    client.verify(second, VerificationTimes.once());
+    client.clear(first);
+    client.clear(second);
+  }
+
   @Test
   void list_start_limit_empty(@Mock Pipeline mock) throws CloudManagerApiException {
     String sessionId = UUID.randomUUID().toString();
@@ -1075,6 +1170,133 @@ public class PipelineExecutionTest extends AbstractApiTest {
     client.clear(get);
   }
 
+  private Artifact listArtifact(String sessionId, PipelineExecutionStepState step, byte[] content, String md5) throws CloudManagerApiException {
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/1/step/1/artifacts");
+    client.when(list).respond(response().withBody(json(String.format("{ \"_embedded\": { \"artifacts\": [ " +
+        "{ \"id\": \"1\", \"type\": \"DISPATCHER_CONFIGURATION\", \"file\": \"build/site.zip\", \"md5\": \"%s\" } ] } }", md5))));
+    Artifact artifact = executionApi.listArtifacts(step).iterator().next();
+    client.clear(list);
+    return artifact;
+  }
+
+  @Test
+  void artifact_download_success(@Mock com.adobe.aio.cloudmanager.PipelineExecution execution, @Mock PipelineExecutionStepState step) throws CloudManagerApiException, IOException {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    when(execution.getProgramId()).thenReturn("1");
+    when(execution.getPipelineId()).thenReturn("1");
+    when(execution.getId()).thenReturn("1");
+    when(step.getExecution()).thenReturn(execution);
+    when(step.getPhaseId()).thenReturn("1");
+    when(step.getStepId()).thenReturn("1");
+    byte[] content = "artifact content".getBytes(StandardCharsets.UTF_8);
+    Artifact artifact = listArtifact(sessionId, step, content, "282a3c1f68cbdee41e0babb2bc606f51");
+
+    HttpRequest redirect = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/1/step/1/artifact/1");
+    client.when(redirect).respond(response().withBody(json(String.format("{ \"redirect\": \"%s/artifacts/site.zip\" }", baseUrl))));
+    HttpRequest download = request().withMethod("GET").withPath("/artifacts/site.zip");
+    client.when(download).respond(response().withBody(content));
+
+    File outputDir = Files.createTempDirectory("artifact-output").toFile();
+    File file = artifact.download(outputDir);
+    assertEquals(new File(outputDir, "site.zip"), file, "File name correct.");
+    assertArrayEquals(content, FileUtils.readFileToByteArray(file), "Content correct.");
+
+    // Already downloaded, so neither the redirect nor the file is requested again.
+    assertEquals(file, artifact.download(outputDir), "File returned.");
+    client.verify(redirect, VerificationTimes.once());
+    client.verify(download, VerificationTimes.once());
+    client.clear(redirect);
+    client.clear(download);
+  }
+
+  @Test
+  void artifact_download_md5_mismatch(@Mock com.adobe.aio.cloudmanager.PipelineExecution execution, @Mock PipelineExecutionStepState step) throws CloudManagerApiException, IOException {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    when(execution.getProgramId()).thenReturn("1");
+    when(execution.getPipelineId()).thenReturn("1");
+    when(execution.getId()).thenReturn("1");
+    when(step.getExecution()).thenReturn(execution);
+    when(step.getPhaseId()).thenReturn("1");
+    when(step.getStepId()).thenReturn("1");
+    when(step.getStepAction()).thenReturn(StepAction.build);
+    byte[] content = "artifact content".getBytes(StandardCharsets.UTF_8);
+    Artifact artifact = listArtifact(sessionId, step, content, "00000000000000000000000000000000");
+
+    HttpRequest redirect = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/1/step/1/artifact/1");
+    client.when(redirect).respond(response().withBody(json(String.format("{ \"redirect\": \"%s/artifacts/site.zip\" }", baseUrl))));
+    HttpRequest download = request().withMethod("GET").withPath("/artifacts/site.zip");
+    client.when(download).respond(response().withBody(content));
+
+    File outputDir = Files.createTempDirectory("artifact-output").toFile();
+    CloudManagerApiException exception = assertThrows(CloudManagerApiException.class, () -> artifact.download(outputDir), "Exception thrown.");
+    assertEquals(String.format("Cannot download artifact 1 for pipeline 1, execution 1, step 'build' to %s/site.zip (Cause: java.io.IOException).", outputDir), exception.getMessage(), "Message was correct.");
+    assertFalse(new File(outputDir, "site.zip").exists(), "File not written.");
+    assertFalse(new File(outputDir, "site.zip.part").exists(), "Partial file removed.");
+    client.clear(redirect);
+    client.clear(download);
+  }
+
+  @Test
+  void downloadArtifacts_success(@Mock com.adobe.aio.cloudmanager.PipelineExecution execution, @Mock PipelineExecutionStepState step) throws CloudManagerApiException, IOException {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    when(execution.getProgramId()).thenReturn("1");
+    when(execution.getPipelineId()).thenReturn("1");
+    when(execution.getId()).thenReturn("1");
+    when(step.getExecution()).thenReturn(execution);
+    when(step.getPhaseId()).thenReturn("1");
+    when(step.getStepId()).thenReturn("1");
+    byte[] first = "first artifact".getBytes(StandardCharsets.UTF_8);
+    byte[] second = "second artifact".getBytes(StandardCharsets.UTF_8);
+
+    // The second hash is SHA-512, as the service reports for some artifacts.
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/1/step/1/artifacts");
+    client.when(list).respond(response().withBody(json("{ \"_embedded\": { \"artifacts\": [ " +
+        "{ \"id\": \"1\", \"type\": \"DISPATCHER_CONFIGURATION\", \"file\": \"build/site.zip\", \"md5\": \"8218552b3e37b87b214f05f8b557aa9e\" }, " +
+        "{ \"id\": \"2\", \"type\": \"CONTENT_PACKAGE\", \"file\": \"build/content.zip\", \"md5\": " +
+        "\"ea562e7c365e6179033aa96faf436299f5626ccbc99620005193953224e537b80c78b829b2b0ce0daa06b81822afb4946557e098bacc5ec2f2ebbe60d085f558\" } ] } }")));
+    HttpRequest firstRedirect = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/1/step/1/artifact/1");
+    client.when(firstRedirect).respond(response().withBody(json(String.format("{ \"redirect\": \"%s/artifacts/site.zip\" }", baseUrl))));
+    HttpRequest secondRedirect = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/1/step/1/artifact/2");
+    client.when(secondRedirect).respond(response().withBody(json(String.format("{ \"redirect\": \"%s/artifacts/content.zip\" }", baseUrl))));
+    HttpRequest firstDownload = request().withMethod("GET").withPath("/artifacts/site.zip");
+    client.when(firstDownload).respond(response().withBody(first));
+    HttpRequest secondDownload = request().withMethod("GET").withPath("/artifacts/content.zip");
+    client.when(secondDownload).respond(response().withBody(second));
+
+    Map<String, Long> transferred = Collections.synchronizedMap(new HashMap<>());
+    DownloadListener listener = new DownloadListener() {
+      @Override
+      public void transferred(File file, long bytes, Duration elapsed) {
+        transferred.put(file.getName(), bytes);
+      }
+    };
+    File outputDir = Files.createTempDirectory("artifact-output").toFile();
+    List<File> files = new ArrayList<>(executionApi.downloadArtifacts(step, outputDir, 2, listener));
+    assertEquals(2, files.size(), "File count correct.");
+    assertEquals(new File(outputDir, "site.zip"), files.get(0), "First file correct.");
+    assertEquals(new File(outputDir, "content.zip"), files.get(1), "Second file correct.");
+    assertArrayEquals(first, FileUtils.readFileToByteArray(files.get(0)), "First content correct.");
+    assertArrayEquals(second, FileUtils.readFileToByteArray(files.get(1)), "Second content correct.");
+    assertEquals((long) first.length, transferred.get("site.zip.part"), "First throughput reported.");
+    assertEquals((long) second.length, transferred.get("content.zip.part"), "Second throughput reported.");
+
+    // Both are up to date, so only the list is requested again.
+    assertEquals(files, new ArrayList<>(executionApi.downloadArtifacts(step, outputDir)), "Files returned.");
+    client.verify(list, VerificationTimes.exactly(2));
+    client.verify(firstRedirect, VerificationTimes.once());
+    client.verify(secondRedirect, VerificationTimes.once());
+    client.verify(firstDownload, VerificationTimes.once());
+    client.verify(secondDownload, VerificationTimes.once());
+    client.clear(list);
+    client.clear(firstRedirect);
+    client.clear(secondRedirect);
+    client.clear(firstDownload);
+    client.clear(secondDownload);
+  }
+
   @Test
   void isRunning(@Mock Pipeline mock) throws CloudManagerApiException {
     String sessionId = UUID.randomUUID().toString();
@@ -1149,6 +1371,128 @@ public class PipelineExecutionTest extends AbstractApiTest {
     client.clear(getFile);
   }
 
+  @Test
+  void streamStepLog_success() throws CloudManagerApiException {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get).respond(response().withBody(GET_BODY));
+
+    HttpRequest getRedirect = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/2/step/1/logs");
+    client.when(getRedirect).respond(response().withBody(json(String.format("{ \"redirect\": \"%s/logs/build-stream.txt\" }", baseUrl))));
+
+    HttpRequest getFile = request().withMethod("GET").withPath("/logs/build-stream.txt");
+    client.when(getFile).respond(response().withBody("some log line\n[ERROR] failed line\nsome other log line\n"));
+
+    final com.adobe.aio.cloudmanager.PipelineExecution exec = executionApi.get("1", "1", "1");
+    final PipelineExecutionStepState step = exec.getStep(StepAction.build);
+
+    List<String> lines;
+    try (Stream<String> stream = step.streamLog(line -> line.startsWith("[ERROR]"))) {
+      lines = stream.collect(Collectors.toList());
+    }
+    assertEquals(Collections.singletonList("[ERROR] failed line"), lines, "Filtered lines returned.");
+
+    client.verify(get);
+    client.verify(getRedirect);
+    client.verify(getFile);
+    client.clear(get);
+    client.clear(getRedirect);
+    client.clear(getFile);
+  }
+
+  @Test
+  void streamStepLog_named_failure_404() throws CloudManagerApiException {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get).respond(response().withBody(GET_BODY));
+
+    HttpRequest getRedirect = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/2/step/1/logs").withQueryStringParameter("file", "named");
+    client.when(getRedirect).respond(response().withBody(json(String.format("{ \"redirect\": \"%s/logs/build-stream-named.txt\" }", baseUrl))));
+
+    HttpRequest getFile = request().withMethod("GET").withPath("/logs/build-stream-named.txt");
+    client.when(getFile).respond(response().withStatusCode(NOT_FOUND_404.code()));
+
+    final com.adobe.aio.cloudmanager.PipelineExecution exec = executionApi.get("1", "1", "1");
+    final PipelineExecutionStepState step = exec.getStep(StepAction.build);
+
+    CloudManagerApiException exception = assertThrows(CloudManagerApiException.class, () -> step.streamLog("named", line -> true), "Exception thrown.");
+    assertEquals("Cannot read 'named' log for pipeline 1, execution 1, step 'build' (Cause: java.io.FileNotFoundException).", exception.getMessage(), "Message was correct");
+
+    client.verify(get);
+    client.verify(getRedirect);
+    client.verify(getFile);
+    client.clear(get);
+    client.clear(getRedirect);
+    client.clear(getFile);
+  }
+
+  @Test
+  void downloadAllLogs_success() throws CloudManagerApiException, IOException {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+
+    // The validate step also has a log, the code quality step has not started.
+    String body = GET_BODY.getValue().replace("\"action\": \"validate\",", "\"action\": \"validate\", \"_links\": { \"http://ns.adobe.com/adobecloud/rel/pipeline/logs\": { \"href\": \"/api/program/1/pipeline/1/execution/1/phase/1/step/1/logs\" } },");
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get).respond(response().withBody(json(body)));
+
+    HttpRequest validateRedirect = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/1/step/1/logs");
+    client.when(validateRedirect).respond(response().withBody(json(String.format("{ \"redirect\": \"%s/logs/all-validate.txt\" }", baseUrl))));
+    HttpRequest buildRedirect = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/2/step/1/logs");
+    client.when(buildRedirect).respond(response().withBody(json(String.format("{ \"redirect\": \"%s/logs/all-build.txt\" }", baseUrl))));
+    HttpRequest validateFile = request().withMethod("GET").withPath("/logs/all-validate.txt");
+    client.when(validateFile).respond(response().withBody("validate log line\n"));
+    HttpRequest buildFile = request().withMethod("GET").withPath("/logs/all-build.txt");
+    client.when(buildFile).respond(response().withBody("build log line\n"));
+
+    final com.adobe.aio.cloudmanager.PipelineExecution exec = executionApi.get("1", "1", "1");
+    final File outputDir = Files.createTempDirectory("log-output").toFile();
+    List<File> files = new ArrayList<>(exec.downloadAllLogs(outputDir, 2));
+
+    File folder = new File(outputDir, "pipeline-1-execution-1");
+    assertEquals(List.of(new File(folder, "pipeline-1-execution-1-validate.txt"), new File(folder, "pipeline-1-execution-1-build.txt")), files, "Files in step order.");
+    assertEquals("validate log line\n", FileUtils.readFileToString(files.get(0), StandardCharsets.UTF_8), "Content correct.");
+    assertEquals("build log line\n", FileUtils.readFileToString(files.get(1), StandardCharsets.UTF_8), "Content correct.");
+
+    client.verify(get, VerificationTimes.once());
+    client.verify(validateRedirect, VerificationTimes.once());
+    client.verify(buildRedirect, VerificationTimes.once());
+    client.clear(get);
+    client.clear(validateRedirect);
+    client.clear(buildRedirect);
+    client.clear(validateFile);
+    client.clear(buildFile);
+  }
+
+  @Test
+  void downloadAllLogs_failure_404() throws CloudManagerApiException, IOException {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get).respond(response().withBody(GET_BODY));
+    HttpRequest getRedirect = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/2/step/1/logs");
+    client.when(getRedirect).respond(response().withBody(json(String.format("{ \"redirect\": \"%s/logs/all-missing.txt\" }", baseUrl))));
+    HttpRequest getFile = request().withMethod("GET").withPath("/logs/all-missing.txt");
+    client.when(getFile).respond(response().withStatusCode(NOT_FOUND_404.code()));
+
+    final com.adobe.aio.cloudmanager.PipelineExecution exec = executionApi.get("1", "1", "1");
+    final File outputDir = Files.createTempDirectory("log-output").toFile();
+
+    CloudManagerApiException exception = assertThrows(CloudManagerApiException.class, () -> executionApi.downloadAllLogs(exec, outputDir, 4, DownloadListener.NONE), "Exception thrown.");
+    assertEquals(String.format("Cannot download log for pipeline 1, execution 1, step 'build' to %s/pipeline-1-execution-1/pipeline-1-execution-1-build.txt (Cause: java.io.FileNotFoundException).", outputDir), exception.getMessage(), "Message was correct");
+
+    client.verify(get, VerificationTimes.once());
+    client.verify(getFile);
+    client.clear(get);
+    client.clear(getRedirect);
+    client.clear(getFile);
+  }
+
   @Test
   void downloadStepLog_namedFile_redirect_failure_404() throws CloudManagerApiException, IOException {
     String sessionId = UUID.randomUUID().toString();
@@ -1267,10 +1611,12 @@ public class PipelineExecutionTest extends AbstractApiTest {
     HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
     client.when(get).respond(response().withBody(GET_BODY));
     assertNotNull(event.getExecution());
-    client.verify(get);
+    assertSame(event.getExecution(), event.getExecution(), "Execution memoized.");
+    client.verify(get, VerificationTimes.once());
     client.clear(get);
 
     // Execution detail not found
+    event = (PipelineExecutionStartEvent) executionApi.parseEvent(body);
     client.when(get).respond(response().withStatusCode(NOT_FOUND_404.code()));
     CloudManagerApiException exception = assertThrows(CloudManagerApiException.class, event::getExecution, "Exception thrown.");
     assertEquals(String.format("Cannot get execution: %s/api/program/1/pipeline/1/execution/1 (404 Not Found).", baseUrl), exception.getMessage(), "Message was correct.");
@@ -1294,19 +1640,22 @@ public class PipelineExecutionTest extends AbstractApiTest {
     client.when(getStep).respond(response().withBody(GET_STEP_BODY));
     client.when(get).respond(response().withBody(GET_BODY));
     assertNotNull(event.getStepState());
+    assertSame(event.getStepState(), event.getStepState(), "Step state memoized.");
     client.verify(getStep, VerificationTimes.once());
     client.verify(get, VerificationTimes.once());
     client.clear(getStep);
     client.clear(get);
 
     // Step State not found
+    event = (PipelineExecutionStepStartEvent) executionApi.parseEvent(body);
     getStep = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/1/step/1");
     client.when(getStep).respond(response().withStatusCode(NOT_FOUND_404.code()));
     CloudManagerApiException exception = assertThrows(CloudManagerApiException.class, event::getStepState, "Exception thrown.");
     assertEquals(String.format("Cannot get execution step state: %s/api/program/1/pipeline/1/execution/1/phase/1/step/1 (404 Not Found).", baseUrl), exception.getMessage(), "Message was correct.");
 
     client.verify(getStep, VerificationTimes.once());
-    client.verify(get, VerificationTimes.never());
+    // The execution is requested alongside the step state.
+    client.verify(get, VerificationTimes.atMost(1));
     client.clear(getStep);
     client.clear(get);
   }
@@ -1327,19 +1676,22 @@ public class PipelineExecutionTest extends AbstractApiTest {
     client.when(getStep).respond(response().withBody(GET_STEP_BODY));
     client.when(get).respond(response().withBody(GET_BODY));
     assertNotNull(event.getStepState());
+    assertSame(event.getStepState(), event.getStepState(), "Step state memoized.");
     client.verify(getStep, VerificationTimes.once());
     client.verify(get, VerificationTimes.once());
     client.clear(getStep);
     client.clear(get);
 
     // Step State not found
+    event = (PipelineExecutionStepWaitingEvent) executionApi.parseEvent(body);
     getStep = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/1/step/1");
     client.when(getStep).respond(response().withStatusCode(NOT_FOUND_404.code()));
     CloudManagerApiException exception = assertThrows(CloudManagerApiException.class, event::getStepState, "Exception thrown.");
     assertEquals(String.format("Cannot get execution step state: %s/api/program/1/pipeline/1/execution/1/phase/1/step/1 (404 Not Found).", baseUrl), exception.getMessage(), "Message was correct.");
 
     client.verify(getStep, VerificationTimes.once());
-    client.verify(get, VerificationTimes.never());
+    // The execution is requested alongside the step state.
+    client.verify(get, VerificationTimes.atMost(1));
     client.clear(getStep);
     client.clear(get);
   }
@@ -1360,19 +1712,22 @@ public class PipelineExecutionTest extends AbstractApiTest {
     client.when(getStep).respond(response().withBody(GET_STEP_BODY));
     client.when(get).respond(response().withBody(GET_BODY));
     assertNotNull(event.getStepState());
+    assertSame(event.getStepState(), event.getStepState(), "Step state memoized.");
     client.verify(getStep, VerificationTimes.once());
     client.verify(get, VerificationTimes.once());
     client.clear(getStep);
     client.clear(get);
 
     // Step State not found
+    event = (PipelineExecutionStepEndEvent) executionApi.parseEvent(body);
     getStep = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1/phase/1/step/1");
     client.when(getStep).respond(response().withStatusCode(NOT_FOUND_404.code()));
     CloudManagerApiException exception = assertThrows(CloudManagerApiException.class, event::getStepState, "Exception thrown.");
     assertEquals(String.format("Cannot get execution step state: %s/api/program/1/pipeline/1/execution/1/phase/1/step/1 (404 Not Found).", baseUrl), exception.getMessage(), "Message was correct.");
 
     client.verify(getStep, VerificationTimes.once());
-    client.verify(get, VerificationTimes.never());
+    // The execution is requested alongside the step state.
+    client.verify(get, VerificationTimes.atMost(1));
     client.clear(getStep);
     client.clear(get);
   }
@@ -1392,6 +1747,32 @@ public class PipelineExecutionTest extends AbstractApiTest {
     client.clear(get);
   }
 
+  @Test
+  void parseEvent_typesLast() throws IOException, CloudManagerApiException {
+    // Move the type fields after all the other event fields, and the event before its id.
+    ObjectMapper mapper = new ObjectMapper();
+    ObjectNode body = (ObjectNode) mapper.readTree(IOUtils.resourceToString("pipeline/execution/event/pipeline-step-end.json", Charset.defaultCharset(), PipelineExecutionTest.class.getClassLoader()));
+    ObjectNode event = (ObjectNode) body.remove("event");
+    event.set("@type", event.remove("@type"));
+    event.set("xdmEventEnvelope:objectType", event.remove("xdmEventEnvelope:objectType"));
+    ObjectNode reordered = mapper.createObjectNode();
+    reordered.set("event", event);
+    reordered.setAll(body);
+
+    PipelineExecutionStepEndEvent parsed = (PipelineExecutionStepEndEvent) executionApi.parseEvent(mapper.writeValueAsString(reordered));
+    assertEquals(event.get("@id").asText(), parsed.getId(), "Id correct.");
+    assertNotNull(parsed.getPublished(), "Published date parsed.");
+  }
+
+  @Test
+  void parseEvent_malformed() {
+    CloudManagerApiException exception = assertThrows(CloudManagerApiException.class, () -> executionApi.parseEvent("{ \"event\": { \"@type\": "), "Exception thrown.");
+    assertTrue(exception.getMessage().startsWith("Unable to process event: "), "Message was correct.");
+
+    exception = assertThrows(CloudManagerApiException.class, () -> executionApi.parseEvent("{ \"event_id\": \"1\" }"), "Exception thrown.");
+    assertEquals("Unknown event/object types (Event: 'null', Object: 'null').", exception.getMessage(), "Message was correct.");
+  }
+
   @Test
   void getStepState_via_predicate() throws CloudManagerApiException {
     String sessionId = UUID.randomUUID().toString();
@@ -1415,4 +1796,23 @@ public class PipelineExecutionTest extends AbstractApiTest {
     client.clear(get);
   }
 
+  @Test
+  void getStep_indexed() throws CloudManagerApiException {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get).respond(response().withBody(GET_CODE_QUALITY_BODY));
+
+    PipelineExecutionImpl execution = executionApi.get("1", "1", "1");
+    PipelineExecutionStepState step = execution.getStep(StepAction.codeQuality);
+    assertSame(step, execution.getStep(StepAction.codeQuality), "Step wrapped once.");
+    assertSame(step, execution.getCurrentStep(), "Current step indexed.");
+    assertSame(step, execution.findStep(PipelineExecutionStepState.Status.WAITING), "Step indexed by status.");
+    assertSame(step, execution.getStep(PipelineExecutionStepState.IS_WAITING).orElseThrow(), "Predicate finds the same step.");
+    assertNull(execution.findStep(StepAction.deploy), "Missing action.");
+
+    client.verify(get);
+    client.clear(get);
+  }
+
 }
@@ -0,0 +1,222 @@
+package com.adobe.aio.cloudmanager.impl.pipeline.execution;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.adobe.aio.cloudmanager.ApiBuilder;
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.PipelineExecution;
+import com.adobe.aio.cloudmanager.PipelineExecutionApi;
+import com.adobe.aio.cloudmanager.PipelineExecutionStepState;
+import com.adobe.aio.cloudmanager.PipelineExecutionWatcher;
+import com.adobe.aio.cloudmanager.PollingPolicy;
+import com.adobe.aio.cloudmanager.PollingScheduler;
+import com.adobe.aio.cloudmanager.StepAction;
+import com.adobe.aio.cloudmanager.impl.AbstractApiTest;
+import com.adobe.aio.ims.feign.AuthInterceptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import org.mockserver.matchers.Times;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.JsonBody;
+import org.mockserver.verify.VerificationTimes;
+
+import static com.adobe.aio.util.Constants.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.mockserver.model.HttpRequest.*;
+import static org.mockserver.model.HttpResponse.*;
+import static org.mockserver.model.HttpStatusCode.*;
+
+public class PipelineExecutionWatcherTest extends AbstractApiTest {
+  private static final JsonBody GET_BODY = loadBodyJson("pipeline/execution/get.json");
+  private static final JsonBody GET_CODE_QUALITY_BODY = loadBodyJson("pipeline/execution/codeQuality-waiting.json");
+  private static final JsonBody GET_FINISHED_BODY = JsonBody.json(GET_CODE_QUALITY_BODY.getValue()
+      .replace("\"WAITING\"", "\"FINISHED\"")
+      .replace("\"RUNNING\"", "\"FINISHED\""));
+
+  private static final PollingPolicy FAST = PollingPolicy.builder().runningInterval(Duration.ofMillis(10)).waitingInterval(Duration.ofMillis(20)).build();
+
+  private PipelineExecutionApi executionApi;
+
+  @BeforeEach
+  void before() throws Exception {
+    try (MockedConstruction<AuthInterceptor.Builder> ignored = mockConstruction(AuthInterceptor.Builder.class,
+        (mock, mockContext) -> {
+          when(mock.workspace(workspace)).thenReturn(mock);
+          when(mock.build()).thenReturn(authInterceptor);
+        }
+    )) {
+      executionApi = new ApiBuilder<>(PipelineExecutionApi.class).workspace(workspace).url(new URL(baseUrl)).build();
+    }
+  }
+
+  @Test
+  void watch_completes() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get, Times.once()).respond(response().withBody(GET_BODY));
+    PipelineExecution execution = executionApi.get("1", "1", "1");
+
+    client.when(get, Times.once()).respond(response().withBody(GET_CODE_QUALITY_BODY));
+    client.when(get, Times.once()).respond(response().withBody(GET_FINISHED_BODY));
+
+    List<String> transitions = new ArrayList<>();
+    try (PipelineExecutionWatcher watcher = PipelineExecutionWatcher.create(executionApi, FAST)) {
+      PipelineExecution finished = watcher.watch(execution, (step, previous) -> transitions.add(String.format("%s:%s->%s", step.getStepAction(), previous, step.getStatusState()))).get(5, TimeUnit.SECONDS);
+      assertEquals(PipelineExecution.Status.FINISHED, finished.getStatusState(), "Final state returned.");
+    }
+    assertEquals(List.of(
+        "build:RUNNING->FINISHED",
+        "codeQuality:NOT_STARTED->WAITING",
+        "codeQuality:WAITING->FINISHED"
+    ), transitions, "Transitions reported.");
+    client.verify(get, VerificationTimes.exactly(3));
+    client.clear(get);
+  }
+
+  @Test
+  void watch_terminal() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get).respond(response().withBody(GET_FINISHED_BODY));
+    PipelineExecution execution = executionApi.get("1", "1", "1");
+
+    try (PipelineExecutionWatcher watcher = PipelineExecutionWatcher.create(executionApi, FAST)) {
+      CompletableFuture<PipelineExecution> future = watcher.watch(execution);
+      assertTrue(future.isDone(), "Completed immediately.");
+      assertSame(execution, future.get(), "Execution returned.");
+    }
+    client.verify(get, VerificationTimes.once());
+    client.clear(get);
+  }
+
+  @Test
+  void watch_failure() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get, Times.once()).respond(response().withBody(GET_BODY));
+    PipelineExecution execution = executionApi.get("1", "1", "1");
+    client.when(get).respond(response().withStatusCode(NOT_FOUND_404.code()));
+
+    try (PipelineExecutionWatcher watcher = PipelineExecutionWatcher.create(executionApi, FAST)) {
+      ExecutionException exception = assertThrows(ExecutionException.class, () -> watcher.watch(execution).get(5, TimeUnit.SECONDS), "Exception thrown.");
+      assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause correct.");
+      assertEquals(String.format("Cannot get execution: %s/api/program/1/pipeline/1/execution/1 (404 Not Found).", baseUrl), exception.getCause().getMessage(), "Message was correct.");
+    }
+    client.clear(get);
+  }
+
+  @Test
+  void watch_timeout_and_close() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get).respond(response().withBody(GET_BODY));
+    PipelineExecution execution = executionApi.get("1", "1", "1");
+
+    PollingPolicy policy = PollingPolicy.builder().runningInterval(Duration.ofMillis(10)).timeout(Duration.ofMillis(100)).build();
+    try (PipelineExecutionWatcher watcher = PipelineExecutionWatcher.create(executionApi, policy)) {
+      ExecutionException exception = assertThrows(ExecutionException.class, () -> watcher.watch(execution).get(5, TimeUnit.SECONDS), "Exception thrown.");
+      assertTrue(exception.getCause() instanceof TimeoutException, "Cause correct.");
+    }
+
+    PipelineExecutionWatcher watcher = PipelineExecutionWatcher.create(executionApi, PollingPolicy.DEFAULT);
+    CompletableFuture<PipelineExecution> future = watcher.watch(execution);
+    watcher.close();
+    assertThrows(CancellationException.class, future::join, "Pending watch cancelled.");
+    assertThrows(CancellationException.class, () -> watcher.watch(execution).join(), "New watch cancelled.");
+    client.clear(get);
+  }
+
+  @Test
+  void shared_coalesced() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get, Times.once()).respond(response().withBody(GET_BODY));
+    PipelineExecution execution = executionApi.get("1", "1", "1");
+    client.when(get, Times.once()).respond(response().withBody(GET_CODE_QUALITY_BODY));
+    client.when(get, Times.once()).respond(response().withBody(GET_FINISHED_BODY));
+
+    try (PollingScheduler scheduler = PollingScheduler.create(2)) {
+      PipelineExecutionWatcher first = PipelineExecutionWatcher.create(executionApi, FAST, scheduler);
+      PipelineExecutionWatcher second = PipelineExecutionWatcher.create(executionApi, FAST, scheduler);
+      CompletableFuture<PipelineExecution> one = first.watch(execution);
+      CompletableFuture<PipelineExecution> two = second.watch(execution);
+      assertEquals(PipelineExecution.Status.FINISHED, one.get(5, TimeUnit.SECONDS).getStatusState(), "First watch completed.");
+      assertSame(one.get(), two.get(5, TimeUnit.SECONDS), "Second watch shared the checks.");
+      first.close();
+      second.close();
+    }
+    client.verify(get, VerificationTimes.exactly(3));
+    client.clear(get);
+  }
+
+  @Test
+  void throttled() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get, Times.once()).respond(response().withBody(GET_BODY));
+    PipelineExecution execution = executionApi.get("1", "1", "1");
+    client.when(get, Times.exactly(2)).respond(response().withStatusCode(429));
+    client.when(get, Times.once()).respond(response().withBody(GET_FINISHED_BODY));
+
+    try (PollingScheduler scheduler = PollingScheduler.create(1, Duration.ofMillis(50));
+         PipelineExecutionWatcher watcher = PipelineExecutionWatcher.create(executionApi, FAST, scheduler)) {
+      CompletableFuture<PipelineExecution> future = watcher.watch(execution);
+      assertEquals(PipelineExecution.Status.FINISHED, future.get(5, TimeUnit.SECONDS).getStatusState(), "Watch survived throttling.");
+    }
+    client.verify(get, VerificationTimes.exactly(4));
+    client.clear(get);
+  }
+
+  @Test
+  void interval() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/pipeline/1/execution/1");
+    client.when(get, Times.once()).respond(response().withBody(GET_BODY));
+    client.when(get, Times.once()).respond(response().withBody(GET_CODE_QUALITY_BODY));
+
+    PipelineExecutionWatcherImpl watcher = new PipelineExecutionWatcherImpl(executionApi, PollingPolicy.DEFAULT);
+    assertEquals(Duration.ofSeconds(10), watcher.getInterval(executionApi.get("1", "1", "1")), "Running interval.");
+    PipelineExecution waiting = executionApi.get("1", "1", "1");
+    assertEquals(PipelineExecutionStepState.Status.WAITING, waiting.getStep(StepAction.codeQuality).getStatusState(), "Waiting step.");
+    assertEquals(Duration.ofSeconds(60), watcher.getInterval(waiting), "Waiting interval.");
+    watcher.close();
+    client.clear(get);
+  }
+}
@@ -0,0 +1,172 @@
+package com.adobe.aio.cloudmanager.impl.program;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.net.URL;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+
+import com.adobe.aio.ims.feign.AuthInterceptor;
+import com.adobe.aio.cloudmanager.ApiBuilder;
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.Program;
+import com.adobe.aio.cloudmanager.ProgramApiAsync;
+import com.adobe.aio.cloudmanager.Region;
+import com.adobe.aio.cloudmanager.impl.AbstractApiTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import org.mockserver.model.HttpRequest;
+
+import static com.adobe.aio.util.Constants.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.mockserver.model.HttpRequest.*;
+import static org.mockserver.model.HttpResponse.*;
+import static org.mockserver.model.HttpStatusCode.*;
+import static org.mockserver.model.JsonBody.*;
+
+class ProgramAsyncTest extends AbstractApiTest {
+
+  private ProgramApiAsync underTest;
+
+  @BeforeEach
+  void before() throws Exception {
+    try (MockedConstruction<AuthInterceptor.Builder> ignored = mockConstruction(AuthInterceptor.Builder.class,
+        (mock, mockContext) -> {
+          when(mock.workspace(workspace)).thenReturn(mock);
+          when(mock.build()).thenReturn(authInterceptor);
+        }
+    )) {
+      underTest = new ApiBuilder<>(ProgramApiAsync.class).workspace(workspace).url(new URL(baseUrl)).build();
+    }
+  }
+
+  @Test
+  void get_failure_404() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1");
+    client.when(get).respond(response().withStatusCode(NOT_FOUND_404.code()));
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.get("1").get(), "Exception was thrown");
+    assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause was correct type");
+    assertEquals(String.format("Cannot retrieve program: %s/api/program/1 (404 Not Found).", baseUrl), exception.getCause().getMessage(), "Correct exception message");
+    client.verify(get);
+    client.clear(get);
+  }
+
+  @Test
+  void get_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1");
+    client.when(get).respond(response().withBody(loadBodyJson("program/get.json")));
+    Program program = underTest.get("1").get();
+    assertEquals("1", program.getId(), "Program found.");
+    client.verify(get);
+    client.clear(get);
+  }
+
+  @Test
+  void delete_failure() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest del = request().withMethod("DELETE").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1");
+    client.when(del).respond(response().withStatusCode(BAD_REQUEST_400.code()));
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.delete("1").get(), "Exception was thrown");
+    assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause was correct type");
+    assertEquals(String.format("Cannot delete program: %s/api/program/1 (400 Bad Request).", baseUrl), exception.getCause().getMessage(), "Correct exception message");
+    client.verify(del);
+    client.clear(del);
+  }
+
+  @Test
+  void delete_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest del = request().withMethod("DELETE").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1");
+    client.when(del).respond(response().withStatusCode(ACCEPTED_202.code()));
+    underTest.delete("1").get();
+    client.verify(del);
+    client.clear(del);
+  }
+
+  @Test
+  void list_failure_404() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/tenant/1/programs");
+    client.when(list).respond(response().withStatusCode(NOT_FOUND_404.code()));
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.list("1").get(), "Exception thrown for 404");
+    assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause was correct type");
+    assertEquals(String.format("Cannot retrieve programs: %s/api/tenant/1/programs (404 Not Found).", baseUrl), exception.getCause().getMessage(), "Message was correct");
+    client.verify(list);
+    client.clear(list);
+  }
+
+  @Test
+  void list_success_empty() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/tenant/1/programs");
+    client.when(list).respond(response().withBody(json("{ \"_embedded\": { \"programs\": [] } }")));
+    assertTrue(underTest.list("1").get().isEmpty());
+    client.verify(list);
+    client.clear(list);
+  }
+
+  @Test
+  void list_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/tenant/1/programs");
+    client.when(list).respond(response().withBody(ProgramTest.LIST_BODY));
+    Collection<Program> programs = underTest.list("1").get();
+    assertEquals(7, programs.size(), "Correct length of program list");
+    client.verify(list);
+    client.clear(list);
+  }
+
+  @Test
+  void listRegions_failure_404() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/regions");
+    client.when(list).respond(response().withStatusCode(NOT_FOUND_404.code()));
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.listRegions("1").get(), "Exception thrown for 404");
+    assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause was correct type");
+    assertEquals(String.format("Cannot retrieve program regions: %s/api/program/1/regions (404 Not Found).", baseUrl), exception.getCause().getMessage(), "Message was correct");
+    client.verify(list);
+    client.clear(list);
+  }
+
+  @Test
+  void listRegions_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/regions");
+    client.when(list).respond(response().withBody(loadBodyJson("program/regions.json")));
+    Collection<Region> regions = underTest.listRegions("1").get();
+    assertEquals(3, regions.size());
+    client.verify(list);
+    client.clear(list);
+  }
+}
@@ -0,0 +1,184 @@
+package com.adobe.aio.cloudmanager.impl.repository;
+
+/*-
+ * #%L
+ * Adobe Cloud Manager Client Library
+ * %%
+ * Copyright (C) 2020 - 2023 Adobe Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import java.net.URL;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+
+import com.adobe.aio.ims.feign.AuthInterceptor;
+import com.adobe.aio.cloudmanager.ApiBuilder;
+import com.adobe.aio.cloudmanager.CloudManagerApiException;
+import com.adobe.aio.cloudmanager.Repository;
+import com.adobe.aio.cloudmanager.RepositoryApiAsync;
+import com.adobe.aio.cloudmanager.impl.AbstractApiTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockedConstruction;
+import org.mockserver.model.HttpRequest;
+
+import static com.adobe.aio.util.Constants.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.mockserver.model.HttpRequest.*;
+import static org.mockserver.model.HttpResponse.*;
+import static org.mockserver.model.HttpStatusCode.*;
+import static org.mockserver.model.JsonBody.*;
+
+public class RepositoryAsyncTest extends AbstractApiTest {
+
+  private RepositoryApiAsync underTest;
+
+  @BeforeEach
+  void before() throws Exception {
+    try (MockedConstruction<AuthInterceptor.Builder> ignored = mockConstruction(AuthInterceptor.Builder.class,
+        (mock, mockContext) -> {
+          when(mock.workspace(workspace)).thenReturn(mock);
+          when(mock.build()).thenReturn(authInterceptor);
+        }
+    )) {
+      underTest = new ApiBuilder<>(RepositoryApiAsync.class).workspace(workspace).url(new URL(baseUrl)).build();
+    }
+  }
+
+  @Test
+  void list_failure_404() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/repositories");
+    client.when(list).respond(response().withStatusCode(NOT_FOUND_404.code()));
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.list("1").get(), "Exception thrown.");
+    assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause was correct type");
+    assertEquals(String.format("Cannot retrieve repositories: %s/api/program/1/repositories (404 Not Found).", baseUrl), exception.getCause().getMessage(), "Message was correct");
+    client.verify(list);
+    client.clear(list);
+  }
+
+  @Test
+  void list_empty() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/repositories");
+    client.when(list).respond(response().withBody(json("{ \"_embedded\": { \"repositories\": [] } }")));
+    assertTrue(underTest.list("1").get().isEmpty());
+    client.verify(list);
+    client.clear(list);
+  }
+
+  @Test
+  void list_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/repositories");
+    client.when(list).respond(response().withBody(RepositoryTest.LIST_BODY));
+    Collection<Repository> repositories = underTest.list("1").get();
+    assertEquals(3, repositories.size());
+    client.verify(list);
+    client.clear(list);
+  }
+
+  @Test
+  void list_start_limit_failure_404() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/repositories")
+        .withQueryStringParameter("start", "10")
+        .withQueryStringParameter("limit", "10");
+    client.when(list).respond(response().withStatusCode(NOT_FOUND_404.code()));
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.list("1", 10, 10).get(), "Exception thrown.");
+    assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause was correct type");
+    assertEquals(String.format("Cannot retrieve repositories: %s/api/program/1/repositories?start=10&limit=10 (404 Not Found).", baseUrl), exception.getCause().getMessage(), "Message was correct");
+    client.verify(list);
+    client.clear(list);
+  }
+
+  @Test
+  void list_start_limit_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId)
+        .withPath("/api/program/1/repositories")
+        .withQueryStringParameter("start", "10")
+        .withQueryStringParameter("limit", "10");
+    client.when(list).respond(response().withBody(RepositoryTest.LIST_BODY));
+    Collection<Repository> repositories = underTest.list("1", 10, 10).get();
+    assertEquals(3, repositories.size());
+    client.verify(list);
+    client.clear(list);
+  }
+
+  @Test
+  void get_failure_404() {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/repository/1");
+    client.when(get).respond(response().withStatusCode(NOT_FOUND_404.code()));
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.get("1", "1").get(), "Exception thrown.");
+    assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause was correct type");
+    assertEquals(String.format("Cannot retrieve repository: %s/api/program/1/repository/1 (404 Not Found).", baseUrl), exception.getCause().getMessage(), "Message was correct");
+    client.verify(get);
+    client.clear(get);
+  }
+
+  @Test
+  void get_success() throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    HttpRequest get = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/repository/1");
+    client.when(get).respond(response().withBody(loadBodyJson("repository/get.json")));
+    Repository repository = underTest.get("1", "1").get();
+    assertEquals("1", repository.getId(), "Id was correct.");
+    client.verify(get);
+    client.clear(get);
+  }
+
+  @Test
+  void listBranches_failure_404(@Mock Repository mock) {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    when(mock.getProgramId()).thenReturn("1");
+    when(mock.getId()).thenReturn("1");
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/repository/1/branches");
+    client.when(list).respond(response().withStatusCode(NOT_FOUND_404.code()));
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> underTest.listBranches(mock).get(), "Exception thrown.");
+    assertTrue(exception.getCause() instanceof CloudManagerApiException, "Cause was correct type");
+    assertEquals(String.format("Cannot retrieve repository branches: %s/api/program/1/repository/1/branches (404 Not Found).", baseUrl), exception.getCause().getMessage(), "Message was correct.");
+    client.verify(list);
+    client.clear(list);
+  }
+
+  @Test
+  void listBranches_success(@Mock Repository mock) throws Exception {
+    String sessionId = UUID.randomUUID().toString();
+    when(workspace.getApiKey()).thenReturn(sessionId);
+    when(mock.getProgramId()).thenReturn("1");
+    when(mock.getId()).thenReturn("1");
+    HttpRequest list = request().withMethod("GET").withHeader(API_KEY_HEADER, sessionId).withPath("/api/program/1/repository/1/branches");
+    client.when(list).respond(response().withBody(loadBodyJson("repository/branches.json")));
+    Collection<String> branches = underTest.listBranches(mock).get();
+    assertEquals(1, branches.size());
+    assertEquals("main", branches.stream().findFirst().orElseThrow());
+    client.verify(list);
+    client.clear(list);
+  }
+}
@@ -67,6 +67,7 @@ public class TenantTest extends AbstractApiTest {
     client.when(list).respond(response().withStatusCode(NOT_FOUND_404.code()));
     CloudManagerApiException exception = assertThrows(CloudManagerApiException.class, underTest::list, "Exception thrown for 404");
     assertEquals(String.format("Cannot retrieve tenants: %s/api/tenants (404 Not Found).", baseUrl), exception.getMessage(), "Message was correct");
+    assertEquals(NOT_FOUND_404.code(), exception.getStatus(), "Status was correct");
     client.verify(list);
     client.clear(list);
   }